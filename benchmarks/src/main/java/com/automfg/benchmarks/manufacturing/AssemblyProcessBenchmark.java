@@ -0,0 +1,113 @@
+package com.automfg.benchmarks.manufacturing;
+
+import com.automfg.manufacturing.domain.model.AssemblyProcess;
+import com.automfg.manufacturing.domain.model.AssemblyProcessId;
+import com.automfg.manufacturing.domain.model.AssemblyStep;
+import com.automfg.manufacturing.domain.model.AssemblyStepId;
+import com.automfg.manufacturing.domain.model.AssemblyStepResult;
+import com.automfg.manufacturing.domain.model.AssemblyStepTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AssemblyProcess#completeStep}: every completion checks the station sequence (BR-07)
+ * and station/process completion against the steps, so its cost depends on the routing length.
+ * A completed process cannot be completed again, so each call takes the next of a batch of
+ * processes started before the iteration, and the score is the time of one batch of
+ * {@value #BATCH_SIZE} calls. Building the batch is not timed, but the GC profiler's allocation
+ * figures include it, so compare them between runs rather than reading them as the cost of a step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = AssemblyProcessBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = AssemblyProcessBenchmark.BATCH_SIZE)
+@Fork(1)
+public class AssemblyProcessBenchmark {
+
+    static final int BATCH_SIZE = 1_000;
+
+    private static final int STEPS_PER_STATION = 4;
+
+    @Param({"5", "50", "200"})
+    int stepCount;
+
+    private List<AssemblyStepTemplate> templates;
+    private AssemblyProcess[] started;
+    private AssemblyStepId[][] stepIds;
+    private AssemblyProcess[] almostCompleted;
+    private AssemblyStepId[] lastStepIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void buildRouting() {
+        templates = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            int station = i / STEPS_PER_STATION + 1;
+            templates.add(new AssemblyStepTemplate("WS-" + station, station, "Task " + i, 30));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startProcesses() {
+        started = new AssemblyProcess[BATCH_SIZE];
+        stepIds = new AssemblyStepId[BATCH_SIZE][];
+        almostCompleted = new AssemblyProcess[BATCH_SIZE];
+        lastStepIds = new AssemblyStepId[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            started[i] = startedProcess();
+            stepIds[i] = started[i].getSteps().stream().map(AssemblyStep::getId).toArray(AssemblyStepId[]::new);
+
+            almostCompleted[i] = startedProcess();
+            List<AssemblyStep> steps = almostCompleted[i].getSteps();
+            for (int j = 0; j < steps.size() - 1; j++) {
+                almostCompleted[i].completeStep(steps.get(j).getId(), "OP-001", "BATCH-001", 30);
+            }
+            lastStepIds[i] = steps.get(steps.size() - 1).getId();
+        }
+        next = 0;
+    }
+
+    private AssemblyProcess startedProcess() {
+        AssemblyProcess process = new AssemblyProcess(new AssemblyProcessId(UUID.randomUUID()), templates);
+        process.start();
+        return process;
+    }
+
+    /**
+     * Completes every step in station order, as the line does over a vehicle's assembly.
+     */
+    @Benchmark
+    public void completeAllSteps(Blackhole blackhole) {
+        AssemblyProcess process = started[next];
+        for (AssemblyStepId stepId : stepIds[next++]) {
+            blackhole.consume(process.completeStep(stepId, "OP-001", "BATCH-001", 30));
+        }
+    }
+
+    /**
+     * Completes the final step, the most expensive single completion: all earlier stations
+     * are checked and the process completes.
+     */
+    @Benchmark
+    public AssemblyStepResult completeLastStep() {
+        AssemblyProcess process = almostCompleted[next];
+        return process.completeStep(lastStepIds[next++], "OP-001", "BATCH-001", 30);
+    }
+}
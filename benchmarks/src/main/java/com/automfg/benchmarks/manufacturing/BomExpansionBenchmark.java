@@ -0,0 +1,107 @@
+package com.automfg.benchmarks.manufacturing;
+
+import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.BomStructure;
+import com.automfg.manufacturing.domain.model.BomStructure.Link;
+import com.automfg.manufacturing.domain.model.BomStructure.ParentType;
+import com.automfg.manufacturing.domain.model.BomStructure.Part;
+import com.automfg.manufacturing.domain.service.BomExpansionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BomExpansionService#expandBom} over a synthetic multi-level BOM of {@code partCount}
+ * parts: a tenth are subassemblies nested up to several levels deep, the rest are leaf parts.
+ * The model uses every subassembly and each option package adds one more plus two leaves.
+ * <p>
+ * {@code expandBom} measures the steady state, where explosions are memoized in the compiled
+ * structure; {@code compileAndExpandBom} measures the first order after a catalog change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BomExpansionBenchmark {
+
+    private static final String MODEL_CODE = "MODEL-BENCH";
+    private static final int LEAVES_PER_SUBASSEMBLY = 8;
+
+    @Param({"50", "500", "5000"})
+    int partCount;
+
+    @Param({"0", "3"})
+    int optionCount;
+
+    private List<Part> parts;
+    private List<Link> links;
+    private List<String> optionCodes;
+    private BomStructure structure;
+    private final BomExpansionService bomExpansionService =
+        new BomExpansionService((partNumber, quantity) -> true);
+
+    @Setup(Level.Trial)
+    public void buildStructure() {
+        int subassemblies = Math.max(1, partCount / 10);
+        int leaves = partCount - subassemblies;
+        parts = new ArrayList<>(partCount);
+        links = new ArrayList<>();
+        for (int i = 0; i < leaves; i++) {
+            parts.add(new Part(leaf(i), "Leaf part " + i, "EA"));
+        }
+        for (int s = 0; s < subassemblies; s++) {
+            parts.add(new Part(subassembly(s), "Subassembly " + s, "EA"));
+            for (int k = 0; k < LEAVES_PER_SUBASSEMBLY; k++) {
+                links.add(new Link(ParentType.PART, subassembly(s),
+                    leaf((s * LEAVES_PER_SUBASSEMBLY + k) % leaves), 1 + k % 4));
+            }
+            if (s > 0) {
+                // heap-shaped nesting: subassembly s contains s / 2, so depth grows with log(size)
+                links.add(new Link(ParentType.PART, subassembly(s), subassembly(s / 2), 1));
+            }
+            links.add(new Link(ParentType.MODEL, MODEL_CODE, subassembly(s), 1 + s % 3));
+        }
+        optionCodes = new ArrayList<>(optionCount);
+        for (int o = 0; o < optionCount; o++) {
+            String optionCode = "OPT-" + o;
+            optionCodes.add(optionCode);
+            links.add(new Link(ParentType.OPTION, optionCode, subassembly((o * 7) % subassemblies), 1));
+            links.add(new Link(ParentType.OPTION, optionCode, leaf(o % leaves), 2));
+            links.add(new Link(ParentType.OPTION, optionCode, leaf((o * 13 + 1) % leaves), 1));
+        }
+        structure = BomStructure.compile(parts, links);
+    }
+
+    private static String leaf(int index) {
+        return String.format("P-%05d", index);
+    }
+
+    private static String subassembly(int index) {
+        return String.format("SUB-%04d", index);
+    }
+
+    @Benchmark
+    public BomSnapshot expandBom() {
+        return bomExpansionService.expandBom(structure, MODEL_CODE, optionCodes);
+    }
+
+    @Benchmark
+    public BomSnapshot compileAndExpandBom() {
+        return bomExpansionService.expandBom(BomStructure.compile(parts, links), MODEL_CODE, optionCodes);
+    }
+}
@@ -0,0 +1,203 @@
+package com.automfg.benchmarks.manufacturing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert and lookup latency of a child table shaped like {@code assembly_steps}, as a single heap
+ * and as monthly range partitions, after {@code months} months of {@code rowsPerMonth} rows have
+ * been loaded. Comparing the percentiles across {@code months} shows how each layout degrades as
+ * the table grows.
+ * <p>
+ * An insert writes the children of one new parent into the newest month in one transaction; a
+ * lookup loads the children of a recent parent by parent id and partition key, as
+ * AssemblyStepJpaRepository does. Needs a scratch Postgres; each trial creates and drops schema
+ * {@code bench_partitioning}:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar PartitionGrowth
+ * java -jar benchmarks/target/benchmarks.jar PartitionGrowth -p months=24 \
+ *     -p jdbcUrl='jdbc:postgresql://db:5432/automfg?user=automfg&amp;password=secret'
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PartitionGrowthBenchmark {
+
+    private static final String SCHEMA = "bench_partitioning";
+    private static final int CHILDREN_PER_PARENT = 5;
+    private static final int BATCH_SIZE = 1_000;
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2024, 1);
+
+    @Param("jdbc:postgresql://localhost:5432/automfg?user=automfg")
+    String jdbcUrl;
+
+    @Param({"heap", "partitioned"})
+    String layout;
+
+    @Param({"1", "12", "24"})
+    int months;
+
+    @Param("20000")
+    int rowsPerMonth;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private List<Parent> recentParents;
+    private YearMonth newestMonth;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private record Parent(UUID id, Timestamp createdAt) {
+    }
+
+    @Setup(Level.Trial)
+    public void loadMonths() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl);
+        connection.setAutoCommit(false);
+        createTable();
+        for (int m = 0; m < months; m++) {
+            newestMonth = FIRST_MONTH.plusMonths(m);
+            recentParents = parents(newestMonth, rowsPerMonth / CHILDREN_PER_PARENT);
+            insertChildren(recentParents);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + SCHEMA + ".child");
+        }
+        connection.commit();
+        insert = connection.prepareStatement("INSERT INTO " + SCHEMA + ".child"
+            + " (id, parent_id, station, description, created_at) VALUES (?, ?, ?, ?, ?)");
+        lookup = connection.prepareStatement("SELECT id, station, description FROM " + SCHEMA + ".child"
+            + " WHERE parent_id = ? AND created_at = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void dropSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public int insertChildrenOfNewParent() throws SQLException {
+        Parent parent = new Parent(UUID.randomUUID(), randomTime(newestMonth));
+        addChildren(parent);
+        int[] inserted = insert.executeBatch();
+        connection.commit();
+        return inserted.length;
+    }
+
+    @Benchmark
+    public int lookupChildrenOfRecentParent() throws SQLException {
+        Parent parent = recentParents.get(random.nextInt(recentParents.size()));
+        lookup.setObject(1, parent.id());
+        lookup.setTimestamp(2, parent.createdAt());
+        int found = 0;
+        try (ResultSet rs = lookup.executeQuery()) {
+            while (rs.next()) {
+                found++;
+            }
+        }
+        connection.commit();
+        return found;
+    }
+
+    private void createTable() throws SQLException {
+        boolean partitioned = layout.equals("partitioned");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("CREATE TABLE " + SCHEMA + ".child (id UUID NOT NULL, parent_id UUID NOT NULL,"
+                + " station VARCHAR(20) NOT NULL, description VARCHAR(500) NOT NULL, created_at TIMESTAMP NOT NULL, "
+                + (partitioned ? "PRIMARY KEY (id, created_at)) PARTITION BY RANGE (created_at)"
+                               : "PRIMARY KEY (id))"));
+            statement.execute("CREATE INDEX ON " + SCHEMA + ".child (parent_id)");
+            for (int m = 0; partitioned && m < months; m++) {
+                YearMonth month = FIRST_MONTH.plusMonths(m);
+                statement.execute("CREATE TABLE " + SCHEMA + ".child_" + month.toString().replace('-', '_')
+                    + " PARTITION OF " + SCHEMA + ".child FOR VALUES FROM ('" + month.atDay(1)
+                    + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            }
+        }
+        connection.commit();
+    }
+
+    private List<Parent> parents(YearMonth month, int count) {
+        List<Parent> parents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            parents.add(new Parent(UUID.randomUUID(), randomTime(month)));
+        }
+        return parents;
+    }
+
+    private void insertChildren(List<Parent> parents) throws SQLException {
+        try (PreparedStatement load = connection.prepareStatement("INSERT INTO " + SCHEMA + ".child"
+                + " (id, parent_id, station, description, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            int pending = 0;
+            for (Parent parent : parents) {
+                for (int c = 0; c < CHILDREN_PER_PARENT; c++) {
+                    bindChild(load, parent, c);
+                    load.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        load.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                load.executeBatch();
+            }
+        }
+        connection.commit();
+    }
+
+    private void addChildren(Parent parent) throws SQLException {
+        for (int c = 0; c < CHILDREN_PER_PARENT; c++) {
+            bindChild(insert, parent, c);
+            insert.addBatch();
+        }
+    }
+
+    private static void bindChild(PreparedStatement statement, Parent parent, int c) throws SQLException {
+        statement.setObject(1, UUID.randomUUID());
+        statement.setObject(2, parent.id());
+        statement.setString(3, "WS-" + c);
+        statement.setString(4, "Assembly task " + c + " for " + parent.id());
+        statement.setTimestamp(5, parent.createdAt());
+    }
+
+    private Timestamp randomTime(YearMonth month) {
+        long seconds = random.nextLong(month.lengthOfMonth() * 86_400L);
+        return Timestamp.valueOf(month.atDay(1).atStartOfDay().plusSeconds(seconds));
+    }
+}
@@ -0,0 +1,89 @@
+package com.automfg.benchmarks.manufacturing;
+
+import com.automfg.manufacturing.domain.model.AssemblyStepTemplate;
+import com.automfg.manufacturing.domain.model.BomLineItem;
+import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderNumber;
+import com.automfg.manufacturing.domain.model.SchedulePlan;
+import com.automfg.manufacturing.domain.model.ShiftCalendar;
+import com.automfg.manufacturing.domain.model.VIN;
+import com.automfg.manufacturing.domain.service.ProductionScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProductionScheduler#replan} of {@code orderCount} SCHEDULED orders over five stations
+ * with {@code stationCapacity} positions each, a year's horizon on the two-shift calendar. With
+ * the defaults about half the orders fit; the rest are still placed and rejected, which costs
+ * the same. The orders keep their slots between invocations, so after the first replan no
+ * slot moves and no events are registered, as in a replan of an unchanged line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductionSchedulerBenchmark {
+
+    private static final int STATIONS = 5;
+    private static final int STEPS_PER_STATION = 4;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 5, 0);
+
+    @Param({"10000", "100000"})
+    int orderCount;
+
+    @Param({"24"})
+    int stationCapacity;
+
+    private ProductionScheduler scheduler;
+    private List<ProductionOrder> orders;
+
+    @Setup(Level.Trial)
+    public void buildOrders() {
+        List<AssemblyStepTemplate> templates = new ArrayList<>(STATIONS * STEPS_PER_STATION);
+        Map<String, Integer> capacity = new HashMap<>();
+        for (int station = 1; station <= STATIONS; station++) {
+            capacity.put("WS-" + station, stationCapacity);
+            for (int step = 0; step < STEPS_PER_STATION; step++) {
+                templates.add(new AssemblyStepTemplate("WS-" + station, station, "Task " + step, 30));
+            }
+        }
+        BomSnapshot bom = new BomSnapshot(List.of(new BomLineItem("CHS-001", "Chassis Frame", 1, "UNIT", true)));
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            ProductionOrder order = ProductionOrder.create(new ProductionOrderId(UUID.randomUUID()),
+                new ProductionOrderNumber(String.format("PO-SH-202603-%05d", i % 100_000)), UUID.randomUUID(),
+                new VIN("1HGBH41JXMN109186"), new PlantId("PLANT-01"), "MODEL-X-SEDAN", "RED-001", bom, templates);
+            order.clearDomainEvents();
+            orders.add(order);
+        }
+        scheduler = new ProductionScheduler(ShiftCalendar.twoShiftWeekdays(), capacity, 1, 365);
+    }
+
+    @Benchmark
+    public SchedulePlan replan() {
+        return scheduler.replan(orders, NOW);
+    }
+}
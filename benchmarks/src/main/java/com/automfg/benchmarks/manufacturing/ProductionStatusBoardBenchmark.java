@@ -0,0 +1,77 @@
+package com.automfg.benchmarks.manufacturing;
+
+import com.automfg.manufacturing.application.port.ProductionStatusQueryPort.StatusFilter;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase.ProductionStatusBoard;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import com.automfg.manufacturing.infrastructure.statusboard.ProductionStatusColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProductionStatusColumns#board} over {@code orderCount} orders spread across three
+ * plants, the aggregation the status board endpoint answers from memory on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionStatusBoardBenchmark {
+
+    private static final String[] PLANTS = {"PLANT-01", "PLANT-02", "PLANT-03"};
+    private static final String[] MODELS = {"SEDAN-A", "SEDAN-B", "SUV-A", "SUV-B", "TRUCK-A"};
+    private static final String[] COLORS = {"WHITE", "BLACK", "SILVER", "RED", "BLUE", "GREY"};
+
+    @Param({"100000", "1000000"})
+    int orderCount;
+
+    private ProductionStatusColumns columns;
+    private final LocalDateTime loadedAt = LocalDateTime.now();
+
+    @Setup(Level.Trial)
+    public void loadOrders() {
+        SplittableRandom random = new SplittableRandom(42);
+        ProductionOrderStatus[] statuses = ProductionOrderStatus.values();
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+        columns = new ProductionStatusColumns(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            ProductionOrderStatus status = statuses[random.nextInt(statuses.length)];
+            Integer station = status == ProductionOrderStatus.IN_PRODUCTION ? 1 + random.nextInt(5) : null;
+            columns.put(new UUID(random.nextLong(), random.nextLong()), PLANTS[random.nextInt(PLANTS.length)],
+                status, station, MODELS[random.nextInt(MODELS.length)], COLORS[random.nextInt(COLORS.length)],
+                start.plusMinutes(i));
+        }
+    }
+
+    @Benchmark
+    public ProductionStatusBoard wholeFleet() {
+        return columns.board(new StatusFilter(null, null, null, null), 20, loadedAt);
+    }
+
+    @Benchmark
+    public ProductionStatusBoard onePlantInProduction() {
+        return columns.board(new StatusFilter("PLANT-02", "IN_PRODUCTION", null, null),
+            20, loadedAt);
+    }
+
+    @Benchmark
+    public ProductionStatusBoard oneModelCountsOnly() {
+        return columns.board(new StatusFilter(null, null, "SUV-A", null), 0, loadedAt);
+    }
+}
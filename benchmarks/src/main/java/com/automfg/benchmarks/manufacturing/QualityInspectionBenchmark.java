@@ -0,0 +1,84 @@
+package com.automfg.benchmarks.manufacturing;
+
+import com.automfg.manufacturing.domain.model.ChecklistItemTemplate;
+import com.automfg.manufacturing.domain.model.InspectionItem;
+import com.automfg.manufacturing.domain.model.InspectionItemStatus;
+import com.automfg.manufacturing.domain.model.InspectionResult;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.QualityInspection;
+import com.automfg.manufacturing.domain.model.QualityInspectionId;
+import com.automfg.manufacturing.domain.model.VIN;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QualityInspection#complete}, which evaluates every recorded item against BR-10 and
+ * BR-11. The items are recorded once; completing again re-evaluates them, so each operation
+ * is one evaluation plus the completion event. {@code outcome} picks the item mix that leads
+ * to each result; the failing item is the last one, so the whole checklist is read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QualityInspectionBenchmark {
+
+    private static final String INSPECTOR_ID = "INSP-001";
+
+    @Param({"6", "50", "200"})
+    int itemCount;
+
+    @Param({"PASSED", "CONDITIONAL_PASS", "FAILED"})
+    InspectionResult outcome;
+
+    private QualityInspection inspection;
+
+    @Setup(Level.Trial)
+    public void recordItems() {
+        List<ChecklistItemTemplate> checklist = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            checklist.add(new ChecklistItemTemplate("Check " + i, i % 3 == 0));
+        }
+        inspection = QualityInspection.create(new QualityInspectionId(UUID.randomUUID()),
+            new ProductionOrderId(UUID.randomUUID()), new VIN("1HGCM82633A004352"), INSPECTOR_ID, checklist);
+
+        List<InspectionItem> items = inspection.getItems();
+        int conditional = 0;
+        for (int i = 0; i < items.size(); i++) {
+            InspectionItem item = items.get(i);
+            InspectionItemStatus status = InspectionItemStatus.PASSED;
+            if (outcome == InspectionResult.FAILED && i == items.size() - 1) {
+                status = InspectionItemStatus.FAILED;
+            } else if (outcome == InspectionResult.CONDITIONAL_PASS && !item.isSafetyRelated() && conditional < 3) {
+                status = InspectionItemStatus.CONDITIONAL;
+                conditional++;
+            }
+            inspection.recordItemResult(item.getId(), status, null);
+        }
+        inspection.clearDomainEvents();
+    }
+
+    @Benchmark
+    public InspectionResult complete() {
+        inspection.complete(INSPECTOR_ID);
+        inspection.clearDomainEvents();
+        return inspection.getResult();
+    }
+}
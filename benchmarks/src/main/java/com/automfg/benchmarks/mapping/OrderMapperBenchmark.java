@@ -0,0 +1,73 @@
+package com.automfg.benchmarks.mapping;
+
+import com.automfg.order.domain.model.Order;
+import com.automfg.order.domain.model.OrderId;
+import com.automfg.order.domain.model.OrderNumber;
+import com.automfg.order.infrastructure.persistence.OrderJpaEntity;
+import com.automfg.order.infrastructure.persistence.OrderMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderMapper} in both directions for an order with {@code optionCount} option
+ * packages, which are joined into and split out of a single column.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"0", "5", "20"})
+    int optionCount;
+
+    private final OrderMapper mapper = new OrderMapper();
+    private Order order;
+    private OrderJpaEntity entity;
+
+    @Setup(Level.Trial)
+    public void buildOrder() {
+        List<String> optionCodes = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            optionCodes.add(String.format("OPT-%03d", i));
+        }
+        order = Order.place(new OrderId(UUID.randomUUID()), new OrderNumber("ORD-202610-00001"), "DLR-001",
+            "MODEL-BENCH", "RED", optionCodes, LocalDate.now().plusDays(60), new BigDecimal("45000.00"));
+        order.clearDomainEvents();
+        entity = mapper.toJpaEntity(order);
+    }
+
+    @Benchmark
+    public OrderJpaEntity toJpaEntity() {
+        return mapper.toJpaEntity(order);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Order roundTrip() {
+        return mapper.toDomain(mapper.toJpaEntity(order));
+    }
+}
@@ -0,0 +1,87 @@
+package com.automfg.benchmarks.mapping;
+
+import com.automfg.manufacturing.domain.model.AssemblyStepTemplate;
+import com.automfg.manufacturing.domain.model.BomLineItem;
+import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderNumber;
+import com.automfg.manufacturing.domain.model.VIN;
+import com.automfg.manufacturing.infrastructure.persistence.ProductionOrderJpaEntity;
+import com.automfg.manufacturing.infrastructure.persistence.ProductionOrderMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProductionOrderMapper} in both directions for an order with {@code bomLineCount} BOM
+ * lines and {@code stepCount} assembly steps, the graph the repository adapter maps on every
+ * load and save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionOrderMapperBenchmark {
+
+    @Param({"5", "50"})
+    int stepCount;
+
+    @Param({"10", "100"})
+    int bomLineCount;
+
+    private final ProductionOrderMapper mapper = new ProductionOrderMapper();
+    private ProductionOrder order;
+    private ProductionOrderJpaEntity entity;
+
+    @Setup(Level.Trial)
+    public void buildOrder() {
+        List<BomLineItem> lineItems = new ArrayList<>(bomLineCount);
+        for (int i = 0; i < bomLineCount; i++) {
+            lineItems.add(new BomLineItem(String.format("P-%05d", i), "Part " + i, 1 + i % 4, "EA", true));
+        }
+        List<AssemblyStepTemplate> templates = new ArrayList<>(stepCount);
+        for (int i = 0; i < stepCount; i++) {
+            int station = i / 4 + 1;
+            templates.add(new AssemblyStepTemplate("WS-" + station, station, "Task " + i, 30));
+        }
+        order = ProductionOrder.create(new ProductionOrderId(UUID.randomUUID()),
+            new ProductionOrderNumber("PO-TP-202610-00001"), UUID.randomUUID(), new VIN("1HGCM82633A004352"),
+            new PlantId("PLANT-01"),
+            "MODEL-BENCH", "RED", new BomSnapshot(lineItems), templates);
+        order.clearDomainEvents();
+        entity = mapper.toJpaEntity(order);
+    }
+
+    @Benchmark
+    public ProductionOrderJpaEntity toJpaEntity() {
+        return mapper.toJpaEntity(order);
+    }
+
+    @Benchmark
+    public ProductionOrder toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public ProductionOrder roundTrip() {
+        return mapper.toDomain(mapper.toJpaEntity(order));
+    }
+}
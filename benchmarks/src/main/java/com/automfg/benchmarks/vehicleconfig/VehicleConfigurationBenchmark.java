@@ -0,0 +1,80 @@
+package com.automfg.benchmarks.vehicleconfig;
+
+import com.automfg.vehicleconfig.domain.model.ColorOption;
+import com.automfg.vehicleconfig.domain.model.CompatibilityRule;
+import com.automfg.vehicleconfig.domain.model.CompatibilityValidationResult;
+import com.automfg.vehicleconfig.domain.model.OptionPackage;
+import com.automfg.vehicleconfig.domain.model.VehicleConfiguration;
+import com.automfg.vehicleconfig.domain.model.VehicleConfigurationId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VehicleConfiguration#validateOptions} for a model offering {@code optionCount}
+ * packages, with one incompatibility rule per package (each package excludes the next one).
+ * A quarter of the packages are selected: {@code valid} picks non-adjacent ones, otherwise
+ * every selected package also brings in the one it excludes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VehicleConfigurationBenchmark {
+
+    @Param({"5", "20", "80"})
+    int optionCount;
+
+    @Param({"true", "false"})
+    boolean valid;
+
+    private VehicleConfiguration configuration;
+    private List<String> selectedOptionCodes;
+
+    @Setup(Level.Trial)
+    public void buildConfiguration() {
+        List<OptionPackage> packages = new ArrayList<>(optionCount);
+        List<CompatibilityRule> rules = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            packages.add(new OptionPackage(optionCode(i), "Package " + i, BigDecimal.valueOf(1000 + i)));
+            rules.add(new CompatibilityRule(optionCode(i), optionCode((i + 1) % optionCount),
+                CompatibilityRule.RuleType.INCOMPATIBLE, null));
+        }
+        configuration = new VehicleConfiguration(new VehicleConfigurationId(UUID.randomUUID()),
+            "MODEL-BENCH", "Benchmark Sedan", List.of(new ColorOption("RED", "Red")), packages, rules, true);
+
+        selectedOptionCodes = new ArrayList<>();
+        for (int i = 0; i < optionCount - 1; i += 4) {
+            selectedOptionCodes.add(optionCode(i));
+            if (!valid) {
+                selectedOptionCodes.add(optionCode((i + 1) % optionCount));
+            }
+        }
+    }
+
+    private static String optionCode(int index) {
+        return String.format("OPT-%03d", index);
+    }
+
+    @Benchmark
+    public CompatibilityValidationResult validateOptions() {
+        return configuration.validateOptions(selectedOptionCodes);
+    }
+}
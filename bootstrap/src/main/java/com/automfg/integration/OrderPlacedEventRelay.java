@@ -0,0 +1,32 @@
+package com.automfg.integration;
+
+import com.automfg.manufacturing.infrastructure.adapter.inbound.OrderEventConsumer;
+import com.automfg.order.domain.event.OrderPlacedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Relays the order context's OrderPlacedEvent to the manufacturing context's
+ * published-language representation, so neither context depends on the other.
+ */
+@Component
+public class OrderPlacedEventRelay {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public OrderPlacedEventRelay(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        applicationEventPublisher.publishEvent(new OrderEventConsumer.OrderPlacedEvent(
+            event.getEventId(),
+            event.getOrderId(),
+            event.getVehicleModelCode(),
+            event.getColorCode(),
+            event.getOptionPackageCodes()
+        ));
+    }
+}
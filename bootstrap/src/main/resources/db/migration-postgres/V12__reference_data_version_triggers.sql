@@ -0,0 +1,11 @@
+-- Any write to inspection_checklists, including ad-hoc SQL, bumps its reference data version
+CREATE OR REPLACE FUNCTION bump_reference_data_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE reference_data_versions SET version = version + 1 WHERE dataset = TG_ARGV[0];
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER inspection_checklists_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON inspection_checklists
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version('inspection_checklists');
@@ -0,0 +1,9 @@
+-- The review and rework queues are small, moving subsets of large tables; partial indexes keep
+-- only the queued rows, in the order the queues are read
+CREATE INDEX IF NOT EXISTS idx_quality_inspections_awaiting_review
+    ON quality_inspections (inspected_at, id)
+    WHERE result IS NOT NULL AND reviewer_id IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_rework_orders_open
+    ON rework_orders (created_at, id)
+    WHERE status <> 'COMPLETED';
@@ -0,0 +1,8 @@
+-- Any write to the BOM tables bumps the bom_structure reference data version
+CREATE TRIGGER bom_parts_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON bom_parts
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version('bom_structure');
+
+CREATE TRIGGER bom_components_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON bom_components
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version('bom_structure');
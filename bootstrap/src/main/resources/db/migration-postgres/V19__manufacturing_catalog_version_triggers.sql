@@ -0,0 +1,15 @@
+-- Any write to the catalog tables bumps the manufacturing_catalog reference data version.
+-- bom_components was rebuilt by V18, which dropped its V17 trigger with the old table.
+DROP TRIGGER IF EXISTS bom_parts_bump_version ON bom_parts;
+
+CREATE TRIGGER bom_parts_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON bom_parts
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version('manufacturing_catalog');
+
+CREATE TRIGGER bom_components_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON bom_components
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version('manufacturing_catalog');
+
+CREATE TRIGGER routing_steps_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON routing_steps
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_reference_data_version('manufacturing_catalog');
@@ -0,0 +1,19 @@
+-- processed_events is the consumers' dedup record, so event_id has to be unique on its own.
+-- Partitioned by processed_at (V9) its key had become (event_id, processed_at): two deliveries of
+-- one event could both be recorded, and dropping an old partition forgot which events were seen.
+-- Back to a plain table keyed by event_id; the earliest record of each event is kept.
+CREATE TABLE processed_events_unpartitioned (
+    event_id UUID PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMP NOT NULL,
+    consumer_name VARCHAR(100) NOT NULL
+);
+
+INSERT INTO processed_events_unpartitioned (event_id, event_type, processed_at, consumer_name)
+SELECT DISTINCT ON (event_id) event_id, event_type, processed_at, consumer_name
+FROM processed_events
+ORDER BY event_id, processed_at;
+
+DROP TABLE processed_events;
+ALTER TABLE processed_events_unpartitioned RENAME TO processed_events;
+ALTER INDEX processed_events_unpartitioned_pkey RENAME TO processed_events_pkey;
@@ -0,0 +1,59 @@
+-- Range-partition the high-volume child tables by month on their time key.
+-- Existing rows are copied into monthly partitions; months from the oldest row up to three
+-- months ahead are created here, PartitionMaintenanceJob keeps creating them from then on.
+-- The DEFAULT partition only catches rows outside the maintained window and should stay empty.
+--
+-- Postgres requires the partition key in every unique constraint, so primary keys become
+-- (id, key). Ids are still generated UUIDs and the entities keep mapping the id alone.
+DO $$
+DECLARE
+    t RECORD;
+    last_month DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+    month DATE;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+        ('assembly_steps', 'order_created_at'),
+        ('bom_line_items', 'order_created_at'),
+        ('inspection_items', 'inspection_created_at'),
+        ('processed_events', 'processed_at'),
+        ('domain_event_outbox', 'created_at')
+    ) AS v (table_name, key_column)
+    LOOP
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', t.table_name, t.table_name || '_unpartitioned');
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS) PARTITION BY RANGE (%I)',
+            t.table_name, t.table_name || '_unpartitioned', t.key_column);
+
+        EXECUTE format('SELECT date_trunc(''month'', min(%I))::date FROM %I',
+            t.key_column, t.table_name || '_unpartitioned') INTO month;
+        month := LEAST(COALESCE(month, date_trunc('month', now())::date), date_trunc('month', now())::date);
+        WHILE month <= last_month LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                t.table_name || '_p' || to_char(month, 'YYYY_MM'), t.table_name,
+                month, (month + INTERVAL '1 month')::date);
+            month := (month + INTERVAL '1 month')::date;
+        END LOOP;
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', t.table_name || '_default', t.table_name);
+
+        EXECUTE format('INSERT INTO %I SELECT * FROM %I', t.table_name, t.table_name || '_unpartitioned');
+        EXECUTE format('DROP TABLE %I', t.table_name || '_unpartitioned');
+    END LOOP;
+END $$;
+
+ALTER TABLE assembly_steps ADD PRIMARY KEY (id, order_created_at);
+ALTER TABLE assembly_steps ADD FOREIGN KEY (assembly_process_id) REFERENCES assembly_processes (id);
+CREATE INDEX idx_assembly_steps_process_station ON assembly_steps (assembly_process_id, work_station_code);
+
+ALTER TABLE bom_line_items ADD PRIMARY KEY (id, order_created_at);
+ALTER TABLE bom_line_items ADD FOREIGN KEY (bom_snapshot_id) REFERENCES bom_snapshots (id);
+CREATE INDEX idx_bom_line_items_snapshot ON bom_line_items (bom_snapshot_id);
+
+ALTER TABLE inspection_items ADD PRIMARY KEY (id, inspection_created_at);
+ALTER TABLE inspection_items ADD FOREIGN KEY (inspection_id) REFERENCES quality_inspections (id);
+CREATE INDEX idx_inspection_items_inspection ON inspection_items (inspection_id);
+
+-- event_id is no longer unique on its own; OrderEventConsumer checks it before processing and a
+-- replayed OrderPlacedEvent still fails on production_orders.source_order_id.
+ALTER TABLE processed_events ADD PRIMARY KEY (event_id, processed_at);
+
+ALTER TABLE domain_event_outbox ADD PRIMARY KEY (id, created_at);
+CREATE INDEX idx_domain_event_outbox_unpublished ON domain_event_outbox (created_at) WHERE published_at IS NULL;
@@ -0,0 +1,3 @@
+-- Optimistic concurrency for inspections; recording an item result bumps it without
+-- rewriting the other items
+ALTER TABLE quality_inspections ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
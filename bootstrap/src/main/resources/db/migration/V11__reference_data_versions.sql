@@ -0,0 +1,8 @@
+-- Version counters for reference data served from in-memory caches; bumping a row makes
+-- every instance reload that dataset on its next poll
+CREATE TABLE IF NOT EXISTS reference_data_versions (
+    dataset VARCHAR(100) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO reference_data_versions (dataset, version) VALUES ('inspection_checklists', 1);
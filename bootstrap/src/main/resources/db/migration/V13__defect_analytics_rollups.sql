@@ -0,0 +1,65 @@
+-- Weekly defect analytics rollups, maintained incrementally by DefectAnalyticsProjection from
+-- inspection and rework events. week_start is the Monday of the week the event occurred in.
+-- Dashboards read only these tables, never inspection_items or rework_orders.
+CREATE TABLE IF NOT EXISTS inspection_outcome_rollups (
+    week_start DATE NOT NULL,
+    model_code VARCHAR(50) NOT NULL,
+    inspector_id VARCHAR(50) NOT NULL,
+    inspections_completed INT NOT NULL,
+    passed INT NOT NULL,
+    conditional_passed INT NOT NULL,
+    failed INT NOT NULL,
+    first_inspections INT NOT NULL,
+    first_pass_passed INT NOT NULL,
+    reworks_completed INT NOT NULL,
+    PRIMARY KEY (week_start, model_code, inspector_id)
+);
+
+CREATE TABLE IF NOT EXISTS defect_item_rollups (
+    week_start DATE NOT NULL,
+    model_code VARCHAR(50) NOT NULL,
+    inspector_id VARCHAR(50) NOT NULL,
+    item_description VARCHAR(500) NOT NULL,
+    failures INT NOT NULL,
+    PRIMARY KEY (week_start, model_code, inspector_id, item_description)
+);
+
+-- Backfill from history. Outcomes count at completion, reworks at rework completion (under the
+-- inspector of the failed inspection), item failures at review of a failed inspection.
+INSERT INTO inspection_outcome_rollups (week_start, model_code, inspector_id, inspections_completed,
+    passed, conditional_passed, failed, first_inspections, first_pass_passed, reworks_completed)
+SELECT week_start, model_code, inspector_id, SUM(completed), SUM(passed), SUM(conditional_passed),
+       SUM(failed), SUM(first_inspection), SUM(first_pass_passed), SUM(rework)
+FROM (
+    SELECT CAST(q.inspected_at AS DATE) - CAST(EXTRACT(ISODOW FROM q.inspected_at) - 1 AS INT) AS week_start,
+           p.vehicle_model_code AS model_code,
+           q.inspector_id AS inspector_id,
+           1 AS completed,
+           CASE WHEN q.result = 'PASSED' THEN 1 ELSE 0 END AS passed,
+           CASE WHEN q.result = 'CONDITIONAL_PASS' THEN 1 ELSE 0 END AS conditional_passed,
+           CASE WHEN q.result = 'FAILED' THEN 1 ELSE 0 END AS failed,
+           CASE WHEN q.corrects_record_id IS NULL THEN 1 ELSE 0 END AS first_inspection,
+           CASE WHEN q.corrects_record_id IS NULL AND q.result <> 'FAILED' THEN 1 ELSE 0 END AS first_pass_passed,
+           0 AS rework
+    FROM quality_inspections q
+    JOIN production_orders p ON p.id = q.production_order_id
+    WHERE q.result IS NOT NULL AND q.inspected_at IS NOT NULL
+    UNION ALL
+    SELECT CAST(r.completed_at AS DATE) - CAST(EXTRACT(ISODOW FROM r.completed_at) - 1 AS INT),
+           p.vehicle_model_code, q.inspector_id, 0, 0, 0, 0, 0, 0, 1
+    FROM rework_orders r
+    JOIN quality_inspections q ON q.id = r.inspection_id
+    JOIN production_orders p ON p.id = r.production_order_id
+    WHERE r.status = 'COMPLETED' AND r.completed_at IS NOT NULL
+) facts
+GROUP BY week_start, model_code, inspector_id;
+
+INSERT INTO defect_item_rollups (week_start, model_code, inspector_id, item_description, failures)
+SELECT CAST(q.reviewed_at AS DATE) - CAST(EXTRACT(ISODOW FROM q.reviewed_at) - 1 AS INT),
+       p.vehicle_model_code, q.inspector_id, i.description, COUNT(*)
+FROM quality_inspections q
+JOIN production_orders p ON p.id = q.production_order_id
+JOIN inspection_items i ON i.inspection_id = q.id
+WHERE q.result = 'FAILED' AND q.reviewed_at IS NOT NULL AND i.status = 'FAILED'
+GROUP BY CAST(q.reviewed_at AS DATE) - CAST(EXTRACT(ISODOW FROM q.reviewed_at) - 1 AS INT),
+         p.vehicle_model_code, q.inspector_id, i.description;
@@ -0,0 +1,4 @@
+-- Review queue claims: a reviewer takes an inspection awaiting review with a conditional
+-- single-row UPDATE; a claim older than the configured TTL can be taken over
+ALTER TABLE quality_inspections ADD COLUMN review_claimed_by VARCHAR(50);
+ALTER TABLE quality_inspections ADD COLUMN review_claimed_at TIMESTAMP;
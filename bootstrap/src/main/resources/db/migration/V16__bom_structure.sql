@@ -0,0 +1,94 @@
+-- Multi-level bill of materials. A component row lists how many of a part one parent needs;
+-- the parent is a vehicle model, an option package or another part (a subassembly)
+CREATE TABLE IF NOT EXISTS bom_parts (
+    part_number VARCHAR(50) PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    unit_of_measure VARCHAR(20) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bom_components (
+    parent_type VARCHAR(10) NOT NULL,
+    parent_code VARCHAR(50) NOT NULL,
+    component_part_number VARCHAR(50) NOT NULL REFERENCES bom_parts(part_number),
+    quantity INT NOT NULL,
+    PRIMARY KEY (parent_type, parent_code, component_part_number),
+    CONSTRAINT chk_bom_components_parent_type CHECK (parent_type IN ('MODEL', 'OPTION', 'PART')),
+    CONSTRAINT chk_bom_components_quantity CHECK (quantity > 0)
+);
+
+INSERT INTO bom_parts (part_number, description, unit_of_measure) VALUES
+    ('CHS-001', 'Chassis Frame Assembly', 'UNIT'),
+    ('ENG-001', 'Electric Motor Unit', 'UNIT'),
+    ('BAT-001', 'Battery Pack 100kWh', 'UNIT'),
+    ('BRK-001', 'Brake System Kit', 'SET'),
+    ('SUS-001', 'Suspension Assembly', 'UNIT'),
+    ('WHL-001', 'Wheel Assembly 19in', 'UNIT'),
+    ('BDY-001', 'Body Panel Set', 'SET'),
+    ('INT-001', 'Interior Trim Package', 'SET'),
+    ('ELC-001', 'Electrical Wiring Harness', 'SET'),
+    ('GLZ-001', 'Glass Set (Windshield + Windows)', 'SET'),
+    ('CHS-002', 'SUV Chassis Frame Assembly', 'UNIT'),
+    ('ENG-002', 'Dual Motor Powertrain', 'UNIT'),
+    ('BAT-002', 'Battery Pack 120kWh', 'UNIT'),
+    ('SUS-002', 'Heavy-Duty Suspension Assembly', 'UNIT'),
+    ('WHL-002', 'Wheel Assembly 22in', 'UNIT'),
+    ('BDY-002', 'SUV Body Panel Set', 'SET'),
+    ('INT-002', 'Premium Interior Trim Package', 'SET'),
+    ('GLZ-002', 'Panoramic Glass Set', 'SET'),
+    ('AUD-001', 'Premium Speaker System', 'SET'),
+    ('AUD-002', 'Amplifier Unit', 'UNIT'),
+    ('AP-001', 'Autopilot Computer Module', 'UNIT'),
+    ('AP-002', 'Camera Array Kit', 'SET'),
+    ('AP-003', 'Ultrasonic Sensor Kit', 'SET'),
+    ('SPT-001', 'Sport Suspension Upgrade', 'UNIT'),
+    ('SPT-002', 'Performance Brake Kit', 'SET'),
+    ('TOW-001', 'Tow Hitch Assembly', 'UNIT'),
+    ('TOW-002', 'Trailer Wiring Harness', 'SET'),
+    -- Battery pack subassemblies
+    ('BAT-MOD-001', 'Battery Module 16-cell', 'UNIT'),
+    ('BAT-CEL-001', 'Lithium-Ion Cell 4680', 'UNIT'),
+    ('BAT-BMS-001', 'Battery Management Controller', 'UNIT'),
+    ('BAT-ENC-001', 'Battery Enclosure 100kWh', 'UNIT'),
+    ('BAT-ENC-002', 'Battery Enclosure 120kWh', 'UNIT'),
+    ('BAT-CLG-001', 'Battery Coolant Plate', 'UNIT');
+
+INSERT INTO bom_components (parent_type, parent_code, component_part_number, quantity) VALUES
+    ('MODEL', 'MODEL-S', 'CHS-001', 1),
+    ('MODEL', 'MODEL-S', 'ENG-001', 1),
+    ('MODEL', 'MODEL-S', 'BAT-001', 1),
+    ('MODEL', 'MODEL-S', 'BRK-001', 1),
+    ('MODEL', 'MODEL-S', 'SUS-001', 4),
+    ('MODEL', 'MODEL-S', 'WHL-001', 4),
+    ('MODEL', 'MODEL-S', 'BDY-001', 1),
+    ('MODEL', 'MODEL-S', 'INT-001', 1),
+    ('MODEL', 'MODEL-S', 'ELC-001', 1),
+    ('MODEL', 'MODEL-S', 'GLZ-001', 1),
+    ('MODEL', 'MODEL-X', 'CHS-002', 1),
+    ('MODEL', 'MODEL-X', 'ENG-002', 1),
+    ('MODEL', 'MODEL-X', 'BAT-002', 1),
+    ('MODEL', 'MODEL-X', 'BRK-001', 1),
+    ('MODEL', 'MODEL-X', 'SUS-002', 4),
+    ('MODEL', 'MODEL-X', 'WHL-002', 4),
+    ('MODEL', 'MODEL-X', 'BDY-002', 1),
+    ('MODEL', 'MODEL-X', 'INT-002', 1),
+    ('MODEL', 'MODEL-X', 'ELC-001', 1),
+    ('MODEL', 'MODEL-X', 'GLZ-002', 1),
+    ('OPTION', 'PREMIUM-AUDIO', 'AUD-001', 1),
+    ('OPTION', 'PREMIUM-AUDIO', 'AUD-002', 1),
+    ('OPTION', 'AUTOPILOT', 'AP-001', 1),
+    ('OPTION', 'AUTOPILOT', 'AP-002', 1),
+    ('OPTION', 'AUTOPILOT', 'AP-003', 1),
+    ('OPTION', 'SPORT-PACKAGE', 'SPT-001', 4),
+    ('OPTION', 'SPORT-PACKAGE', 'SPT-002', 1),
+    ('OPTION', 'TOW-PACKAGE', 'TOW-001', 1),
+    ('OPTION', 'TOW-PACKAGE', 'TOW-002', 1),
+    ('PART', 'BAT-001', 'BAT-MOD-001', 5),
+    ('PART', 'BAT-001', 'BAT-BMS-001', 1),
+    ('PART', 'BAT-001', 'BAT-ENC-001', 1),
+    ('PART', 'BAT-002', 'BAT-MOD-001', 6),
+    ('PART', 'BAT-002', 'BAT-BMS-001', 1),
+    ('PART', 'BAT-002', 'BAT-ENC-002', 1),
+    ('PART', 'BAT-MOD-001', 'BAT-CEL-001', 16),
+    ('PART', 'BAT-MOD-001', 'BAT-CLG-001', 1);
+
+INSERT INTO reference_data_versions (dataset, version) VALUES ('bom_structure', 1);
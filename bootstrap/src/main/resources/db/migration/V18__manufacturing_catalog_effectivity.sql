@@ -0,0 +1,52 @@
+-- BOM components and assembly routing steps become effective over date ranges:
+-- effective_from inclusive, effective_to exclusive, NULL meaning open-ended.
+
+-- A component can now appear under the same parent once per effectivity range, so the table is
+-- rebuilt with effective_from in the primary key
+CREATE TABLE bom_components_dated (
+    parent_type VARCHAR(10) NOT NULL,
+    parent_code VARCHAR(50) NOT NULL,
+    component_part_number VARCHAR(50) NOT NULL REFERENCES bom_parts(part_number),
+    quantity INT NOT NULL,
+    effective_from DATE NOT NULL,
+    effective_to DATE,
+    PRIMARY KEY (parent_type, parent_code, component_part_number, effective_from),
+    CHECK (parent_type IN ('MODEL', 'OPTION', 'PART')),
+    CHECK (quantity > 0),
+    CHECK (effective_to IS NULL OR effective_to > effective_from)
+);
+
+INSERT INTO bom_components_dated (parent_type, parent_code, component_part_number, quantity, effective_from)
+SELECT parent_type, parent_code, component_part_number, quantity, DATE '2000-01-01' FROM bom_components;
+
+DROP TABLE bom_components;
+ALTER TABLE bom_components_dated RENAME TO bom_components;
+
+-- Assembly steps per model, or added by an option package. Model code '*' is the routing of
+-- every model without one of its own.
+CREATE TABLE IF NOT EXISTS routing_steps (
+    parent_type VARCHAR(10) NOT NULL,
+    parent_code VARCHAR(50) NOT NULL,
+    step_no INT NOT NULL,
+    workstation_code VARCHAR(20) NOT NULL,
+    workstation_sequence INT NOT NULL,
+    task_description VARCHAR(500) NOT NULL,
+    standard_minutes INT NOT NULL,
+    effective_from DATE NOT NULL,
+    effective_to DATE,
+    PRIMARY KEY (parent_type, parent_code, step_no, effective_from),
+    CONSTRAINT chk_routing_steps_parent_type CHECK (parent_type IN ('MODEL', 'OPTION')),
+    CONSTRAINT chk_routing_steps_minutes CHECK (standard_minutes > 0),
+    CONSTRAINT chk_routing_steps_effectivity CHECK (effective_to IS NULL OR effective_to > effective_from)
+);
+
+INSERT INTO routing_steps (parent_type, parent_code, step_no, workstation_code, workstation_sequence,
+                           task_description, standard_minutes, effective_from) VALUES
+    ('MODEL', '*', 1, 'WS-BODY', 1, 'Body-in-white welding and frame assembly', 60, DATE '2000-01-01'),
+    ('MODEL', '*', 2, 'WS-PAINT', 2, 'Surface treatment and paint application', 45, DATE '2000-01-01'),
+    ('MODEL', '*', 3, 'WS-TRIM', 3, 'Interior trim and dashboard installation', 30, DATE '2000-01-01'),
+    ('MODEL', '*', 4, 'WS-MECH', 4, 'Powertrain and mechanical assembly', 90, DATE '2000-01-01'),
+    ('MODEL', '*', 5, 'WS-FINAL', 5, 'Final assembly and pre-delivery inspection', 20, DATE '2000-01-01');
+
+-- BOM and routing are published together as one catalog version
+UPDATE reference_data_versions SET dataset = 'manufacturing_catalog' WHERE dataset = 'bom_structure';
@@ -0,0 +1,14 @@
+-- On-hand stock per part, netted against the time-phased requirements of open production orders
+CREATE TABLE IF NOT EXISTS part_inventory (
+    part_number VARCHAR(50) PRIMARY KEY REFERENCES bom_parts(part_number),
+    on_hand BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_part_inventory_on_hand CHECK (on_hand >= 0)
+);
+
+INSERT INTO part_inventory (part_number, on_hand, updated_at)
+SELECT part_number, CASE WHEN part_number = 'BAT-CEL-001' THEN 2000 ELSE 50 END, CURRENT_TIMESTAMP
+FROM bom_parts;
+
+-- Reading one order's BOM lines starts from its snapshot
+CREATE INDEX IF NOT EXISTS idx_bom_snapshots_production_order ON bom_snapshots (production_order_id);
@@ -0,0 +1,8 @@
+-- Heartbeat written to the primary and read back from the read replica to measure its lag.
+-- beat_millis is the writing instance's clock, so lag is measured against that same clock.
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id SMALLINT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, 0);
@@ -0,0 +1,7 @@
+-- The plant that builds each order. Orders placed before plants were recorded were all built
+-- at the original plant.
+ALTER TABLE production_orders ADD COLUMN IF NOT EXISTS plant_id VARCHAR(20) NOT NULL DEFAULT 'PLANT-01';
+
+-- Listing one plant's orders seeks on (plant, created_at, id) like the unfiltered list
+CREATE INDEX IF NOT EXISTS idx_production_orders_plant_created_id
+    ON production_orders (plant_id, created_at, id);
@@ -0,0 +1,3 @@
+-- Optimistic concurrency for production orders; every save of the aggregate bumps it, and so
+-- does the scheduler's slot update
+ALTER TABLE production_orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Order numbers and VINs of every production order, kept on the primary whichever plant shard
+-- stores the order. The unique constraints of production_orders hold only within one shard;
+-- these hold across all of them. Rows outlive archiving, so a VIN is never issued twice.
+CREATE TABLE IF NOT EXISTS production_order_keys (
+    production_order_id UUID PRIMARY KEY,
+    order_number VARCHAR(25) NOT NULL UNIQUE,
+    vin VARCHAR(17) NOT NULL UNIQUE
+);
+
+INSERT INTO production_order_keys (production_order_id, order_number, vin)
+SELECT id, order_number, vin FROM production_orders;
@@ -0,0 +1,9 @@
+-- Facts already folded into the defect analytics rollups (V13), one row per inspection outcome,
+-- failed inspection's items or completed rework. DefectAnalyticsProjection inserts the row in the
+-- transaction that adds to the rollups, so a redelivered event is counted once.
+CREATE TABLE IF NOT EXISTS defect_analytics_processed (
+    source_id UUID NOT NULL,
+    fact VARCHAR(20) NOT NULL,
+    processed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (source_id, fact)
+);
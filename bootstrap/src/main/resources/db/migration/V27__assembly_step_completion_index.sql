@@ -0,0 +1,2 @@
+-- Lets the genealogy reconcile find recently completed steps without scanning assembly_steps.
+CREATE INDEX IF NOT EXISTS idx_assembly_steps_completed ON assembly_steps (completed_at);
@@ -0,0 +1,6 @@
+-- Vehicle model and paint color carried on production orders (paint-shop sequencing)
+ALTER TABLE production_orders ADD COLUMN vehicle_model_code VARCHAR(50);
+ALTER TABLE production_orders ADD COLUMN color_code VARCHAR(30);
+
+CREATE INDEX IF NOT EXISTS idx_production_orders_status_start
+    ON production_orders (status, scheduled_start_date);
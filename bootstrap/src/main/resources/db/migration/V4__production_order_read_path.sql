@@ -0,0 +1,18 @@
+-- Denormalized step count for production order read models
+ALTER TABLE production_orders ADD COLUMN total_assembly_steps INT;
+
+UPDATE production_orders p SET total_assembly_steps = (
+    SELECT COUNT(*) FROM assembly_steps s
+    JOIN assembly_processes ap ON ap.id = s.assembly_process_id
+    WHERE ap.production_order_id = p.id
+);
+
+-- Keyset pagination over (created_at, id), optionally narrowed by status
+CREATE INDEX IF NOT EXISTS idx_production_orders_created_id
+    ON production_orders (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_production_orders_status_created_id
+    ON production_orders (status, created_at, id);
+
+-- Station-filtered step lookups
+CREATE INDEX IF NOT EXISTS idx_assembly_steps_process_station
+    ON assembly_steps (assembly_process_id, work_station_code);
@@ -0,0 +1,13 @@
+-- Idempotency keys of station scans already applied (batch scan replay from line terminals)
+CREATE TABLE IF NOT EXISTS processed_scans (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    production_order_id UUID NOT NULL,
+    assembly_step_id UUID NOT NULL,
+    order_status VARCHAR(30) NOT NULL,
+    overtime_alert BOOLEAN NOT NULL,
+    station_completed BOOLEAN NOT NULL,
+    assembly_completed BOOLEAN NOT NULL,
+    processed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_scans_processed_at ON processed_scans (processed_at);
@@ -0,0 +1,27 @@
+-- Material batch genealogy index for recall queries (BR-08).
+-- One row per completed step that consumed a batch, denormalised with the VIN so a recall
+-- lookup is a single index range scan and never joins assembly_steps or production_orders.
+CREATE TABLE IF NOT EXISTS material_batch_genealogy (
+    assembly_step_id UUID PRIMARY KEY,
+    material_batch_id VARCHAR(100) NOT NULL,
+    production_order_id UUID NOT NULL,
+    vin VARCHAR(17) NOT NULL,
+    work_station_code VARCHAR(20) NOT NULL,
+    completed_at TIMESTAMP NOT NULL
+);
+
+-- Covers the recall query (filter + order + every selected column) so it can be answered
+-- from the index alone.
+CREATE INDEX IF NOT EXISTS idx_genealogy_batch_completed
+    ON material_batch_genealogy (material_batch_id, completed_at, vin, production_order_id, work_station_code);
+
+-- Backfill from steps completed before the index existed
+INSERT INTO material_batch_genealogy
+    (assembly_step_id, material_batch_id, production_order_id, vin, work_station_code, completed_at)
+SELECT s.id, s.material_batch_id, p.id, p.vin, s.work_station_code, s.completed_at
+FROM assembly_steps s
+JOIN assembly_processes ap ON ap.id = s.assembly_process_id
+JOIN production_orders p ON p.id = ap.production_order_id
+WHERE s.status = 'COMPLETED'
+  AND s.material_batch_id IS NOT NULL
+  AND s.completed_at IS NOT NULL;
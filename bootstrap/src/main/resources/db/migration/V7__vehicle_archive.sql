@@ -0,0 +1,17 @@
+-- Locators for vehicles moved out of the hot tables into archive segment files
+CREATE TABLE IF NOT EXISTS archived_production_orders (
+    production_order_id UUID PRIMARY KEY,
+    vin VARCHAR(17) NOT NULL UNIQUE,
+    segment_name VARCHAR(100) NOT NULL,
+    closed_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS archived_inspections (
+    inspection_id UUID PRIMARY KEY,
+    production_order_id UUID NOT NULL
+);
+
+-- Finding archivable vehicles groups inspections per passed order
+CREATE INDEX IF NOT EXISTS idx_quality_inspections_production_order
+    ON quality_inspections (production_order_id);
@@ -0,0 +1,35 @@
+-- Child rows carry the creation time of their aggregate so the Postgres profile can
+-- range-partition them (db/migration-postgres); on other databases they are plain columns.
+ALTER TABLE assembly_steps ADD COLUMN order_created_at TIMESTAMP;
+
+UPDATE assembly_steps s SET order_created_at = (
+    SELECT p.created_at
+    FROM assembly_processes a
+    JOIN production_orders p ON p.id = a.production_order_id
+    WHERE a.id = s.assembly_process_id
+);
+
+ALTER TABLE assembly_steps ALTER COLUMN order_created_at SET NOT NULL;
+
+ALTER TABLE bom_line_items ADD COLUMN order_created_at TIMESTAMP;
+
+UPDATE bom_line_items l SET order_created_at = (
+    SELECT p.created_at
+    FROM bom_snapshots b
+    JOIN production_orders p ON p.id = b.production_order_id
+    WHERE b.id = l.bom_snapshot_id
+);
+
+ALTER TABLE bom_line_items ALTER COLUMN order_created_at SET NOT NULL;
+
+ALTER TABLE inspection_items ADD COLUMN inspection_created_at TIMESTAMP;
+
+UPDATE inspection_items i SET inspection_created_at = (
+    SELECT q.created_at FROM quality_inspections q WHERE q.id = i.inspection_id
+);
+
+ALTER TABLE inspection_items ALTER COLUMN inspection_created_at SET NOT NULL;
+
+-- Parent lookups used when loading an aggregate's children
+CREATE INDEX IF NOT EXISTS idx_bom_line_items_snapshot ON bom_line_items (bom_snapshot_id);
+CREATE INDEX IF NOT EXISTS idx_inspection_items_inspection ON inspection_items (inspection_id);
@@ -0,0 +1,107 @@
+package com.automfg.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Response-time histograms per endpoint, plus the PRD budget each endpoint is held to. Latencies
+ * are kept in microseconds with three significant digits; an endpoint breaches its budget when
+ * its p99 exceeds it.
+ */
+final class EndpointLatencies {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    record Breach(String endpoint, Duration budget, double p99Millis) {}
+
+    private static final class Endpoint {
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+
+    private final Map<String, Duration> budgets;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile long recordingSince = System.nanoTime();
+
+    EndpointLatencies(Map<String, Duration> budgets) {
+        this.budgets = Map.copyOf(budgets);
+    }
+
+    /**
+     * Records one call; {@code status} 0 means no response was received.
+     */
+    void record(String endpoint, long latencyNanos, int status) {
+        Endpoint target = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        if (status == 0) {
+            target.failed.increment();
+            return;
+        }
+        target.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 500) {
+            target.failed.increment();
+        } else if (status >= 400) {
+            target.rejected.increment();
+        }
+    }
+
+    /**
+     * Drops everything recorded so far, ending the warmup.
+     */
+    void reset() {
+        endpoints.clear();
+        recordingSince = System.nanoTime();
+    }
+
+    List<Breach> breaches() {
+        List<Breach> breaches = new ArrayList<>();
+        budgets.forEach((endpoint, budget) -> {
+            Endpoint recorded = endpoints.get(endpoint);
+            if (recorded != null && recorded.histogram.getTotalCount() > 0) {
+                double p99 = millis(recorded.histogram.getValueAtPercentile(99.0));
+                if (p99 > budget.toMillis()) {
+                    breaches.add(new Breach(endpoint, budget, p99));
+                }
+            }
+        });
+        return breaches;
+    }
+
+    String report() {
+        double seconds = (System.nanoTime() - recordingSince) / 1e9;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-70s %8s %8s %6s %6s %9s %9s %9s %9s  %s%n",
+            "endpoint", "count", "per sec", "4xx", "fail", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "PRD budget"));
+        new TreeMap<>(endpoints).forEach((endpoint, recorded) -> {
+            Histogram histogram = recorded.histogram;
+            Duration budget = budgets.get(endpoint);
+            String verdict = "";
+            if (budget != null) {
+                boolean breached = histogram.getTotalCount() > 0
+                    && millis(histogram.getValueAtPercentile(99.0)) > budget.toMillis();
+                verdict = budget.toMillis() + " ms " + (breached ? "BREACH (p99)" : "ok");
+            }
+            report.append(String.format("%-70s %8d %8.1f %6d %6d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                endpoint, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                recorded.rejected.sum(), recorded.failed.sum(),
+                millis(histogram.getValueAtPercentile(50.0)),
+                millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()), verdict));
+        });
+        return report.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
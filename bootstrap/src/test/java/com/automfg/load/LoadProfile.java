@@ -0,0 +1,53 @@
+package com.automfg.load;
+
+import java.time.Duration;
+
+/**
+ * Shape of one load run, read from {@code load.*} system properties so it can be set on the
+ * Maven command line, e.g. {@code -Dload.orders-per-second=20 -Dload.lines=4}.
+ *
+ * @param warmup               load applied before latencies are recorded
+ * @param duration             measured load after the warmup
+ * @param dealers              concurrent dealers placing and changing orders
+ * @param ordersPerSecond      dealer actions per second across all dealers
+ * @param changeRatio          share of dealer actions that change a recent order instead of placing one
+ * @param lines                assembly lines, each taking one vehicle at a time through all stations
+ * @param inspectors           concurrent inspectors recording, completing and reviewing inspections
+ * @param failedItemRatio      share of inspection items recorded as FAILED
+ * @param failOnBreach         fail the run when an endpoint misses its PRD budget
+ */
+record LoadProfile(Duration warmup, Duration duration, int dealers, double ordersPerSecond, double changeRatio,
+                   int lines, int inspectors, double failedItemRatio, boolean failOnBreach) {
+
+    LoadProfile {
+        if (dealers < 1 || lines < 1 || inspectors < 1) {
+            throw new IllegalArgumentException("Dealers, lines and inspectors must each be at least 1");
+        }
+        if (ordersPerSecond <= 0) {
+            throw new IllegalArgumentException("Order rate must be positive");
+        }
+    }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+            Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10)),
+            Duration.ofSeconds(Long.getLong("load.duration-seconds", 60)),
+            Integer.getInteger("load.dealers", 4),
+            doubleProperty("load.orders-per-second", 2),
+            doubleProperty("load.change-ratio", 0.1),
+            Integer.getInteger("load.lines", 2),
+            Integer.getInteger("load.inspectors", 2),
+            doubleProperty("load.failed-item-ratio", 0.02),
+            Boolean.parseBoolean(System.getProperty("load.fail-on-breach", "true")));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+
+    /** Interval between the actions of one dealer. */
+    Duration dealerInterval() {
+        return Duration.ofNanos((long) (dealers * 1_000_000_000L / ordersPerSecond));
+    }
+}
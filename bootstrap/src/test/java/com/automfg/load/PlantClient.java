@@ -0,0 +1,84 @@
+package com.automfg.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Blocking JSON client for the plant's REST API that records every call in
+ * {@link EndpointLatencies} under a route label such as {@code POST /api/v1/orders/{id}/changes}.
+ */
+final class PlantClient {
+
+    record Response(int status, JsonNode body) {
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final String baseUrl;
+    private final EndpointLatencies latencies;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    PlantClient(String baseUrl, EndpointLatencies latencies) {
+        this.baseUrl = baseUrl;
+        this.latencies = latencies;
+    }
+
+    Response get(String route, String path) throws InterruptedException {
+        return send(route, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(), System.nanoTime());
+    }
+
+    Response post(String route, String path, Object body) throws InterruptedException {
+        return post(route, path, body, System.nanoTime());
+    }
+
+    /**
+     * Posts on behalf of a paced client: latency is measured from {@code intendedStartNanos}, so
+     * time spent waiting behind a slow earlier call counts against the endpoint.
+     */
+    Response post(String route, String path, Object body, long intendedStartNanos) throws InterruptedException {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body for " + route, e);
+        }
+        return send(route, HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json)), intendedStartNanos);
+    }
+
+    private Response send(String route, HttpRequest.Builder request, long startNanos) throws InterruptedException {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+            latencies.record(route, System.nanoTime() - startNanos, response.statusCode());
+            return new Response(response.statusCode(), parse(response.body()));
+        } catch (IOException e) {
+            latencies.record(route, System.nanoTime() - startNanos, 0);
+            return new Response(0, null);
+        }
+    }
+
+    private JsonNode parse(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null; // not JSON, e.g. a container error page
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.automfg.load;
+
+import com.automfg.shared.infrastructure.sql.SqlBudgetViolation;
+import com.automfg.shared.infrastructure.sql.SqlStatementMonitor;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plant simulation against the application booted in-process on H2: dealers place and change
+ * orders at a fixed rate, assembly lines start scheduled production orders and scan every step
+ * through all five stations, and inspectors record, complete and review the finished vehicles.
+ * Latencies are reported per endpoint with p50/p99/p99.9 and checked against the PRD targets
+ * (order operations under 2 s, station scans under 500 ms). SQL budget violations (see
+ * {@code automfg.sql-budget}) fail the run as well; they are collected rather than enforced
+ * per statement so that one breach does not distort the latencies of the rest of the run.
+ * <p>
+ * Not part of the regular build; run it with
+ * <pre>
+ * mvn -pl bootstrap -am verify -Pload-harness -Dload.duration-seconds=120 -Dload.orders-per-second=20
+ * </pre>
+ * See {@link LoadProfile} for the other {@code load.*} properties.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"logging.level.root=WARN", "logging.level.com.automfg.load=INFO"})
+class PlantLoadIT {
+
+    private static final Logger log = LoggerFactory.getLogger(PlantLoadIT.class);
+
+    static final String PLACE_ORDER = "POST /api/v1/orders";
+    static final String CHANGE_ORDER = "POST /api/v1/orders/{id}/changes";
+    static final String LIST_SCHEDULED = "GET /api/v1/production-orders?status=SCHEDULED";
+    static final String GET_PRODUCTION_ORDER = "GET /api/v1/production-orders/{id}";
+    static final String START_PRODUCTION = "POST /api/v1/production-orders/{id}/start";
+    static final String GET_STEPS = "GET /api/v1/production-orders/{id}/assembly-steps";
+    static final String COMPLETE_STEP = "POST /api/v1/production-orders/{id}/assembly-steps/{stepId}/complete";
+    static final String CREATE_INSPECTION = "POST /api/v1/inspections";
+    static final String RECORD_ITEM = "POST /api/v1/inspections/{id}/items/{itemId}/result";
+    static final String COMPLETE_INSPECTION = "POST /api/v1/inspections/{id}/complete";
+    static final String REVIEW_INSPECTION = "POST /api/v1/inspections/{id}/review";
+
+    private static final Duration ORDER_BUDGET = Duration.ofSeconds(2);
+    private static final Duration SCAN_BUDGET = Duration.ofMillis(500);
+
+    private record ModelOffer(String modelCode, List<String> colors, List<String> options) {}
+
+    private static final List<ModelOffer> OFFERS = List.of(
+        new ModelOffer("MODEL-X-SEDAN", List.of("SILVER", "BLACK", "WHITE"),
+            List.of("LUXURY-INTERIOR", "PREMIUM-AUDIO", "NAVIGATION")),
+        new ModelOffer("MODEL-Y-SUV", List.of("SILVER", "RED", "BLUE"),
+            List.of("LUXURY-INTERIOR", "SPORT-SUSPENSION", "SUNROOF")),
+        new ModelOffer("MODEL-Z-CONVERTIBLE", List.of("BLACK", "WHITE", "RED"),
+            List.of("PREMIUM-AUDIO", "SPORT-SUSPENSION")));
+
+    private record PlacedOrder(UUID orderId, ModelOffer offer) {}
+
+    private record AssembledVehicle(UUID productionOrderId, String modelCode) {}
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    private final Map<UUID, String> modelByOrderId = new ConcurrentHashMap<>();
+    private final Set<UUID> claimedProductionOrders = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<AssembledVehicle> awaitingInspection = new LinkedBlockingQueue<>();
+    private final AtomicInteger vehiclesAssembled = new AtomicInteger();
+    private final AtomicInteger inspectionsReviewed = new AtomicInteger();
+    private volatile boolean running = true;
+
+    @Test
+    @DisplayName("plant simulation stays within the PRD response-time targets")
+    void plant_meets_prd_response_time_targets() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        EndpointLatencies latencies = new EndpointLatencies(Map.of(
+            PLACE_ORDER, ORDER_BUDGET,
+            CHANGE_ORDER, ORDER_BUDGET,
+            START_PRODUCTION, SCAN_BUDGET,
+            COMPLETE_STEP, SCAN_BUDGET));
+        PlantClient client = new PlantClient("http://localhost:" + port, latencies);
+        log.info("Plant load: {}", profile);
+
+        ExecutorService workers = Executors.newFixedThreadPool(
+            profile.dealers() + profile.lines() + profile.inspectors());
+        long startNanos = System.nanoTime();
+        for (int d = 0; d < profile.dealers(); d++) {
+            String dealerId = String.format("DLR-%03d", d + 1);
+            long offset = profile.dealerInterval().toNanos() * d / profile.dealers();
+            workers.submit(reportingFailures(dealerId, () -> dealer(client, profile, dealerId, startNanos + offset)));
+        }
+        for (int l = 0; l < profile.lines(); l++) {
+            String operatorId = "OP-L" + (l + 1);
+            workers.submit(reportingFailures(operatorId, () -> assemblyLine(client, operatorId)));
+        }
+        for (int i = 0; i < profile.inspectors(); i++) {
+            String inspectorId = "INSP-" + (i + 1);
+            String reviewerId = "REV-" + (i + 1);
+            workers.submit(reportingFailures(inspectorId, () -> inspector(client, profile, inspectorId, reviewerId)));
+        }
+
+        Thread.sleep(profile.warmup().toMillis());
+        latencies.reset();
+        int assembledBefore = vehiclesAssembled.get();
+        int reviewedBefore = inspectionsReviewed.get();
+        Thread.sleep(profile.duration().toMillis());
+        String report = latencies.report();
+        List<EndpointLatencies.Breach> breaches = latencies.breaches();
+
+        running = false;
+        workers.shutdownNow();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+
+        List<String> sqlViolations = sqlStatementMonitor.violations().stream()
+            .map(SqlBudgetViolation::toString)
+            .distinct()
+            .toList();
+
+        log.info("Plant load over {} s: {} vehicles assembled, {} inspections reviewed, {} awaiting inspection\n{}",
+            profile.duration().toSeconds(), vehiclesAssembled.get() - assembledBefore,
+            inspectionsReviewed.get() - reviewedBefore, awaitingInspection.size(), report);
+        if (!sqlViolations.isEmpty()) {
+            log.info("SQL budget violations:\n  {}", String.join("\n  ", sqlViolations));
+        }
+        if (profile.failOnBreach()) {
+            assertThat(breaches).as("endpoints over their PRD budget").isEmpty();
+            assertThat(sqlViolations).as("SQL budget violations").isEmpty();
+        }
+    }
+
+    /**
+     * Paced dealer: one action every {@link LoadProfile#dealerInterval()}. When a call overruns
+     * the interval the next action starts late, and its latency is counted from when it was due.
+     */
+    private void dealer(PlantClient client, LoadProfile profile, String dealerId, long firstActionNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Deque<PlacedOrder> recent = new ArrayDeque<>();
+        long interval = profile.dealerInterval().toNanos();
+        try {
+            for (long tick = 0; running; tick++) {
+                long intended = firstActionNanos + tick * interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!recent.isEmpty() && random.nextDouble() < profile.changeRatio()) {
+                    PlacedOrder order = recent.pollFirst();
+                    client.post(CHANGE_ORDER, "/api/v1/orders/" + order.orderId() + "/changes",
+                        Map.of("newColorCode", pick(order.offer().colors(), random)), intended);
+                    continue;
+                }
+                ModelOffer offer = pick(OFFERS, random);
+                List<String> options = random.nextBoolean() ? List.of(pick(offer.options(), random)) : List.of();
+                PlantClient.Response response = client.post(PLACE_ORDER, "/api/v1/orders", Map.of(
+                    "dealerId", dealerId,
+                    "vehicleModelCode", offer.modelCode(),
+                    "colorCode", pick(offer.colors(), random),
+                    "optionPackageCodes", options), intended);
+                if (response.ok()) {
+                    UUID orderId = UUID.fromString(response.body().get("orderId").asText());
+                    modelByOrderId.put(orderId, offer.modelCode());
+                    recent.addLast(new PlacedOrder(orderId, offer));
+                    if (recent.size() > 20) {
+                        recent.pollFirst();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Closed-loop assembly line: takes the oldest unclaimed scheduled order, starts it at the
+     * first station and scans its steps in station order.
+     */
+    private void assemblyLine(PlantClient client, String operatorId) {
+        try {
+            while (running) {
+                UUID productionOrderId = claimScheduledOrder(client);
+                if (productionOrderId == null) {
+                    Thread.sleep(200);
+                    continue;
+                }
+                String path = "/api/v1/production-orders/" + productionOrderId;
+                PlantClient.Response detail = client.get(GET_PRODUCTION_ORDER, path);
+                if (!detail.ok()) {
+                    continue;
+                }
+                String modelCode = modelByOrderId.getOrDefault(
+                    UUID.fromString(detail.body().get("sourceOrderId").asText()), OFFERS.get(0).modelCode());
+                if (!client.post(START_PRODUCTION, path + "/start",
+                        Map.of("operatorId", operatorId, "workstationCode", "WS-BODY")).ok()) {
+                    continue;
+                }
+                PlantClient.Response steps = client.get(GET_STEPS, path + "/assembly-steps");
+                if (!steps.ok() || !scanAllSteps(client, path, operatorId, steps.body())) {
+                    continue;
+                }
+                vehiclesAssembled.incrementAndGet();
+                awaitingInspection.add(new AssembledVehicle(productionOrderId, modelCode));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private UUID claimScheduledOrder(PlantClient client) throws InterruptedException {
+        PlantClient.Response page = client.get(LIST_SCHEDULED, "/api/v1/production-orders?status=SCHEDULED&limit=50");
+        if (!page.ok()) {
+            return null;
+        }
+        for (JsonNode item : page.body().get("items")) {
+            UUID id = UUID.fromString(item.get("id").asText());
+            if (claimedProductionOrders.add(id)) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private boolean scanAllSteps(PlantClient client, String path, String operatorId, JsonNode steps)
+            throws InterruptedException {
+        List<JsonNode> ordered = new ArrayList<>();
+        steps.forEach(ordered::add);
+        ordered.sort((a, b) -> Integer.compare(a.get("workStationSequence").asInt(), b.get("workStationSequence").asInt()));
+        for (JsonNode step : ordered) {
+            PlantClient.Response scanned = client.post(COMPLETE_STEP,
+                path + "/assembly-steps/" + step.get("id").asText() + "/complete",
+                Map.of("operatorId", operatorId,
+                    "materialBatchId", "BATCH-" + step.get("workStationCode").asText(),
+                    "actualMinutes", step.get("standardTimeMinutes").asInt()));
+            if (!running || !scanned.ok()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Closed-loop inspector: inspects each assembled vehicle item by item, then completes the
+     * inspection and has it reviewed by a second person.
+     */
+    private void inspector(PlantClient client, LoadProfile profile, String inspectorId, String reviewerId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            while (running) {
+                AssembledVehicle vehicle = awaitingInspection.poll(100, TimeUnit.MILLISECONDS);
+                if (vehicle == null) {
+                    continue;
+                }
+                PlantClient.Response created = client.post(CREATE_INSPECTION, "/api/v1/inspections", Map.of(
+                    "productionOrderId", vehicle.productionOrderId(),
+                    "vehicleModelCode", vehicle.modelCode(),
+                    "inspectorId", inspectorId));
+                if (!created.ok()) {
+                    continue;
+                }
+                UUID inspectionId = UUID.fromString(created.body().get("inspectionId").asText());
+                String path = "/api/v1/inspections/" + inspectionId;
+                // The inspection API returns no item ids; an inspector would read them off the checklist
+                List<UUID> itemIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM inspection_items WHERE inspection_id = ?", UUID.class, inspectionId);
+                for (UUID itemId : itemIds) {
+                    String status = random.nextDouble() < profile.failedItemRatio() ? "FAILED" : "PASSED";
+                    client.post(RECORD_ITEM, path + "/items/" + itemId + "/result",
+                        Map.of("status", status, "notes", ""));
+                }
+                if (client.post(COMPLETE_INSPECTION, path + "/complete", Map.of("inspectorId", inspectorId)).ok()
+                        && client.post(REVIEW_INSPECTION, path + "/review", Map.of("reviewerId", reviewerId)).ok()) {
+                    inspectionsReviewed.incrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Runnable reportingFailures(String worker, Runnable body) {
+        return () -> {
+            try {
+                body.run();
+            } catch (RuntimeException e) {
+                log.error("Load worker {} stopped", worker, e);
+            }
+        };
+    }
+
+    private static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,149 @@
+package com.automfg.routing;
+
+import com.automfg.shared.infrastructure.routing.ReplicaLagMonitor;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routes queries between two in-memory databases, a primary and a replica that nothing
+ * replicates into: orders are only ever written to the primary, so a query that lists none
+ * was answered by the replica. The test plays the replication itself by setting the
+ * replica's heartbeat and having the lag monitor read it back; the scheduled heartbeat only
+ * runs once, at startup.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-it-primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+    "automfg.datasource.replica.url=" + ReadReplicaRoutingIT.REPLICA_URL,
+    "automfg.datasource.replica.username=sa",
+    "automfg.datasource.replica.password=",
+    "automfg.datasource.replica.driver-class-name=org.h2.Driver",
+    "automfg.datasource.replica.max-lag=5s",
+    "automfg.datasource.replica.heartbeat-interval=PT1H"
+})
+class ReadReplicaRoutingIT {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-it-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+    private static final String LIST_ORDERS = "/api/v1/production-orders?limit=50";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeAll
+    static void createReplicaSchema() {
+        Flyway.configure()
+            .dataSource(REPLICA_URL, "sa", "")
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    }
+
+    @Test
+    @DisplayName("a query reads from the replica while it keeps up")
+    void query_reads_from_replica() {
+        placeOrder();
+        replicateUpTo(System.currentTimeMillis());
+        double before = routes("replica", "query");
+
+        assertThat(listOrders(new HttpHeaders())).isEmpty();
+        assertThat(routes("replica", "query")).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("a query falls back to the primary while the replica lags beyond max-lag")
+    void query_falls_back_to_primary_on_lag() {
+        placeOrder();
+        replicateUpTo(System.currentTimeMillis() - 60_000);
+        double before = routes("primary", "replica-lag");
+
+        assertThat(listOrders(new HttpHeaders())).isNotEmpty();
+        assertThat(routes("primary", "replica-lag")).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("a client presenting X-Read-After reads from the primary until the replica has caught up")
+    void read_after_keeps_client_on_primary() {
+        ResponseEntity<JsonNode> placed = placeOrder();
+        String readAfter = placed.getHeaders().getFirst("X-Read-After");
+        assertThat(readAfter).isNotNull();
+        assertThat(placed.getHeaders().get(HttpHeaders.SET_COOKIE))
+            .anySatisfy(cookie -> assertThat(cookie).startsWith("automfg-read-after=" + readAfter));
+        long wroteAt = Long.parseLong(readAfter);
+        HttpHeaders withHeader = new HttpHeaders();
+        withHeader.set("X-Read-After", readAfter);
+        HttpHeaders withCookie = new HttpHeaders();
+        withCookie.add(HttpHeaders.COOKIE, "automfg-read-after=" + readAfter);
+
+        replicateUpTo(wroteAt - 1);
+        double before = routes("primary", "read-your-writes");
+        assertThat(listOrders(withHeader)).isNotEmpty();
+        assertThat(listOrders(withCookie)).isNotEmpty();
+        assertThat(routes("primary", "read-your-writes")).isEqualTo(before + 2);
+        assertThat(listOrders(new HttpHeaders())).isEmpty();
+
+        replicateUpTo(wroteAt);
+        assertThat(listOrders(withHeader)).isEmpty();
+        assertThat(listOrders(withCookie)).isEmpty();
+    }
+
+    private void replicateUpTo(long beatMillis) {
+        replica.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", beatMillis);
+        replicaLagMonitor.beat();
+    }
+
+    private double routes(String route, String reason) {
+        return meterRegistry.get("automfg.datasource.routes").tag("route", route).tag("reason", reason)
+            .counter().count();
+    }
+
+    private List<JsonNode> listOrders(HttpHeaders headers) {
+        ResponseEntity<JsonNode> response = rest.exchange(LIST_ORDERS, HttpMethod.GET, new HttpEntity<>(headers),
+            JsonNode.class);
+        assertOk(response);
+        List<JsonNode> items = new ArrayList<>();
+        response.getBody().get("items").forEach(items::add);
+        return items;
+    }
+
+    private ResponseEntity<JsonNode> placeOrder() {
+        ResponseEntity<JsonNode> placed = rest.postForEntity("/api/v1/orders", Map.of(
+            "dealerId", "DLR-001",
+            "vehicleModelCode", "MODEL-X-SEDAN",
+            "colorCode", "SILVER",
+            "optionPackageCodes", List.of("NAVIGATION")), JsonNode.class);
+        assertOk(placed);
+        return placed;
+    }
+
+    private static void assertOk(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode().is2xxSuccessful())
+            .as("%s: %s", response.getStatusCode(), response.getBody())
+            .isTrue();
+    }
+}
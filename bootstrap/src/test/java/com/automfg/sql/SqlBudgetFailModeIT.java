@@ -0,0 +1,119 @@
+package com.automfg.sql;
+
+import com.automfg.shared.infrastructure.sql.SqlStatementMonitor;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a vehicle from order to reviewed inspection with {@code automfg.sql-budget.mode=fail}, so
+ * any endpoint over its statement budget, or any N+1 inside a use case, fails the request that
+ * causes it. The order detail endpoint is given a budget of zero to show that breaches do fail.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "automfg.sql-budget.mode=fail",
+    "automfg.sql-budget.endpoints.[GET\\ /api/v1/orders/{orderId}]=0"
+})
+class SqlBudgetFailModeIT {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    @Test
+    @DisplayName("a vehicle goes from order to reviewed inspection within every SQL budget")
+    void order_to_inspection_stays_within_sql_budgets() {
+        UUID orderId = placeOrder();
+        UUID productionOrderId = jdbcTemplate.queryForObject(
+            "SELECT id FROM production_orders WHERE source_order_id = ?", UUID.class, orderId);
+        String path = "/api/v1/production-orders/" + productionOrderId;
+
+        assertOk(rest.postForEntity("/api/v1/orders/" + orderId + "/changes",
+            Map.of("newColorCode", "BLACK"), JsonNode.class));
+        assertOk(rest.getForEntity("/api/v1/production-orders?status=SCHEDULED&limit=50", JsonNode.class));
+        assertOk(rest.getForEntity(path, JsonNode.class));
+        assertOk(rest.postForEntity(path + "/start",
+            Map.of("operatorId", "OP-1", "workstationCode", "WS-BODY"), JsonNode.class));
+
+        ResponseEntity<JsonNode> steps = rest.getForEntity(path + "/assembly-steps", JsonNode.class);
+        assertOk(steps);
+        List<JsonNode> ordered = new ArrayList<>();
+        steps.getBody().forEach(ordered::add);
+        ordered.sort(Comparator.comparingInt(step -> step.get("workStationSequence").asInt()));
+        for (JsonNode step : ordered) {
+            assertOk(rest.postForEntity(path + "/assembly-steps/" + step.get("id").asText() + "/complete",
+                Map.of("operatorId", "OP-1",
+                    "materialBatchId", "BATCH-" + step.get("workStationCode").asText(),
+                    "actualMinutes", step.get("standardTimeMinutes").asInt()), JsonNode.class));
+        }
+
+        ResponseEntity<JsonNode> created = rest.postForEntity("/api/v1/inspections", Map.of(
+            "productionOrderId", productionOrderId,
+            "vehicleModelCode", "MODEL-X-SEDAN",
+            "inspectorId", "INSP-1"), JsonNode.class);
+        assertOk(created);
+        UUID inspectionId = UUID.fromString(created.getBody().get("inspectionId").asText());
+        String inspection = "/api/v1/inspections/" + inspectionId;
+        for (UUID itemId : jdbcTemplate.queryForList(
+                "SELECT id FROM inspection_items WHERE inspection_id = ?", UUID.class, inspectionId)) {
+            assertOk(rest.postForEntity(inspection + "/items/" + itemId + "/result",
+                Map.of("status", "PASSED", "notes", ""), JsonNode.class));
+        }
+        assertOk(rest.postForEntity(inspection + "/complete", Map.of("inspectorId", "INSP-1"), JsonNode.class));
+        assertOk(rest.postForEntity(inspection + "/review", Map.of("reviewerId", "REV-1"), JsonNode.class));
+
+        assertThat(sqlStatementMonitor.violations())
+            .filteredOn(violation -> !violation.name().equals("GET /api/v1/orders/{orderId}"))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("a request over its statement budget fails")
+    void request_over_budget_fails() {
+        UUID orderId = placeOrder();
+
+        ResponseEntity<String> response = rest.getForEntity("/api/v1/orders/" + orderId, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(sqlStatementMonitor.violations())
+            .anySatisfy(violation -> {
+                assertThat(violation.type()).isEqualTo("budget");
+                assertThat(violation.name()).isEqualTo("GET /api/v1/orders/{orderId}");
+            });
+    }
+
+    private UUID placeOrder() {
+        ResponseEntity<JsonNode> placed = rest.postForEntity("/api/v1/orders", Map.of(
+            "dealerId", "DLR-001",
+            "vehicleModelCode", "MODEL-X-SEDAN",
+            "colorCode", "SILVER",
+            "optionPackageCodes", List.of("NAVIGATION")), JsonNode.class);
+        assertOk(placed);
+        return UUID.fromString(placed.getBody().get("orderId").asText());
+    }
+
+    private static void assertOk(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode().is2xxSuccessful())
+            .as("%s: %s", response.getStatusCode(), response.getBody())
+            .isTrue();
+    }
+}
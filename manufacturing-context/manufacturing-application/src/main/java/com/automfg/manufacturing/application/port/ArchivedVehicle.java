@@ -0,0 +1,49 @@
+package com.automfg.manufacturing.application.port;
+
+import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase.AssemblyStepDetail;
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCase.InspectionDetail;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase.ProductionOrderDetail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything retained about a finished vehicle once it leaves the hot tables: the read
+ * models served for it before archival, plus the BOM, inspection item and rework detail
+ * kept for quality traceability.
+ */
+public record ArchivedVehicle(
+    ProductionOrderDetail order,
+    String vehicleModelCode,
+    String colorCode,
+    LocalDateTime closedAt,
+    List<AssemblyStepDetail> assemblySteps,
+    List<BomLine> bomLines,
+    List<Inspection> inspections,
+    List<Rework> reworkOrders
+) {
+
+    public record BomLine(
+        String partNumber, String partDescription, int quantityRequired,
+        String unitOfMeasure, boolean available
+    ) {}
+
+    public record Inspection(
+        InspectionDetail detail, LocalDateTime inspectedAt, LocalDateTime reviewedAt,
+        LocalDateTime createdAt, List<InspectionItem> items
+    ) {}
+
+    public record InspectionItem(
+        UUID id, String description, boolean safetyRelated, String status, String notes
+    ) {}
+
+    public record Rework(
+        UUID id, UUID inspectionId, String status, String failedItems,
+        LocalDateTime createdAt, LocalDateTime completedAt
+    ) {}
+
+    public UUID productionOrderId() {
+        return order.id();
+    }
+}
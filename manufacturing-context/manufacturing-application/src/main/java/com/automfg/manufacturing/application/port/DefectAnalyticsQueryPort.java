@@ -0,0 +1,42 @@
+package com.automfg.manufacturing.application.port;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read port over the weekly defect analytics rollups. Implementations read only the rollup
+ * tables, never inspection_items or rework_orders.
+ */
+public interface DefectAnalyticsQueryPort {
+
+    enum Grouping { WEEK, MODEL, INSPECTOR }
+
+    /**
+     * Weeks are identified by their Monday; both bounds are inclusive. Null model or inspector
+     * means all.
+     */
+    record RollupFilter(LocalDate fromWeek, LocalDate toWeek, String modelCode, String inspectorId) {}
+
+    record ItemFailures(String itemDescription, long failures) {}
+
+    record OutcomeCounts(
+        String group,
+        long inspectionsCompleted,
+        long passed,
+        long conditionalPassed,
+        long failed,
+        long firstInspections,
+        long firstPassPassed,
+        long reworksCompleted
+    ) {}
+
+    /**
+     * Failure count per checklist item over the filter, in no particular order.
+     */
+    List<ItemFailures> findItemFailures(RollupFilter filter);
+
+    /**
+     * Inspection outcome and rework totals over the filter, one row per group, ordered by group.
+     */
+    List<OutcomeCounts> findOutcomeCounts(RollupFilter filter, Grouping grouping);
+}
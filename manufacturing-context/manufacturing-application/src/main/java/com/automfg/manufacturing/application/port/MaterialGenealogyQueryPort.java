@@ -0,0 +1,17 @@
+package com.automfg.manufacturing.application.port;
+
+import com.automfg.manufacturing.application.usecase.TraceMaterialBatchUseCase.AffectedVehicle;
+
+import java.util.function.Consumer;
+
+/**
+ * Read port over the material batch genealogy index.
+ */
+public interface MaterialGenealogyQueryPort {
+
+    /**
+     * Pushes every completed step that consumed the batch to the sink, oldest first,
+     * and returns how many were found.
+     */
+    long streamAffectedVehicles(String materialBatchId, Consumer<AffectedVehicle> sink);
+}
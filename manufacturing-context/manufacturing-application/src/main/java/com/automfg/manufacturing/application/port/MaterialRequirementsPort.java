@@ -0,0 +1,30 @@
+package com.automfg.manufacturing.application.port;
+
+import com.automfg.manufacturing.domain.model.RequirementsLedger.OrderRequirements;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read port for material requirements planning: what the open (SCHEDULED and MATERIAL_PENDING)
+ * production orders need and when, and what is on hand.
+ */
+public interface MaterialRequirementsPort {
+
+    /**
+     * Requirements of every open production order, needed on the order's scheduled start date.
+     */
+    List<OrderRequirements> findOpenOrderRequirements();
+
+    /**
+     * Requirements of one production order, empty if it is no longer open.
+     */
+    Optional<OrderRequirements> findOpenOrderRequirements(UUID productionOrderId);
+
+    /**
+     * On-hand quantity per part; parts without an inventory record are absent.
+     */
+    Map<String, Long> findOnHand();
+}
@@ -0,0 +1,24 @@
+package com.automfg.manufacturing.application.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hot-store side of archival: finds closed vehicles, snapshots them, and removes them from
+ * the live tables once their snapshot is safely in the archive.
+ */
+public interface ProductionOrderArchiveSourcePort {
+
+    /**
+     * Production orders that passed inspection before {@code closedBefore}, in id order.
+     */
+    List<UUID> findArchivable(LocalDateTime closedBefore, int limit);
+
+    List<ArchivedVehicle> load(List<UUID> productionOrderIds);
+
+    /**
+     * Records where each vehicle was archived and deletes its hot rows, atomically.
+     */
+    void moveToArchive(List<ArchivedVehicle> vehicles, String segmentName);
+}
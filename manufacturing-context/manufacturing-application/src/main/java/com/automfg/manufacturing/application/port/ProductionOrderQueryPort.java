@@ -4,6 +4,7 @@ import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase;
 import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
 import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,11 +16,23 @@ import java.util.UUID;
  */
 public interface ProductionOrderQueryPort {
 
-    Optional<GetProductionOrderUseCase.ProductionOrderDetail> findById(UUID id);
+    /**
+     * Optional filters for listing production orders; null fields are not applied.
+     * createdFrom is inclusive, createdTo exclusive.
+     */
+    record SummaryFilter(String status, String plantId, LocalDateTime createdFrom, LocalDateTime createdTo) {}
+
+    /**
+     * Position after which the next page starts, in (createdAt, id) order.
+     */
+    record Keyset(LocalDateTime createdAt, UUID id) {}
 
-    List<ListProductionOrdersUseCase.ProductionOrderSummary> findByStatus(String status);
+    Optional<GetProductionOrderUseCase.ProductionOrderDetail> findById(UUID id);
 
-    List<ListProductionOrdersUseCase.ProductionOrderSummary> findAll();
+    /**
+     * Returns at most {@code limit} summaries ordered by (createdAt, id), starting after {@code after} (nullable).
+     */
+    List<ListProductionOrdersUseCase.ProductionOrderSummary> findSummaries(SummaryFilter filter, Keyset after, int limit);
 
     List<GetAssemblyStepsUseCase.AssemblyStepDetail> findAssemblySteps(UUID productionOrderId, String stationCode);
 }
@@ -0,0 +1,20 @@
+package com.automfg.manufacturing.application.port;
+
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase;
+
+/**
+ * Query-side port for plant-wide production status, answered from a store kept in memory
+ * rather than by scanning production orders per request.
+ */
+public interface ProductionStatusQueryPort {
+
+    /**
+     * Null fields are not applied.
+     */
+    record StatusFilter(String plantId, String status, String vehicleModelCode, Integer stationSequence) {}
+
+    /**
+     * Counts of all orders matching the filter, with at most {@code limit} of them, oldest first.
+     */
+    GetProductionStatusBoardUseCase.ProductionStatusBoard findBoard(StatusFilter filter, int limit);
+}
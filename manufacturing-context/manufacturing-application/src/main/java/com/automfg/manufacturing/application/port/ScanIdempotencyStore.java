@@ -0,0 +1,40 @@
+package com.automfg.manufacturing.application.port;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Remembers the outcome of every station scan that has been applied, keyed by the
+ * idempotency key the line terminal attached to it. Replayed scans are answered from
+ * this store instead of being applied to the aggregate a second time.
+ */
+public interface ScanIdempotencyStore {
+
+    record RecordedScan(
+        String idempotencyKey,
+        UUID productionOrderId,
+        UUID assemblyStepId,
+        String orderStatus,
+        boolean overtimeAlert,
+        boolean stationCompleted,
+        boolean assemblyCompleted
+    ) {}
+
+    /**
+     * Returns the recorded scans for those of the given keys that are known.
+     */
+    Map<String, RecordedScan> findAll(Collection<String> idempotencyKeys);
+
+    /**
+     * Claims the keys of one production order's scans and runs the work in the transaction that
+     * holds the claims, on the database storing the order. The work is given the keys this call
+     * claimed, leaving out keys already recorded or claimed by a concurrent batch, and returns the
+     * scans it applied; those are recorded with their outcome and the other claims are released.
+     * If the work throws, the claims are rolled back together with whatever the work wrote.
+     */
+    void claim(UUID productionOrderId, Collection<String> idempotencyKeys,
+               Function<Set<String>, Collection<RecordedScan>> work);
+}
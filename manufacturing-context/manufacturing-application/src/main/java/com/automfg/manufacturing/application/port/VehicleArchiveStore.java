@@ -0,0 +1,18 @@
+package com.automfg.manufacturing.application.port;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Append-only cold store for archived vehicles, organised as immutable segments.
+ */
+public interface VehicleArchiveStore {
+
+    /**
+     * Durably writes the vehicles as a new segment and returns its name.
+     */
+    String writeSegment(List<ArchivedVehicle> vehicles);
+
+    Optional<ArchivedVehicle> read(String segmentName, UUID productionOrderId);
+}
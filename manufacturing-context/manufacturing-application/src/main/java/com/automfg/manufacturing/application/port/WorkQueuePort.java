@@ -0,0 +1,59 @@
+package com.automfg.manufacturing.application.port;
+
+import com.automfg.manufacturing.application.usecase.ListReviewQueueUseCase;
+import com.automfg.manufacturing.application.usecase.ListReworkQueueUseCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Supervisor work queues: completed inspections awaiting four-eyes review (BR-12) and rework
+ * orders not yet completed, both oldest first.
+ * <p>
+ * Review claims are taken with a conditional single-row update, never with a locking read, so
+ * two reviewers racing for the same inspection cannot both win and neither blocks the queue.
+ * A review is only recorded by the reviewer holding the claim, or by one who can take it.
+ */
+public interface WorkQueuePort {
+
+    /**
+     * Position after which the next page starts, in (queuedAt, id) order.
+     */
+    record Keyset(LocalDateTime queuedAt, UUID id) {}
+
+    /**
+     * Returns at most {@code limit} inspections awaiting review ordered by (inspectedAt, id),
+     * starting after {@code after} (nullable).
+     */
+    List<ListReviewQueueUseCase.AwaitingReview> findAwaitingReview(Keyset after, int limit);
+
+    /**
+     * Returns at most {@code limit} open rework orders ordered by (createdAt, id), starting after
+     * {@code after} (nullable).
+     */
+    List<ListReworkQueueUseCase.OpenRework> findOpenRework(Keyset after, int limit);
+
+    /**
+     * The inspection this reviewer already holds a live claim on, if any.
+     */
+    Optional<ListReviewQueueUseCase.AwaitingReview> findActiveClaim(String reviewerId, LocalDateTime staleBefore);
+
+    /**
+     * Oldest inspections awaiting review that the reviewer may claim: not their own inspection
+     * and either unclaimed or claimed before {@code staleBefore}.
+     */
+    List<UUID> findClaimCandidates(String reviewerId, LocalDateTime staleBefore, int limit);
+
+    /**
+     * Claims the inspection if it is still claimable; false if another reviewer got it first.
+     */
+    boolean tryClaim(UUID inspectionId, String reviewerId, LocalDateTime claimedAt, LocalDateTime staleBefore);
+
+    /**
+     * Takes or renews the reviewer's claim on the inspection for a review about to be recorded,
+     * whether or not it is still awaiting review; false if another reviewer holds a live claim.
+     */
+    boolean holdClaim(UUID inspectionId, String reviewerId, LocalDateTime claimedAt, LocalDateTime staleBefore);
+}
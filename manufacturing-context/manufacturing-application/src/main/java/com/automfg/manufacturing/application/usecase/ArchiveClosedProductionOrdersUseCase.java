@@ -0,0 +1,23 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves vehicles closed before a cut-off out of the hot tables into archive segments,
+ * one segment per batch.
+ */
+public interface ArchiveClosedProductionOrdersUseCase extends CommandUseCase {
+
+    record ArchiveClosedProductionOrdersCommand(
+        LocalDateTime closedBefore,
+        int batchSize,
+        int maxBatches
+    ) {}
+
+    record ArchiveClosedProductionOrdersResult(int archivedCount, List<String> segments) {}
+
+    ArchiveClosedProductionOrdersResult execute(ArchiveClosedProductionOrdersCommand command);
+}
@@ -0,0 +1,54 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.ArchivedVehicle;
+import com.automfg.manufacturing.application.port.ProductionOrderArchiveSourcePort;
+import com.automfg.manufacturing.application.port.VehicleArchiveStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ArchiveClosedProductionOrdersUseCaseImpl implements ArchiveClosedProductionOrdersUseCase {
+
+    private final ProductionOrderArchiveSourcePort archiveSource;
+    private final VehicleArchiveStore archiveStore;
+
+    public ArchiveClosedProductionOrdersUseCaseImpl(ProductionOrderArchiveSourcePort archiveSource,
+                                                    VehicleArchiveStore archiveStore) {
+        this.archiveSource = archiveSource;
+        this.archiveStore = archiveStore;
+    }
+
+    /**
+     * The segment is written before the hot rows are deleted. A crash in between leaves the
+     * vehicles live, and the next run archives them again into a new segment; the locator
+     * then points at the newer copy and the orphaned one is never read.
+     */
+    @Override
+    public ArchiveClosedProductionOrdersResult execute(ArchiveClosedProductionOrdersCommand command) {
+        if (command.closedBefore() == null) {
+            throw new IllegalArgumentException("closedBefore is required");
+        }
+        if (command.batchSize() <= 0 || command.maxBatches() <= 0) {
+            throw new IllegalArgumentException("batchSize and maxBatches must be positive");
+        }
+
+        int archived = 0;
+        List<String> segments = new ArrayList<>();
+        for (int batch = 0; batch < command.maxBatches(); batch++) {
+            List<UUID> ids = archiveSource.findArchivable(command.closedBefore(), command.batchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<ArchivedVehicle> vehicles = archiveSource.load(ids);
+            String segment = archiveStore.writeSegment(vehicles);
+            archiveSource.moveToArchive(vehicles, segment);
+            archived += vehicles.size();
+            segments.add(segment);
+            if (ids.size() < command.batchSize()) {
+                break;
+            }
+        }
+        return new ArchiveClosedProductionOrdersResult(archived, segments);
+    }
+}
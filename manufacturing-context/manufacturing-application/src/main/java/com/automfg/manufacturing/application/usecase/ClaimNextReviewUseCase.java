@@ -0,0 +1,19 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+
+import java.util.Optional;
+
+/**
+ * Hands a reviewer the oldest inspection awaiting review that nobody else holds. A reviewer
+ * who already holds a live claim gets that inspection back, so retrying is safe.
+ */
+public interface ClaimNextReviewUseCase extends CommandUseCase {
+
+    record ClaimNextReviewCommand(String reviewerId) {}
+
+    /**
+     * @return the claimed inspection, or empty if nothing is waiting for this reviewer
+     */
+    Optional<ListReviewQueueUseCase.AwaitingReview> execute(ClaimNextReviewCommand command);
+}
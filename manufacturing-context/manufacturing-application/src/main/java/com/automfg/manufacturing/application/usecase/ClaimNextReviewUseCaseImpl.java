@@ -0,0 +1,59 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Optimistic claim: read a handful of the oldest claimable inspections without locking, then try
+ * to claim them in order with a conditional update. Losing a race costs one no-op update and the
+ * reviewer moves on to the next candidate.
+ */
+public class ClaimNextReviewUseCaseImpl implements ClaimNextReviewUseCase {
+
+    static final int CANDIDATES_PER_ROUND = 10;
+    static final int MAX_ROUNDS = 3;
+
+    private final WorkQueuePort workQueuePort;
+    private final Duration claimTtl;
+
+    public ClaimNextReviewUseCaseImpl(WorkQueuePort workQueuePort, Duration claimTtl) {
+        this.workQueuePort = Objects.requireNonNull(workQueuePort);
+        this.claimTtl = Objects.requireNonNull(claimTtl);
+    }
+
+    @Override
+    public Optional<ListReviewQueueUseCase.AwaitingReview> execute(ClaimNextReviewCommand command) {
+        Objects.requireNonNull(command, "Command must not be null");
+        if (command.reviewerId() == null || command.reviewerId().isBlank()) {
+            throw new IllegalArgumentException("Reviewer ID is required");
+        }
+        String reviewerId = command.reviewerId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(claimTtl);
+
+        Optional<ListReviewQueueUseCase.AwaitingReview> held = workQueuePort.findActiveClaim(reviewerId, staleBefore);
+        if (held.isPresent()) {
+            return held;
+        }
+
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            List<UUID> candidates = workQueuePort.findClaimCandidates(reviewerId, staleBefore, CANDIDATES_PER_ROUND);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+            for (UUID inspectionId : candidates) {
+                if (workQueuePort.tryClaim(inspectionId, reviewerId, now, staleBefore)) {
+                    return workQueuePort.findActiveClaim(reviewerId, staleBefore);
+                }
+            }
+        }
+        // Every candidate went to other reviewers in each round; the caller can simply ask again
+        return Optional.empty();
+    }
+}
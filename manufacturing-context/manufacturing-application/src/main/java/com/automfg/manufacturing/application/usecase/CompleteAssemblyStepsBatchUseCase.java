@@ -0,0 +1,48 @@
+package com.automfg.manufacturing.application.usecase;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.automfg.shared.application.CommandUseCase;
+
+/**
+ * Applies a batch of station scans replayed by a line terminal, in the order given.
+ * Each scan carries a client idempotency key; a key that has already been applied is
+ * answered as DUPLICATE with the original outcome.
+ */
+public interface CompleteAssemblyStepsBatchUseCase extends CommandUseCase {
+
+    enum ScanOutcome { APPLIED, DUPLICATE, REJECTED }
+
+    record StepScan(
+        String idempotencyKey,
+        UUID productionOrderId,
+        UUID assemblyStepId,
+        String operatorId,
+        String materialBatchId,
+        int actualMinutes
+    ) {}
+
+    record CompleteAssemblyStepsBatchCommand(List<StepScan> scans) {}
+
+    record ScanResult(
+        String idempotencyKey,
+        UUID productionOrderId,
+        UUID assemblyStepId,
+        ScanOutcome outcome,
+        String orderStatus,
+        boolean overtimeAlert,
+        boolean stationCompleted,
+        boolean assemblyCompleted,
+        String message
+    ) {}
+
+    record CompleteAssemblyStepsBatchResult(
+        int applied,
+        int duplicates,
+        int rejected,
+        List<ScanResult> results
+    ) {}
+
+    CompleteAssemblyStepsBatchResult execute(CompleteAssemblyStepsBatchCommand command);
+}
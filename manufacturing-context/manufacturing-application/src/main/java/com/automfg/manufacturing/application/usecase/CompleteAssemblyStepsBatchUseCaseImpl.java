@@ -0,0 +1,230 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.ScanIdempotencyStore;
+import com.automfg.manufacturing.application.port.ScanIdempotencyStore.RecordedScan;
+import com.automfg.manufacturing.domain.model.AssemblyStepId;
+import com.automfg.manufacturing.domain.model.AssemblyStepResult;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.shared.domain.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class CompleteAssemblyStepsBatchUseCaseImpl implements CompleteAssemblyStepsBatchUseCase {
+
+    static final int MAX_BATCH_SIZE = 500;
+
+    private final ProductionOrderRepository productionOrderRepository;
+    private final ScanIdempotencyStore scanIdempotencyStore;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public CompleteAssemblyStepsBatchUseCaseImpl(ProductionOrderRepository productionOrderRepository,
+                                                 ScanIdempotencyStore scanIdempotencyStore,
+                                                 DomainEventPublisher domainEventPublisher) {
+        this.productionOrderRepository = productionOrderRepository;
+        this.scanIdempotencyStore = scanIdempotencyStore;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @Override
+    public CompleteAssemblyStepsBatchResult execute(CompleteAssemblyStepsBatchCommand command) {
+        List<StepScan> scans = command.scans();
+        if (scans == null || scans.isEmpty()) {
+            throw new IllegalArgumentException("Scan batch must not be empty");
+        }
+        if (scans.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Scan batch must not exceed " + MAX_BATCH_SIZE + " scans");
+        }
+
+        ScanResult[] results = new ScanResult[scans.size()];
+
+        // First occurrence of each key; later repeats inside the batch echo its outcome
+        Map<String, Integer> firstIndexByKey = new LinkedHashMap<>();
+        for (int i = 0; i < scans.size(); i++) {
+            StepScan scan = scans.get(i);
+            if (scan.idempotencyKey() == null || scan.idempotencyKey().isBlank()) {
+                throw new IllegalArgumentException("Scan " + i + " has no idempotency key");
+            }
+            firstIndexByKey.putIfAbsent(scan.idempotencyKey(), i);
+        }
+
+        // Replays are resolved from the key store without loading the aggregate
+        Map<String, RecordedScan> recorded = scanIdempotencyStore.findAll(firstIndexByKey.keySet());
+        Map<UUID, List<Integer>> pendingByOrder = new LinkedHashMap<>();
+        for (int i : firstIndexByKey.values()) {
+            StepScan scan = scans.get(i);
+            RecordedScan previous = recorded.get(scan.idempotencyKey());
+            if (previous != null) {
+                results[i] = replayOf(scan, previous);
+            } else if (scan.productionOrderId() == null || scan.assemblyStepId() == null
+                    || scan.operatorId() == null) {
+                results[i] = rejected(scan, "Production order ID, assembly step ID and operator ID are required");
+            } else {
+                pendingByOrder.computeIfAbsent(scan.productionOrderId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<UUID, List<Integer>> group : pendingByOrder.entrySet()) {
+            applyToOrder(group.getKey(), group.getValue(), scans, results);
+        }
+
+        for (int i = 0; i < scans.size(); i++) {
+            if (results[i] == null) {
+                results[i] = echoOf(scans.get(i), results[firstIndexByKey.get(scans.get(i).idempotencyKey())]);
+            }
+        }
+
+        Map<ScanOutcome, Integer> counts = new HashMap<>();
+        for (ScanResult result : results) {
+            counts.merge(result.outcome(), 1, Integer::sum);
+        }
+        return new CompleteAssemblyStepsBatchResult(
+            counts.getOrDefault(ScanOutcome.APPLIED, 0),
+            counts.getOrDefault(ScanOutcome.DUPLICATE, 0),
+            counts.getOrDefault(ScanOutcome.REJECTED, 0),
+            List.of(results)
+        );
+    }
+
+    /**
+     * Applies one production order's scans in batch order within a single load/save cycle, in the
+     * transaction that claims their keys, so a scan is recorded exactly when its step is saved.
+     * Scans whose key another batch claimed first are answered from that batch's record.
+     */
+    private void applyToOrder(UUID productionOrderId, List<Integer> indexes, List<StepScan> scans,
+                              ScanResult[] results) {
+        List<String> keys = indexes.stream().map(i -> scans.get(i).idempotencyKey()).toList();
+        List<Integer> appliedIndexes = new ArrayList<>();
+        Map<Integer, AssemblyStepResult> stepResults = new HashMap<>();
+        List<ProductionOrder> saved = new ArrayList<>(1);
+        try {
+            scanIdempotencyStore.claim(productionOrderId, keys, claimed -> {
+                List<Integer> claimedIndexes = indexes.stream()
+                    .filter(i -> claimed.contains(scans.get(i).idempotencyKey()))
+                    .toList();
+                return applyClaimed(productionOrderId, claimedIndexes, scans, results, appliedIndexes,
+                    stepResults, saved);
+            });
+        } catch (RuntimeException e) {
+            saved.forEach(ProductionOrder::clearDomainEvents);
+            for (int i : appliedIndexes) {
+                results[i] = rejected(scans.get(i), "Production order could not be saved: " + e.getMessage());
+            }
+            return;
+        }
+        for (ProductionOrder order : saved) {
+            domainEventPublisher.publishAll(order.getDomainEvents());
+            order.clearDomainEvents();
+        }
+
+        List<Integer> unclaimed = indexes.stream().filter(i -> results[i] == null).toList();
+        if (unclaimed.isEmpty()) {
+            return;
+        }
+        Map<String, RecordedScan> recorded = scanIdempotencyStore.findAll(
+            unclaimed.stream().map(i -> scans.get(i).idempotencyKey()).toList());
+        for (int i : unclaimed) {
+            StepScan scan = scans.get(i);
+            RecordedScan previous = recorded.get(scan.idempotencyKey());
+            results[i] = previous != null
+                ? replayOf(scan, previous)
+                : rejected(scan, "Idempotency key " + scan.idempotencyKey() + " could not be claimed");
+        }
+    }
+
+    /**
+     * A scan the aggregate refuses is rejected on its own; the aggregate validates before
+     * mutating, so the remaining scans still apply to a consistent state.
+     */
+    private List<RecordedScan> applyClaimed(UUID productionOrderId, List<Integer> indexes, List<StepScan> scans,
+                                            ScanResult[] results, List<Integer> appliedIndexes,
+                                            Map<Integer, AssemblyStepResult> stepResults,
+                                            List<ProductionOrder> saved) {
+        if (indexes.isEmpty()) {
+            return List.of();
+        }
+        Optional<ProductionOrder> loaded = productionOrderRepository.findById(new ProductionOrderId(productionOrderId));
+        if (loaded.isEmpty()) {
+            for (int i : indexes) {
+                results[i] = rejected(scans.get(i), "Production order not found: " + productionOrderId);
+            }
+            return List.of();
+        }
+
+        ProductionOrder order = loaded.get();
+        for (int i : indexes) {
+            StepScan scan = scans.get(i);
+            try {
+                stepResults.put(i, order.completeAssemblyStep(
+                    new AssemblyStepId(scan.assemblyStepId()),
+                    scan.operatorId(),
+                    scan.materialBatchId(),
+                    scan.actualMinutes()
+                ));
+                appliedIndexes.add(i);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                results[i] = rejected(scan, e.getMessage());
+            }
+        }
+        if (appliedIndexes.isEmpty()) {
+            return List.of();
+        }
+
+        saved.add(order);
+        productionOrderRepository.save(order);
+
+        // Flags such as stationCompleted describe the state right after each scan, so they
+        // are taken from the step result rather than from the final aggregate state.
+        String orderStatus = order.getStatus().name();
+        List<RecordedScan> applied = new ArrayList<>(appliedIndexes.size());
+        for (int i : appliedIndexes) {
+            StepScan scan = scans.get(i);
+            AssemblyStepResult stepResult = stepResults.get(i);
+            results[i] = new ScanResult(scan.idempotencyKey(), productionOrderId, scan.assemblyStepId(),
+                ScanOutcome.APPLIED, orderStatus, stepResult.overtimeAlert(),
+                stepResult.stationCompleted(), stepResult.assemblyCompleted(), null);
+            applied.add(new RecordedScan(scan.idempotencyKey(), productionOrderId, scan.assemblyStepId(),
+                orderStatus, stepResult.overtimeAlert(), stepResult.stationCompleted(),
+                stepResult.assemblyCompleted()));
+        }
+        return applied;
+    }
+
+    private static ScanResult replayOf(StepScan scan, RecordedScan previous) {
+        if (!previous.productionOrderId().equals(scan.productionOrderId())
+                || !previous.assemblyStepId().equals(scan.assemblyStepId())) {
+            return rejected(scan, "Idempotency key " + scan.idempotencyKey()
+                + " was already used for a different assembly step");
+        }
+        return new ScanResult(scan.idempotencyKey(), previous.productionOrderId(), previous.assemblyStepId(),
+            ScanOutcome.DUPLICATE, previous.orderStatus(), previous.overtimeAlert(),
+            previous.stationCompleted(), previous.assemblyCompleted(), null);
+    }
+
+    private static ScanResult echoOf(StepScan scan, ScanResult first) {
+        if (first.outcome() == ScanOutcome.REJECTED) {
+            return new ScanResult(scan.idempotencyKey(), scan.productionOrderId(), scan.assemblyStepId(),
+                ScanOutcome.REJECTED, null, false, false, false, first.message());
+        }
+        if (!first.productionOrderId().equals(scan.productionOrderId())
+                || !first.assemblyStepId().equals(scan.assemblyStepId())) {
+            return rejected(scan, "Idempotency key " + scan.idempotencyKey()
+                + " was already used for a different assembly step");
+        }
+        return new ScanResult(scan.idempotencyKey(), first.productionOrderId(), first.assemblyStepId(),
+            ScanOutcome.DUPLICATE, first.orderStatus(), first.overtimeAlert(),
+            first.stationCompleted(), first.assemblyCompleted(), null);
+    }
+
+    private static ScanResult rejected(StepScan scan, String message) {
+        return new ScanResult(scan.idempotencyKey(), scan.productionOrderId(), scan.assemblyStepId(),
+            ScanOutcome.REJECTED, null, false, false, false, message);
+    }
+}
@@ -2,14 +2,19 @@ package com.automfg.manufacturing.application.usecase;
 
 import com.automfg.manufacturing.domain.model.AssemblyStepTemplate;
 import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog;
+import com.automfg.manufacturing.domain.model.PlantAssignment;
+import com.automfg.manufacturing.domain.model.PlantId;
 import com.automfg.manufacturing.domain.model.ProductionOrder;
 import com.automfg.manufacturing.domain.model.ProductionOrderId;
 import com.automfg.manufacturing.domain.model.ProductionOrderNumber;
 import com.automfg.manufacturing.domain.model.VIN;
+import com.automfg.manufacturing.domain.port.ManufacturingCatalogProvider;
 import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
 import com.automfg.manufacturing.domain.service.BomExpansionService;
 import com.automfg.shared.domain.DomainEventPublisher;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Random;
@@ -20,7 +25,9 @@ public class CreateProductionOrderUseCaseImpl implements CreateProductionOrderUs
 
     private final ProductionOrderRepository productionOrderRepository;
     private final BomExpansionService bomExpansionService;
+    private final ManufacturingCatalogProvider manufacturingCatalogProvider;
     private final DomainEventPublisher domainEventPublisher;
+    private final PlantAssignment plantAssignment;
 
     // Simple sequence counter for PoC (in production, this would come from a DB sequence)
     private static final AtomicInteger SEQUENCE_COUNTER = new AtomicInteger(1);
@@ -29,21 +36,16 @@ public class CreateProductionOrderUseCaseImpl implements CreateProductionOrderUs
     private static final String VIN_CHARS = "ABCDEFGHJKLMNPRSTUVWXYZ0123456789";
     private static final Random RANDOM = new Random();
 
-    // Hardcoded assembly step templates for PoC
-    private static final List<AssemblyStepTemplate> DEFAULT_ASSEMBLY_TEMPLATES = List.of(
-        new AssemblyStepTemplate("WS-BODY", 1, "Body-in-white welding and frame assembly", 60),
-        new AssemblyStepTemplate("WS-PAINT", 2, "Surface treatment and paint application", 45),
-        new AssemblyStepTemplate("WS-TRIM", 3, "Interior trim and dashboard installation", 30),
-        new AssemblyStepTemplate("WS-MECH", 4, "Powertrain and mechanical assembly", 90),
-        new AssemblyStepTemplate("WS-FINAL", 5, "Final assembly and pre-delivery inspection", 20)
-    );
-
     public CreateProductionOrderUseCaseImpl(ProductionOrderRepository productionOrderRepository,
                                             BomExpansionService bomExpansionService,
-                                            DomainEventPublisher domainEventPublisher) {
+                                            ManufacturingCatalogProvider manufacturingCatalogProvider,
+                                            DomainEventPublisher domainEventPublisher,
+                                            PlantAssignment plantAssignment) {
         this.productionOrderRepository = productionOrderRepository;
         this.bomExpansionService = bomExpansionService;
+        this.manufacturingCatalogProvider = manufacturingCatalogProvider;
         this.domainEventPublisher = domainEventPublisher;
+        this.plantAssignment = plantAssignment;
     }
 
     @Override
@@ -59,17 +61,22 @@ public class CreateProductionOrderUseCaseImpl implements CreateProductionOrderUs
         // 3. Generate ProductionOrderNumber (PO-SH-YYYYMM-NNNNN)
         ProductionOrderNumber orderNumber = generateOrderNumber();
 
-        // 4. Expand BOM via BomExpansionService
+        // 4. Expand BOM via BomExpansionService, against the catalog effective today
+        ManufacturingCatalog catalog = manufacturingCatalogProvider.current();
+        LocalDate effectiveOn = LocalDate.now();
         BomSnapshot bomSnapshot = bomExpansionService.expandBom(
-            command.vehicleModelCode(), command.optionPackageCodes());
+            catalog.bomOn(effectiveOn), command.vehicleModelCode(), command.optionPackageCodes());
 
-        // 5. Get assembly step templates (hardcoded for PoC)
-        List<AssemblyStepTemplate> templates = DEFAULT_ASSEMBLY_TEMPLATES;
+        // 5. Get assembly step templates from the same catalog version
+        List<AssemblyStepTemplate> templates = catalog.routingOn(
+            effectiveOn, command.vehicleModelCode(), command.optionPackageCodes());
 
-        // 6. Create ProductionOrder via factory
+        // 6. Create ProductionOrder via factory, at the plant that builds the model
         ProductionOrderId orderId = new ProductionOrderId(UUID.randomUUID());
+        PlantId plantId = plantAssignment.plantFor(command.vehicleModelCode());
         ProductionOrder order = ProductionOrder.create(
-            orderId, orderNumber, command.sourceOrderId(), vin, bomSnapshot, templates);
+            orderId, orderNumber, command.sourceOrderId(), vin, plantId,
+            command.vehicleModelCode(), command.colorCode(), bomSnapshot, templates);
 
         // 7. Save and publish events
         productionOrderRepository.save(order);
@@ -0,0 +1,42 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.DefectAnalyticsQueryPort.RollupFilter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Validates a date range for the analytics queries and widens it to whole rollup weeks.
+ */
+final class DefectAnalyticsFilters {
+
+    static final int MAX_WEEKS = 156;
+
+    private DefectAnalyticsFilters() {
+    }
+
+    static RollupFilter toFilter(LocalDate from, LocalDate to, String modelCode, String inspectorId) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        LocalDate fromWeek = weekOf(from);
+        LocalDate toWeek = weekOf(to);
+        if (ChronoUnit.WEEKS.between(fromWeek, toWeek) >= MAX_WEEKS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_WEEKS + " weeks");
+        }
+        return new RollupFilter(fromWeek, toWeek, blankToNull(modelCode), blankToNull(inspectorId));
+    }
+
+    static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
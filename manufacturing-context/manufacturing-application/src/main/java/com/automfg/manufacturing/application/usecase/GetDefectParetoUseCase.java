@@ -0,0 +1,32 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Defect Pareto: the checklist items that fail most often over a range of weeks, optionally
+ * narrowed to one model and/or one inspector, with each item's cumulative share of all failures.
+ */
+public interface GetDefectParetoUseCase extends QueryUseCase {
+
+    record DefectParetoQuery(
+        LocalDate from,
+        LocalDate to,
+        String modelCode,
+        String inspectorId,
+        Integer limit
+    ) {}
+
+    record DefectCount(String itemDescription, long failures, double share, double cumulativeShare) {}
+
+    record DefectParetoResult(
+        LocalDate fromWeek,
+        LocalDate toWeek,
+        long totalFailures,
+        List<DefectCount> items
+    ) {}
+
+    DefectParetoResult execute(DefectParetoQuery query);
+}
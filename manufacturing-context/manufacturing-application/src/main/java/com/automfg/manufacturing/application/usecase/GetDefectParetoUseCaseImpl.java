@@ -0,0 +1,48 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.DefectAnalyticsQueryPort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class GetDefectParetoUseCaseImpl implements GetDefectParetoUseCase {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private final DefectAnalyticsQueryPort queryPort;
+
+    public GetDefectParetoUseCaseImpl(DefectAnalyticsQueryPort queryPort) {
+        this.queryPort = queryPort;
+    }
+
+    @Override
+    public DefectParetoResult execute(DefectParetoQuery query) {
+        int limit = query.limit() == null ? DEFAULT_LIMIT : query.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        DefectAnalyticsQueryPort.RollupFilter filter = DefectAnalyticsFilters.toFilter(
+            query.from(), query.to(), query.modelCode(), query.inspectorId());
+
+        List<DefectAnalyticsQueryPort.ItemFailures> failures = new ArrayList<>(queryPort.findItemFailures(filter));
+        failures.sort(Comparator.comparingLong(DefectAnalyticsQueryPort.ItemFailures::failures).reversed()
+            .thenComparing(DefectAnalyticsQueryPort.ItemFailures::itemDescription));
+
+        long total = 0;
+        for (DefectAnalyticsQueryPort.ItemFailures item : failures) {
+            total += item.failures();
+        }
+
+        // Shares are of all failures in range, so the cumulative line reflects items beyond the limit too
+        List<DefectCount> items = new ArrayList<>(Math.min(limit, failures.size()));
+        long running = 0;
+        for (DefectAnalyticsQueryPort.ItemFailures item : failures.subList(0, Math.min(limit, failures.size()))) {
+            running += item.failures();
+            items.add(new DefectCount(item.itemDescription(), item.failures(),
+                (double) item.failures() / total, (double) running / total));
+        }
+        return new DefectParetoResult(filter.fromWeek(), filter.toWeek(), total, List.copyOf(items));
+    }
+}
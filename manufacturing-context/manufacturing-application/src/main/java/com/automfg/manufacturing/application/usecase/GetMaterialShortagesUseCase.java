@@ -0,0 +1,49 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Projected on-hand balance per part and day: inventory netted against the gross requirements
+ * of the open production orders, including those due before the window. Requirements of orders
+ * without a start slot, or already overdue, count as due on the first day of the horizon.
+ */
+public interface GetMaterialShortagesUseCase extends QueryUseCase {
+
+    /**
+     * @param from first day to report, default today
+     * @param days number of days to report, default 28
+     * @param partNumber report one part only
+     * @param shortagesOnly leave out parts that never go below zero in the window, default true
+     */
+    record MaterialShortagesQuery(LocalDate from, Integer days, String partNumber, Boolean shortagesOnly) {}
+
+    record DayProjection(LocalDate date, long grossRequirement, long projectedOnHand) {}
+
+    /**
+     * @param firstShortageDate first day in the window with a negative projected balance, or null
+     * @param maxShortage largest shortfall in the window, zero if none
+     */
+    record PartProjection(
+        String partNumber,
+        long onHand,
+        LocalDate firstShortageDate,
+        long maxShortage,
+        List<DayProjection> days
+    ) {}
+
+    /**
+     * @param horizonEnd requirements due after this day are reported on it
+     */
+    record MaterialShortagesResult(
+        LocalDate horizonStart,
+        LocalDate horizonEnd,
+        LocalDate from,
+        LocalDate to,
+        List<PartProjection> parts
+    ) {}
+
+    MaterialShortagesResult execute(MaterialShortagesQuery query);
+}
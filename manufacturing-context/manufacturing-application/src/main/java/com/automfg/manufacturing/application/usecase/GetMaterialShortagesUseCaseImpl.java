@@ -0,0 +1,100 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.MaterialRequirementsPort;
+import com.automfg.manufacturing.domain.service.MaterialRequirementsPlanner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class GetMaterialShortagesUseCaseImpl implements GetMaterialShortagesUseCase {
+
+    static final int DEFAULT_DAYS = 28;
+
+    private final MaterialRequirementsPlanner planner;
+    private final MaterialRequirementsPort materialRequirementsPort;
+
+    public GetMaterialShortagesUseCaseImpl(MaterialRequirementsPlanner planner,
+                                           MaterialRequirementsPort materialRequirementsPort) {
+        this.planner = Objects.requireNonNull(planner);
+        this.materialRequirementsPort = Objects.requireNonNull(materialRequirementsPort);
+    }
+
+    private record LedgerSnapshot(LocalDate horizonStart, int horizonDays, Map<String, long[]> gross) {}
+
+    @Override
+    public MaterialShortagesResult execute(MaterialShortagesQuery query) {
+        Objects.requireNonNull(query, "Query must not be null");
+        LocalDate from = query.from() == null ? LocalDate.now() : query.from();
+        int days = query.days() == null ? DEFAULT_DAYS : query.days();
+        if (days < 1) {
+            throw new IllegalArgumentException("Days must be at least 1");
+        }
+        boolean shortagesOnly = query.shortagesOnly() == null || query.shortagesOnly();
+
+        Map<String, Long> onHand = materialRequirementsPort.findOnHand();
+        // Copy the rows under the planner's monitor and net them outside it
+        LedgerSnapshot snapshot = planner.read(ledger -> {
+            Map<String, long[]> gross = new LinkedHashMap<>();
+            List<String> parts = query.partNumber() == null ? ledger.partNumbers() : List.of(query.partNumber());
+            for (String part : parts) {
+                gross.put(part, ledger.grossRequirements(part));
+            }
+            return new LedgerSnapshot(ledger.horizonStart(), ledger.horizonDays(), gross);
+        });
+
+        LocalDate horizonEnd = snapshot.horizonStart().plusDays(snapshot.horizonDays() - 1L);
+        if (from.isAfter(horizonEnd)) {
+            throw new IllegalArgumentException("From date " + from + " is beyond the planning horizon ending "
+                + horizonEnd);
+        }
+        if (from.isBefore(snapshot.horizonStart())) {
+            from = snapshot.horizonStart();
+        }
+        int first = (int) (from.toEpochDay() - snapshot.horizonStart().toEpochDay());
+        int last = Math.min(snapshot.horizonDays() - 1, first + days - 1);
+
+        List<PartProjection> projections = new ArrayList<>();
+        for (Map.Entry<String, long[]> entry : snapshot.gross().entrySet()) {
+            PartProjection projection = project(entry.getKey(), onHand.getOrDefault(entry.getKey(), 0L),
+                entry.getValue(), snapshot.horizonStart(), first, last);
+            if (!shortagesOnly || projection.firstShortageDate() != null) {
+                projections.add(projection);
+            }
+        }
+        projections.sort(Comparator
+            .comparing(PartProjection::firstShortageDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(PartProjection::partNumber));
+
+        return new MaterialShortagesResult(snapshot.horizonStart(), horizonEnd, from,
+            snapshot.horizonStart().plusDays(last), projections);
+    }
+
+    private static PartProjection project(String partNumber, long onHand, long[] gross,
+                                          LocalDate horizonStart, int first, int last) {
+        long balance = onHand;
+        // Requirements due before the window still draw down the balance it opens with
+        for (int bucket = 0; bucket < first; bucket++) {
+            balance -= gross[bucket];
+        }
+        List<DayProjection> days = new ArrayList<>(last - first + 1);
+        LocalDate firstShortage = null;
+        long maxShortage = 0;
+        for (int bucket = first; bucket <= last; bucket++) {
+            balance -= gross[bucket];
+            LocalDate date = horizonStart.plusDays(bucket);
+            days.add(new DayProjection(date, gross[bucket], balance));
+            if (balance < 0) {
+                if (firstShortage == null) {
+                    firstShortage = date;
+                }
+                maxShortage = Math.max(maxShortage, -balance);
+            }
+        }
+        return new PartProjection(partNumber, onHand, firstShortage, maxShortage, days);
+    }
+}
@@ -10,7 +10,7 @@ public interface GetProductionOrderUseCase extends QueryUseCase {
     record GetProductionOrderQuery(UUID productionOrderId) {}
 
     record ProductionOrderDetail(
-        UUID id, String orderNumber, UUID sourceOrderId, String vin,
+        UUID id, String orderNumber, UUID sourceOrderId, String vin, String plantId,
         String status, Integer currentStationSequence,
         LocalDateTime scheduledStartDate, LocalDateTime createdAt,
         String assemblyProcessStatus, int totalAssemblySteps
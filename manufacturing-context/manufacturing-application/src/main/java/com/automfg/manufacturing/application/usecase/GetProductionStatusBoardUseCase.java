@@ -0,0 +1,51 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plant-wide production status for dashboards: how many production orders are in each status,
+ * at each station, of each model and color, optionally narrowed to a plant, status, model or
+ * station, plus the longest-waiting matching orders. Counts cover every production order not
+ * yet archived.
+ */
+public interface GetProductionStatusBoardUseCase extends QueryUseCase {
+
+    record ProductionStatusBoardQuery(
+        String plantId,
+        String status,
+        String vehicleModelCode,
+        Integer stationSequence,
+        Integer limit
+    ) {}
+
+    /**
+     * @param stationSequence null until production starts
+     */
+    record BoardOrder(
+        UUID id, String plantId, String status, Integer stationSequence,
+        String vehicleModelCode, String colorCode, LocalDateTime createdAt
+    ) {}
+
+    /**
+     * @param byStation orders in production by their current station sequence
+     * @param orders    matching orders, oldest first
+     * @param loadedAt  when the board was last loaded in full from the database; null while the
+     *                  first load is still running, when the counts are incomplete
+     */
+    record ProductionStatusBoard(
+        long total,
+        Map<String, Long> byStatus,
+        Map<Integer, Long> byStation,
+        Map<String, Long> byModel,
+        Map<String, Long> byColor,
+        List<BoardOrder> orders,
+        LocalDateTime loadedAt
+    ) {}
+
+    ProductionStatusBoard execute(ProductionStatusBoardQuery query);
+}
@@ -0,0 +1,37 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.ProductionStatusQueryPort;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+
+public class GetProductionStatusBoardUseCaseImpl implements GetProductionStatusBoardUseCase {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 500;
+
+    private final ProductionStatusQueryPort queryPort;
+
+    public GetProductionStatusBoardUseCaseImpl(ProductionStatusQueryPort queryPort) {
+        this.queryPort = queryPort;
+    }
+
+    @Override
+    public ProductionStatusBoard execute(ProductionStatusBoardQuery query) {
+        int limit = query.limit() == null ? DEFAULT_LIMIT : query.limit();
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 0 and " + MAX_LIMIT + ": " + limit);
+        }
+        if (query.plantId() != null) {
+            new PlantId(query.plantId());
+        }
+        if (query.status() != null) {
+            try {
+                ProductionOrderStatus.valueOf(query.status());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown production order status: " + query.status());
+            }
+        }
+        return queryPort.findBoard(new ProductionStatusQueryPort.StatusFilter(
+            query.plantId(), query.status(), query.vehicleModelCode(), query.stationSequence()), limit);
+    }
+}
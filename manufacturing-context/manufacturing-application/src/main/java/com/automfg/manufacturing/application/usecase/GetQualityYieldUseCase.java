@@ -0,0 +1,46 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * First-pass yield and rework rate over a range of weeks, grouped by week, model or inspector.
+ * <p>
+ * First-pass yield is the share of first inspections (not re-inspections after rework) that
+ * passed, conditional passes included. Rework rate is completed rework orders per first
+ * inspection.
+ */
+public interface GetQualityYieldUseCase extends QueryUseCase {
+
+    record QualityYieldQuery(
+        LocalDate from,
+        LocalDate to,
+        String modelCode,
+        String inspectorId,
+        String groupBy
+    ) {}
+
+    record QualityYieldRow(
+        String group,
+        long inspectionsCompleted,
+        long passed,
+        long conditionalPassed,
+        long failed,
+        long firstInspections,
+        long firstPassPassed,
+        double firstPassYield,
+        long reworksCompleted,
+        double reworkRate
+    ) {}
+
+    record QualityYieldResult(
+        LocalDate fromWeek,
+        LocalDate toWeek,
+        String groupBy,
+        List<QualityYieldRow> rows
+    ) {}
+
+    QualityYieldResult execute(QualityYieldQuery query);
+}
@@ -0,0 +1,50 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.DefectAnalyticsQueryPort;
+
+import java.util.List;
+import java.util.Locale;
+
+public class GetQualityYieldUseCaseImpl implements GetQualityYieldUseCase {
+
+    private final DefectAnalyticsQueryPort queryPort;
+
+    public GetQualityYieldUseCaseImpl(DefectAnalyticsQueryPort queryPort) {
+        this.queryPort = queryPort;
+    }
+
+    @Override
+    public QualityYieldResult execute(QualityYieldQuery query) {
+        DefectAnalyticsQueryPort.Grouping grouping = DefectAnalyticsQueryPort.Grouping.WEEK;
+        if (query.groupBy() != null && !query.groupBy().isBlank()) {
+            try {
+                grouping = DefectAnalyticsQueryPort.Grouping.valueOf(query.groupBy().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown grouping: " + query.groupBy()
+                    + " (expected week, model or inspector)");
+            }
+        }
+        DefectAnalyticsQueryPort.RollupFilter filter = DefectAnalyticsFilters.toFilter(
+            query.from(), query.to(), query.modelCode(), query.inspectorId());
+
+        List<QualityYieldRow> rows = queryPort.findOutcomeCounts(filter, grouping).stream()
+            .map(counts -> new QualityYieldRow(
+                counts.group(),
+                counts.inspectionsCompleted(),
+                counts.passed(),
+                counts.conditionalPassed(),
+                counts.failed(),
+                counts.firstInspections(),
+                counts.firstPassPassed(),
+                ratio(counts.firstPassPassed(), counts.firstInspections()),
+                counts.reworksCompleted(),
+                ratio(counts.reworksCompleted(), counts.firstInspections())))
+            .toList();
+        return new QualityYieldResult(filter.fromWeek(), filter.toWeek(),
+            grouping.name().toLowerCase(Locale.ROOT), rows);
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+}
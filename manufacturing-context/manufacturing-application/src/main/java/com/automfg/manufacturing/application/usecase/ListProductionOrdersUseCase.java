@@ -8,13 +8,29 @@ import java.util.UUID;
 
 public interface ListProductionOrdersUseCase extends QueryUseCase {
 
-    record ListProductionOrdersQuery(String status) {}
+    /**
+     * @param plantId orders of this plant only, or null for orders of every plant
+     * @param cursor  opaque cursor from a previous page's nextCursor, or null for the first page
+     * @param limit   page size, or null for the default
+     */
+    record ListProductionOrdersQuery(String status, String plantId, LocalDateTime createdFrom,
+                                     LocalDateTime createdTo, String cursor, Integer limit) {
+
+        public ListProductionOrdersQuery(String status) {
+            this(status, null, null, null, null, null);
+        }
+    }
 
     record ProductionOrderSummary(
-        UUID id, String orderNumber, String vin,
+        UUID id, String orderNumber, String vin, String plantId,
         String status, Integer currentStationSequence,
         LocalDateTime createdAt
     ) {}
 
-    List<ProductionOrderSummary> execute(ListProductionOrdersQuery query);
+    /**
+     * @param nextCursor cursor for the following page, or null if this is the last page
+     */
+    record ProductionOrderPage(List<ProductionOrderSummary> items, String nextCursor) {}
+
+    ProductionOrderPage execute(ListProductionOrdersQuery query);
 }
@@ -1,11 +1,24 @@
 package com.automfg.manufacturing.application.usecase;
 
 import com.automfg.manufacturing.application.port.ProductionOrderQueryPort;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Keyset-paginated listing: each page continues after the (createdAt, id) of the previous page's
+ * last row, so page cost does not depend on how deep the client has paged.
+ */
 public class ListProductionOrdersUseCaseImpl implements ListProductionOrdersUseCase {
 
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
     private final ProductionOrderQueryPort queryPort;
 
     public ListProductionOrdersUseCaseImpl(ProductionOrderQueryPort queryPort) {
@@ -13,10 +26,62 @@ public class ListProductionOrdersUseCaseImpl implements ListProductionOrdersUseC
     }
 
     @Override
-    public List<ProductionOrderSummary> execute(ListProductionOrdersQuery query) {
+    public ProductionOrderPage execute(ListProductionOrdersQuery query) {
+        int limit = query.limit() == null ? DEFAULT_LIMIT : query.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        String status = null;
         if (query.status() != null && !query.status().isBlank()) {
-            return queryPort.findByStatus(query.status());
+            try {
+                status = ProductionOrderStatus.valueOf(query.status()).name();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown production order status: " + query.status());
+            }
+        }
+
+        String plantId = query.plantId() == null || query.plantId().isBlank()
+            ? null
+            : new PlantId(query.plantId()).code();
+
+        ProductionOrderQueryPort.SummaryFilter filter = new ProductionOrderQueryPort.SummaryFilter(
+            status, plantId, query.createdFrom(), query.createdTo());
+        ProductionOrderQueryPort.Keyset after = decodeCursor(query.cursor());
+
+        // Fetch one extra row to learn whether another page follows
+        List<ProductionOrderSummary> rows = queryPort.findSummaries(filter, after, limit + 1);
+        if (rows.size() <= limit) {
+            return new ProductionOrderPage(rows, null);
+        }
+        List<ProductionOrderSummary> items = rows.subList(0, limit);
+        ProductionOrderSummary last = items.get(limit - 1);
+        return new ProductionOrderPage(List.copyOf(items), encodeCursor(last.createdAt(), last.id()));
+    }
+
+    static String encodeCursor(LocalDateTime createdAt, UUID id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductionOrderQueryPort.Keyset decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        ProductionOrderQueryPort.Keyset keyset;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            keyset = new ProductionOrderQueryPort.Keyset(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        // UUID.fromString accepts short groups, so a truncated cursor would parse to another id;
+        // only the exact encoding of a keyset is accepted
+        if (!encodeCursor(keyset.createdAt(), keyset.id()).equals(cursor)) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
         }
-        return queryPort.findAll();
+        return keyset;
     }
 }
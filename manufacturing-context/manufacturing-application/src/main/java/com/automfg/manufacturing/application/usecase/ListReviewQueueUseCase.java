@@ -0,0 +1,36 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Completed inspections awaiting four-eyes review (BR-12), oldest first.
+ */
+public interface ListReviewQueueUseCase extends QueryUseCase {
+
+    /**
+     * @param cursor opaque cursor from a previous page's nextCursor, or null for the first page
+     * @param limit  page size, or null for the default
+     */
+    record ListReviewQueueQuery(String cursor, Integer limit) {}
+
+    /**
+     * @param claimedBy reviewer holding the claim, or null; a claim older than the claim TTL
+     *                  no longer reserves the inspection
+     */
+    record AwaitingReview(
+        UUID inspectionId, UUID productionOrderId, String vin,
+        String result, String inspectorId, LocalDateTime inspectedAt,
+        String claimedBy, LocalDateTime claimedAt
+    ) {}
+
+    /**
+     * @param nextCursor cursor for the following page, or null if this is the last page
+     */
+    record ReviewQueuePage(List<AwaitingReview> items, String nextCursor) {}
+
+    ReviewQueuePage execute(ListReviewQueueQuery query);
+}
@@ -0,0 +1,30 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+
+import java.util.List;
+
+public class ListReviewQueueUseCaseImpl implements ListReviewQueueUseCase {
+
+    private final WorkQueuePort workQueuePort;
+
+    public ListReviewQueueUseCaseImpl(WorkQueuePort workQueuePort) {
+        this.workQueuePort = workQueuePort;
+    }
+
+    @Override
+    public ReviewQueuePage execute(ListReviewQueueQuery query) {
+        int limit = WorkQueueCursors.limit(query.limit());
+        WorkQueuePort.Keyset after = WorkQueueCursors.decode(query.cursor());
+
+        // Fetch one extra row to learn whether another page follows
+        List<AwaitingReview> rows = workQueuePort.findAwaitingReview(after, limit + 1);
+        if (rows.size() <= limit) {
+            return new ReviewQueuePage(rows, null);
+        }
+        List<AwaitingReview> items = rows.subList(0, limit);
+        AwaitingReview last = items.get(limit - 1);
+        return new ReviewQueuePage(List.copyOf(items),
+            WorkQueueCursors.encode(last.inspectedAt(), last.inspectionId()));
+    }
+}
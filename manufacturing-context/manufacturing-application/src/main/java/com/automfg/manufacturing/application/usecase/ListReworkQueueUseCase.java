@@ -0,0 +1,31 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rework orders not yet completed, oldest first.
+ */
+public interface ListReworkQueueUseCase extends QueryUseCase {
+
+    /**
+     * @param cursor opaque cursor from a previous page's nextCursor, or null for the first page
+     * @param limit  page size, or null for the default
+     */
+    record ListReworkQueueQuery(String cursor, Integer limit) {}
+
+    record OpenRework(
+        UUID reworkOrderId, UUID productionOrderId, UUID inspectionId,
+        String status, LocalDateTime createdAt
+    ) {}
+
+    /**
+     * @param nextCursor cursor for the following page, or null if this is the last page
+     */
+    record ReworkQueuePage(List<OpenRework> items, String nextCursor) {}
+
+    ReworkQueuePage execute(ListReworkQueueQuery query);
+}
@@ -0,0 +1,30 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+
+import java.util.List;
+
+public class ListReworkQueueUseCaseImpl implements ListReworkQueueUseCase {
+
+    private final WorkQueuePort workQueuePort;
+
+    public ListReworkQueueUseCaseImpl(WorkQueuePort workQueuePort) {
+        this.workQueuePort = workQueuePort;
+    }
+
+    @Override
+    public ReworkQueuePage execute(ListReworkQueueQuery query) {
+        int limit = WorkQueueCursors.limit(query.limit());
+        WorkQueuePort.Keyset after = WorkQueueCursors.decode(query.cursor());
+
+        // Fetch one extra row to learn whether another page follows
+        List<OpenRework> rows = workQueuePort.findOpenRework(after, limit + 1);
+        if (rows.size() <= limit) {
+            return new ReworkQueuePage(rows, null);
+        }
+        List<OpenRework> items = rows.subList(0, limit);
+        OpenRework last = items.get(limit - 1);
+        return new ReworkQueuePage(List.copyOf(items),
+            WorkQueueCursors.encode(last.createdAt(), last.reworkOrderId()));
+    }
+}
@@ -7,6 +7,7 @@ import com.automfg.manufacturing.domain.model.QualityInspectionId;
 import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
 import com.automfg.shared.domain.DomainEventPublisher;
 
+import java.util.List;
 import java.util.Objects;
 
 public class RecordInspectionItemResultUseCaseImpl implements RecordInspectionItemResultUseCase {
@@ -34,7 +35,7 @@ public class RecordInspectionItemResultUseCaseImpl implements RecordInspectionIt
 
         inspection.recordItemResult(itemId, status, command.notes());
 
-        qualityInspectionRepository.save(inspection);
+        qualityInspectionRepository.saveItemResults(inspection, List.of(itemId));
         domainEventPublisher.publishAll(inspection.getDomainEvents());
         inspection.clearDomainEvents();
     }
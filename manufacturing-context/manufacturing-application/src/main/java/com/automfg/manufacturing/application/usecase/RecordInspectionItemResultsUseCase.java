@@ -0,0 +1,19 @@
+package com.automfg.manufacturing.application.usecase;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.automfg.shared.application.CommandUseCase;
+
+/**
+ * Records a whole checklist submission at once, optionally completing the inspection.
+ * Either every result is applied or none is.
+ */
+public interface RecordInspectionItemResultsUseCase extends CommandUseCase {
+    record ItemResult(UUID itemId, String status, String notes) {}
+    record RecordItemResultsCommand(UUID inspectionId, List<ItemResult> results,
+                                    boolean complete, String inspectorId) {}
+    /** {@code result} is null unless the inspection was completed. */
+    record RecordItemResultsResult(UUID inspectionId, int recordedCount, String result) {}
+    RecordItemResultsResult execute(RecordItemResultsCommand command);
+}
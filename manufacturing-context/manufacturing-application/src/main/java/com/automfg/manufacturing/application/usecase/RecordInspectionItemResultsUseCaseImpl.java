@@ -0,0 +1,100 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.domain.model.InspectionItemId;
+import com.automfg.manufacturing.domain.model.InspectionItemStatus;
+import com.automfg.manufacturing.domain.model.QualityInspection;
+import com.automfg.manufacturing.domain.model.QualityInspectionId;
+import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
+import com.automfg.shared.domain.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class RecordInspectionItemResultsUseCaseImpl implements RecordInspectionItemResultsUseCase {
+
+    private static final int MAX_REPORTED_REJECTIONS = 20;
+
+    private final QualityInspectionRepository qualityInspectionRepository;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public RecordInspectionItemResultsUseCaseImpl(QualityInspectionRepository qualityInspectionRepository,
+                                                  DomainEventPublisher domainEventPublisher) {
+        this.qualityInspectionRepository = Objects.requireNonNull(qualityInspectionRepository);
+        this.domainEventPublisher = Objects.requireNonNull(domainEventPublisher);
+    }
+
+    @Override
+    public RecordItemResultsResult execute(RecordItemResultsCommand command) {
+        Objects.requireNonNull(command, "Command must not be null");
+        if (command.results() == null || command.results().isEmpty()) {
+            throw new IllegalArgumentException("At least one item result is required");
+        }
+        if (command.complete() && (command.inspectorId() == null || command.inspectorId().isBlank())) {
+            throw new IllegalArgumentException("Inspector ID is required to complete the inspection");
+        }
+
+        QualityInspectionId inspectionId = new QualityInspectionId(command.inspectionId());
+        QualityInspection inspection = qualityInspectionRepository.findById(inspectionId)
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Inspection not found: " + command.inspectionId()));
+
+        // Apply everything to the loaded aggregate first so all rejections are reported together;
+        // nothing is persisted unless every result is accepted.
+        List<InspectionItemId> itemIds = new ArrayList<>(command.results().size());
+        Set<InspectionItemId> seen = new HashSet<>();
+        List<String> rejections = new ArrayList<>();
+        for (ItemResult itemResult : command.results()) {
+            if (itemResult.itemId() == null) {
+                rejections.add("item ID is missing");
+                continue;
+            }
+            InspectionItemId itemId = new InspectionItemId(itemResult.itemId());
+            if (!seen.add(itemId)) {
+                rejections.add(itemId.value() + ": duplicate result");
+                continue;
+            }
+            try {
+                inspection.recordItemResult(itemId, parseStatus(itemResult.status()), itemResult.notes());
+                itemIds.add(itemId);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                rejections.add(itemId.value() + ": " + e.getMessage());
+            }
+        }
+        if (!rejections.isEmpty()) {
+            throw new IllegalArgumentException("Item results rejected: " + describe(rejections));
+        }
+
+        if (command.complete()) {
+            inspection.complete(command.inspectorId());
+        }
+
+        qualityInspectionRepository.saveItemResults(inspection, itemIds);
+        domainEventPublisher.publishAll(inspection.getDomainEvents());
+        inspection.clearDomainEvents();
+
+        return new RecordItemResultsResult(inspectionId.value(), itemIds.size(),
+            inspection.getResult() != null ? inspection.getResult().name() : null);
+    }
+
+    private static String describe(List<String> rejections) {
+        if (rejections.size() <= MAX_REPORTED_REJECTIONS) {
+            return String.join("; ", rejections);
+        }
+        return String.join("; ", rejections.subList(0, MAX_REPORTED_REJECTIONS))
+            + "; and " + (rejections.size() - MAX_REPORTED_REJECTIONS) + " more";
+    }
+
+    private static InspectionItemStatus parseStatus(String status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status must not be null");
+        }
+        try {
+            return InspectionItemStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown inspection item status: " + status);
+        }
+    }
+}
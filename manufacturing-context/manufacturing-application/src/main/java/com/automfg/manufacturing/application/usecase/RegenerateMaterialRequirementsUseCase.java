@@ -0,0 +1,18 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+
+import java.time.LocalDate;
+
+/**
+ * Rebuilds the time-phased requirements ledger from every open production order, rolling the
+ * horizon forward to start today.
+ */
+public interface RegenerateMaterialRequirementsUseCase extends CommandUseCase {
+
+    record RegenerateMaterialRequirementsCommand() {}
+
+    record RegenerateMaterialRequirementsResult(LocalDate horizonStart, int openOrders, long elapsedMillis) {}
+
+    RegenerateMaterialRequirementsResult execute(RegenerateMaterialRequirementsCommand command);
+}
@@ -0,0 +1,28 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.MaterialRequirementsPort;
+import com.automfg.manufacturing.domain.service.MaterialRequirementsPlanner;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class RegenerateMaterialRequirementsUseCaseImpl implements RegenerateMaterialRequirementsUseCase {
+
+    private final MaterialRequirementsPlanner planner;
+    private final MaterialRequirementsPort materialRequirementsPort;
+
+    public RegenerateMaterialRequirementsUseCaseImpl(MaterialRequirementsPlanner planner,
+                                                     MaterialRequirementsPort materialRequirementsPort) {
+        this.planner = Objects.requireNonNull(planner);
+        this.materialRequirementsPort = Objects.requireNonNull(materialRequirementsPort);
+    }
+
+    @Override
+    public RegenerateMaterialRequirementsResult execute(RegenerateMaterialRequirementsCommand command) {
+        LocalDate today = LocalDate.now();
+        long started = System.nanoTime();
+        int openOrders = planner.regenerate(today, materialRequirementsPort::findOpenOrderRequirements);
+        return new RegenerateMaterialRequirementsResult(
+            today, openOrders, (System.nanoTime() - started) / 1_000_000);
+    }
+}
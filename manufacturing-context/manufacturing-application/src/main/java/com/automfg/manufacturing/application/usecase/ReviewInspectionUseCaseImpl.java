@@ -1,29 +1,42 @@
 package com.automfg.manufacturing.application.usecase;
 
+import com.automfg.manufacturing.application.port.WorkQueuePort;
 import com.automfg.manufacturing.domain.model.*;
 import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
 import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
 import com.automfg.manufacturing.domain.port.ReworkOrderRepository;
 import com.automfg.shared.domain.DomainEventPublisher;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Records the four-eyes review of a completed inspection. The review claim is taken, or
+ * renewed, before anything is saved, so an inspection claimed from the review queue can only
+ * be reviewed by its claimant until the claim goes stale.
+ */
 public class ReviewInspectionUseCaseImpl implements ReviewInspectionUseCase {
 
     private final QualityInspectionRepository qualityInspectionRepository;
     private final ProductionOrderRepository productionOrderRepository;
     private final ReworkOrderRepository reworkOrderRepository;
     private final DomainEventPublisher domainEventPublisher;
+    private final WorkQueuePort workQueuePort;
+    private final Duration claimTtl;
 
     public ReviewInspectionUseCaseImpl(QualityInspectionRepository qualityInspectionRepository,
                                        ProductionOrderRepository productionOrderRepository,
                                        ReworkOrderRepository reworkOrderRepository,
-                                       DomainEventPublisher domainEventPublisher) {
+                                       DomainEventPublisher domainEventPublisher,
+                                       WorkQueuePort workQueuePort, Duration claimTtl) {
         this.qualityInspectionRepository = Objects.requireNonNull(qualityInspectionRepository);
         this.productionOrderRepository = Objects.requireNonNull(productionOrderRepository);
         this.reworkOrderRepository = Objects.requireNonNull(reworkOrderRepository);
         this.domainEventPublisher = Objects.requireNonNull(domainEventPublisher);
+        this.workQueuePort = Objects.requireNonNull(workQueuePort);
+        this.claimTtl = Objects.requireNonNull(claimTtl);
     }
 
     @Override
@@ -38,6 +51,12 @@ public class ReviewInspectionUseCaseImpl implements ReviewInspectionUseCase {
         // Perform review on the inspection aggregate
         inspection.review(command.reviewerId());
 
+        LocalDateTime now = LocalDateTime.now();
+        if (!workQueuePort.holdClaim(inspectionId.value(), command.reviewerId(), now, now.minus(claimTtl))) {
+            throw new IllegalStateException(
+                "Inspection " + command.inspectionId() + " is claimed for review by another reviewer");
+        }
+
         // Load production order and update its status
         ProductionOrder productionOrder = productionOrderRepository.findById(inspection.getProductionOrderId())
             .orElseThrow(() -> new IllegalStateException(
@@ -0,0 +1,23 @@
+package com.automfg.manufacturing.application.usecase;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.automfg.shared.application.CommandUseCase;
+
+public interface ScheduleProductionOrdersUseCase extends CommandUseCase {
+
+    /**
+     * @param productionOrderId when set, only this order is appended to the current plan
+     * @param fullReplan discard the current plan and re-plan every SCHEDULED order
+     */
+    record ScheduleProductionOrdersCommand(UUID productionOrderId, boolean fullReplan) {}
+
+    record ScheduleProductionOrdersResult(
+        int scheduledCount, int unscheduledCount,
+        LocalDate horizonStart, LocalDate horizonEnd, LocalDateTime lastScheduledStart
+    ) {}
+
+    ScheduleProductionOrdersResult execute(ScheduleProductionOrdersCommand command);
+}
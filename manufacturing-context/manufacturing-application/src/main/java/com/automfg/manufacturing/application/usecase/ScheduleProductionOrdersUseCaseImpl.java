@@ -0,0 +1,80 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import com.automfg.manufacturing.domain.model.SchedulePlan;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.domain.service.ProductionScheduler;
+import com.automfg.shared.domain.DomainEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class ScheduleProductionOrdersUseCaseImpl implements ScheduleProductionOrdersUseCase {
+
+    private final ProductionOrderRepository productionOrderRepository;
+    private final ProductionScheduler productionScheduler;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public ScheduleProductionOrdersUseCaseImpl(ProductionOrderRepository productionOrderRepository,
+                                               ProductionScheduler productionScheduler,
+                                               DomainEventPublisher domainEventPublisher) {
+        this.productionOrderRepository = Objects.requireNonNull(productionOrderRepository);
+        this.productionScheduler = Objects.requireNonNull(productionScheduler);
+        this.domainEventPublisher = Objects.requireNonNull(domainEventPublisher);
+    }
+
+    @Override
+    public ScheduleProductionOrdersResult execute(ScheduleProductionOrdersCommand command) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductionOrder> orders;
+        SchedulePlan plan;
+
+        if (command.fullReplan() || !productionScheduler.hasBaseline()) {
+            orders = productionOrderRepository.findByStatus(ProductionOrderStatus.SCHEDULED);
+            plan = productionScheduler.replan(orders, now);
+        } else if (command.productionOrderId() != null) {
+            ProductionOrder order = productionOrderRepository
+                .findById(new ProductionOrderId(command.productionOrderId()))
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "Production order not found: " + command.productionOrderId()));
+            orders = order.getStatus() == ProductionOrderStatus.SCHEDULED && order.getScheduledStartDate() == null
+                ? List.of(order)
+                : List.of();
+            plan = productionScheduler.schedule(orders, now);
+        } else {
+            // Incremental: everything released to SCHEDULED since the last plan (new arrivals, cleared materials)
+            orders = productionOrderRepository.findByStatus(ProductionOrderStatus.SCHEDULED).stream()
+                .filter(order -> order.getScheduledStartDate() == null)
+                .toList();
+            plan = productionScheduler.schedule(orders, now);
+        }
+
+        // Only orders whose slot moved or was withdrawn carry events; persist just their slot, so a
+        // replan never writes a stale copy of an aggregate over a concurrent start or scan
+        List<ProductionOrder> changed = orders.stream()
+            .filter(order -> !order.getDomainEvents().isEmpty())
+            .toList();
+        Set<ProductionOrderId> written = changed.isEmpty()
+            ? Set.of()
+            : new HashSet<>(productionOrderRepository.saveScheduledStarts(changed));
+        for (ProductionOrder order : changed) {
+            if (written.contains(order.getId())) {
+                domainEventPublisher.publishAll(order.getDomainEvents());
+            }
+            order.clearDomainEvents();
+        }
+
+        return new ScheduleProductionOrdersResult(
+            plan.scheduled().size(),
+            plan.unscheduled().size(),
+            plan.horizonStart(),
+            plan.horizonEnd(),
+            plan.lastScheduledStart()
+        );
+    }
+}
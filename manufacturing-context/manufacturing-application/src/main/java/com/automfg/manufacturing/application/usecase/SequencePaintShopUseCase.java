@@ -0,0 +1,24 @@
+package com.automfg.manufacturing.application.usecase;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.automfg.shared.application.CommandUseCase;
+
+public interface SequencePaintShopUseCase extends CommandUseCase {
+
+    /**
+     * @param previousColor color currently loaded at WS-PAINT, or null if unknown
+     */
+    record SequencePaintShopCommand(String previousColor) {}
+
+    record SequencePaintShopResult(
+        int ordersSequenced,
+        int changeoversBefore,
+        int changeoversAfter,
+        int changeoversSaved,
+        List<UUID> releaseSequence
+    ) {}
+
+    SequencePaintShopResult execute(SequencePaintShopCommand command);
+}
@@ -0,0 +1,121 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.domain.model.PaintJob;
+import com.automfg.manufacturing.domain.model.PaintSequence;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.domain.service.PaintShopSequencer;
+import com.automfg.shared.domain.DomainEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Re-sequences the next window of planned orders into paint color blocks. The planned start slots
+ * (scheduledStartDate) are kept and handed out in the new sequence, so the production start order
+ * follows the color batching. An order may move back at most maxDelayPositions slots and never past
+ * its planned start plus dueTolerance.
+ * <p>
+ * Only the moved slots are written, as the scheduler writes them, so an order started since the
+ * window was read keeps its state; slot events are published for the orders actually written.
+ */
+public class SequencePaintShopUseCaseImpl implements SequencePaintShopUseCase {
+
+    private final ProductionOrderRepository productionOrderRepository;
+    private final PaintShopSequencer paintShopSequencer;
+    private final DomainEventPublisher domainEventPublisher;
+    private final int windowSize;
+    private final int maxDelayPositions;
+    private final Duration dueTolerance;
+
+    public SequencePaintShopUseCaseImpl(ProductionOrderRepository productionOrderRepository,
+                                        PaintShopSequencer paintShopSequencer,
+                                        DomainEventPublisher domainEventPublisher,
+                                        int windowSize, int maxDelayPositions, Duration dueTolerance) {
+        this.productionOrderRepository = Objects.requireNonNull(productionOrderRepository);
+        this.paintShopSequencer = Objects.requireNonNull(paintShopSequencer);
+        this.domainEventPublisher = Objects.requireNonNull(domainEventPublisher);
+        this.dueTolerance = Objects.requireNonNull(dueTolerance);
+        if (windowSize < 1 || maxDelayPositions < 0) {
+            throw new IllegalArgumentException("Invalid paint sequencing window/delay: "
+                + windowSize + "/" + maxDelayPositions);
+        }
+        this.windowSize = windowSize;
+        this.maxDelayPositions = maxDelayPositions;
+    }
+
+    @Override
+    public SequencePaintShopResult execute(SequencePaintShopCommand command) {
+        List<ProductionOrder> window = productionOrderRepository.findScheduledByStartSlot(windowSize);
+        int n = window.size();
+
+        LocalDateTime[] slots = new LocalDateTime[n];
+        for (int i = 0; i < n; i++) {
+            slots[i] = window.get(i).getScheduledStartDate();
+        }
+
+        List<PaintJob> jobs = new ArrayList<>(n);
+        Map<ProductionOrderId, ProductionOrder> byId = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            ProductionOrder order = window.get(i);
+            int dueIndex = lastSlotNotAfter(slots, slots[i].plus(dueTolerance));
+            int deadline = Math.max(i, Math.min(i + maxDelayPositions, dueIndex));
+            jobs.add(new PaintJob(order.getId(), order.getColorCode(), i, deadline));
+            byId.put(order.getId(), order);
+        }
+
+        PaintSequence sequence = paintShopSequencer.sequence(jobs, command.previousColor());
+
+        List<UUID> releaseSequence = new ArrayList<>(n);
+        List<ProductionOrder> moved = new ArrayList<>();
+        for (int k = 0; k < n; k++) {
+            ProductionOrder order = byId.get(sequence.sequence().get(k));
+            releaseSequence.add(order.getId().value());
+            if (!slots[k].equals(order.getScheduledStartDate())) {
+                order.assignScheduledStart(slots[k]);
+                moved.add(order);
+            }
+        }
+
+        Set<ProductionOrderId> written = moved.isEmpty()
+            ? Set.of()
+            : new HashSet<>(productionOrderRepository.saveScheduledStarts(moved));
+        for (ProductionOrder order : moved) {
+            if (written.contains(order.getId())) {
+                domainEventPublisher.publishAll(order.getDomainEvents());
+            }
+            order.clearDomainEvents();
+        }
+
+        return new SequencePaintShopResult(
+            n,
+            sequence.changeoversBefore(),
+            sequence.changeoversAfter(),
+            sequence.changeoversSaved(),
+            releaseSequence
+        );
+    }
+
+    private static int lastSlotNotAfter(LocalDateTime[] slots, LocalDateTime limit) {
+        int lo = 0;
+        int hi = slots.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (slots[mid].isAfter(limit)) {
+                hi = mid - 1;
+            } else {
+                lo = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,28 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.QueryUseCase;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Recall query: which vehicles were built with a given material batch (BR-08 genealogy).
+ * A recall can reach tens of thousands of vehicles, so matches are pushed to a sink as they
+ * are read instead of being collected into a list.
+ */
+public interface TraceMaterialBatchUseCase extends QueryUseCase {
+
+    record TraceMaterialBatchQuery(String materialBatchId) {}
+
+    record AffectedVehicle(
+        String vin,
+        UUID productionOrderId,
+        String workStationCode,
+        LocalDateTime completedAt
+    ) {}
+
+    record TraceMaterialBatchResult(String materialBatchId, long affectedSteps) {}
+
+    TraceMaterialBatchResult execute(TraceMaterialBatchQuery query, Consumer<AffectedVehicle> sink);
+}
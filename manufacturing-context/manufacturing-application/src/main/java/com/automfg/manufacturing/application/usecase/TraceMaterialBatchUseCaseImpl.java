@@ -0,0 +1,23 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.MaterialGenealogyQueryPort;
+
+import java.util.function.Consumer;
+
+public class TraceMaterialBatchUseCaseImpl implements TraceMaterialBatchUseCase {
+
+    private final MaterialGenealogyQueryPort queryPort;
+
+    public TraceMaterialBatchUseCaseImpl(MaterialGenealogyQueryPort queryPort) {
+        this.queryPort = queryPort;
+    }
+
+    @Override
+    public TraceMaterialBatchResult execute(TraceMaterialBatchQuery query, Consumer<AffectedVehicle> sink) {
+        if (query.materialBatchId() == null || query.materialBatchId().isBlank()) {
+            throw new IllegalArgumentException("Material batch ID is required");
+        }
+        long affectedSteps = queryPort.streamAffectedVehicles(query.materialBatchId(), sink);
+        return new TraceMaterialBatchResult(query.materialBatchId(), affectedSteps);
+    }
+}
@@ -0,0 +1,33 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Applies one production order's change to the time-phased requirements ledger.
+ */
+public interface UpdateMaterialRequirementsUseCase extends CommandUseCase {
+
+    enum Change {
+        /** The order was created; its requirements are read once and added. */
+        OPENED,
+        /** The order got a new start slot; its requirements move to that day. */
+        RESCHEDULED,
+        /** Material was issued to the line or the order went away; its requirements are withdrawn. */
+        CLOSED
+    }
+
+    /**
+     * @param scheduledStartDate the new start slot, for RESCHEDULED only
+     */
+    record UpdateMaterialRequirementsCommand(UUID productionOrderId, Change change, LocalDateTime scheduledStartDate) {}
+
+    /**
+     * @param tracked whether the order's requirements are in the ledger after the update
+     */
+    record UpdateMaterialRequirementsResult(boolean tracked) {}
+
+    UpdateMaterialRequirementsResult execute(UpdateMaterialRequirementsCommand command);
+}
@@ -0,0 +1,58 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.MaterialRequirementsPort;
+import com.automfg.manufacturing.domain.service.MaterialRequirementsPlanner;
+
+import java.util.Objects;
+
+public class UpdateMaterialRequirementsUseCaseImpl implements UpdateMaterialRequirementsUseCase {
+
+    private final MaterialRequirementsPlanner planner;
+    private final MaterialRequirementsPort materialRequirementsPort;
+
+    public UpdateMaterialRequirementsUseCaseImpl(MaterialRequirementsPlanner planner,
+                                                 MaterialRequirementsPort materialRequirementsPort) {
+        this.planner = Objects.requireNonNull(planner);
+        this.materialRequirementsPort = Objects.requireNonNull(materialRequirementsPort);
+    }
+
+    @Override
+    public UpdateMaterialRequirementsResult execute(UpdateMaterialRequirementsCommand command) {
+        Objects.requireNonNull(command, "Command must not be null");
+        if (command.productionOrderId() == null) {
+            throw new IllegalArgumentException("Production order ID is required");
+        }
+        if (command.change() == null) {
+            throw new IllegalArgumentException("Change is required");
+        }
+
+        return switch (command.change()) {
+            case OPENED -> new UpdateMaterialRequirementsResult(refresh(command));
+            case RESCHEDULED -> {
+                if (command.scheduledStartDate() == null) {
+                    throw new IllegalArgumentException("Scheduled start date is required to reschedule");
+                }
+                // A slot can be assigned before the OPENED change is seen; then read the order instead
+                yield new UpdateMaterialRequirementsResult(
+                    planner.reschedule(command.productionOrderId(), command.scheduledStartDate().toLocalDate())
+                        || refresh(command));
+            }
+            case CLOSED -> {
+                planner.remove(command.productionOrderId());
+                yield new UpdateMaterialRequirementsResult(false);
+            }
+        };
+    }
+
+    private boolean refresh(UpdateMaterialRequirementsCommand command) {
+        return materialRequirementsPort.findOpenOrderRequirements(command.productionOrderId())
+            .map(requirements -> {
+                planner.put(requirements);
+                return true;
+            })
+            .orElseGet(() -> {
+                planner.remove(command.productionOrderId());
+                return false;
+            });
+    }
+}
@@ -0,0 +1,36 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Opaque (queuedAt, id) cursors for the work queue pages, in the same encoding as the
+ * production order listing.
+ */
+final class WorkQueueCursors {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private WorkQueueCursors() {
+    }
+
+    static int limit(Integer requested) {
+        int limit = requested == null ? DEFAULT_LIMIT : requested;
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        return limit;
+    }
+
+    static String encode(LocalDateTime queuedAt, UUID id) {
+        return ListProductionOrdersUseCaseImpl.encodeCursor(queuedAt, id);
+    }
+
+    static WorkQueuePort.Keyset decode(String cursor) {
+        var keyset = ListProductionOrdersUseCaseImpl.decodeCursor(cursor);
+        return keyset == null ? null : new WorkQueuePort.Keyset(keyset.createdAt(), keyset.id());
+    }
+}
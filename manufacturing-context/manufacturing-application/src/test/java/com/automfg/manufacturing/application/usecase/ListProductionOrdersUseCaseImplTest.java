@@ -0,0 +1,189 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.ProductionOrderQueryPort;
+import com.automfg.manufacturing.application.port.ProductionOrderQueryPort.Keyset;
+import com.automfg.manufacturing.application.port.ProductionOrderQueryPort.SummaryFilter;
+import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase.AssemblyStepDetail;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase.ProductionOrderDetail;
+import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase.ListProductionOrdersQuery;
+import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase.ProductionOrderPage;
+import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase.ProductionOrderSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListProductionOrdersUseCaseImplTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 3, 2, 6, 0);
+
+    private static final class InMemorySummaries implements ProductionOrderQueryPort {
+        final List<ProductionOrderSummary> summaries = new ArrayList<>();
+        final List<Keyset> afters = new ArrayList<>();
+
+        @Override
+        public List<ProductionOrderSummary> findSummaries(SummaryFilter filter, Keyset after, int limit) {
+            afters.add(after);
+            return summaries.stream()
+                .filter(summary -> filter.status() == null || filter.status().equals(summary.status()))
+                .filter(summary -> after == null || summary.createdAt().isAfter(after.createdAt())
+                    || summary.createdAt().equals(after.createdAt()) && summary.id().compareTo(after.id()) > 0)
+                .sorted(Comparator.comparing(ProductionOrderSummary::createdAt).thenComparing(ProductionOrderSummary::id))
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public Optional<ProductionOrderDetail> findById(UUID id) {
+            throw new AssertionError("the listing reads summaries only");
+        }
+
+        @Override
+        public List<AssemblyStepDetail> findAssemblySteps(UUID productionOrderId, String stationCode) {
+            throw new AssertionError("the listing reads summaries only");
+        }
+    }
+
+    private final InMemorySummaries port = new InMemorySummaries();
+    private final ListProductionOrdersUseCaseImpl useCase = new ListProductionOrdersUseCaseImpl(port);
+
+    // Orders created two to a minute, so every other page boundary falls between two equal timestamps
+    private List<ProductionOrderSummary> orders(int count) {
+        for (int i = 0; i < count; i++) {
+            port.summaries.add(new ProductionOrderSummary(new UUID(0, i + 1), String.format("PO-%05d", i),
+                "1HGBH41JXMN109186", "PLANT-01", i % 3 == 0 ? "SCHEDULED" : "IN_PRODUCTION", null,
+                CREATED.plusMinutes(i / 2)));
+        }
+        return List.copyOf(port.summaries);
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("a cursor decodes to the keyset it was encoded from, down to the nanosecond")
+    void cursor_round_trip() {
+        UUID id = UUID.randomUUID();
+        for (LocalDateTime createdAt : List.of(CREATED, CREATED.plusSeconds(7),
+                CREATED.plusNanos(123_456_789), CREATED.plusNanos(1_000))) {
+            String cursor = ListProductionOrdersUseCaseImpl.encodeCursor(createdAt, id);
+
+            assertThat(cursor).doesNotContain("=", "+", "/");
+            assertThat(ListProductionOrdersUseCaseImpl.decodeCursor(cursor)).isEqualTo(new Keyset(createdAt, id));
+            assertThat(WorkQueueCursors.decode(WorkQueueCursors.encode(createdAt, id)))
+                .extracting(keyset -> keyset.queuedAt(), keyset -> keyset.id())
+                .containsExactly(createdAt, id);
+        }
+        assertThat(ListProductionOrdersUseCaseImpl.decodeCursor(null)).isNull();
+        assertThat(ListProductionOrdersUseCaseImpl.decodeCursor(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("a tampered cursor is rejected as a bad argument")
+    void tampered_cursor_is_rejected() {
+        String valid = ListProductionOrdersUseCaseImpl.encodeCursor(CREATED, UUID.randomUUID());
+        List<String> tampered = List.of(
+            valid.substring(0, valid.length() - 3),
+            valid + "*",
+            encoded("2026-03-02T06:00"),
+            encoded("not-a-time|" + UUID.randomUUID()),
+            encoded(CREATED + "|not-a-uuid"),
+            encoded(CREATED + "|" + UUID.randomUUID() + "|" + UUID.randomUUID()));
+
+        for (String cursor : tampered) {
+            assertThatThrownBy(() -> useCase.execute(
+                new ListProductionOrdersQuery(null, null, null, null, cursor, null)))
+                .as(cursor)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+        }
+        assertThat(port.afters).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a page of exactly the limit is the last one; one row more gives a cursor at the last item")
+    void page_boundary() {
+        List<ProductionOrderSummary> all = orders(5);
+
+        ProductionOrderPage exact = useCase.execute(new ListProductionOrdersQuery(null, null, null, null, null, 5));
+        ProductionOrderPage first = useCase.execute(new ListProductionOrdersQuery(null, null, null, null, null, 4));
+        ProductionOrderPage rest = useCase.execute(
+            new ListProductionOrdersQuery(null, null, null, null, first.nextCursor(), 4));
+
+        assertThat(exact.items()).isEqualTo(all);
+        assertThat(exact.nextCursor()).isNull();
+        assertThat(first.items()).isEqualTo(all.subList(0, 4));
+        assertThat(ListProductionOrdersUseCaseImpl.decodeCursor(first.nextCursor()))
+            .isEqualTo(new Keyset(all.get(3).createdAt(), all.get(3).id()));
+        assertThat(rest.items()).containsExactly(all.get(4));
+        assertThat(rest.nextCursor()).isNull();
+        // One row beyond the page is asked for, to tell whether another page follows
+        assertThat(port.afters).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("paging by cursor visits every order once, in (createdAt, id) order, across equal timestamps")
+    void pages_cover_every_order_once() {
+        List<ProductionOrderSummary> all = orders(23);
+
+        for (int limit : List.of(1, 2, 3, 7, 22, 23, 50)) {
+            List<ProductionOrderSummary> visited = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                ProductionOrderPage page = useCase.execute(
+                    new ListProductionOrdersQuery(null, null, null, null, cursor, limit));
+                assertThat(page.items()).hasSizeLessThanOrEqualTo(limit).isNotEmpty();
+                visited.addAll(page.items());
+                cursor = page.nextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertThat(visited).as("limit %d", limit).isEqualTo(all);
+            assertThat(pages).as("limit %d", limit).isEqualTo((all.size() + limit - 1) / limit);
+        }
+    }
+
+    @Test
+    @DisplayName("a filtered listing pages over the matching orders only")
+    void filtered_pages() {
+        List<ProductionOrderSummary> scheduled = orders(12).stream()
+            .filter(summary -> summary.status().equals("SCHEDULED"))
+            .toList();
+
+        ProductionOrderPage first = useCase.execute(
+            new ListProductionOrdersQuery("SCHEDULED", null, null, null, null, 3));
+        ProductionOrderPage second = useCase.execute(
+            new ListProductionOrdersQuery("SCHEDULED", null, null, null, first.nextCursor(), 3));
+
+        assertThat(first.items()).isEqualTo(scheduled.subList(0, 3));
+        assertThat(second.items()).isEqualTo(scheduled.subList(3, 4));
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("an unknown status or a limit outside 1..500 is rejected")
+    void rejects_bad_arguments() {
+        assertThatThrownBy(() -> useCase.execute(new ListProductionOrdersQuery("SHIPPED")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown production order status");
+        for (int limit : List.of(0, -1, ListProductionOrdersUseCaseImpl.MAX_LIMIT + 1)) {
+            assertThatThrownBy(() -> useCase.execute(
+                new ListProductionOrdersQuery(null, null, null, null, null, limit)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Limit must be between 1 and");
+        }
+        assertThat(port.afters).isEmpty();
+    }
+}
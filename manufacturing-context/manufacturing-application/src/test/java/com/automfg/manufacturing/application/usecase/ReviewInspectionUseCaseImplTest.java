@@ -0,0 +1,256 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+import com.automfg.manufacturing.application.usecase.ListReviewQueueUseCase.AwaitingReview;
+import com.automfg.manufacturing.application.usecase.ListReworkQueueUseCase.OpenRework;
+import com.automfg.manufacturing.application.usecase.ReviewInspectionUseCase.ReviewInspectionCommand;
+import com.automfg.manufacturing.application.usecase.ReviewInspectionUseCase.ReviewInspectionResult;
+import com.automfg.manufacturing.domain.model.ChecklistItemTemplate;
+import com.automfg.manufacturing.domain.model.InspectionItemId;
+import com.automfg.manufacturing.domain.model.InspectionItemStatus;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderNumber;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import com.automfg.manufacturing.domain.model.QualityInspection;
+import com.automfg.manufacturing.domain.model.QualityInspectionId;
+import com.automfg.manufacturing.domain.model.ReworkOrder;
+import com.automfg.manufacturing.domain.model.VIN;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
+import com.automfg.manufacturing.domain.port.ReworkOrderRepository;
+import com.automfg.shared.domain.DomainEvent;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewInspectionUseCaseImplTest {
+
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(30);
+
+    /**
+     * Claims as the review queue writes them, held under the same conditions as the adapter's
+     * conditional update.
+     */
+    private static final class InMemoryClaims implements WorkQueuePort {
+        record Claim(String reviewerId, LocalDateTime claimedAt) {}
+
+        final Map<UUID, Claim> claims = new HashMap<>();
+
+        @Override
+        public synchronized boolean holdClaim(UUID inspectionId, String reviewerId, LocalDateTime claimedAt,
+                                              LocalDateTime staleBefore) {
+            Claim claim = claims.get(inspectionId);
+            if (claim != null && !claim.reviewerId().equals(reviewerId) && !claim.claimedAt().isBefore(staleBefore)) {
+                return false;
+            }
+            claims.put(inspectionId, new Claim(reviewerId, claimedAt));
+            return true;
+        }
+
+        @Override
+        public List<AwaitingReview> findAwaitingReview(Keyset after, int limit) {
+            throw new AssertionError("a review does not read the queue");
+        }
+
+        @Override
+        public List<OpenRework> findOpenRework(Keyset after, int limit) {
+            throw new AssertionError("a review does not read the queue");
+        }
+
+        @Override
+        public Optional<AwaitingReview> findActiveClaim(String reviewerId, LocalDateTime staleBefore) {
+            throw new AssertionError("a review does not read the queue");
+        }
+
+        @Override
+        public List<UUID> findClaimCandidates(String reviewerId, LocalDateTime staleBefore, int limit) {
+            throw new AssertionError("a review does not read the queue");
+        }
+
+        @Override
+        public boolean tryClaim(UUID inspectionId, String reviewerId, LocalDateTime claimedAt,
+                                LocalDateTime staleBefore) {
+            throw new AssertionError("a review holds its claim instead of claiming");
+        }
+    }
+
+    private static final class InMemoryInspections implements QualityInspectionRepository {
+        final Map<QualityInspectionId, QualityInspection> inspections = new HashMap<>();
+        final List<QualityInspection> saved = new ArrayList<>();
+
+        @Override
+        public QualityInspection save(QualityInspection inspection) {
+            saved.add(inspection);
+            return inspection;
+        }
+
+        @Override
+        public Optional<QualityInspection> findById(QualityInspectionId id) {
+            return Optional.ofNullable(inspections.get(id));
+        }
+
+        @Override
+        public void saveItemResults(QualityInspection inspection, Collection<InspectionItemId> itemIds) {
+            throw new AssertionError("a review saves the whole inspection");
+        }
+    }
+
+    private static final class InMemoryOrders implements ProductionOrderRepository {
+        final Map<ProductionOrderId, ProductionOrder> orders = new HashMap<>();
+        final List<ProductionOrder> saved = new ArrayList<>();
+
+        @Override
+        public ProductionOrder save(ProductionOrder order) {
+            saved.add(order);
+            return order;
+        }
+
+        @Override
+        public Optional<ProductionOrder> findById(ProductionOrderId id) {
+            return Optional.ofNullable(orders.get(id));
+        }
+
+        @Override
+        public boolean existsBySourceOrderId(UUID sourceOrderId) {
+            return false;
+        }
+
+        @Override
+        public List<ProductionOrder> findByStatus(ProductionOrderStatus status) {
+            return List.of();
+        }
+
+        @Override
+        public List<ProductionOrder> findScheduledByStartSlot(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<ProductionOrderId> saveScheduledStarts(Collection<ProductionOrder> orders) {
+            return List.of();
+        }
+    }
+
+    private static final class InMemoryRework implements ReworkOrderRepository {
+        final List<ReworkOrder> saved = new ArrayList<>();
+
+        @Override
+        public ReworkOrder save(ReworkOrder order) {
+            saved.add(order);
+            return order;
+        }
+
+        @Override
+        public Optional<ReworkOrder> findById(UUID id) {
+            return saved.stream().filter(order -> order.getId().equals(id)).findFirst();
+        }
+    }
+
+    private static final class RecordingPublisher implements DomainEventPublisher {
+        final List<DomainEvent> published = new ArrayList<>();
+
+        @Override
+        public void publish(DomainEvent event) {
+            published.add(event);
+        }
+
+        @Override
+        public void publishAll(List<DomainEvent> events) {
+            published.addAll(events);
+        }
+    }
+
+    private final InMemoryClaims claims = new InMemoryClaims();
+    private final InMemoryInspections inspections = new InMemoryInspections();
+    private final InMemoryOrders orders = new InMemoryOrders();
+    private final InMemoryRework rework = new InMemoryRework();
+    private final RecordingPublisher publisher = new RecordingPublisher();
+    private final ReviewInspectionUseCaseImpl useCase =
+        new ReviewInspectionUseCaseImpl(inspections, orders, rework, publisher, claims, CLAIM_TTL);
+
+    private UUID completedInspection() {
+        ProductionOrderId orderId = new ProductionOrderId(UUID.randomUUID());
+        VIN vin = new VIN("1HGBH41JXMN109186");
+        orders.orders.put(orderId, ProductionOrder.reconstitute(orderId,
+            new ProductionOrderNumber("PO-PS-202603-00001"), UUID.randomUUID(), vin, new PlantId("PLANT-01"),
+            "MODEL-X-SEDAN", "RED", ProductionOrderStatus.ASSEMBLY_COMPLETED, null, null, null, null,
+            LocalDateTime.now(), 0L));
+        QualityInspection inspection = QualityInspection.create(new QualityInspectionId(UUID.randomUUID()),
+            orderId, vin, "INSP-1", List.of(new ChecklistItemTemplate("Brake System Inspection", true)));
+        inspection.recordItemResult(inspection.getItems().get(0).getId(), InspectionItemStatus.PASSED, null);
+        inspection.complete("INSP-1");
+        inspection.clearDomainEvents();
+        inspections.inspections.put(inspection.getId(), inspection);
+        return inspection.getId().value();
+    }
+
+    @Test
+    @DisplayName("the reviewer holding the claim records the review and renews the claim")
+    void claimant_records_review() {
+        UUID inspectionId = completedInspection();
+        LocalDateTime claimedAt = LocalDateTime.now().minusMinutes(5);
+        claims.claims.put(inspectionId, new InMemoryClaims.Claim("REV-1", claimedAt));
+
+        ReviewInspectionResult result = useCase.execute(new ReviewInspectionCommand(inspectionId, "REV-1"));
+
+        assertThat(result.result()).isEqualTo("PASSED");
+        assertThat(inspections.saved).hasSize(1);
+        assertThat(orders.saved).extracting(ProductionOrder::getStatus)
+            .containsExactly(ProductionOrderStatus.INSPECTION_PASSED);
+        assertThat(claims.claims.get(inspectionId).claimedAt()).isAfter(claimedAt);
+    }
+
+    @Test
+    @DisplayName("an inspection nobody claimed can be reviewed straight away")
+    void unclaimed_inspection_is_reviewed() {
+        UUID inspectionId = completedInspection();
+
+        useCase.execute(new ReviewInspectionCommand(inspectionId, "REV-1"));
+
+        assertThat(inspections.saved).hasSize(1);
+        assertThat(claims.claims.get(inspectionId).reviewerId()).isEqualTo("REV-1");
+    }
+
+    @Test
+    @DisplayName("a reviewer not holding a live claim is rejected and nothing is saved or published")
+    void non_claimant_is_rejected() {
+        UUID inspectionId = completedInspection();
+        claims.claims.put(inspectionId, new InMemoryClaims.Claim("REV-1", LocalDateTime.now().minusMinutes(5)));
+
+        assertThatThrownBy(() -> useCase.execute(new ReviewInspectionCommand(inspectionId, "REV-2")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("claimed for review by another reviewer");
+
+        assertThat(inspections.saved).isEmpty();
+        assertThat(orders.saved).isEmpty();
+        assertThat(publisher.published).isEmpty();
+        assertThat(claims.claims.get(inspectionId).reviewerId()).isEqualTo("REV-1");
+    }
+
+    @Test
+    @DisplayName("a claim older than the TTL no longer stops another reviewer")
+    void stale_claim_is_taken_over() {
+        UUID inspectionId = completedInspection();
+        claims.claims.put(inspectionId, new InMemoryClaims.Claim("REV-1", LocalDateTime.now().minusHours(2)));
+
+        useCase.execute(new ReviewInspectionCommand(inspectionId, "REV-2"));
+
+        assertThat(inspections.saved).hasSize(1);
+        assertThat(claims.claims.get(inspectionId).reviewerId()).isEqualTo("REV-2");
+    }
+}
@@ -0,0 +1,202 @@
+package com.automfg.manufacturing.application.usecase;
+
+import com.automfg.manufacturing.application.usecase.SequencePaintShopUseCase.SequencePaintShopCommand;
+import com.automfg.manufacturing.application.usecase.SequencePaintShopUseCase.SequencePaintShopResult;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotAssignedEvent;
+import com.automfg.manufacturing.domain.model.AssemblyStepTemplate;
+import com.automfg.manufacturing.domain.model.BomLineItem;
+import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderNumber;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import com.automfg.manufacturing.domain.model.VIN;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.domain.service.PaintShopSequencer;
+import com.automfg.shared.domain.DomainEvent;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SequencePaintShopUseCaseImplTest {
+
+    private static final LocalDateTime SHIFT_START = LocalDateTime.of(2026, 3, 2, 6, 0);
+
+    private static final class InMemoryOrders implements ProductionOrderRepository {
+        final List<ProductionOrder> orders = new ArrayList<>();
+        final List<ProductionOrder> saved = new ArrayList<>();
+        final List<Integer> limits = new ArrayList<>();
+        // Orders started by someone else since the window was read; their slot write matches nothing
+        final Set<ProductionOrderId> startedMeanwhile = new HashSet<>();
+
+        @Override
+        public ProductionOrder save(ProductionOrder order) {
+            throw new AssertionError("moved slots are written alone, never the whole aggregate");
+        }
+
+        @Override
+        public Optional<ProductionOrder> findById(ProductionOrderId id) {
+            return orders.stream().filter(order -> order.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public boolean existsBySourceOrderId(UUID sourceOrderId) {
+            return false;
+        }
+
+        @Override
+        public List<ProductionOrder> findByStatus(ProductionOrderStatus status) {
+            throw new AssertionError("the paint window is read in slot order, not by status");
+        }
+
+        @Override
+        public List<ProductionOrder> findScheduledByStartSlot(int limit) {
+            limits.add(limit);
+            return orders.stream()
+                .filter(order -> order.getScheduledStartDate() != null)
+                .sorted(Comparator.comparing(ProductionOrder::getScheduledStartDate))
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public List<ProductionOrderId> saveScheduledStarts(Collection<ProductionOrder> orders) {
+            saved.addAll(orders);
+            return orders.stream()
+                .map(ProductionOrder::getId)
+                .filter(id -> !startedMeanwhile.contains(id))
+                .toList();
+        }
+    }
+
+    private static final class RecordingPublisher implements DomainEventPublisher {
+        final List<DomainEvent> published = new ArrayList<>();
+
+        @Override
+        public void publish(DomainEvent event) {
+            published.add(event);
+        }
+
+        @Override
+        public void publishAll(List<DomainEvent> events) {
+            published.addAll(events);
+        }
+    }
+
+    private final RecordingPublisher publisher = new RecordingPublisher();
+
+    private static ProductionOrder order(InMemoryOrders repository, String color, int slotMinutes) {
+        ProductionOrder order = ProductionOrder.create(new ProductionOrderId(UUID.randomUUID()),
+            new ProductionOrderNumber(String.format("PO-PS-202603-%05d", repository.orders.size())),
+            UUID.randomUUID(), new VIN("1HGBH41JXMN109186"), new PlantId("PLANT-01"), "MODEL-X-SEDAN", color,
+            new BomSnapshot(List.of(new BomLineItem("CHS-001", "Chassis Frame", 1, "UNIT", true))),
+            List.of(new AssemblyStepTemplate("WS-PAINT", 1, "Paint body", 30)));
+        order.assignScheduledStart(SHIFT_START.plusMinutes(slotMinutes));
+        order.clearDomainEvents();
+        repository.orders.add(order);
+        return order;
+    }
+
+    private SequencePaintShopUseCaseImpl useCase(InMemoryOrders repository, int windowSize) {
+        return new SequencePaintShopUseCaseImpl(repository, new PaintShopSequencer(), publisher, windowSize, 10,
+            Duration.ofHours(8));
+    }
+
+    @Test
+    @DisplayName("the window's start slots are handed out again in color block order")
+    void reassigns_slots_in_color_blocks() {
+        InMemoryOrders repository = new InMemoryOrders();
+        ProductionOrder red1 = order(repository, "RED", 0);
+        ProductionOrder blue1 = order(repository, "BLUE", 10);
+        ProductionOrder red2 = order(repository, "RED", 20);
+        ProductionOrder blue2 = order(repository, "BLUE", 30);
+
+        SequencePaintShopResult result = useCase(repository, 10).execute(new SequencePaintShopCommand("RED"));
+
+        assertThat(result.ordersSequenced()).isEqualTo(4);
+        assertThat(result.releaseSequence()).containsExactly(red1.getId().value(), red2.getId().value(),
+            blue1.getId().value(), blue2.getId().value());
+        assertThat(result.changeoversAfter()).isEqualTo(1);
+        assertThat(result.changeoversSaved()).isEqualTo(result.changeoversBefore() - 1);
+        assertThat(red2.getScheduledStartDate()).isEqualTo(SHIFT_START.plusMinutes(10));
+        assertThat(blue1.getScheduledStartDate()).isEqualTo(SHIFT_START.plusMinutes(20));
+        // Orders that keep their slot are not written again
+        assertThat(repository.saved).containsExactlyInAnyOrder(red2, blue1);
+        assertThat(publisher.published).hasSize(2).allSatisfy(event ->
+            assertThat(event).isInstanceOf(ProductionStartSlotAssignedEvent.class));
+        assertThat(red2.getDomainEvents()).isEmpty();
+        assertThat(blue1.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("an order started since the window was read is not re-slotted and raises no event")
+    void started_order_is_left_alone() {
+        InMemoryOrders repository = new InMemoryOrders();
+        order(repository, "RED", 0);
+        ProductionOrder blue1 = order(repository, "BLUE", 10);
+        ProductionOrder red2 = order(repository, "RED", 20);
+        repository.startedMeanwhile.add(blue1.getId());
+
+        useCase(repository, 10).execute(new SequencePaintShopCommand("RED"));
+
+        assertThat(repository.saved).containsExactlyInAnyOrder(red2, blue1);
+        assertThat(publisher.published).singleElement()
+            .isInstanceOfSatisfying(ProductionStartSlotAssignedEvent.class, event ->
+                assertThat(event.getProductionOrderId()).isEqualTo(red2.getId().value()));
+        assertThat(blue1.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("only the first window of start slots is read and resequenced")
+    void reads_only_the_window() {
+        InMemoryOrders repository = new InMemoryOrders();
+        for (int i = 0; i < 10; i++) {
+            order(repository, i % 2 == 0 ? "RED" : "BLUE", 10 * i);
+        }
+
+        SequencePaintShopResult result = useCase(repository, 4).execute(new SequencePaintShopCommand(null));
+
+        assertThat(repository.limits).containsExactly(4);
+        assertThat(result.ordersSequenced()).isEqualTo(4);
+        assertThat(result.releaseSequence()).containsExactlyInAnyOrderElementsOf(repository.orders.subList(0, 4)
+            .stream().map(order -> order.getId().value()).toList());
+        assertThat(repository.orders.subList(4, 10)).extracting(ProductionOrder::getScheduledStartDate)
+            .containsExactly(SHIFT_START.plusMinutes(40), SHIFT_START.plusMinutes(50), SHIFT_START.plusMinutes(60),
+                SHIFT_START.plusMinutes(70), SHIFT_START.plusMinutes(80), SHIFT_START.plusMinutes(90));
+    }
+
+    @Test
+    @DisplayName("an empty window sequences nothing")
+    void empty_window() {
+        InMemoryOrders repository = new InMemoryOrders();
+
+        SequencePaintShopResult result = useCase(repository, 4).execute(new SequencePaintShopCommand(null));
+
+        assertThat(result.ordersSequenced()).isZero();
+        assertThat(result.releaseSequence()).isEmpty();
+        assertThat(repository.saved).isEmpty();
+        assertThat(publisher.published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a window below one order is rejected")
+    void rejects_empty_window_size() {
+        assertThatThrownBy(() -> useCase(new InMemoryOrders(), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
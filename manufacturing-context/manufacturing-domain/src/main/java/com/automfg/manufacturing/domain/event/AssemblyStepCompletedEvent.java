@@ -0,0 +1,84 @@
+package com.automfg.manufacturing.domain.event;
+
+import com.automfg.shared.domain.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Raised for every completed assembly step; carries the station and timing
+ * figures needed for takt / cycle-time tracking, and the VIN / material batch
+ * pair recorded for genealogy (BR-08). The step's own completion time is carried, rather than
+ * the event's, so that everything derived from the event agrees with assembly_steps.
+ */
+public class AssemblyStepCompletedEvent extends DomainEvent {
+
+    private final UUID productionOrderId;
+    private final UUID assemblyStepId;
+    private final String vin;
+    private final String materialBatchId;
+    private final String workStationCode;
+    private final int workStationSequence;
+    private final int standardMinutes;
+    private final int actualMinutes;
+    private final boolean overtime;
+    private final LocalDateTime completedAt;
+
+    public AssemblyStepCompletedEvent(UUID productionOrderId, UUID assemblyStepId,
+                                      String vin, String materialBatchId,
+                                      String workStationCode, int workStationSequence,
+                                      int standardMinutes, int actualMinutes, boolean overtime,
+                                      LocalDateTime completedAt) {
+        super();
+        this.productionOrderId = productionOrderId;
+        this.assemblyStepId = assemblyStepId;
+        this.vin = vin;
+        this.materialBatchId = materialBatchId;
+        this.workStationCode = workStationCode;
+        this.workStationSequence = workStationSequence;
+        this.standardMinutes = standardMinutes;
+        this.actualMinutes = actualMinutes;
+        this.overtime = overtime;
+        this.completedAt = completedAt;
+    }
+
+    public UUID getProductionOrderId() {
+        return productionOrderId;
+    }
+
+    public UUID getAssemblyStepId() {
+        return assemblyStepId;
+    }
+
+    public String getVin() {
+        return vin;
+    }
+
+    public String getMaterialBatchId() {
+        return materialBatchId;
+    }
+
+    public String getWorkStationCode() {
+        return workStationCode;
+    }
+
+    public int getWorkStationSequence() {
+        return workStationSequence;
+    }
+
+    public int getStandardMinutes() {
+        return standardMinutes;
+    }
+
+    public int getActualMinutes() {
+        return actualMinutes;
+    }
+
+    public boolean isOvertime() {
+        return overtime;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
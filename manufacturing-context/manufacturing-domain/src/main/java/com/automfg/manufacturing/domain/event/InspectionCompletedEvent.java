@@ -9,12 +9,17 @@ public class InspectionCompletedEvent extends DomainEvent {
     private final UUID inspectionId;
     private final UUID productionOrderId;
     private final String result;
+    private final String inspectorId;
+    private final boolean reinspection;
 
-    public InspectionCompletedEvent(UUID inspectionId, UUID productionOrderId, String result) {
+    public InspectionCompletedEvent(UUID inspectionId, UUID productionOrderId, String result,
+                                    String inspectorId, boolean reinspection) {
         super();
         this.inspectionId = inspectionId;
         this.productionOrderId = productionOrderId;
         this.result = result;
+        this.inspectorId = inspectorId;
+        this.reinspection = reinspection;
     }
 
     public UUID getInspectionId() {
@@ -28,4 +33,15 @@ public class InspectionCompletedEvent extends DomainEvent {
     public String getResult() {
         return result;
     }
+
+    public String getInspectorId() {
+        return inspectorId;
+    }
+
+    /**
+     * True when this inspection re-checks a vehicle after rework, i.e. it is not the first pass.
+     */
+    public boolean isReinspection() {
+        return reinspection;
+    }
 }
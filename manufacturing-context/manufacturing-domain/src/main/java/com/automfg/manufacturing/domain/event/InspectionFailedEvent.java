@@ -10,14 +10,16 @@ public class InspectionFailedEvent extends DomainEvent {
     private final UUID inspectionId;
     private final UUID productionOrderId;
     private final String vin;
+    private final String inspectorId;
     private final List<String> failedItemDescriptions;
 
-    public InspectionFailedEvent(UUID inspectionId, UUID productionOrderId,
-                                  String vin, List<String> failedItemDescriptions) {
+    public InspectionFailedEvent(UUID inspectionId, UUID productionOrderId, String vin,
+                                  String inspectorId, List<String> failedItemDescriptions) {
         super();
         this.inspectionId = inspectionId;
         this.productionOrderId = productionOrderId;
         this.vin = vin;
+        this.inspectorId = inspectorId;
         this.failedItemDescriptions = List.copyOf(failedItemDescriptions);
     }
 
@@ -33,6 +35,10 @@ public class InspectionFailedEvent extends DomainEvent {
         return vin;
     }
 
+    public String getInspectorId() {
+        return inspectorId;
+    }
+
     public List<String> getFailedItemDescriptions() {
         return failedItemDescriptions;
     }
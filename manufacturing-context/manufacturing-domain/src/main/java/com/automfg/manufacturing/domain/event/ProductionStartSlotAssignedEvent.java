@@ -0,0 +1,26 @@
+package com.automfg.manufacturing.domain.event;
+
+import com.automfg.shared.domain.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class ProductionStartSlotAssignedEvent extends DomainEvent {
+
+    private final UUID productionOrderId;
+    private final LocalDateTime scheduledStartDate;
+
+    public ProductionStartSlotAssignedEvent(UUID productionOrderId, LocalDateTime scheduledStartDate) {
+        super();
+        this.productionOrderId = productionOrderId;
+        this.scheduledStartDate = scheduledStartDate;
+    }
+
+    public UUID getProductionOrderId() {
+        return productionOrderId;
+    }
+
+    public LocalDateTime getScheduledStartDate() {
+        return scheduledStartDate;
+    }
+}
@@ -0,0 +1,19 @@
+package com.automfg.manufacturing.domain.event;
+
+import com.automfg.shared.domain.DomainEvent;
+
+import java.util.UUID;
+
+public class ProductionStartSlotClearedEvent extends DomainEvent {
+
+    private final UUID productionOrderId;
+
+    public ProductionStartSlotClearedEvent(UUID productionOrderId) {
+        super();
+        this.productionOrderId = productionOrderId;
+    }
+
+    public UUID getProductionOrderId() {
+        return productionOrderId;
+    }
+}
@@ -8,11 +8,13 @@ public class ReworkCompletedEvent extends DomainEvent {
 
     private final UUID reworkOrderId;
     private final UUID productionOrderId;
+    private final UUID inspectionId;
 
-    public ReworkCompletedEvent(UUID reworkOrderId, UUID productionOrderId) {
+    public ReworkCompletedEvent(UUID reworkOrderId, UUID productionOrderId, UUID inspectionId) {
         super();
         this.reworkOrderId = reworkOrderId;
         this.productionOrderId = productionOrderId;
+        this.inspectionId = inspectionId;
     }
 
     public UUID getReworkOrderId() {
@@ -22,4 +24,8 @@ public class ReworkCompletedEvent extends DomainEvent {
     public UUID getProductionOrderId() {
         return productionOrderId;
     }
+
+    public UUID getInspectionId() {
+        return inspectionId;
+    }
 }
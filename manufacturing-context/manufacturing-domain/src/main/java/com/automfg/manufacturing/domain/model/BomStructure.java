@@ -0,0 +1,365 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compiled multi-level bill of materials: parts, the model and option package roots, and the
+ * quantity of each component per parent. A battery pack can list modules, which list cells, and
+ * a subassembly can be shared by many parents.
+ * <p>
+ * The structure is immutable once compiled and is meant to be shared by all threads. Exploding a
+ * node yields its leaf parts with quantities rolled up through every level; each node's explosion
+ * is computed at most once per structure and memoized, so exploding a model after the first
+ * order only merges the cached explosions of its direct components. Large unexploded branches
+ * are exploded in parallel on the fork/join pool.
+ */
+public final class BomStructure {
+
+    /** Subtrees at least this large (in expanded nodes) are exploded as separate fork/join tasks. */
+    static final long PARALLEL_THRESHOLD = 512;
+
+    public enum ParentType { MODEL, OPTION, PART }
+
+    public record Part(String partNumber, String description, String unitOfMeasure) {
+        public Part {
+            Objects.requireNonNull(partNumber, "Part number required");
+            Objects.requireNonNull(description, "Part description required");
+            Objects.requireNonNull(unitOfMeasure, "Unit of measure required");
+        }
+    }
+
+    /**
+     * One parent-to-component edge: {@code quantity} of the component per one parent.
+     */
+    public record Link(ParentType parentType, String parentCode, String componentPartNumber, int quantity) {
+        public Link {
+            Objects.requireNonNull(parentType, "Parent type required");
+            Objects.requireNonNull(parentCode, "Parent code required");
+            Objects.requireNonNull(componentPartNumber, "Component part number required");
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive: " + parentCode
+                    + " -> " + componentPartNumber);
+            }
+        }
+    }
+
+    /**
+     * Leaf parts and their rolled-up quantities, as parallel arrays ordered by part. Immutable.
+     */
+    public static final class Requirements {
+
+        private static final Requirements EMPTY = new Requirements(new Part[0], new int[0], new long[0]);
+
+        private final Part[] catalog;
+        private final int[] parts;
+        private final long[] quantities;
+
+        private Requirements(Part[] catalog, int[] parts, long[] quantities) {
+            this.catalog = catalog;
+            this.parts = parts;
+            this.quantities = quantities;
+        }
+
+        public int size() {
+            return parts.length;
+        }
+
+        public Part part(int i) {
+            return catalog[parts[i]];
+        }
+
+        public long quantity(int i) {
+            return quantities[i];
+        }
+
+        /**
+         * Sum of several requirement sets from the same structure.
+         */
+        public static Requirements sum(List<Requirements> requirements) {
+            Requirements total = EMPTY;
+            for (Requirements r : requirements) {
+                total = total.plus(r, 1);
+            }
+            return total;
+        }
+
+        /**
+         * {@code this + factor * other}, merging the two sorted part arrays.
+         */
+        Requirements plus(Requirements other, long factor) {
+            if (other.parts.length == 0) {
+                return this;
+            }
+            Part[] cat = other.catalog;
+            int[] mergedParts = new int[parts.length + other.parts.length];
+            long[] mergedQuantities = new long[mergedParts.length];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < parts.length || j < other.parts.length) {
+                if (j == other.parts.length || (i < parts.length && parts[i] < other.parts[j])) {
+                    mergedParts[n] = parts[i];
+                    mergedQuantities[n++] = quantities[i++];
+                } else if (i == parts.length || other.parts[j] < parts[i]) {
+                    mergedParts[n] = other.parts[j];
+                    mergedQuantities[n++] = Math.multiplyExact(other.quantities[j++], factor);
+                } else {
+                    mergedParts[n] = parts[i];
+                    mergedQuantities[n++] = Math.addExact(quantities[i++],
+                        Math.multiplyExact(other.quantities[j++], factor));
+                }
+            }
+            if (n < mergedParts.length) {
+                mergedParts = Arrays.copyOf(mergedParts, n);
+                mergedQuantities = Arrays.copyOf(mergedQuantities, n);
+            }
+            return new Requirements(cat, mergedParts, mergedQuantities);
+        }
+    }
+
+    // Nodes 0..parts.length-1 are parts; model and option roots follow
+    private final Part[] parts;
+    private final int[][] children;
+    private final int[][] childQuantities;
+    private final long[] expandedSize;
+    private final Map<String, Integer> modelRoots;
+    private final Map<String, Integer> optionRoots;
+    private final AtomicReferenceArray<Requirements> exploded;
+
+    private BomStructure(Part[] parts, int[][] children, int[][] childQuantities, long[] expandedSize,
+                         Map<String, Integer> modelRoots, Map<String, Integer> optionRoots) {
+        this.parts = parts;
+        this.children = children;
+        this.childQuantities = childQuantities;
+        this.expandedSize = expandedSize;
+        this.modelRoots = modelRoots;
+        this.optionRoots = optionRoots;
+        this.exploded = new AtomicReferenceArray<>(children.length);
+    }
+
+    /**
+     * Compiles parts and links into a structure, rejecting links to unknown parts and cycles.
+     */
+    public static BomStructure compile(Collection<Part> parts, Collection<Link> links) {
+        Objects.requireNonNull(parts, "Parts must not be null");
+        Objects.requireNonNull(links, "Links must not be null");
+
+        Part[] partArray = parts.toArray(new Part[0]);
+        Map<String, Integer> partIndex = HashMap.newHashMap(partArray.length);
+        for (int i = 0; i < partArray.length; i++) {
+            if (partIndex.putIfAbsent(partArray[i].partNumber(), i) != null) {
+                throw new IllegalArgumentException("Duplicate part: " + partArray[i].partNumber());
+            }
+        }
+
+        Map<String, Integer> modelRoots = new HashMap<>();
+        Map<String, Integer> optionRoots = new HashMap<>();
+        List<List<int[]>> edges = new ArrayList<>(partArray.length);
+        for (int i = 0; i < partArray.length; i++) {
+            edges.add(new ArrayList<>());
+        }
+        for (Link link : links) {
+            Integer component = partIndex.get(link.componentPartNumber());
+            if (component == null) {
+                throw new IllegalArgumentException("Unknown component part: " + link.componentPartNumber());
+            }
+            int parent = switch (link.parentType()) {
+                case PART -> {
+                    Integer index = partIndex.get(link.parentCode());
+                    if (index == null) {
+                        throw new IllegalArgumentException("Unknown parent part: " + link.parentCode());
+                    }
+                    yield index;
+                }
+                case MODEL -> modelRoots.computeIfAbsent(link.parentCode(), code -> addNode(edges));
+                case OPTION -> optionRoots.computeIfAbsent(link.parentCode(), code -> addNode(edges));
+            };
+            edges.get(parent).add(new int[] {component, link.quantity()});
+        }
+
+        int nodes = edges.size();
+        int[][] children = new int[nodes][];
+        int[][] childQuantities = new int[nodes][];
+        for (int node = 0; node < nodes; node++) {
+            List<int[]> nodeEdges = edges.get(node);
+            nodeEdges.sort((a, b) -> Integer.compare(a[0], b[0]));
+            children[node] = new int[nodeEdges.size()];
+            childQuantities[node] = new int[nodeEdges.size()];
+            for (int k = 0; k < nodeEdges.size(); k++) {
+                if (k > 0 && nodeEdges.get(k)[0] == nodeEdges.get(k - 1)[0]) {
+                    throw new IllegalArgumentException("Component listed twice under one parent: "
+                        + partArray[nodeEdges.get(k)[0]].partNumber());
+                }
+                children[node][k] = nodeEdges.get(k)[0];
+                childQuantities[node][k] = nodeEdges.get(k)[1];
+            }
+        }
+
+        long[] expandedSize = expandedSizes(children, partArray);
+        return new BomStructure(partArray, children, childQuantities, expandedSize,
+            Map.copyOf(modelRoots), Map.copyOf(optionRoots));
+    }
+
+    private static int addNode(List<List<int[]>> edges) {
+        edges.add(new ArrayList<>());
+        return edges.size() - 1;
+    }
+
+    /**
+     * Number of nodes in each node's fully expanded tree, in post-order; fails on a cycle.
+     */
+    private static long[] expandedSizes(int[][] children, Part[] parts) {
+        int nodes = children.length;
+        long[] size = new long[nodes];
+        byte[] state = new byte[nodes]; // 0 = unvisited, 1 = on stack, 2 = done
+        Deque<int[]> stack = new ArrayDeque<>();
+        for (int start = 0; start < nodes; start++) {
+            if (state[start] != 0) {
+                continue;
+            }
+            stack.push(new int[] {start, 0});
+            state[start] = 1;
+            while (!stack.isEmpty()) {
+                int[] frame = stack.peek();
+                int node = frame[0];
+                if (frame[1] < children[node].length) {
+                    int child = children[node][frame[1]++];
+                    if (state[child] == 1) {
+                        throw new IllegalArgumentException("BOM structure has a cycle through part "
+                            + parts[child].partNumber());
+                    }
+                    if (state[child] == 0) {
+                        state[child] = 1;
+                        stack.push(new int[] {child, 0});
+                    }
+                } else {
+                    // A shared subtree counts once per parent, not once per unit of quantity
+                    long total = 1;
+                    for (int child : children[node]) {
+                        total = saturatedAdd(total, size[child]);
+                    }
+                    size[node] = total;
+                    state[node] = 2;
+                    stack.pop();
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long r = a + b;
+        return r < 0 ? Long.MAX_VALUE : r;
+    }
+
+    public boolean hasModel(String modelCode) {
+        return modelRoots.containsKey(modelCode);
+    }
+
+    public Optional<Requirements> explodeModel(String modelCode) {
+        Integer root = modelRoots.get(modelCode);
+        return root == null ? Optional.empty() : Optional.of(explode(root));
+    }
+
+    public Optional<Requirements> explodeOption(String optionPackageCode) {
+        Integer root = optionRoots.get(optionPackageCode);
+        return root == null ? Optional.empty() : Optional.of(explode(root));
+    }
+
+
+    public int partCount() {
+        return parts.length;
+    }
+
+    private Requirements explode(int node) {
+        Requirements cached = exploded.get(node);
+        if (cached != null) {
+            return cached;
+        }
+        if (expandedSize[node] >= PARALLEL_THRESHOLD && !ForkJoinTask.inForkJoinPool()) {
+            return ForkJoinPool.commonPool().invoke(new ExplodeTask(node));
+        }
+        return new ExplodeTask(node).compute();
+    }
+
+    private Requirements memoize(int node, Requirements requirements) {
+        // Racing threads compute equal results; keep whichever was stored first
+        return exploded.compareAndSet(node, null, requirements) ? requirements : exploded.get(node);
+    }
+
+    private final class ExplodeTask extends RecursiveTask<Requirements> {
+
+        private final int node;
+
+        ExplodeTask(int node) {
+            this.node = node;
+        }
+
+        @Override
+        protected Requirements compute() {
+            Requirements cached = exploded.get(node);
+            if (cached != null) {
+                return cached;
+            }
+            int[] components = children[node];
+            if (components.length == 0) {
+                return memoize(node, new Requirements(parts, new int[] {node}, new long[] {1}));
+            }
+
+            // Fork the large unexploded branches, explode the rest in this thread
+            Requirements[] componentRequirements = new Requirements[components.length];
+            List<ExplodeTask> forked = new ArrayList<>();
+            for (int k = 0; k < components.length; k++) {
+                int child = components[k];
+                componentRequirements[k] = exploded.get(child);
+                if (componentRequirements[k] == null && expandedSize[child] >= PARALLEL_THRESHOLD
+                        && ForkJoinTask.inForkJoinPool()) {
+                    ExplodeTask task = new ExplodeTask(child);
+                    task.fork();
+                    forked.add(task);
+                }
+            }
+            for (int k = 0; k < components.length; k++) {
+                if (componentRequirements[k] == null && !isForked(forked, components[k])) {
+                    componentRequirements[k] = new ExplodeTask(components[k]).compute();
+                }
+            }
+            for (ExplodeTask task : forked) {
+                Requirements result = task.join();
+                for (int k = 0; k < components.length; k++) {
+                    if (components[k] == task.node) {
+                        componentRequirements[k] = result;
+                    }
+                }
+            }
+
+            Requirements total = Requirements.EMPTY;
+            for (int k = 0; k < components.length; k++) {
+                total = total.plus(componentRequirements[k], childQuantities[node][k]);
+            }
+            return memoize(node, total);
+        }
+
+        private static boolean isForked(List<ExplodeTask> forked, int child) {
+            for (ExplodeTask task : forked) {
+                if (task.node == child) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
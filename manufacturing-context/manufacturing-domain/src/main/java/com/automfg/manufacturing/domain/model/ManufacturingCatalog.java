@@ -0,0 +1,207 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * One published version of the manufacturing catalog: BOM components and assembly routing
+ * steps per model and option package, each row effective over a date range.
+ * <p>
+ * Every date on which some row starts or stops being effective opens a new period, and each
+ * period is compiled up front into its own {@link BomStructure} and routing table. Lookups are a
+ * binary search over the period start dates followed by array and map reads, with no locking;
+ * a catalog is never modified, a newer version replaces it as a whole.
+ */
+public final class ManufacturingCatalog {
+
+    /** Routing used for models that have no routing of their own. */
+    public static final String DEFAULT_ROUTING = "*";
+
+    /**
+     * A catalog row with its effectivity: from {@code effectiveFrom} inclusive to
+     * {@code effectiveTo} exclusive, open-ended when {@code effectiveTo} is null.
+     */
+    public record Effective<T>(T value, LocalDate effectiveFrom, LocalDate effectiveTo) {
+        public Effective {
+            Objects.requireNonNull(value, "Value required");
+            Objects.requireNonNull(effectiveFrom, "Effective-from date required");
+            if (effectiveTo != null && !effectiveTo.isAfter(effectiveFrom)) {
+                throw new IllegalArgumentException("Effective-to must be after effective-from: " + value);
+            }
+        }
+
+        public static <T> Effective<T> always(T value) {
+            return new Effective<>(value, LocalDate.MIN, null);
+        }
+
+        boolean covers(LocalDate date) {
+            return !date.isBefore(effectiveFrom) && (effectiveTo == null || date.isBefore(effectiveTo));
+        }
+    }
+
+    /**
+     * One assembly step of a model's routing, or a step an option package adds to any routing.
+     */
+    public record RoutingStep(BomStructure.ParentType parentType, String parentCode, AssemblyStepTemplate template) {
+        public RoutingStep {
+            Objects.requireNonNull(parentType, "Parent type required");
+            Objects.requireNonNull(parentCode, "Parent code required");
+            Objects.requireNonNull(template, "Step template required");
+            if (parentType == BomStructure.ParentType.PART) {
+                throw new IllegalArgumentException("Routing steps belong to a model or option package");
+            }
+        }
+    }
+
+    private record Routings(Map<String, List<AssemblyStepTemplate>> models,
+                            Map<String, List<AssemblyStepTemplate>> options) {}
+
+    private final long version;
+    // periodStarts[0] is LocalDate.MIN; period i runs until periodStarts[i + 1]
+    private final LocalDate[] periodStarts;
+    private final BomStructure[] boms;
+    private final Routings[] routings;
+
+    private ManufacturingCatalog(long version, LocalDate[] periodStarts, BomStructure[] boms, Routings[] routings) {
+        this.version = version;
+        this.periodStarts = periodStarts;
+        this.boms = boms;
+        this.routings = routings;
+    }
+
+    /**
+     * Compiles every effectivity period of the given rows. Fails if any period's BOM is invalid.
+     */
+    public static ManufacturingCatalog compile(long version,
+                                               Collection<BomStructure.Part> parts,
+                                               Collection<Effective<BomStructure.Link>> links,
+                                               Collection<Effective<RoutingStep>> steps) {
+        Objects.requireNonNull(parts, "Parts must not be null");
+        Objects.requireNonNull(links, "Links must not be null");
+        Objects.requireNonNull(steps, "Steps must not be null");
+
+        TreeSet<LocalDate> boundaries = new TreeSet<>();
+        boundaries.add(LocalDate.MIN);
+        for (Effective<?> row : links) {
+            addBoundaries(boundaries, row);
+        }
+        for (Effective<?> row : steps) {
+            addBoundaries(boundaries, row);
+        }
+
+        List<LocalDate> starts = new ArrayList<>();
+        List<BomStructure> boms = new ArrayList<>();
+        List<Routings> routings = new ArrayList<>();
+        List<BomStructure.Link> previousLinks = null;
+        List<RoutingStep> previousSteps = null;
+        for (LocalDate start : boundaries) {
+            List<BomStructure.Link> activeLinks = active(links, start);
+            List<RoutingStep> activeSteps = active(steps, start);
+            if (activeLinks.equals(previousLinks) && activeSteps.equals(previousSteps)) {
+                continue; // nothing changes on this date, extend the previous period
+            }
+            starts.add(start);
+            boms.add(activeLinks.equals(previousLinks)
+                ? boms.get(boms.size() - 1)
+                : BomStructure.compile(parts, activeLinks));
+            routings.add(compileRoutings(activeSteps));
+            previousLinks = activeLinks;
+            previousSteps = activeSteps;
+        }
+
+        return new ManufacturingCatalog(version, starts.toArray(new LocalDate[0]),
+            boms.toArray(new BomStructure[0]), routings.toArray(new Routings[0]));
+    }
+
+    private static void addBoundaries(TreeSet<LocalDate> boundaries, Effective<?> row) {
+        boundaries.add(row.effectiveFrom());
+        if (row.effectiveTo() != null) {
+            boundaries.add(row.effectiveTo());
+        }
+    }
+
+    private static <T> List<T> active(Collection<Effective<T>> rows, LocalDate date) {
+        List<T> result = new ArrayList<>();
+        for (Effective<T> row : rows) {
+            if (row.covers(date)) {
+                result.add(row.value());
+            }
+        }
+        return result;
+    }
+
+    private static Routings compileRoutings(List<RoutingStep> steps) {
+        Map<String, List<AssemblyStepTemplate>> models = new HashMap<>();
+        Map<String, List<AssemblyStepTemplate>> options = new HashMap<>();
+        for (RoutingStep step : steps) {
+            Map<String, List<AssemblyStepTemplate>> target =
+                step.parentType() == BomStructure.ParentType.MODEL ? models : options;
+            target.computeIfAbsent(step.parentCode(), code -> new ArrayList<>()).add(step.template());
+        }
+        return new Routings(sortedCopy(models), sortedCopy(options));
+    }
+
+    private static Map<String, List<AssemblyStepTemplate>> sortedCopy(Map<String, List<AssemblyStepTemplate>> byCode) {
+        Map<String, List<AssemblyStepTemplate>> result = HashMap.newHashMap(byCode.size());
+        byCode.forEach((code, templates) -> result.put(code, templates.stream()
+            .sorted(Comparator.comparingInt(AssemblyStepTemplate::workStationSequence))
+            .toList()));
+        return Map.copyOf(result);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * The BOM structure effective on the given date.
+     */
+    public BomStructure bomOn(LocalDate date) {
+        return boms[period(date)];
+    }
+
+    /**
+     * Assembly steps for a model and its option packages on the given date, in workstation
+     * order: the model's own routing, or the default routing, plus the steps each option adds.
+     *
+     * @throws IllegalStateException if neither the model nor the default has a routing
+     */
+    public List<AssemblyStepTemplate> routingOn(LocalDate date, String vehicleModelCode,
+                                                List<String> optionPackageCodes) {
+        Routings routing = routings[period(date)];
+        List<AssemblyStepTemplate> modelSteps = routing.models().get(vehicleModelCode);
+        if (modelSteps == null) {
+            modelSteps = routing.models().get(DEFAULT_ROUTING);
+        }
+        if (modelSteps == null) {
+            throw new IllegalStateException("No assembly routing for model " + vehicleModelCode + " on " + date);
+        }
+
+        List<AssemblyStepTemplate> optionSteps = new ArrayList<>();
+        for (String optionCode : optionPackageCodes) {
+            optionSteps.addAll(routing.options().getOrDefault(optionCode, List.of()));
+        }
+        if (optionSteps.isEmpty()) {
+            return modelSteps;
+        }
+        List<AssemblyStepTemplate> steps = new ArrayList<>(modelSteps);
+        steps.addAll(optionSteps);
+        steps.sort(Comparator.comparingInt(AssemblyStepTemplate::workStationSequence));
+        return List.copyOf(steps);
+    }
+
+    private int period(LocalDate date) {
+        Objects.requireNonNull(date, "Date must not be null");
+        int index = Arrays.binarySearch(periodStarts, date);
+        // Not a start date: binarySearch returns -(insertion point) - 1, the period is the one before
+        return index >= 0 ? index : -index - 2;
+    }
+}
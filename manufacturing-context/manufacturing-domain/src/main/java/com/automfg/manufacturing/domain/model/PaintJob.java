@@ -0,0 +1,25 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A production order waiting for a WS-PAINT release slot.
+ *
+ * @param releaseIndex  slot the order holds in the unsequenced (FIFO) release order
+ * @param deadlineIndex last slot the order may be moved to (max delay / due date)
+ */
+public record PaintJob(ProductionOrderId productionOrderId, String colorCode,
+                       int releaseIndex, int deadlineIndex) {
+
+    public PaintJob {
+        Objects.requireNonNull(productionOrderId, "ProductionOrderId must not be null");
+        Objects.requireNonNull(colorCode, "Color code must not be null");
+        if (releaseIndex < 0) {
+            throw new IllegalArgumentException("Release index must not be negative: " + releaseIndex);
+        }
+        if (deadlineIndex < releaseIndex) {
+            throw new IllegalArgumentException(
+                "Deadline index " + deadlineIndex + " precedes release index " + releaseIndex);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.util.List;
+
+/**
+ * Color-batched WS-PAINT release order with the changeovers it avoids versus FIFO release.
+ */
+public record PaintSequence(List<ProductionOrderId> sequence,
+                            int changeoversBefore,
+                            int changeoversAfter) {
+
+    public PaintSequence {
+        sequence = List.copyOf(sequence);
+    }
+
+    public int changeoversSaved() {
+        return changeoversBefore - changeoversAfter;
+    }
+}
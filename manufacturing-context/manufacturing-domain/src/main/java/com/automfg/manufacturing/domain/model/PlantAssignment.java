@@ -0,0 +1,23 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Which plant builds which vehicle model. Models not listed are built at the default plant.
+ */
+public record PlantAssignment(PlantId defaultPlant, Map<String, PlantId> modelPlants) {
+
+    public PlantAssignment {
+        Objects.requireNonNull(defaultPlant, "Default plant must not be null");
+        modelPlants = modelPlants == null ? Map.of() : Map.copyOf(modelPlants);
+    }
+
+    public static PlantAssignment singlePlant(PlantId plant) {
+        return new PlantAssignment(plant, Map.of());
+    }
+
+    public PlantId plantFor(String vehicleModelCode) {
+        return vehicleModelCode == null ? defaultPlant : modelPlants.getOrDefault(vehicleModelCode, defaultPlant);
+    }
+}
@@ -0,0 +1,17 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.util.Objects;
+
+/**
+ * The assembly plant that builds a production order; each plant schedules and runs its own
+ * line and keeps its own manufacturing records.
+ */
+public record PlantId(String code) {
+    public PlantId {
+        Objects.requireNonNull(code, "Plant code must not be null");
+        if (!code.matches("[A-Z0-9][A-Z0-9-]{0,19}")) {
+            throw new IllegalArgumentException(
+                "Invalid plant code: up to 20 uppercase letters, digits or dashes. Got: " + code);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.automfg.manufacturing.domain.model;
 
 import com.automfg.manufacturing.domain.event.AssemblyCompletedEvent;
 import com.automfg.manufacturing.domain.event.AssemblyOvertimeAlertEvent;
+import com.automfg.manufacturing.domain.event.AssemblyStepCompletedEvent;
 import com.automfg.manufacturing.domain.event.MaterialShortageEvent;
 import com.automfg.manufacturing.domain.event.ProductionOrderScheduledEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotAssignedEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotClearedEvent;
 import com.automfg.manufacturing.domain.event.ProductionStartedEvent;
 import com.automfg.shared.domain.AggregateRoot;
 
@@ -18,16 +21,21 @@ public class ProductionOrder extends AggregateRoot {
     private final ProductionOrderNumber orderNumber;
     private final UUID sourceOrderId;
     private final VIN vin;
+    private final PlantId plantId;
+    private final String vehicleModelCode;
+    private final String colorCode;
     private ProductionOrderStatus status;
     private BomSnapshot bomSnapshot;
     private AssemblyProcess assemblyProcess;
     private Integer currentStationSequence;
     private LocalDateTime scheduledStartDate;
     private final LocalDateTime createdAt;
+    private Long version;
 
     // Private constructor used by factory and reconstitute
     private ProductionOrder(ProductionOrderId id, ProductionOrderNumber orderNumber,
-                            UUID sourceOrderId, VIN vin, ProductionOrderStatus status,
+                            UUID sourceOrderId, VIN vin, PlantId plantId,
+                            String vehicleModelCode, String colorCode, ProductionOrderStatus status,
                             BomSnapshot bomSnapshot, AssemblyProcess assemblyProcess,
                             Integer currentStationSequence, LocalDateTime scheduledStartDate,
                             LocalDateTime createdAt) {
@@ -35,6 +43,9 @@ public class ProductionOrder extends AggregateRoot {
         this.orderNumber = Objects.requireNonNull(orderNumber, "ProductionOrderNumber must not be null");
         this.sourceOrderId = Objects.requireNonNull(sourceOrderId, "Source order ID must not be null");
         this.vin = Objects.requireNonNull(vin, "VIN must not be null");
+        this.plantId = Objects.requireNonNull(plantId, "PlantId must not be null");
+        this.vehicleModelCode = vehicleModelCode;
+        this.colorCode = colorCode;
         this.status = Objects.requireNonNull(status, "Status must not be null");
         this.bomSnapshot = bomSnapshot;
         this.assemblyProcess = assemblyProcess;
@@ -49,8 +60,12 @@ public class ProductionOrder extends AggregateRoot {
      * Otherwise -> status = MATERIAL_PENDING, registers MaterialShortageEvent.
      */
     public static ProductionOrder create(ProductionOrderId id, ProductionOrderNumber orderNumber,
-                                         UUID sourceOrderId, VIN vin, BomSnapshot bomSnapshot,
+                                         UUID sourceOrderId, VIN vin, PlantId plantId,
+                                         String vehicleModelCode, String colorCode,
+                                         BomSnapshot bomSnapshot,
                                          List<AssemblyStepTemplate> assemblyStepTemplates) {
+        Objects.requireNonNull(vehicleModelCode, "Vehicle model code must not be null");
+        Objects.requireNonNull(colorCode, "Color code must not be null");
         Objects.requireNonNull(bomSnapshot, "BomSnapshot must not be null");
         Objects.requireNonNull(assemblyStepTemplates, "Assembly step templates must not be null");
         if (assemblyStepTemplates.isEmpty()) {
@@ -68,7 +83,7 @@ public class ProductionOrder extends AggregateRoot {
         }
 
         ProductionOrder order = new ProductionOrder(
-            id, orderNumber, sourceOrderId, vin, initialStatus,
+            id, orderNumber, sourceOrderId, vin, plantId, vehicleModelCode, colorCode, initialStatus,
             bomSnapshot, assemblyProcess, null, null, LocalDateTime.now());
 
         if (initialStatus == ProductionOrderStatus.SCHEDULED) {
@@ -87,14 +102,21 @@ public class ProductionOrder extends AggregateRoot {
 
     /**
      * Reconstitutes a ProductionOrder from persistence — no events registered.
+     * Model and color codes may be null for orders created before they were recorded.
+     *
+     * @param version the persisted version, used for optimistic concurrency checks
      */
     public static ProductionOrder reconstitute(ProductionOrderId id, ProductionOrderNumber orderNumber,
-                                               UUID sourceOrderId, VIN vin, ProductionOrderStatus status,
+                                               UUID sourceOrderId, VIN vin, PlantId plantId,
+                                               String vehicleModelCode, String colorCode,
+                                               ProductionOrderStatus status,
                                                BomSnapshot bomSnapshot, AssemblyProcess assemblyProcess,
                                                Integer currentStationSequence, LocalDateTime scheduledStartDate,
-                                               LocalDateTime createdAt) {
-        return new ProductionOrder(id, orderNumber, sourceOrderId, vin, status,
-            bomSnapshot, assemblyProcess, currentStationSequence, scheduledStartDate, createdAt);
+                                               LocalDateTime createdAt, Long version) {
+        ProductionOrder order = new ProductionOrder(id, orderNumber, sourceOrderId, vin, plantId, vehicleModelCode,
+            colorCode, status, bomSnapshot, assemblyProcess, currentStationSequence, scheduledStartDate, createdAt);
+        order.version = version;
+        return order;
     }
 
     /**
@@ -117,9 +139,39 @@ public class ProductionOrder extends AggregateRoot {
             id.value(), vin.value(), operatorId));
     }
 
+    /**
+     * Assigns the planned production start slot. Only SCHEDULED orders can be (re)planned.
+     */
+    public void assignScheduledStart(LocalDateTime startDate) {
+        Objects.requireNonNull(startDate, "Scheduled start date must not be null");
+        if (this.status != ProductionOrderStatus.SCHEDULED) {
+            throw new IllegalStateException(
+                "Cannot assign start slot: order status is " + this.status + ", expected SCHEDULED");
+        }
+        if (!startDate.equals(this.scheduledStartDate)) {
+            this.scheduledStartDate = startDate;
+            registerEvent(new ProductionStartSlotAssignedEvent(id.value(), startDate));
+        }
+    }
+
+    /**
+     * Withdraws the planned start slot of an order the current plan no longer fits.
+     */
+    public void clearScheduledStart() {
+        if (this.status != ProductionOrderStatus.SCHEDULED) {
+            throw new IllegalStateException(
+                "Cannot clear start slot: order status is " + this.status + ", expected SCHEDULED");
+        }
+        if (this.scheduledStartDate != null) {
+            this.scheduledStartDate = null;
+            registerEvent(new ProductionStartSlotClearedEvent(id.value()));
+        }
+    }
+
     /**
      * Completes an assembly step within the production order.
      * BR-09: Registers AssemblyOvertimeAlertEvent if actual > standard * 1.5.
+     * Registers AssemblyStepCompletedEvent for every completed step (station timing).
      * Advances station sequence and completes assembly when appropriate.
      */
     public AssemblyStepResult completeAssemblyStep(AssemblyStepId stepId, String operatorId,
@@ -136,6 +188,12 @@ public class ProductionOrder extends AggregateRoot {
 
         AssemblyStepResult result = assemblyProcess.completeStep(stepId, operatorId, materialBatchId, actualMinutes);
 
+        WorkStationId workStation = step.getWorkStation();
+        registerEvent(new AssemblyStepCompletedEvent(
+            id.value(), stepId.value(), vin.value(), step.getMaterialBatchId().value(),
+            workStation.code(), workStation.sequence(),
+            standardMinutes, actualMinutes, result.overtimeAlert(), step.getCompletedAt()));
+
         // BR-09: Overtime alert
         if (result.overtimeAlert()) {
             registerEvent(new AssemblyOvertimeAlertEvent(
@@ -226,6 +284,18 @@ public class ProductionOrder extends AggregateRoot {
         return vin;
     }
 
+    public PlantId getPlantId() {
+        return plantId;
+    }
+
+    public String getVehicleModelCode() {
+        return vehicleModelCode;
+    }
+
+    public String getColorCode() {
+        return colorCode;
+    }
+
     public ProductionOrderStatus getStatus() {
         return status;
     }
@@ -249,4 +319,27 @@ public class ProductionOrder extends AggregateRoot {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    /**
+     * The order, its assembly process and steps, and the lines of its BOM snapshot, each of which
+     * is stored as a row of its own.
+     */
+    @Override
+    public int entityCount() {
+        int count = 1;
+        if (assemblyProcess != null) {
+            count += 1 + assemblyProcess.getSteps().size();
+        }
+        if (bomSnapshot != null) {
+            count += 1 + bomSnapshot.getLineItems().size();
+        }
+        return count;
+    }
+
+    /**
+     * Persisted version of this order; null until it has been saved.
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -10,7 +10,9 @@ import com.automfg.shared.domain.AggregateRoot;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -35,7 +37,9 @@ public class QualityInspection extends AggregateRoot {
     private LocalDateTime reviewedAt;
     private final LocalDateTime createdAt;
     private final List<InspectionItem> items;
+    private final Map<InspectionItemId, InspectionItem> itemsById;
     private final UUID correctsRecordId;
+    private Long version;
 
     private QualityInspection(QualityInspectionId id, ProductionOrderId productionOrderId,
                                VIN vin, String inspectorId, List<InspectionItem> items,
@@ -45,6 +49,10 @@ public class QualityInspection extends AggregateRoot {
         this.vin = Objects.requireNonNull(vin, "VIN must not be null");
         this.inspectorId = Objects.requireNonNull(inspectorId, "InspectorId must not be null");
         this.items = new ArrayList<>(Objects.requireNonNull(items, "Items must not be null"));
+        this.itemsById = HashMap.newHashMap(this.items.size());
+        for (InspectionItem item : this.items) {
+            this.itemsById.put(item.getId(), item);
+        }
         this.correctsRecordId = correctsRecordId;
         this.createdAt = Objects.requireNonNull(createdAt, "CreatedAt must not be null");
         this.result = null;
@@ -114,18 +122,22 @@ public class QualityInspection extends AggregateRoot {
 
     /**
      * Reconstitutes a QualityInspection from persistence — no events registered.
+     *
+     * @param version the persisted version, used for optimistic concurrency checks
      */
     public static QualityInspection reconstitute(QualityInspectionId id, ProductionOrderId productionOrderId,
                                                   VIN vin, InspectionResult result, String inspectorId,
                                                   String reviewerId, LocalDateTime inspectedAt,
                                                   LocalDateTime reviewedAt, LocalDateTime createdAt,
-                                                  List<InspectionItem> items, UUID correctsRecordId) {
+                                                  List<InspectionItem> items, UUID correctsRecordId,
+                                                  Long version) {
         QualityInspection inspection = new QualityInspection(
             id, productionOrderId, vin, inspectorId, items, correctsRecordId, createdAt);
         inspection.result = result;
         inspection.reviewerId = reviewerId;
         inspection.inspectedAt = inspectedAt;
         inspection.reviewedAt = reviewedAt;
+        inspection.version = version;
         return inspection;
     }
 
@@ -134,15 +146,20 @@ public class QualityInspection extends AggregateRoot {
      * The item must be in PENDING status.
      */
     public void recordItemResult(InspectionItemId itemId, InspectionItemStatus status, String notes) {
-        Objects.requireNonNull(itemId, "InspectionItemId must not be null");
+        getItem(itemId).recordResult(status, notes);
+    }
 
-        InspectionItem item = items.stream()
-            .filter(i -> i.getId().equals(itemId))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(
-                "Inspection item not found: " + itemId.value()));
+    /**
+     * Looks up an item of this inspection by its id.
+     */
+    public InspectionItem getItem(InspectionItemId itemId) {
+        Objects.requireNonNull(itemId, "InspectionItemId must not be null");
 
-        item.recordResult(status, notes);
+        InspectionItem item = itemsById.get(itemId);
+        if (item == null) {
+            throw new IllegalArgumentException("Inspection item not found: " + itemId.value());
+        }
+        return item;
     }
 
     /**
@@ -157,12 +174,8 @@ public class QualityInspection extends AggregateRoot {
     public void complete(String inspectorId) {
         Objects.requireNonNull(inspectorId, "InspectorId must not be null");
 
-        // Validate all items have been recorded
-        boolean hasPendingItems = items.stream().anyMatch(InspectionItem::isPending);
-        if (hasPendingItems) {
-            throw new IllegalStateException(
-                "Cannot complete inspection: not all items have been recorded");
-        }
+        // Evaluate result; rejects inspections with items still pending
+        InspectionResult evaluated = evaluateResult();
 
         // Validate inspector identity
         if (!this.inspectorId.equals(inspectorId)) {
@@ -170,12 +183,11 @@ public class QualityInspection extends AggregateRoot {
                 "Inspector ID does not match the assigned inspector");
         }
 
-        // Evaluate result
-        this.result = evaluateResult();
+        this.result = evaluated;
         this.inspectedAt = LocalDateTime.now();
 
         registerEvent(new InspectionCompletedEvent(
-            id.value(), productionOrderId.value(), result.name()));
+            id.value(), productionOrderId.value(), result.name(), inspectorId, correctsRecordId != null));
     }
 
     /**
@@ -212,38 +224,37 @@ public class QualityInspection extends AggregateRoot {
                 .map(InspectionItem::getDescription)
                 .toList();
             registerEvent(new InspectionFailedEvent(
-                id.value(), productionOrderId.value(), vin.value(), failedDescriptions));
+                id.value(), productionOrderId.value(), vin.value(), inspectorId, failedDescriptions));
         }
 
         registerEvent(new InspectionReviewedEvent(
             id.value(), productionOrderId.value(), result.name(), reviewerId));
     }
 
+    /**
+     * Tallies all items in a single pass.
+     */
     private InspectionResult evaluateResult() {
-        // BR-10: Any safety-related item FAILED -> FAILED
-        boolean safetyFailure = items.stream()
-            .anyMatch(item -> item.isSafetyRelated() && item.isFailed());
-        if (safetyFailure) {
-            return InspectionResult.FAILED;
+        boolean anyFailed = false;
+        int conditionalNonSafetyCount = 0;
+        int conditionalCount = 0;
+        for (InspectionItem item : items) {
+            switch (item.getStatus()) {
+                case PENDING -> throw new IllegalStateException(
+                    "Cannot complete inspection: not all items have been recorded");
+                case FAILED -> anyFailed = true;
+                case CONDITIONAL -> {
+                    conditionalCount++;
+                    if (!item.isSafetyRelated()) {
+                        conditionalNonSafetyCount++;
+                    }
+                }
+                case PASSED -> { }
+            }
         }
 
-        // Count non-safety conditional items
-        long conditionalNonSafetyCount = items.stream()
-            .filter(item -> !item.isSafetyRelated() && item.isConditional())
-            .count();
-
-        // Any failed non-safety items also contribute to failure evaluation
-        boolean anyNonSafetyFailed = items.stream()
-            .anyMatch(item -> !item.isSafetyRelated() && item.isFailed());
-
-        // Any safety-related conditional items count toward evaluation too
-        long conditionalSafetyCount = items.stream()
-            .filter(item -> item.isSafetyRelated() && item.isConditional())
-            .count();
-
-        long totalConditionalCount = conditionalNonSafetyCount + conditionalSafetyCount;
-
-        if (anyNonSafetyFailed) {
+        // BR-10: Any safety-related item FAILED -> FAILED; failed non-safety items fail it too
+        if (anyFailed) {
             return InspectionResult.FAILED;
         }
 
@@ -253,7 +264,7 @@ public class QualityInspection extends AggregateRoot {
         }
 
         // BR-11: Up to 3 conditional non-safety items -> CONDITIONAL_PASS
-        if (totalConditionalCount > 0) {
+        if (conditionalCount > 0) {
             return InspectionResult.CONDITIONAL_PASS;
         }
 
@@ -315,4 +326,16 @@ public class QualityInspection extends AggregateRoot {
     public UUID getCorrectsRecordId() {
         return correctsRecordId;
     }
+
+    @Override
+    public int entityCount() {
+        return 1 + items.size();
+    }
+
+    /**
+     * Persisted version of this inspection; null until it has been saved.
+     */
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,245 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Time-phased gross material requirements: the quantity of each part needed in each day bucket
+ * of the planning horizon, summed over the open production orders.
+ * <p>
+ * Quantities are kept as one {@code long[]} of day buckets per part, and each order's
+ * contribution is kept as index and quantity arrays so that an order can be added, moved to
+ * another day or withdrawn by touching only its own parts. Bucket 0 is the horizon start and
+ * also collects everything overdue or not yet given a start slot; the last bucket collects
+ * everything due on or after its date.
+ * <p>
+ * Not thread-safe; {@code MaterialRequirementsPlanner} serializes access.
+ */
+public final class RequirementsLedger {
+
+    public record PartQuantity(String partNumber, long quantity) {
+        public PartQuantity {
+            Objects.requireNonNull(partNumber, "Part number required");
+        }
+    }
+
+    /**
+     * What one open production order needs and on which day; {@code neededOn} is null while the
+     * order has no start slot.
+     */
+    public record OrderRequirements(UUID productionOrderId, LocalDate neededOn, List<PartQuantity> parts) {
+        public OrderRequirements {
+            Objects.requireNonNull(productionOrderId, "Production order ID required");
+            parts = List.copyOf(parts);
+        }
+    }
+
+    private record Contribution(int bucket, int[] parts, long[] quantities) {}
+
+    private final LocalDate horizonStart;
+    private final int horizonDays;
+    private final Map<String, Integer> partIndex;
+    private final Map<UUID, Contribution> contributions;
+    private String[] partNumbers;
+    private long[][] gross;
+
+    private RequirementsLedger(LocalDate horizonStart, int horizonDays, String[] partNumbers, long[][] gross,
+                               Map<UUID, Contribution> contributions) {
+        this.horizonStart = horizonStart;
+        this.horizonDays = horizonDays;
+        this.partNumbers = partNumbers;
+        this.gross = gross;
+        this.contributions = contributions;
+        this.partIndex = HashMap.newHashMap(partNumbers.length);
+        for (int i = 0; i < partNumbers.length; i++) {
+            partIndex.put(partNumbers[i], i);
+        }
+    }
+
+    public static RequirementsLedger empty(LocalDate horizonStart, int horizonDays) {
+        return build(horizonStart, horizonDays, List.of());
+    }
+
+    /**
+     * Builds a ledger from scratch. Orders are encoded and summed in parallel: each fork/join
+     * worker accumulates its share into a private flat part-by-day array, and the arrays are
+     * added together pairwise as the workers finish.
+     */
+    public static RequirementsLedger build(LocalDate horizonStart, int horizonDays, List<OrderRequirements> orders) {
+        Objects.requireNonNull(horizonStart, "Horizon start required");
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("Horizon must be at least one day");
+        }
+        OrderRequirements[] input = orders.toArray(new OrderRequirements[0]);
+
+        String[] partNumbers = Arrays.stream(input).parallel()
+            .flatMap(order -> order.parts().stream())
+            .map(PartQuantity::partNumber)
+            .distinct()
+            .sorted()
+            .toArray(String[]::new);
+        Map<String, Integer> index = HashMap.newHashMap(partNumbers.length);
+        for (int i = 0; i < partNumbers.length; i++) {
+            index.put(partNumbers[i], i);
+        }
+
+        Contribution[] encoded = new Contribution[input.length];
+        IntStream.range(0, input.length).parallel()
+            .forEach(i -> encoded[i] = encode(input[i], index, horizonStart, horizonDays));
+
+        int width = partNumbers.length * horizonDays;
+        long[] totals = IntStream.range(0, encoded.length).parallel().collect(
+            () -> new long[width],
+            (acc, i) -> {
+                Contribution c = encoded[i];
+                for (int k = 0; k < c.parts().length; k++) {
+                    acc[c.parts()[k] * horizonDays + c.bucket()] += c.quantities()[k];
+                }
+            },
+            (left, right) -> {
+                for (int k = 0; k < width; k++) {
+                    left[k] += right[k];
+                }
+            });
+
+        long[][] gross = new long[partNumbers.length][];
+        for (int p = 0; p < partNumbers.length; p++) {
+            gross[p] = Arrays.copyOfRange(totals, p * horizonDays, (p + 1) * horizonDays);
+        }
+        Map<UUID, Contribution> contributions = HashMap.newHashMap(input.length);
+        for (int i = 0; i < input.length; i++) {
+            contributions.put(input[i].productionOrderId(), encoded[i]);
+        }
+        return new RequirementsLedger(horizonStart, horizonDays, partNumbers, gross, contributions);
+    }
+
+    private static Contribution encode(OrderRequirements order, Map<String, Integer> index,
+                                       LocalDate horizonStart, int horizonDays) {
+        int[] parts = new int[order.parts().size()];
+        long[] quantities = new long[parts.length];
+        for (int k = 0; k < parts.length; k++) {
+            PartQuantity line = order.parts().get(k);
+            parts[k] = index.get(line.partNumber());
+            quantities[k] = line.quantity();
+        }
+        return new Contribution(bucket(order.neededOn(), horizonStart, horizonDays), parts, quantities);
+    }
+
+    private static int bucket(LocalDate date, LocalDate horizonStart, int horizonDays) {
+        if (date == null) {
+            return 0;
+        }
+        long offset = ChronoUnit.DAYS.between(horizonStart, date);
+        return (int) Math.max(0, Math.min(horizonDays - 1, offset));
+    }
+
+    /**
+     * Adds the order, replacing whatever it contributed before.
+     */
+    public void put(OrderRequirements order) {
+        remove(order.productionOrderId());
+        int[] parts = new int[order.parts().size()];
+        long[] quantities = new long[parts.length];
+        for (int k = 0; k < parts.length; k++) {
+            PartQuantity line = order.parts().get(k);
+            parts[k] = indexOf(line.partNumber());
+            quantities[k] = line.quantity();
+        }
+        Contribution contribution = new Contribution(bucket(order.neededOn(), horizonStart, horizonDays),
+            parts, quantities);
+        apply(contribution, 1);
+        contributions.put(order.productionOrderId(), contribution);
+    }
+
+    /**
+     * Moves a known order's requirements to another day; false if the order is not in the ledger.
+     */
+    public boolean reschedule(UUID productionOrderId, LocalDate neededOn) {
+        Contribution current = contributions.get(productionOrderId);
+        if (current == null) {
+            return false;
+        }
+        int bucket = bucket(neededOn, horizonStart, horizonDays);
+        if (bucket != current.bucket()) {
+            apply(current, -1);
+            Contribution moved = new Contribution(bucket, current.parts(), current.quantities());
+            apply(moved, 1);
+            contributions.put(productionOrderId, moved);
+        }
+        return true;
+    }
+
+    /**
+     * Withdraws the order's requirements; false if the order is not in the ledger.
+     */
+    public boolean remove(UUID productionOrderId) {
+        Contribution removed = contributions.remove(productionOrderId);
+        if (removed == null) {
+            return false;
+        }
+        apply(removed, -1);
+        return true;
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        for (int k = 0; k < contribution.parts().length; k++) {
+            gross[contribution.parts()[k]][contribution.bucket()] += sign * contribution.quantities()[k];
+        }
+    }
+
+    private int indexOf(String partNumber) {
+        Integer index = partIndex.get(partNumber);
+        if (index != null) {
+            return index;
+        }
+        int added = partNumbers.length;
+        partNumbers = Arrays.copyOf(partNumbers, added + 1);
+        partNumbers[added] = partNumber;
+        gross = Arrays.copyOf(gross, added + 1);
+        gross[added] = new long[horizonDays];
+        partIndex.put(partNumber, added);
+        return added;
+    }
+
+    public boolean contains(UUID productionOrderId) {
+        return contributions.containsKey(productionOrderId);
+    }
+
+    public int orderCount() {
+        return contributions.size();
+    }
+
+    public LocalDate horizonStart() {
+        return horizonStart;
+    }
+
+    public int horizonDays() {
+        return horizonDays;
+    }
+
+    /**
+     * Bucket holding requirements due on the given date.
+     */
+    public int bucketOf(LocalDate date) {
+        return bucket(Objects.requireNonNull(date, "Date required"), horizonStart, horizonDays);
+    }
+
+    public List<String> partNumbers() {
+        return List.of(partNumbers);
+    }
+
+    /**
+     * Copy of the part's gross requirement per bucket; all zero for a part no order needs.
+     */
+    public long[] grossRequirements(String partNumber) {
+        Integer index = partIndex.get(partNumber);
+        return index == null ? new long[horizonDays] : gross[index].clone();
+    }
+}
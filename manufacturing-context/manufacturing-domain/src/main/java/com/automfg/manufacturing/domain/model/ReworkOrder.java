@@ -76,7 +76,7 @@ public class ReworkOrder extends AggregateRoot {
         this.status = ReworkStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
 
-        registerEvent(new ReworkCompletedEvent(id, productionOrderId.value()));
+        registerEvent(new ReworkCompletedEvent(id, productionOrderId.value(), inspectionId.value()));
     }
 
     // Getters
@@ -0,0 +1,21 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outcome of a scheduling run: orders that received a start slot within the horizon
+ * and orders that did not fit (left without a scheduledStartDate).
+ */
+public record SchedulePlan(List<ProductionOrderId> scheduled,
+                           List<ProductionOrderId> unscheduled,
+                           LocalDate horizonStart,
+                           LocalDate horizonEnd,
+                           LocalDateTime lastScheduledStart) {
+
+    public SchedulePlan {
+        scheduled = List.copyOf(scheduled);
+        unscheduled = List.copyOf(unscheduled);
+    }
+}
@@ -0,0 +1,142 @@
+package com.automfg.manufacturing.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Plant working calendar: the shifts worked on each working day.
+ * Converts between wall-clock time and "working minutes" counted from the start of a day,
+ * which is the time axis the production scheduler plans on.
+ */
+public final class ShiftCalendar {
+
+    public record Shift(LocalTime start, int durationMinutes) {
+        public Shift {
+            Objects.requireNonNull(start, "Shift start must not be null");
+            if (durationMinutes <= 0) {
+                throw new IllegalArgumentException("Shift duration must be positive: " + durationMinutes);
+            }
+            if (start.toSecondOfDay() / 60 + durationMinutes > 24 * 60) {
+                throw new IllegalArgumentException("Shift must end within the day: " + start + " +" + durationMinutes);
+            }
+        }
+
+        int startMinuteOfDay() {
+            return start.toSecondOfDay() / 60;
+        }
+    }
+
+    private final List<Shift> shifts;
+    private final Set<DayOfWeek> workingDays;
+    private final Set<LocalDate> holidays;
+    private final int minutesPerDay;
+
+    public ShiftCalendar(List<Shift> shifts, Set<DayOfWeek> workingDays, Set<LocalDate> holidays) {
+        Objects.requireNonNull(shifts, "Shifts must not be null");
+        Objects.requireNonNull(workingDays, "Working days must not be null");
+        if (shifts.isEmpty()) {
+            throw new IllegalArgumentException("Shift calendar needs at least one shift");
+        }
+        if (workingDays.isEmpty()) {
+            throw new IllegalArgumentException("Shift calendar needs at least one working day");
+        }
+        this.shifts = shifts.stream().sorted(Comparator.comparing(Shift::start)).toList();
+        for (int i = 1; i < this.shifts.size(); i++) {
+            Shift previous = this.shifts.get(i - 1);
+            if (previous.startMinuteOfDay() + previous.durationMinutes() > this.shifts.get(i).startMinuteOfDay()) {
+                throw new IllegalArgumentException("Shifts must not overlap: " + previous + ", " + this.shifts.get(i));
+            }
+        }
+        this.workingDays = Set.copyOf(EnumSet.copyOf(workingDays));
+        this.holidays = holidays == null ? Set.of() : Set.copyOf(holidays);
+        this.minutesPerDay = this.shifts.stream().mapToInt(Shift::durationMinutes).sum();
+    }
+
+    /**
+     * Two eight-hour shifts (06:00-14:00, 14:00-22:00), Monday to Friday.
+     */
+    public static ShiftCalendar twoShiftWeekdays() {
+        return new ShiftCalendar(
+            List.of(new Shift(LocalTime.of(6, 0), 480), new Shift(LocalTime.of(14, 0), 480)),
+            EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+            Set.of());
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return workingDays.contains(date.getDayOfWeek()) && !holidays.contains(date);
+    }
+
+    public int workingMinutesPerDay() {
+        return minutesPerDay;
+    }
+
+    /**
+     * Total working minutes in the {@code days} calendar days starting at {@code from}.
+     */
+    public long workingMinutesWithin(LocalDate from, int days) {
+        long total = 0;
+        LocalDate date = from;
+        for (int i = 0; i < days; i++) {
+            if (isWorkingDay(date)) {
+                total += minutesPerDay;
+            }
+            date = date.plusDays(1);
+        }
+        return total;
+    }
+
+    /**
+     * Maps a working-minute offset counted from the start of {@code from} to wall-clock time.
+     */
+    public LocalDateTime toDateTime(LocalDate from, long workingMinuteOffset) {
+        if (workingMinuteOffset < 0) {
+            throw new IllegalArgumentException("Working minute offset must not be negative: " + workingMinuteOffset);
+        }
+        LocalDate date = from;
+        long remaining = workingMinuteOffset;
+        while (!isWorkingDay(date) || remaining >= minutesPerDay) {
+            if (isWorkingDay(date)) {
+                remaining -= minutesPerDay;
+            }
+            date = date.plusDays(1);
+        }
+        for (Shift shift : shifts) {
+            if (remaining < shift.durationMinutes()) {
+                return date.atTime(shift.start()).plusMinutes(remaining);
+            }
+            remaining -= shift.durationMinutes();
+        }
+        throw new IllegalStateException("Offset not resolvable within day: " + workingMinuteOffset);
+    }
+
+    /**
+     * Working minutes elapsed between the start of {@code from} and {@code at}; 0 if {@code at} is earlier.
+     */
+    public long workingMinutesUntil(LocalDate from, LocalDateTime at) {
+        LocalDate target = at.toLocalDate();
+        if (target.isBefore(from)) {
+            return 0;
+        }
+        long total = 0;
+        for (LocalDate date = from; date.isBefore(target); date = date.plusDays(1)) {
+            if (isWorkingDay(date)) {
+                total += minutesPerDay;
+            }
+        }
+        if (isWorkingDay(target)) {
+            int minuteOfDay = at.toLocalTime().toSecondOfDay() / 60;
+            for (Shift shift : shifts) {
+                int elapsed = minuteOfDay - shift.startMinuteOfDay();
+                total += Math.max(0, Math.min(elapsed, shift.durationMinutes()));
+            }
+        }
+        return total;
+    }
+}
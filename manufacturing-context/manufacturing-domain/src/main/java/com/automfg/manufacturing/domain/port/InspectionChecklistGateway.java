@@ -1,9 +1,10 @@
 package com.automfg.manufacturing.domain.port;
 
 import com.automfg.manufacturing.domain.model.ChecklistItemTemplate;
+import com.automfg.shared.domain.Gateway;
 
 import java.util.List;
 
-public interface InspectionChecklistGateway {
+public interface InspectionChecklistGateway extends Gateway {
     List<ChecklistItemTemplate> getChecklistForModel(String vehicleModelCode);
 }
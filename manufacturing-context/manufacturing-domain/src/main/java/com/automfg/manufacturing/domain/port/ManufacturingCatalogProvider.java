@@ -0,0 +1,12 @@
+package com.automfg.manufacturing.domain.port;
+
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog;
+
+/**
+ * Supplies the current published manufacturing catalog. Implementations swap in a new catalog
+ * when a new version is published, so callers should fetch it once per operation and read
+ * everything they need from that one instance.
+ */
+public interface ManufacturingCatalogProvider {
+    ManufacturingCatalog current();
+}
@@ -1,5 +1,7 @@
 package com.automfg.manufacturing.domain.port;
 
-public interface MaterialAvailabilityGateway {
+import com.automfg.shared.domain.Gateway;
+
+public interface MaterialAvailabilityGateway extends Gateway {
     boolean checkAvailability(String partNumber, int quantity);
 }
@@ -2,7 +2,10 @@ package com.automfg.manufacturing.domain.port;
 
 import com.automfg.manufacturing.domain.model.ProductionOrder;
 import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +15,19 @@ public interface ProductionOrderRepository {
     Optional<ProductionOrder> findById(ProductionOrderId id);
 
     boolean existsBySourceOrderId(UUID sourceOrderId);
+
+    List<ProductionOrder> findByStatus(ProductionOrderStatus status);
+
+    /**
+     * The first SCHEDULED orders in start slot order, up to the limit; orders without a start
+     * slot or a color are left out.
+     */
+    List<ProductionOrder> findScheduledByStartSlot(int limit);
+
+    /**
+     * Persists the start slot of each order, cleared or assigned, without rewriting the rest of
+     * the aggregate. Orders no longer SCHEDULED, having been started since they were loaded, are
+     * left alone. Returns the orders whose slot was written.
+     */
+    List<ProductionOrderId> saveScheduledStarts(Collection<ProductionOrder> orders);
 }
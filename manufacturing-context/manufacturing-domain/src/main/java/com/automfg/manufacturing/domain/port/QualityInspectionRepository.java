@@ -1,11 +1,20 @@
 package com.automfg.manufacturing.domain.port;
 
+import com.automfg.manufacturing.domain.model.InspectionItemId;
 import com.automfg.manufacturing.domain.model.QualityInspection;
 import com.automfg.manufacturing.domain.model.QualityInspectionId;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface QualityInspectionRepository {
     QualityInspection save(QualityInspection inspection);
     Optional<QualityInspection> findById(QualityInspectionId id);
+
+    /**
+     * Persists the recorded results of the given items, and the inspection's result if it was
+     * completed, without rewriting the rest of the aggregate.
+     * Fails if the inspection was modified since it was loaded.
+     */
+    void saveItemResults(QualityInspection inspection, Collection<InspectionItemId> itemIds);
 }
@@ -2,68 +2,26 @@ package com.automfg.manufacturing.domain.service;
 
 import com.automfg.manufacturing.domain.model.BomLineItem;
 import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.BomStructure;
 import com.automfg.manufacturing.domain.port.MaterialAvailabilityGateway;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
  * Pure domain service for expanding a Bill of Materials (BOM) for a vehicle model
  * and checking material availability. No framework dependencies.
+ * <p>
+ * The model and each option package are exploded through every BOM level down to leaf parts;
+ * a part needed by several of them becomes a single line item with the summed quantity.
  */
 public class BomExpansionService {
 
-    private final MaterialAvailabilityGateway materialAvailabilityGateway;
-
-    // Hardcoded BOM mappings for PoC purposes
-    private static final Map<String, List<BomLineItemSpec>> MODEL_BOM = Map.of(
-        "MODEL-S", List.of(
-            new BomLineItemSpec("CHS-001", "Chassis Frame Assembly", 1, "UNIT"),
-            new BomLineItemSpec("ENG-001", "Electric Motor Unit", 1, "UNIT"),
-            new BomLineItemSpec("BAT-001", "Battery Pack 100kWh", 1, "UNIT"),
-            new BomLineItemSpec("BRK-001", "Brake System Kit", 1, "SET"),
-            new BomLineItemSpec("SUS-001", "Suspension Assembly", 4, "UNIT"),
-            new BomLineItemSpec("WHL-001", "Wheel Assembly 19in", 4, "UNIT"),
-            new BomLineItemSpec("BDY-001", "Body Panel Set", 1, "SET"),
-            new BomLineItemSpec("INT-001", "Interior Trim Package", 1, "SET"),
-            new BomLineItemSpec("ELC-001", "Electrical Wiring Harness", 1, "SET"),
-            new BomLineItemSpec("GLZ-001", "Glass Set (Windshield + Windows)", 1, "SET")
-        ),
-        "MODEL-X", List.of(
-            new BomLineItemSpec("CHS-002", "SUV Chassis Frame Assembly", 1, "UNIT"),
-            new BomLineItemSpec("ENG-002", "Dual Motor Powertrain", 1, "UNIT"),
-            new BomLineItemSpec("BAT-002", "Battery Pack 120kWh", 1, "UNIT"),
-            new BomLineItemSpec("BRK-001", "Brake System Kit", 1, "SET"),
-            new BomLineItemSpec("SUS-002", "Heavy-Duty Suspension Assembly", 4, "UNIT"),
-            new BomLineItemSpec("WHL-002", "Wheel Assembly 22in", 4, "UNIT"),
-            new BomLineItemSpec("BDY-002", "SUV Body Panel Set", 1, "SET"),
-            new BomLineItemSpec("INT-002", "Premium Interior Trim Package", 1, "SET"),
-            new BomLineItemSpec("ELC-001", "Electrical Wiring Harness", 1, "SET"),
-            new BomLineItemSpec("GLZ-002", "Panoramic Glass Set", 1, "SET")
-        )
-    );
+    // Default BOM for unknown models in PoC
+    static final String DEFAULT_MODEL_CODE = "MODEL-S";
 
-    private static final Map<String, List<BomLineItemSpec>> OPTION_BOM = Map.of(
-        "PREMIUM-AUDIO", List.of(
-            new BomLineItemSpec("AUD-001", "Premium Speaker System", 1, "SET"),
-            new BomLineItemSpec("AUD-002", "Amplifier Unit", 1, "UNIT")
-        ),
-        "AUTOPILOT", List.of(
-            new BomLineItemSpec("AP-001", "Autopilot Computer Module", 1, "UNIT"),
-            new BomLineItemSpec("AP-002", "Camera Array Kit", 1, "SET"),
-            new BomLineItemSpec("AP-003", "Ultrasonic Sensor Kit", 1, "SET")
-        ),
-        "SPORT-PACKAGE", List.of(
-            new BomLineItemSpec("SPT-001", "Sport Suspension Upgrade", 4, "UNIT"),
-            new BomLineItemSpec("SPT-002", "Performance Brake Kit", 1, "SET")
-        ),
-        "TOW-PACKAGE", List.of(
-            new BomLineItemSpec("TOW-001", "Tow Hitch Assembly", 1, "UNIT"),
-            new BomLineItemSpec("TOW-002", "Trailer Wiring Harness", 1, "SET")
-        )
-    );
+    private final MaterialAvailabilityGateway materialAvailabilityGateway;
 
     public BomExpansionService(MaterialAvailabilityGateway materialAvailabilityGateway) {
         this.materialAvailabilityGateway = Objects.requireNonNull(
@@ -71,52 +29,37 @@ public class BomExpansionService {
     }
 
     /**
-     * Expands the BOM for a given vehicle model and option packages, then checks
-     * material availability for each line item.
+     * Expands the BOM for a given vehicle model and option packages against the given
+     * structure, then checks material availability for each line item.
      */
-    public BomSnapshot expandBom(String vehicleModelCode, List<String> optionPackageCodes) {
+    public BomSnapshot expandBom(BomStructure structure, String vehicleModelCode, List<String> optionPackageCodes) {
+        Objects.requireNonNull(structure, "BOM structure must not be null");
         Objects.requireNonNull(vehicleModelCode, "Vehicle model code must not be null");
         Objects.requireNonNull(optionPackageCodes, "Option package codes must not be null");
 
-        List<BomLineItemSpec> specs = new ArrayList<>();
+        List<BomStructure.Requirements> requirements = new ArrayList<>();
 
         // Base model BOM
-        List<BomLineItemSpec> modelSpecs = MODEL_BOM.get(vehicleModelCode);
-        if (modelSpecs == null) {
-            // Default BOM for unknown models in PoC
-            modelSpecs = MODEL_BOM.get("MODEL-S");
-        }
-        specs.addAll(modelSpecs);
+        requirements.add(structure.explodeModel(vehicleModelCode)
+            .or(() -> structure.explodeModel(DEFAULT_MODEL_CODE))
+            .orElseThrow(() -> new IllegalStateException("No BOM defined for model " + vehicleModelCode)));
 
-        // Option packages BOM
+        // Option packages BOM; packages without a BOM add no parts
         for (String optionCode : optionPackageCodes) {
-            List<BomLineItemSpec> optionSpecs = OPTION_BOM.get(optionCode);
-            if (optionSpecs != null) {
-                specs.addAll(optionSpecs);
-            }
+            structure.explodeOption(optionCode).ifPresent(requirements::add);
         }
 
-        // Check availability for each line item
-        List<BomLineItem> lineItems = specs.stream()
-            .map(spec -> {
-                boolean available = materialAvailabilityGateway.checkAvailability(
-                    spec.partNumber(), spec.quantity());
-                return new BomLineItem(
-                    spec.partNumber(), spec.description(), spec.quantity(),
-                    spec.unitOfMeasure(), available);
-            })
-            .toList();
+        // Check availability for each leaf part
+        BomStructure.Requirements total = BomStructure.Requirements.sum(requirements);
+        List<BomLineItem> lineItems = new ArrayList<>(total.size());
+        for (int i = 0; i < total.size(); i++) {
+            BomStructure.Part part = total.part(i);
+            int quantity = Math.toIntExact(total.quantity(i));
+            boolean available = materialAvailabilityGateway.checkAvailability(part.partNumber(), quantity);
+            lineItems.add(new BomLineItem(
+                part.partNumber(), part.description(), quantity, part.unitOfMeasure(), available));
+        }
 
         return new BomSnapshot(lineItems);
     }
-
-    /**
-     * Internal record for BOM line item specification (before availability check).
-     */
-    private record BomLineItemSpec(
-        String partNumber,
-        String description,
-        int quantity,
-        String unitOfMeasure
-    ) {}
 }
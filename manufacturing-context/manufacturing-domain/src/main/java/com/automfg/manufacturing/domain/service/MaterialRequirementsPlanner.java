@@ -0,0 +1,100 @@
+package com.automfg.manufacturing.domain.service;
+
+import com.automfg.manufacturing.domain.model.RequirementsLedger;
+import com.automfg.manufacturing.domain.model.RequirementsLedger.OrderRequirements;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Owns the live {@link RequirementsLedger}. Incremental changes are applied under the planner's
+ * monitor and cost a handful of array updates. A regeneration builds a fresh ledger without
+ * holding the monitor; changes that arrive meanwhile are applied to the live ledger and also
+ * journaled, then replayed onto the fresh ledger just before it replaces the live one, so no
+ * change is lost however the rebuild's read interleaves with them. Every change is idempotent,
+ * so replaying one the rebuild already saw is harmless.
+ */
+public class MaterialRequirementsPlanner {
+
+    private final int horizonDays;
+    private final Object regenerationLock = new Object();
+    private RequirementsLedger ledger;
+    private List<Consumer<RequirementsLedger>> journal;
+
+    public MaterialRequirementsPlanner(int horizonDays, LocalDate horizonStart) {
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("Horizon must be at least one day");
+        }
+        this.horizonDays = horizonDays;
+        this.ledger = RequirementsLedger.empty(horizonStart, horizonDays);
+    }
+
+    public synchronized void put(OrderRequirements order) {
+        Objects.requireNonNull(order, "Order requirements must not be null");
+        applyChange(target -> target.put(order));
+    }
+
+    /**
+     * Moves an order's requirements to another day; false if the planner does not know the
+     * order, in which case the caller should {@link #put} it.
+     */
+    public synchronized boolean reschedule(UUID productionOrderId, LocalDate neededOn) {
+        Objects.requireNonNull(productionOrderId, "Production order ID must not be null");
+        if (!ledger.contains(productionOrderId)) {
+            return false;
+        }
+        applyChange(target -> target.reschedule(productionOrderId, neededOn));
+        return true;
+    }
+
+    public synchronized void remove(UUID productionOrderId) {
+        Objects.requireNonNull(productionOrderId, "Production order ID must not be null");
+        applyChange(target -> target.remove(productionOrderId));
+    }
+
+    private void applyChange(Consumer<RequirementsLedger> change) {
+        change.accept(ledger);
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    /**
+     * Rebuilds the ledger from the given open orders with the horizon starting on
+     * {@code horizonStart}. Concurrent regenerations run one after the other.
+     *
+     * @return the number of orders in the new ledger
+     */
+    public int regenerate(LocalDate horizonStart, Supplier<List<OrderRequirements>> openOrders) {
+        synchronized (regenerationLock) {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            try {
+                RequirementsLedger fresh = RequirementsLedger.build(horizonStart, horizonDays, openOrders.get());
+                synchronized (this) {
+                    journal.forEach(change -> change.accept(fresh));
+                    ledger = fresh;
+                    return fresh.orderCount();
+                }
+            } finally {
+                synchronized (this) {
+                    journal = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a read against the live ledger while no change can be applied to it.
+     */
+    public synchronized <T> T read(Function<RequirementsLedger, T> reader) {
+        return reader.apply(ledger);
+    }
+}
@@ -0,0 +1,194 @@
+package com.automfg.manufacturing.domain.service;
+
+import com.automfg.manufacturing.domain.model.PaintJob;
+import com.automfg.manufacturing.domain.model.PaintSequence;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Reorders the release of production orders into WS-PAINT color blocks.
+ *
+ * Greedy with a feasibility guard: keep painting the current color while that cannot make any order
+ * miss its deadline slot, otherwise switch to the color with the most waiting orders among those that
+ * can be started safely. Feasibility is tracked as slack(t) = free slots up to t minus orders due by t,
+ * kept in a range-add/range-min segment tree, so every decision costs O(colors · log n).
+ * Because every deadline is at or after the FIFO slot, a feasible sequence always exists.
+ *
+ * Pure Java — NO framework dependencies.
+ */
+public class PaintShopSequencer {
+
+    private static final Comparator<PaintJob> MOST_URGENT =
+        Comparator.comparingInt(PaintJob::deadlineIndex).thenComparingInt(PaintJob::releaseIndex);
+
+    /**
+     * @param jobs          orders in the window; release indexes must be 0..n-1
+     * @param previousColor color currently loaded in the paint booth, or null
+     */
+    public PaintSequence sequence(List<PaintJob> jobs, String previousColor) {
+        Objects.requireNonNull(jobs, "Jobs must not be null");
+        int n = jobs.size();
+        if (n == 0) {
+            return new PaintSequence(List.of(), 0, 0);
+        }
+
+        Map<String, PriorityQueue<PaintJob>> byColor = new HashMap<>();
+        PaintJob[] fifo = new PaintJob[n];
+        int[] dueCount = new int[n];
+        for (PaintJob job : jobs) {
+            if (job.releaseIndex() >= n || fifo[job.releaseIndex()] != null) {
+                throw new IllegalArgumentException(
+                    "Release indexes must be a permutation of 0.." + (n - 1) + ": " + job.releaseIndex());
+            }
+            fifo[job.releaseIndex()] = job;
+            dueCount[Math.min(job.deadlineIndex(), n - 1)]++;
+            byColor.computeIfAbsent(job.colorCode(), color -> new PriorityQueue<>(MOST_URGENT)).add(job);
+        }
+
+        // slack(t) = (t + 1) - #jobs with deadline <= t, for the empty sequence
+        long[] slack = new long[n];
+        int due = 0;
+        for (int t = 0; t < n; t++) {
+            due += dueCount[t];
+            slack[t] = (t + 1L) - due;
+        }
+        SlackTree tree = new SlackTree(slack);
+
+        List<ProductionOrderId> sequence = new ArrayList<>(n);
+        List<String> sequencedColors = new ArrayList<>(n);
+        String current = previousColor;
+        for (int p = 0; p < n; p++) {
+            PaintJob next;
+            PriorityQueue<PaintJob> same = current == null ? null : byColor.get(current);
+            if (same != null && !same.isEmpty() && isFeasible(tree, p, same.peek(), n)) {
+                next = same.poll();
+            } else {
+                PriorityQueue<PaintJob> best = null;
+                for (PriorityQueue<PaintJob> queue : byColor.values()) {
+                    if (queue.isEmpty() || !isFeasible(tree, p, queue.peek(), n)) {
+                        continue;
+                    }
+                    if (best == null || queue.size() > best.size()
+                        || (queue.size() == best.size() && MOST_URGENT.compare(queue.peek(), best.peek()) < 0)) {
+                        best = queue;
+                    }
+                }
+                next = Objects.requireNonNull(best, "No feasible paint job; deadlines are inconsistent").poll();
+            }
+            // Placing a job at p with deadline d consumes one slot of every window [p, t] with t < d
+            int deadline = Math.min(next.deadlineIndex(), n - 1);
+            if (deadline > p) {
+                tree.add(p, deadline - 1, -1);
+            }
+            sequence.add(next.productionOrderId());
+            sequencedColors.add(next.colorCode());
+            current = next.colorCode();
+        }
+
+        List<String> fifoColors = new ArrayList<>(n);
+        for (PaintJob job : fifo) {
+            fifoColors.add(job.colorCode());
+        }
+        return new PaintSequence(sequence,
+            countChangeovers(previousColor, fifoColors),
+            countChangeovers(previousColor, sequencedColors));
+    }
+
+    private static boolean isFeasible(SlackTree tree, int position, PaintJob job, int n) {
+        int deadline = Math.min(job.deadlineIndex(), n - 1);
+        return deadline <= position || tree.min(position, deadline - 1) >= 1;
+    }
+
+    private static int countChangeovers(String previousColor, List<String> colors) {
+        int changeovers = 0;
+        String current = previousColor;
+        for (String color : colors) {
+            if (current != null && !current.equals(color)) {
+                changeovers++;
+            }
+            current = color;
+        }
+        return changeovers;
+    }
+
+    /**
+     * Segment tree with lazy range add and range minimum over slack values.
+     */
+    private static final class SlackTree {
+
+        private final int size;
+        private final long[] min;
+        private final long[] lazy;
+
+        SlackTree(long[] values) {
+            this.size = values.length;
+            this.min = new long[4 * size];
+            this.lazy = new long[4 * size];
+            build(1, 0, size - 1, values);
+        }
+
+        private void build(int node, int lo, int hi, long[] values) {
+            if (lo == hi) {
+                min[node] = values[lo];
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            build(2 * node, lo, mid, values);
+            build(2 * node + 1, mid + 1, hi, values);
+            min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+        }
+
+        void add(int from, int to, long delta) {
+            add(1, 0, size - 1, from, to, delta);
+        }
+
+        long min(int from, int to) {
+            return min(1, 0, size - 1, from, to);
+        }
+
+        private void add(int node, int lo, int hi, int from, int to, long delta) {
+            if (to < lo || hi < from) {
+                return;
+            }
+            if (from <= lo && hi <= to) {
+                min[node] += delta;
+                lazy[node] += delta;
+                return;
+            }
+            push(node);
+            int mid = (lo + hi) >>> 1;
+            add(2 * node, lo, mid, from, to, delta);
+            add(2 * node + 1, mid + 1, hi, from, to, delta);
+            min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+        }
+
+        private long min(int node, int lo, int hi, int from, int to) {
+            if (to < lo || hi < from) {
+                return Long.MAX_VALUE;
+            }
+            if (from <= lo && hi <= to) {
+                return min[node];
+            }
+            push(node);
+            int mid = (lo + hi) >>> 1;
+            return Math.min(min(2 * node, lo, mid, from, to), min(2 * node + 1, mid + 1, hi, from, to));
+        }
+
+        private void push(int node) {
+            if (lazy[node] != 0) {
+                for (int child = 2 * node; child <= 2 * node + 1; child++) {
+                    min[child] += lazy[node];
+                    lazy[child] += lazy[node];
+                }
+                lazy[node] = 0;
+            }
+        }
+    }
+}
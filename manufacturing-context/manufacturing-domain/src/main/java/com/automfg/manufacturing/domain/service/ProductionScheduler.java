@@ -0,0 +1,227 @@
+package com.automfg.manufacturing.domain.service;
+
+import com.automfg.manufacturing.domain.model.AssemblyStep;
+import com.automfg.manufacturing.domain.model.ProductionOrder;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.SchedulePlan;
+import com.automfg.manufacturing.domain.model.ShiftCalendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Capacity-aware flow-shop scheduler that assigns scheduledStartDate to SCHEDULED production orders.
+ *
+ * Each station offers a fixed number of parallel positions. Orders are released FIFO by creation time
+ * onto a paced line: an order is started only when it will find a free position at each station as it
+ * arrives there, so the bottleneck station sets the release rhythm. Time is measured in working minutes of the
+ * ShiftCalendar from the horizon start, so nights, weekends and holidays are skipped.
+ *
+ * The planner keeps the per-station release times of the last plan, so new orders (arrivals or orders
+ * whose materials cleared) are appended in O(stations) each instead of re-planning the whole line.
+ * Once a day has passed, the next incremental schedule rolls the horizon forward to start today,
+ * so the capacity of the days gained at its end becomes available without a full replan.
+ * Route extraction and calendar resolution run in parallel; only the capacity sweep is sequential.
+ *
+ * Pure Java — NO framework dependencies.
+ */
+public class ProductionScheduler {
+
+    private static final Comparator<ProductionOrder> RELEASE_ORDER =
+        Comparator.comparing(ProductionOrder::getCreatedAt)
+            .thenComparing(order -> order.getOrderNumber().value());
+
+    private final ShiftCalendar calendar;
+    private final Map<String, Integer> stationCapacity;
+    private final int defaultCapacity;
+    private final int horizonDays;
+
+    // Planning state of the current baseline, guarded by this
+    private LocalDate horizonStart;
+    private long horizonMinutes;
+    private final Map<String, long[]> stationFreeAt = new HashMap<>();
+
+    public ProductionScheduler(ShiftCalendar calendar, Map<String, Integer> stationCapacity,
+                               int defaultCapacity, int horizonDays) {
+        this.calendar = Objects.requireNonNull(calendar, "ShiftCalendar must not be null");
+        this.stationCapacity = Map.copyOf(Objects.requireNonNull(stationCapacity, "Station capacity must not be null"));
+        if (defaultCapacity < 1) {
+            throw new IllegalArgumentException("Default station capacity must be positive: " + defaultCapacity);
+        }
+        if (horizonDays < 1) {
+            throw new IllegalArgumentException("Scheduling horizon must be positive: " + horizonDays);
+        }
+        this.stationCapacity.forEach((code, capacity) -> {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Capacity of station " + code + " must be positive: " + capacity);
+            }
+        });
+        this.defaultCapacity = defaultCapacity;
+        this.horizonDays = horizonDays;
+    }
+
+    public synchronized boolean hasBaseline() {
+        return horizonStart != null;
+    }
+
+    /**
+     * Discards the current baseline and plans all given orders from scratch, starting the horizon at {@code now}.
+     */
+    public synchronized SchedulePlan replan(Collection<ProductionOrder> orders, LocalDateTime now) {
+        Objects.requireNonNull(orders, "Orders must not be null");
+        Objects.requireNonNull(now, "Now must not be null");
+        this.horizonStart = now.toLocalDate();
+        this.horizonMinutes = calendar.workingMinutesWithin(horizonStart, horizonDays);
+        this.stationFreeAt.clear();
+        return place(orders, now);
+    }
+
+    /**
+     * Appends the given orders behind the current baseline without moving already planned orders.
+     * If {@code now} falls on a later day than the horizon start, the horizon is first moved to start today.
+     */
+    public synchronized SchedulePlan schedule(Collection<ProductionOrder> orders, LocalDateTime now) {
+        Objects.requireNonNull(orders, "Orders must not be null");
+        Objects.requireNonNull(now, "Now must not be null");
+        if (horizonStart == null) {
+            throw new IllegalStateException("No baseline plan exists: replan before scheduling incrementally");
+        }
+        rollHorizonTo(now.toLocalDate());
+        return place(orders, now);
+    }
+
+    /**
+     * Moves the horizon start to {@code today}, re-basing the station release times on it. Work
+     * planned before today no longer holds a position; work still running into today keeps its own.
+     */
+    private void rollHorizonTo(LocalDate today) {
+        if (!today.isAfter(horizonStart)) {
+            return;
+        }
+        long elapsed = calendar.workingMinutesUntil(horizonStart, today.atStartOfDay());
+        for (long[] freeAt : stationFreeAt.values()) {
+            for (int i = 0; i < freeAt.length; i++) {
+                freeAt[i] = Math.max(0, freeAt[i] - elapsed);
+            }
+        }
+        horizonStart = today;
+        horizonMinutes = calendar.workingMinutesWithin(today, horizonDays);
+    }
+
+    private SchedulePlan place(Collection<ProductionOrder> orders, LocalDateTime now) {
+        List<ProductionOrder> sorted = orders.stream().sorted(RELEASE_ORDER).toList();
+        int count = sorted.size();
+
+        // Independent per order: derive station routes in parallel (encounter order is preserved)
+        List<Route> routes = sorted.parallelStream().map(Route::of).toList();
+
+        long releaseFloor = calendar.workingMinutesUntil(horizonStart, now);
+        long[] startOffsets = new long[count];
+        for (int i = 0; i < count; i++) {
+            startOffsets[i] = placeOne(routes.get(i), releaseFloor);
+        }
+
+        LocalDateTime[] startTimes = new LocalDateTime[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            if (startOffsets[i] >= 0) {
+                startTimes[i] = calendar.toDateTime(horizonStart, startOffsets[i]);
+            }
+        });
+
+        List<ProductionOrderId> scheduled = new ArrayList<>(count);
+        List<ProductionOrderId> unscheduled = new ArrayList<>();
+        LocalDateTime lastStart = null;
+        for (int i = 0; i < count; i++) {
+            ProductionOrder order = sorted.get(i);
+            if (startTimes[i] == null) {
+                order.clearScheduledStart();
+                unscheduled.add(order.getId());
+                continue;
+            }
+            order.assignScheduledStart(startTimes[i]);
+            scheduled.add(order.getId());
+            if (lastStart == null || startTimes[i].isAfter(lastStart)) {
+                lastStart = startTimes[i];
+            }
+        }
+        return new SchedulePlan(scheduled, unscheduled, horizonStart,
+            horizonStart.plusDays(horizonDays - 1L), lastStart);
+    }
+
+    /**
+     * Places one order on the line; returns its start offset, or -1 if it would start beyond the horizon.
+     * The line is paced (no buffers between stations): the order starts late enough to find a free
+     * position at every station exactly when it arrives there. Positions are only reserved when it fits.
+     */
+    private long placeOne(Route route, long releaseFloor) {
+        int stationCount = route.stationCodes.length;
+        long[][] positions = new long[stationCount][];
+        int[] chosen = new int[stationCount];
+
+        long start = releaseFloor;
+        long arrivalOffset = 0;
+        for (int s = 0; s < stationCount; s++) {
+            long[] freeAt = stationFreeAt.computeIfAbsent(route.stationCodes[s],
+                code -> new long[stationCapacity.getOrDefault(code, defaultCapacity)]);
+            int slot = earliest(freeAt);
+            positions[s] = freeAt;
+            chosen[s] = slot;
+            start = Math.max(start, freeAt[slot] - arrivalOffset);
+            arrivalOffset += route.stationMinutes[s];
+        }
+        if (start >= horizonMinutes) {
+            return -1;
+        }
+
+        long finish = start;
+        for (int s = 0; s < stationCount; s++) {
+            finish += route.stationMinutes[s];
+            positions[s][chosen[s]] = finish;
+        }
+        return start;
+    }
+
+    private static int earliest(long[] freeAt) {
+        int best = 0;
+        for (int i = 1; i < freeAt.length; i++) {
+            if (freeAt[i] < freeAt[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Station visiting order of one production order with the summed standard minutes per station.
+     */
+    private record Route(String[] stationCodes, int[] stationMinutes) {
+
+        static Route of(ProductionOrder order) {
+            TreeMap<Integer, String> codes = new TreeMap<>();
+            Map<Integer, Integer> minutes = new HashMap<>();
+            for (AssemblyStep step : order.getAssemblyProcess().getSteps()) {
+                int sequence = step.getWorkStation().sequence();
+                codes.putIfAbsent(sequence, step.getWorkStation().code());
+                minutes.merge(sequence, step.getStandardTimeMinutes(), Integer::sum);
+            }
+            String[] stationCodes = new String[codes.size()];
+            int[] stationMinutes = new int[codes.size()];
+            int i = 0;
+            for (Map.Entry<Integer, String> entry : codes.entrySet()) {
+                stationCodes[i] = entry.getValue();
+                stationMinutes[i] = minutes.get(entry.getKey());
+                i++;
+            }
+            return new Route(stationCodes, stationMinutes);
+        }
+    }
+}
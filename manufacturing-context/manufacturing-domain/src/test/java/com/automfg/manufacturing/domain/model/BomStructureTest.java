@@ -0,0 +1,136 @@
+package com.automfg.manufacturing.domain.model;
+
+import com.automfg.manufacturing.domain.model.BomStructure.Link;
+import com.automfg.manufacturing.domain.model.BomStructure.ParentType;
+import com.automfg.manufacturing.domain.model.BomStructure.Part;
+import com.automfg.manufacturing.domain.model.BomStructure.Requirements;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BomStructureTest {
+
+    private static Part part(String partNumber) {
+        return new Part(partNumber, partNumber + " description", "UNIT");
+    }
+
+    private static Map<String, Long> asMap(Requirements requirements) {
+        Map<String, Long> result = new HashMap<>();
+        for (int i = 0; i < requirements.size(); i++) {
+            result.put(requirements.part(i).partNumber(), requirements.quantity(i));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("explosion rolls quantities up through every level down to leaf parts")
+    void explode_rolls_up_multi_level_quantities() {
+        BomStructure structure = BomStructure.compile(
+            List.of(part("BAT-001"), part("MOD-001"), part("CEL-001"), part("BMS-001"), part("CHS-001")),
+            List.of(
+                new Link(ParentType.MODEL, "MODEL-S", "BAT-001", 1),
+                new Link(ParentType.MODEL, "MODEL-S", "CHS-001", 1),
+                new Link(ParentType.PART, "BAT-001", "MOD-001", 4),
+                new Link(ParentType.PART, "BAT-001", "BMS-001", 1),
+                new Link(ParentType.PART, "MOD-001", "CEL-001", 96),
+                new Link(ParentType.PART, "MOD-001", "BMS-001", 1)));
+
+        Map<String, Long> exploded = asMap(structure.explodeModel("MODEL-S").orElseThrow());
+
+        assertThat(exploded).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "CEL-001", 384L,
+            "BMS-001", 5L,
+            "CHS-001", 1L));
+    }
+
+    @Test
+    @DisplayName("a shared subassembly is exploded once and reused by every parent")
+    void explode_memoizes_shared_subassemblies() {
+        BomStructure structure = BomStructure.compile(
+            List.of(part("WHL-001"), part("TIR-001"), part("RIM-001")),
+            List.of(
+                new Link(ParentType.MODEL, "MODEL-S", "WHL-001", 4),
+                new Link(ParentType.OPTION, "SPARE-WHEEL", "WHL-001", 1),
+                new Link(ParentType.PART, "WHL-001", "TIR-001", 1),
+                new Link(ParentType.PART, "WHL-001", "RIM-001", 1)));
+
+        Requirements model = structure.explodeModel("MODEL-S").orElseThrow();
+        Requirements option = structure.explodeOption("SPARE-WHEEL").orElseThrow();
+
+        assertThat(structure.explodeModel("MODEL-S").orElseThrow()).isSameAs(model);
+        assertThat(asMap(Requirements.sum(List.of(model, option))))
+            .containsExactlyInAnyOrderEntriesOf(Map.of("TIR-001", 5L, "RIM-001", 5L));
+    }
+
+    @Test
+    @DisplayName("unknown model or option yields no explosion")
+    void explode_unknown_root_is_empty() {
+        BomStructure structure = BomStructure.compile(
+            List.of(part("CHS-001")),
+            List.of(new Link(ParentType.MODEL, "MODEL-S", "CHS-001", 1)));
+
+        assertThat(structure.explodeModel("MODEL-Y")).isEmpty();
+        assertThat(structure.explodeOption("AUTOPILOT")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("compile rejects a structure in which a part contains itself")
+    void compile_rejects_cycles() {
+        assertThatThrownBy(() -> BomStructure.compile(
+                List.of(part("A"), part("B"), part("C")),
+                List.of(
+                    new Link(ParentType.PART, "A", "B", 1),
+                    new Link(ParentType.PART, "B", "C", 1),
+                    new Link(ParentType.PART, "C", "A", 1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cycle");
+    }
+
+    @Test
+    @DisplayName("compile rejects links to unknown parts")
+    void compile_rejects_unknown_components() {
+        assertThatThrownBy(() -> BomStructure.compile(
+                List.of(part("A")),
+                List.of(new Link(ParentType.MODEL, "MODEL-S", "B", 1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("B");
+    }
+
+    @Test
+    @DisplayName("a 10k-node BOM explodes in parallel to the same totals as by hand")
+    void explode_large_structure() {
+        // 10 modules x 10 subassemblies x 100 leaves, every leaf shared by two subassemblies
+        List<Part> parts = new ArrayList<>();
+        List<Link> links = new ArrayList<>();
+        for (int leaf = 0; leaf < 1_000; leaf++) {
+            parts.add(part("LEAF-" + leaf));
+        }
+        for (int module = 0; module < 10; module++) {
+            parts.add(part("MOD-" + module));
+            links.add(new Link(ParentType.MODEL, "MODEL-S", "MOD-" + module, 2));
+            for (int sub = 0; sub < 10; sub++) {
+                String subassembly = "SUB-" + module + "-" + sub;
+                parts.add(part(subassembly));
+                links.add(new Link(ParentType.PART, "MOD-" + module, subassembly, 3));
+                for (int k = 0; k < 100; k++) {
+                    int leaf = (module * 100 + sub * 10 + k) % 1_000;
+                    links.add(new Link(ParentType.PART, subassembly, "LEAF-" + leaf, 1));
+                }
+            }
+        }
+        BomStructure structure = BomStructure.compile(parts, links);
+
+        Map<String, Long> exploded = asMap(structure.explodeModel("MODEL-S").orElseThrow());
+
+        // 100 subassemblies x 100 leaf links x 2 x 3 spread evenly over 1000 leaves
+        assertThat(exploded).hasSize(1_000);
+        assertThat(exploded.values()).allMatch(quantity -> quantity == 60L);
+    }
+}
@@ -0,0 +1,120 @@
+package com.automfg.manufacturing.domain.model;
+
+import com.automfg.manufacturing.domain.model.BomStructure.Link;
+import com.automfg.manufacturing.domain.model.BomStructure.ParentType;
+import com.automfg.manufacturing.domain.model.BomStructure.Part;
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog.Effective;
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog.RoutingStep;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManufacturingCatalogTest {
+
+    private static final LocalDate CHANGEOVER = LocalDate.of(2026, 7, 1);
+
+    private static final List<Part> PARTS = List.of(
+        new Part("MOD-001", "Battery Module", "UNIT"),
+        new Part("CEL-001", "Cell", "UNIT"),
+        new Part("CEL-002", "Cell, high density", "UNIT"));
+
+    private static final List<Effective<Link>> LINKS = List.of(
+        Effective.always(new Link(ParentType.MODEL, "MODEL-S", "MOD-001", 4)),
+        new Effective<>(new Link(ParentType.PART, "MOD-001", "CEL-001", 16), LocalDate.MIN, CHANGEOVER),
+        new Effective<>(new Link(ParentType.PART, "MOD-001", "CEL-002", 12), CHANGEOVER, null));
+
+    private static RoutingStep step(ParentType type, String code, String station, int sequence, int minutes) {
+        return new RoutingStep(type, code, new AssemblyStepTemplate(station, sequence, station + " work", minutes));
+    }
+
+    private static final List<Effective<RoutingStep>> STEPS = List.of(
+        Effective.always(step(ParentType.MODEL, ManufacturingCatalog.DEFAULT_ROUTING, "WS-BODY", 1, 60)),
+        Effective.always(step(ParentType.MODEL, ManufacturingCatalog.DEFAULT_ROUTING, "WS-FINAL", 5, 20)),
+        Effective.always(step(ParentType.MODEL, "MODEL-X", "WS-BODY-XL", 1, 75)),
+        new Effective<>(step(ParentType.OPTION, "TOW-PACKAGE", "WS-TOW", 3, 15), CHANGEOVER, null));
+
+    private static String onlyCell(BomStructure bom) {
+        BomStructure.Requirements requirements = bom.explodeModel("MODEL-S").orElseThrow();
+        assertThat(requirements.size()).isEqualTo(1);
+        return requirements.part(0).partNumber() + " x" + requirements.quantity(0);
+    }
+
+    @Test
+    @DisplayName("bomOn selects the components effective on the date")
+    void bom_on_selects_effective_components() {
+        ManufacturingCatalog catalog = ManufacturingCatalog.compile(1, PARTS, LINKS, STEPS);
+
+        assertThat(onlyCell(catalog.bomOn(CHANGEOVER.minusDays(1)))).isEqualTo("CEL-001 x64");
+        assertThat(onlyCell(catalog.bomOn(CHANGEOVER))).isEqualTo("CEL-002 x48");
+        assertThat(onlyCell(catalog.bomOn(CHANGEOVER.plusYears(5)))).isEqualTo("CEL-002 x48");
+    }
+
+    @Test
+    @DisplayName("periods that differ only in routing share one compiled BOM")
+    void routing_only_change_reuses_bom() {
+        List<Effective<Link>> undated = List.of(
+            Effective.always(new Link(ParentType.MODEL, "MODEL-S", "CEL-001", 1)));
+        ManufacturingCatalog catalog = ManufacturingCatalog.compile(1, PARTS, undated, STEPS);
+
+        assertThat(catalog.bomOn(CHANGEOVER)).isSameAs(catalog.bomOn(CHANGEOVER.minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("routingOn uses the model's own routing, else the default")
+    void routing_on_prefers_model_routing() {
+        ManufacturingCatalog catalog = ManufacturingCatalog.compile(1, PARTS, LINKS, STEPS);
+
+        assertThat(catalog.routingOn(CHANGEOVER, "MODEL-X", List.of()))
+            .extracting(AssemblyStepTemplate::workStationCode)
+            .containsExactly("WS-BODY-XL");
+        assertThat(catalog.routingOn(CHANGEOVER, "MODEL-S", List.of()))
+            .extracting(AssemblyStepTemplate::workStationCode)
+            .containsExactly("WS-BODY", "WS-FINAL");
+    }
+
+    @Test
+    @DisplayName("routingOn slots option steps into workstation order once effective")
+    void routing_on_adds_effective_option_steps() {
+        ManufacturingCatalog catalog = ManufacturingCatalog.compile(1, PARTS, LINKS, STEPS);
+
+        assertThat(catalog.routingOn(CHANGEOVER.minusDays(1), "MODEL-S", List.of("TOW-PACKAGE")))
+            .extracting(AssemblyStepTemplate::workStationCode)
+            .containsExactly("WS-BODY", "WS-FINAL");
+        assertThat(catalog.routingOn(CHANGEOVER, "MODEL-S", List.of("TOW-PACKAGE")))
+            .extracting(AssemblyStepTemplate::workStationCode)
+            .containsExactly("WS-BODY", "WS-TOW", "WS-FINAL");
+    }
+
+    @Test
+    @DisplayName("routingOn fails when no routing applies to the model")
+    void routing_on_without_routing_fails() {
+        ManufacturingCatalog catalog = ManufacturingCatalog.compile(1, PARTS, LINKS, List.of());
+
+        assertThatThrownBy(() -> catalog.routingOn(CHANGEOVER, "MODEL-S", List.of()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("compile rejects a version in which any period has a BOM cycle")
+    void compile_rejects_cycle_in_later_period() {
+        List<Effective<Link>> links = List.of(
+            Effective.always(new Link(ParentType.PART, "MOD-001", "CEL-001", 1)),
+            new Effective<>(new Link(ParentType.PART, "CEL-001", "MOD-001", 1), CHANGEOVER, null));
+
+        assertThatThrownBy(() -> ManufacturingCatalog.compile(2, PARTS, links, STEPS))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cycle");
+    }
+
+    @Test
+    @DisplayName("an effectivity range must end after it starts")
+    void effective_range_must_be_positive() {
+        assertThatThrownBy(() -> new Effective<>("x", CHANGEOVER, CHANGEOVER))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.automfg.manufacturing.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlantAssignmentTest {
+
+    private static final PlantId SHANGHAI = new PlantId("PLANT-SH");
+    private static final PlantId TAIPEI = new PlantId("PLANT-TP");
+
+    @Test
+    @DisplayName("models listed for a plant are built there, all others at the default plant")
+    void assigns_listed_models_and_defaults_the_rest() {
+        PlantAssignment assignment = new PlantAssignment(SHANGHAI, Map.of("MODEL-Y-SUV", TAIPEI));
+
+        assertThat(assignment.plantFor("MODEL-Y-SUV")).isEqualTo(TAIPEI);
+        assertThat(assignment.plantFor("MODEL-X-SEDAN")).isEqualTo(SHANGHAI);
+        assertThat(assignment.plantFor(null)).isEqualTo(SHANGHAI);
+    }
+
+    @Test
+    @DisplayName("a single-plant assignment builds every model at that plant")
+    void single_plant_builds_everything() {
+        assertThat(PlantAssignment.singlePlant(TAIPEI).plantFor("MODEL-Y-SUV")).isEqualTo(TAIPEI);
+    }
+
+    @Test
+    @DisplayName("plant codes are short uppercase identifiers")
+    void rejects_malformed_plant_codes() {
+        assertThatThrownBy(() -> new PlantId("plant-sh"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PlantId("PLANT-WITH-A-VERY-LONG-CODE"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PlantId(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
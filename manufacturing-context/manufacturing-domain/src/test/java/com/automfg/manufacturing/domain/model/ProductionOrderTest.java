@@ -2,13 +2,17 @@ package com.automfg.manufacturing.domain.model;
 
 import com.automfg.manufacturing.domain.event.AssemblyCompletedEvent;
 import com.automfg.manufacturing.domain.event.AssemblyOvertimeAlertEvent;
+import com.automfg.manufacturing.domain.event.AssemblyStepCompletedEvent;
 import com.automfg.manufacturing.domain.event.MaterialShortageEvent;
 import com.automfg.manufacturing.domain.event.ProductionOrderScheduledEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotAssignedEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotClearedEvent;
 import com.automfg.manufacturing.domain.event.ProductionStartedEvent;
 import com.automfg.shared.domain.DomainEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +25,9 @@ class ProductionOrderTest {
     private static final ProductionOrderNumber ORDER_NUMBER = new ProductionOrderNumber("PO-SH-202602-00001");
     private static final UUID SOURCE_ORDER_ID = UUID.randomUUID();
     private static final VIN VIN_VALUE = new VIN("1HGBH41JXMN109186");
+    private static final PlantId PLANT = new PlantId("PLANT-01");
+    private static final String MODEL_CODE = "MODEL-X-SEDAN";
+    private static final String COLOR_CODE = "RED-001";
 
     private static final List<AssemblyStepTemplate> TEMPLATES = List.of(
         new AssemblyStepTemplate("WS-BODY", 1, "Body welding", 60),
@@ -50,10 +57,11 @@ class ProductionOrderTest {
     @DisplayName("create with available materials schedules the production order")
     void create_with_available_materials_schedules() {
         ProductionOrder order = ProductionOrder.create(
-            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE,
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             allAvailableBom(), TEMPLATES);
 
         assertThat(order.getStatus()).isEqualTo(ProductionOrderStatus.SCHEDULED);
+        assertThat(order.getPlantId()).isEqualTo(PLANT);
         assertThat(order.getDomainEvents()).hasSize(1);
         assertThat(order.getDomainEvents().get(0)).isInstanceOf(ProductionOrderScheduledEvent.class);
 
@@ -68,7 +76,7 @@ class ProductionOrderTest {
     @DisplayName("create with missing materials sets MATERIAL_PENDING status")
     void create_with_missing_materials_pending() {
         ProductionOrder order = ProductionOrder.create(
-            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE,
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             partiallyAvailableBom(), TEMPLATES);
 
         assertThat(order.getStatus()).isEqualTo(ProductionOrderStatus.MATERIAL_PENDING);
@@ -84,7 +92,7 @@ class ProductionOrderTest {
     @DisplayName("startProduction transitions SCHEDULED to IN_PRODUCTION")
     void start_production_success() {
         ProductionOrder order = ProductionOrder.create(
-            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE,
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             allAvailableBom(), TEMPLATES);
         order.clearDomainEvents();
 
@@ -104,7 +112,7 @@ class ProductionOrderTest {
     @DisplayName("startProduction throws when status is not SCHEDULED")
     void start_production_wrong_status_throws() {
         ProductionOrder order = ProductionOrder.create(
-            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE,
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             partiallyAvailableBom(), TEMPLATES);
 
         assertThatThrownBy(() -> order.startProduction("OP-001", "WS-BODY"))
@@ -112,6 +120,43 @@ class ProductionOrderTest {
             .hasMessageContaining("MATERIAL_PENDING");
     }
 
+    @Test
+    @DisplayName("assignScheduledStart registers ProductionStartSlotAssignedEvent only when the slot moves")
+    void assign_scheduled_start_registers_event_on_change() {
+        ProductionOrder order = ProductionOrder.create(
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
+            allAvailableBom(), TEMPLATES);
+        order.clearDomainEvents();
+        LocalDateTime slot = LocalDateTime.of(2026, 3, 2, 6, 0);
+
+        order.assignScheduledStart(slot);
+        order.assignScheduledStart(slot);
+
+        assertThat(order.getScheduledStartDate()).isEqualTo(slot);
+        assertThat(order.getDomainEvents()).hasSize(1);
+        ProductionStartSlotAssignedEvent event = (ProductionStartSlotAssignedEvent) order.getDomainEvents().get(0);
+        assertThat(event.getProductionOrderId()).isEqualTo(ORDER_ID.value());
+        assertThat(event.getScheduledStartDate()).isEqualTo(slot);
+    }
+
+    @Test
+    @DisplayName("clearScheduledStart withdraws the slot and registers ProductionStartSlotClearedEvent once")
+    void clear_scheduled_start_registers_event_once() {
+        ProductionOrder order = ProductionOrder.create(
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
+            allAvailableBom(), TEMPLATES);
+        order.assignScheduledStart(LocalDateTime.of(2026, 3, 2, 6, 0));
+        order.clearDomainEvents();
+
+        order.clearScheduledStart();
+        order.clearScheduledStart();
+
+        assertThat(order.getScheduledStartDate()).isNull();
+        assertThat(order.getDomainEvents()).singleElement()
+            .isInstanceOfSatisfying(ProductionStartSlotClearedEvent.class,
+                event -> assertThat(event.getProductionOrderId()).isEqualTo(ORDER_ID.value()));
+    }
+
     @Test
     @DisplayName("completeAssemblyStep successfully completes a step with batch number")
     void complete_assembly_step_success() {
@@ -151,6 +196,30 @@ class ProductionOrderTest {
         assertThat(alertEvent.getActualMinutes()).isEqualTo(91);
     }
 
+    @Test
+    @DisplayName("completeAssemblyStep registers AssemblyStepCompletedEvent with station timing and genealogy")
+    void complete_assembly_step_registers_step_completed_event() {
+        ProductionOrder order = createInProductionOrder();
+        AssemblyStepId stepId = order.getAssemblyProcess().getSteps().get(0).getId();
+        order.clearDomainEvents();
+
+        order.completeAssemblyStep(stepId, "OP-001", "BATCH-001", 55);
+
+        AssemblyStepCompletedEvent event = order.getDomainEvents().stream()
+            .filter(e -> e instanceof AssemblyStepCompletedEvent)
+            .map(e -> (AssemblyStepCompletedEvent) e)
+            .findFirst().orElseThrow();
+        assertThat(event.getVin()).isEqualTo(order.getVin().value());
+        assertThat(event.getMaterialBatchId()).isEqualTo("BATCH-001");
+        assertThat(event.getWorkStationCode()).isEqualTo("WS-BODY");
+        assertThat(event.getWorkStationSequence()).isEqualTo(1);
+        assertThat(event.getStandardMinutes()).isEqualTo(60);
+        assertThat(event.getActualMinutes()).isEqualTo(55);
+        assertThat(event.isOvertime()).isFalse();
+        assertThat(event.getCompletedAt()).isNotNull()
+            .isEqualTo(order.getAssemblyProcess().getStep(stepId).getCompletedAt());
+    }
+
     @Test
     @DisplayName("completing all assembly steps transitions to ASSEMBLY_COMPLETED")
     void complete_all_steps_assembly_completed() {
@@ -174,7 +243,7 @@ class ProductionOrderTest {
     void is_modifiable() {
         // SCHEDULED -> modifiable
         ProductionOrder scheduledOrder = ProductionOrder.create(
-            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE,
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             allAvailableBom(), TEMPLATES);
         assertThat(scheduledOrder.isModifiable()).isTrue();
 
@@ -182,7 +251,7 @@ class ProductionOrderTest {
         ProductionOrder pendingOrder = ProductionOrder.create(
             new ProductionOrderId(UUID.randomUUID()),
             new ProductionOrderNumber("PO-SH-202602-00002"),
-            UUID.randomUUID(), VIN_VALUE,
+            UUID.randomUUID(), VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             partiallyAvailableBom(), TEMPLATES);
         assertThat(pendingOrder.isModifiable()).isTrue();
 
@@ -196,7 +265,7 @@ class ProductionOrderTest {
      */
     private ProductionOrder createInProductionOrder() {
         ProductionOrder order = ProductionOrder.create(
-            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE,
+            ORDER_ID, ORDER_NUMBER, SOURCE_ORDER_ID, VIN_VALUE, PLANT, MODEL_CODE, COLOR_CODE,
             allAvailableBom(), TEMPLATES);
         order.startProduction("OP-001", "WS-BODY");
         return order;
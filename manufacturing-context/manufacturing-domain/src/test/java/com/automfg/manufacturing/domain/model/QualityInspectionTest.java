@@ -146,6 +146,8 @@ class QualityInspectionTest {
 
         InspectionCompletedEvent completedEvent = (InspectionCompletedEvent) events.get(1);
         assertThat(completedEvent.getResult()).isEqualTo("PASSED");
+        assertThat(completedEvent.getInspectorId()).isEqualTo(inspectorId);
+        assertThat(completedEvent.isReinspection()).isFalse();
     }
 
     // --- Test 5: Complete safety item failed -> result = FAILED (BR-10) ---
@@ -339,6 +341,7 @@ class QualityInspectionTest {
             assertThat(event).isInstanceOf(InspectionFailedEvent.class);
             InspectionFailedEvent failedEvent = (InspectionFailedEvent) event;
             assertThat(failedEvent.getFailedItemDescriptions()).contains("Brake System Inspection");
+            assertThat(failedEvent.getInspectorId()).isEqualTo(inspectorId);
         });
 
         assertThat(events).anySatisfy(event ->
@@ -347,4 +350,66 @@ class QualityInspectionTest {
         // Should NOT have VehicleCompletedEvent
         assertThat(events).noneMatch(event -> event instanceof VehicleCompletedEvent);
     }
+
+    // --- Test 14: Record unknown item throws ---
+
+    @Test
+    void record_unknown_item_throws() {
+        QualityInspection inspection = QualityInspection.create(
+            inspectionId, productionOrderId, vin, inspectorId, standardChecklist());
+        InspectionItemId unknownId = new InspectionItemId(UUID.randomUUID());
+
+        assertThatThrownBy(() ->
+            inspection.recordItemResult(unknownId, InspectionItemStatus.PASSED, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Inspection item not found");
+    }
+
+    // --- Test 15: Complete non-safety item failed -> result = FAILED ---
+
+    @Test
+    void complete_non_safety_item_failed() {
+        QualityInspection inspection = QualityInspection.create(
+            inspectionId, productionOrderId, vin, inspectorId, standardChecklist());
+
+        inspection.recordItemResult(inspection.getItems().get(0).getId(), InspectionItemStatus.PASSED, null);
+        inspection.recordItemResult(inspection.getItems().get(1).getId(), InspectionItemStatus.CONDITIONAL, null);
+        inspection.recordItemResult(inspection.getItems().get(2).getId(), InspectionItemStatus.FAILED, "Paint run");
+        inspection.recordItemResult(inspection.getItems().get(3).getId(), InspectionItemStatus.PASSED, null);
+
+        inspection.complete(inspectorId);
+
+        assertThat(inspection.getResult()).isEqualTo(InspectionResult.FAILED);
+    }
+
+    // --- Test 16: Conditional safety item -> result = CONDITIONAL_PASS ---
+
+    @Test
+    void complete_conditional_safety_item() {
+        QualityInspection inspection = QualityInspection.create(
+            inspectionId, productionOrderId, vin, inspectorId, standardChecklist());
+
+        inspection.recordItemResult(inspection.getItems().get(0).getId(), InspectionItemStatus.CONDITIONAL, "Pad wear");
+        inspection.recordItemResult(inspection.getItems().get(1).getId(), InspectionItemStatus.PASSED, null);
+        inspection.recordItemResult(inspection.getItems().get(2).getId(), InspectionItemStatus.PASSED, null);
+        inspection.recordItemResult(inspection.getItems().get(3).getId(), InspectionItemStatus.PASSED, null);
+
+        inspection.complete(inspectorId);
+
+        assertThat(inspection.getResult()).isEqualTo(InspectionResult.CONDITIONAL_PASS);
+    }
+
+    // --- Test 17: Completing a re-inspection flags it as not first pass ---
+
+    @Test
+    void complete_reinspection_flags_event() {
+        QualityInspection inspection = QualityInspection.createForReinspection(
+            inspectionId, productionOrderId, vin, inspectorId, standardChecklist(), UUID.randomUUID());
+
+        recordAllItemsAs(inspection, InspectionItemStatus.PASSED);
+        inspection.complete(inspectorId);
+
+        InspectionCompletedEvent completedEvent = (InspectionCompletedEvent) inspection.getDomainEvents().get(1);
+        assertThat(completedEvent.isReinspection()).isTrue();
+    }
 }
@@ -0,0 +1,83 @@
+package com.automfg.manufacturing.domain.model;
+
+import com.automfg.manufacturing.domain.model.RequirementsLedger.OrderRequirements;
+import com.automfg.manufacturing.domain.model.RequirementsLedger.PartQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequirementsLedgerTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 2);
+    private static final int DAYS = 10;
+
+    private static OrderRequirements order(UUID id, LocalDate neededOn, long cells, long chassis) {
+        return new OrderRequirements(id, neededOn, List.of(
+            new PartQuantity("CEL-001", cells),
+            new PartQuantity("CHS-001", chassis)));
+    }
+
+    @Test
+    @DisplayName("requirements land in the bucket of their day; unscheduled and overdue in bucket 0")
+    void put_buckets_by_day() {
+        RequirementsLedger ledger = RequirementsLedger.empty(START, DAYS);
+
+        ledger.put(order(UUID.randomUUID(), START.plusDays(3), 80, 1));
+        ledger.put(order(UUID.randomUUID(), null, 80, 1));
+        ledger.put(order(UUID.randomUUID(), START.minusDays(5), 80, 1));
+        ledger.put(order(UUID.randomUUID(), START.plusDays(400), 80, 1));
+
+        long[] cells = ledger.grossRequirements("CEL-001");
+        assertThat(cells[0]).isEqualTo(160);
+        assertThat(cells[3]).isEqualTo(80);
+        assertThat(cells[DAYS - 1]).isEqualTo(80);
+        assertThat(ledger.orderCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("put replaces, reschedule moves and remove withdraws an order's contribution")
+    void incremental_changes() {
+        RequirementsLedger ledger = RequirementsLedger.empty(START, DAYS);
+        UUID id = UUID.randomUUID();
+
+        ledger.put(order(id, START.plusDays(1), 80, 1));
+        ledger.put(order(id, START.plusDays(1), 96, 1));
+        assertThat(ledger.grossRequirements("CEL-001")[1]).isEqualTo(96);
+
+        assertThat(ledger.reschedule(id, START.plusDays(4))).isTrue();
+        assertThat(ledger.grossRequirements("CEL-001")[1]).isZero();
+        assertThat(ledger.grossRequirements("CEL-001")[4]).isEqualTo(96);
+
+        assertThat(ledger.remove(id)).isTrue();
+        assertThat(ledger.grossRequirements("CEL-001")).containsOnly(0L);
+        assertThat(ledger.remove(id)).isFalse();
+        assertThat(ledger.reschedule(id, START)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a parallel build matches applying the same orders one by one")
+    void build_matches_incremental() {
+        List<OrderRequirements> orders = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            orders.add(new OrderRequirements(UUID.randomUUID(), START.plusDays(i % 13), List.of(
+                new PartQuantity("PART-" + (i % 7), i % 5 + 1),
+                new PartQuantity("PART-" + (i % 11 + 7), 2))));
+        }
+        RequirementsLedger incremental = RequirementsLedger.empty(START, DAYS);
+        orders.forEach(incremental::put);
+
+        RequirementsLedger built = RequirementsLedger.build(START, DAYS, orders);
+
+        assertThat(built.orderCount()).isEqualTo(orders.size());
+        assertThat(built.partNumbers()).containsExactlyInAnyOrderElementsOf(incremental.partNumbers());
+        for (String part : built.partNumbers()) {
+            assertThat(built.grossRequirements(part)).containsExactly(incremental.grossRequirements(part));
+        }
+    }
+}
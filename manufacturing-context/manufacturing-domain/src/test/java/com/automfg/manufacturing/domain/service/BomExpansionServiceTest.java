@@ -2,6 +2,10 @@ package com.automfg.manufacturing.domain.service;
 
 import com.automfg.manufacturing.domain.model.BomLineItem;
 import com.automfg.manufacturing.domain.model.BomSnapshot;
+import com.automfg.manufacturing.domain.model.BomStructure;
+import com.automfg.manufacturing.domain.model.BomStructure.Link;
+import com.automfg.manufacturing.domain.model.BomStructure.ParentType;
+import com.automfg.manufacturing.domain.model.BomStructure.Part;
 import com.automfg.manufacturing.domain.port.MaterialAvailabilityGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,13 +16,36 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class BomExpansionServiceTest {
 
+    private static final BomStructure STRUCTURE = BomStructure.compile(
+        List.of(
+            new Part("CHS-001", "Chassis Frame Assembly", "UNIT"),
+            new Part("ENG-001", "Electric Motor Unit", "UNIT"),
+            new Part("BAT-001", "Battery Pack 100kWh", "UNIT"),
+            new Part("WHL-001", "Wheel Assembly 19in", "UNIT"),
+            new Part("ELC-001", "Electrical Wiring Harness", "SET"),
+            new Part("CHS-002", "SUV Chassis Frame Assembly", "UNIT"),
+            new Part("AUD-001", "Premium Speaker System", "SET"),
+            new Part("AUD-002", "Amplifier Unit", "UNIT"),
+            new Part("TOW-001", "Tow Hitch Assembly", "UNIT")),
+        List.of(
+            new Link(ParentType.MODEL, "MODEL-S", "CHS-001", 1),
+            new Link(ParentType.MODEL, "MODEL-S", "ENG-001", 1),
+            new Link(ParentType.MODEL, "MODEL-S", "BAT-001", 1),
+            new Link(ParentType.MODEL, "MODEL-S", "WHL-001", 4),
+            new Link(ParentType.MODEL, "MODEL-S", "ELC-001", 1),
+            new Link(ParentType.MODEL, "MODEL-X", "CHS-002", 1),
+            new Link(ParentType.OPTION, "PREMIUM-AUDIO", "AUD-001", 1),
+            new Link(ParentType.OPTION, "PREMIUM-AUDIO", "AUD-002", 1),
+            new Link(ParentType.OPTION, "TOW-PACKAGE", "TOW-001", 1),
+            new Link(ParentType.OPTION, "TOW-PACKAGE", "ELC-001", 1)));
+
     @Test
     @DisplayName("expandBom with all materials available returns fully available BOM")
     void expand_bom_all_available() {
         MaterialAvailabilityGateway allAvailable = (partNumber, quantity) -> true;
         BomExpansionService service = new BomExpansionService(allAvailable);
 
-        BomSnapshot snapshot = service.expandBom("MODEL-S", List.of("PREMIUM-AUDIO"));
+        BomSnapshot snapshot = service.expandBom(STRUCTURE, "MODEL-S", List.of("PREMIUM-AUDIO"));
 
         assertThat(snapshot.isFullyAvailable()).isTrue();
         assertThat(snapshot.getLineItems()).isNotEmpty();
@@ -40,7 +67,7 @@ class BomExpansionServiceTest {
 
         BomExpansionService service = new BomExpansionService(partialAvailable);
 
-        BomSnapshot snapshot = service.expandBom("MODEL-S", List.of());
+        BomSnapshot snapshot = service.expandBom(STRUCTURE, "MODEL-S", List.of());
 
         assertThat(snapshot.isFullyAvailable()).isFalse();
         assertThat(snapshot.getMissingMaterials()).hasSize(2);
@@ -50,4 +77,35 @@ class BomExpansionServiceTest {
             .toList();
         assertThat(missingPartNumbers).containsExactlyInAnyOrder("BAT-001", "ENG-001");
     }
+
+    @Test
+    @DisplayName("expandBom merges a part shared by model and option into one line item")
+    void expand_bom_merges_shared_parts() {
+        BomExpansionService service = new BomExpansionService((partNumber, quantity) -> true);
+
+        BomSnapshot snapshot = service.expandBom(STRUCTURE, "MODEL-S", List.of("TOW-PACKAGE"));
+
+        assertThat(snapshot.getLineItems())
+            .filteredOn(item -> item.partNumber().equals("ELC-001"))
+            .singleElement()
+            .extracting(BomLineItem::quantityRequired)
+            .isEqualTo(2);
+        assertThat(snapshot.getLineItems())
+            .filteredOn(item -> item.partNumber().equals("WHL-001"))
+            .singleElement()
+            .extracting(BomLineItem::quantityRequired)
+            .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("expandBom falls back to the default model and ignores unknown options")
+    void expand_bom_unknown_model_and_option() {
+        BomExpansionService service = new BomExpansionService((partNumber, quantity) -> true);
+
+        BomSnapshot snapshot = service.expandBom(STRUCTURE, "MODEL-UNKNOWN", List.of("NO-SUCH-OPTION"));
+
+        assertThat(snapshot.getLineItems())
+            .extracting(BomLineItem::partNumber)
+            .containsExactlyInAnyOrder("CHS-001", "ENG-001", "BAT-001", "WHL-001", "ELC-001");
+    }
 }
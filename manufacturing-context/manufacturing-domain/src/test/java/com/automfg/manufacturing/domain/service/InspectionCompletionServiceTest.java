@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -42,6 +43,21 @@ class InspectionCompletionServiceTest {
             public boolean existsBySourceOrderId(UUID sourceOrderId) {
                 return false;
             }
+
+            @Override
+            public List<ProductionOrder> findByStatus(ProductionOrderStatus status) {
+                return List.of();
+            }
+
+            @Override
+            public List<ProductionOrder> findScheduledByStartSlot(int limit) {
+                return List.of();
+            }
+
+            @Override
+            public List<ProductionOrderId> saveScheduledStarts(Collection<ProductionOrder> orders) {
+                return List.of();
+            }
         };
 
         service = new InspectionCompletionService(productionOrderRepository);
@@ -84,9 +100,11 @@ class InspectionCompletionServiceTest {
             new ProductionOrderNumber("PO-SH-202601-00001"),
             UUID.randomUUID(),
             vin,
+            new PlantId("PLANT-01"),
+            "MODEL-X-SEDAN", "RED-001",
             status,
             null, null, null, null,
-            LocalDateTime.now()
+            LocalDateTime.now(), 0L
         );
     }
 
@@ -0,0 +1,61 @@
+package com.automfg.manufacturing.domain.service;
+
+import com.automfg.manufacturing.domain.model.RequirementsLedger.OrderRequirements;
+import com.automfg.manufacturing.domain.model.RequirementsLedger.PartQuantity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaterialRequirementsPlannerTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 2);
+
+    private static OrderRequirements order(UUID id, long chassis) {
+        return new OrderRequirements(id, START, List.of(new PartQuantity("CHS-001", chassis)));
+    }
+
+    private static long chassisOnStart(MaterialRequirementsPlanner planner) {
+        return planner.read(ledger -> ledger.grossRequirements("CHS-001")[0]);
+    }
+
+    @Test
+    @DisplayName("regenerate replaces the ledger with the loaded open orders")
+    void regenerate_replaces_ledger() {
+        MaterialRequirementsPlanner planner = new MaterialRequirementsPlanner(30, START);
+        planner.put(order(UUID.randomUUID(), 5));
+
+        int loaded = planner.regenerate(START, () -> List.of(order(UUID.randomUUID(), 1), order(UUID.randomUUID(), 1)));
+
+        assertThat(loaded).isEqualTo(2);
+        assertThat(chassisOnStart(planner)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("changes made while a regeneration is loading are replayed onto the new ledger")
+    void changes_during_regeneration_are_kept() {
+        MaterialRequirementsPlanner planner = new MaterialRequirementsPlanner(30, START);
+        UUID existing = UUID.randomUUID();
+        UUID started = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        planner.put(order(existing, 1));
+        planner.put(order(started, 1));
+
+        planner.regenerate(START, () -> {
+            // The load saw 'started' as still open, but it leaves and a new order arrives meanwhile
+            List<OrderRequirements> snapshot = List.of(order(existing, 1), order(started, 1));
+            planner.remove(started);
+            planner.put(order(created, 4));
+            return snapshot;
+        });
+
+        assertThat(chassisOnStart(planner)).isEqualTo(5);
+        assertThat(planner.reschedule(started, START)).isFalse();
+        assertThat(planner.reschedule(created, START.plusDays(1))).isTrue();
+        assertThat(chassisOnStart(planner)).isEqualTo(1);
+    }
+}
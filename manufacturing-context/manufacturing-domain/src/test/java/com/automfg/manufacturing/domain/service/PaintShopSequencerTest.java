@@ -0,0 +1,92 @@
+package com.automfg.manufacturing.domain.service;
+
+import com.automfg.manufacturing.domain.model.PaintJob;
+import com.automfg.manufacturing.domain.model.PaintSequence;
+import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaintShopSequencerTest {
+
+    private final PaintShopSequencer sequencer = new PaintShopSequencer();
+
+    private static List<PaintJob> jobs(int maxDelay, String... colors) {
+        List<PaintJob> jobs = new ArrayList<>();
+        for (int i = 0; i < colors.length; i++) {
+            jobs.add(new PaintJob(new ProductionOrderId(UUID.randomUUID()), colors[i], i,
+                Math.min(i + maxDelay, colors.length - 1)));
+        }
+        return jobs;
+    }
+
+    private static List<String> colorsOf(PaintSequence sequence, List<PaintJob> jobs) {
+        return sequence.sequence().stream()
+            .map(id -> jobs.stream().filter(j -> j.productionOrderId().equals(id)).findFirst().orElseThrow().colorCode())
+            .toList();
+    }
+
+    @Test
+    @DisplayName("alternating colors are grouped into blocks when delay allows")
+    void groups_colors_into_blocks() {
+        List<PaintJob> jobs = jobs(10, "RED", "BLUE", "RED", "BLUE", "RED", "BLUE");
+
+        PaintSequence sequence = sequencer.sequence(jobs, null);
+
+        assertThat(colorsOf(sequence, jobs)).containsExactly("RED", "RED", "RED", "BLUE", "BLUE", "BLUE");
+        assertThat(sequence.changeoversBefore()).isEqualTo(5);
+        assertThat(sequence.changeoversAfter()).isEqualTo(1);
+        assertThat(sequence.changeoversSaved()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("no order is released after its deadline slot")
+    void respects_deadlines() {
+        Random random = new Random(42);
+        String[] palette = {"RED", "BLUE", "WHITE", "BLACK", "SILVER"};
+        String[] colors = new String[3000];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = palette[random.nextInt(palette.length)];
+        }
+        List<PaintJob> jobs = jobs(15, colors);
+
+        PaintSequence sequence = sequencer.sequence(jobs, "RED");
+
+        assertThat(sequence.sequence()).hasSize(jobs.size()).doesNotHaveDuplicates();
+        for (int position = 0; position < sequence.sequence().size(); position++) {
+            ProductionOrderId id = sequence.sequence().get(position);
+            PaintJob job = jobs.stream().filter(j -> j.productionOrderId().equals(id)).findFirst().orElseThrow();
+            assertThat(position).isLessThanOrEqualTo(job.deadlineIndex());
+        }
+        assertThat(sequence.changeoversAfter()).isLessThan(sequence.changeoversBefore());
+    }
+
+    @Test
+    @DisplayName("zero delay keeps FIFO release order")
+    void zero_delay_keeps_fifo() {
+        List<PaintJob> jobs = jobs(0, "RED", "BLUE", "RED");
+
+        PaintSequence sequence = sequencer.sequence(jobs, null);
+
+        assertThat(sequence.sequence()).containsExactlyElementsOf(
+            jobs.stream().map(PaintJob::productionOrderId).toList());
+        assertThat(sequence.changeoversSaved()).isZero();
+    }
+
+    @Test
+    @DisplayName("the color loaded in the booth is continued first")
+    void continues_previous_color() {
+        List<PaintJob> jobs = jobs(5, "RED", "BLUE", "BLUE");
+
+        PaintSequence sequence = sequencer.sequence(jobs, "BLUE");
+
+        assertThat(colorsOf(sequence, jobs)).containsExactly("BLUE", "BLUE", "RED");
+        assertThat(sequence.changeoversAfter()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,194 @@
+package com.automfg.manufacturing.domain.service;
+
+import com.automfg.manufacturing.domain.event.ProductionStartSlotClearedEvent;
+import com.automfg.manufacturing.domain.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductionSchedulerTest {
+
+    // Monday 2026-03-02, before the first shift
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2026, 3, 2, 5, 0);
+
+    private static final List<AssemblyStepTemplate> TEMPLATES = List.of(
+        new AssemblyStepTemplate("WS-BODY", 1, "Body welding", 60),
+        new AssemblyStepTemplate("WS-PAINT", 2, "Paint application", 45),
+        new AssemblyStepTemplate("WS-MECH", 3, "Mechanical assembly", 90)
+    );
+
+    private int sequence;
+
+    private ProductionOrder scheduledOrder() {
+        sequence++;
+        return ProductionOrder.create(
+            new ProductionOrderId(UUID.randomUUID()),
+            new ProductionOrderNumber(String.format("PO-SH-202603-%05d", sequence)),
+            UUID.randomUUID(), new VIN("1HGBH41JXMN109186"), new PlantId("PLANT-01"),
+            "MODEL-X-SEDAN", "RED-001",
+            new BomSnapshot(List.of(new BomLineItem("CHS-001", "Chassis Frame", 1, "UNIT", true))),
+            TEMPLATES);
+    }
+
+    @Test
+    @DisplayName("orders are released FIFO and wait for the bottleneck station")
+    void replan_respects_station_capacity() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 90);
+        ProductionOrder first = scheduledOrder();
+        ProductionOrder second = scheduledOrder();
+        ProductionOrder third = scheduledOrder();
+
+        SchedulePlan plan = scheduler.replan(List.of(third, first, second), MONDAY_MORNING);
+
+        assertThat(plan.scheduled()).containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(first.getScheduledStartDate()).isEqualTo(LocalDateTime.of(2026, 3, 2, 6, 0));
+        // WS-MECH (90 min) is the bottleneck, so starts are paced 90 minutes apart
+        assertThat(second.getScheduledStartDate()).isEqualTo(LocalDateTime.of(2026, 3, 2, 7, 30));
+        assertThat(third.getScheduledStartDate()).isEqualTo(LocalDateTime.of(2026, 3, 2, 9, 0));
+    }
+
+    @Test
+    @DisplayName("parallel station positions let orders start back to back")
+    void replan_uses_parallel_positions() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of("WS-BODY", 2, "WS-PAINT", 2, "WS-MECH", 2), 1, 90);
+        ProductionOrder first = scheduledOrder();
+        ProductionOrder second = scheduledOrder();
+
+        scheduler.replan(List.of(first, second), MONDAY_MORNING);
+
+        assertThat(first.getScheduledStartDate()).isEqualTo(second.getScheduledStartDate());
+    }
+
+    @Test
+    @DisplayName("starts skip nights and weekends of the shift calendar")
+    void replan_follows_shift_calendar() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 90);
+        List<ProductionOrder> orders = new ArrayList<>();
+        // One start per 90 minutes: the 81st order starts 7200 working minutes in, i.e. the next week
+        for (int i = 0; i < 16 * 5 + 1; i++) {
+            orders.add(scheduledOrder());
+        }
+
+        scheduler.replan(orders, MONDAY_MORNING);
+
+        LocalDateTime lastStart = orders.get(orders.size() - 1).getScheduledStartDate();
+        assertThat(lastStart).isEqualTo(LocalDateTime.of(2026, 3, 11, 14, 0));
+    }
+
+    @Test
+    @DisplayName("orders beyond the horizon stay unscheduled and reserve no capacity")
+    void replan_leaves_overflow_unscheduled() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 1);
+        List<ProductionOrder> orders = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            orders.add(scheduledOrder());
+        }
+
+        SchedulePlan plan = scheduler.replan(orders, MONDAY_MORNING);
+
+        // 960 minutes / 90 min bottleneck = 11 starts (0, 90, ..., 900)
+        assertThat(plan.scheduled()).hasSize(11);
+        assertThat(plan.unscheduled()).hasSize(9);
+        assertThat(orders.get(19).getScheduledStartDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("a replan withdraws the slot of an order that no longer fits the horizon")
+    void replan_clears_slot_of_overflow() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 1);
+        List<ProductionOrder> orders = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            orders.add(scheduledOrder());
+        }
+        ProductionOrder last = orders.get(11);
+        last.assignScheduledStart(LocalDateTime.of(2026, 3, 2, 21, 0));
+        last.clearDomainEvents();
+
+        SchedulePlan plan = scheduler.replan(orders, MONDAY_MORNING);
+
+        assertThat(plan.unscheduled()).containsExactly(last.getId());
+        assertThat(last.getScheduledStartDate()).isNull();
+        assertThat(last.getDomainEvents()).singleElement().isInstanceOf(ProductionStartSlotClearedEvent.class);
+    }
+
+    @Test
+    @DisplayName("incremental scheduling appends behind the baseline without moving planned orders")
+    void schedule_appends_incrementally() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 90);
+        ProductionOrder first = scheduledOrder();
+        scheduler.replan(List.of(first), MONDAY_MORNING);
+        LocalDateTime firstStart = first.getScheduledStartDate();
+
+        ProductionOrder arrival = scheduledOrder();
+        SchedulePlan plan = scheduler.schedule(List.of(arrival), MONDAY_MORNING);
+
+        assertThat(plan.scheduled()).containsExactly(arrival.getId());
+        assertThat(first.getScheduledStartDate()).isEqualTo(firstStart);
+        assertThat(arrival.getScheduledStartDate()).isEqualTo(LocalDateTime.of(2026, 3, 2, 7, 30));
+    }
+
+    @Test
+    @DisplayName("incremental scheduling on later days rolls the horizon forward instead of running out")
+    void schedule_rolls_horizon_across_days() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 1);
+        List<ProductionOrder> monday = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            monday.add(scheduledOrder());
+        }
+        scheduler.replan(monday, MONDAY_MORNING);
+
+        // Monday's last start (21:00) is still at WS-MECH until 08:15 on Tuesday
+        ProductionOrder tuesday = scheduledOrder();
+        SchedulePlan tuesdayPlan = scheduler.schedule(List.of(tuesday), MONDAY_MORNING.plusDays(1));
+
+        assertThat(tuesdayPlan.scheduled()).containsExactly(tuesday.getId());
+        assertThat(tuesdayPlan.horizonStart()).isEqualTo(LocalDate.of(2026, 3, 3));
+        assertThat(tuesday.getScheduledStartDate()).isEqualTo(LocalDateTime.of(2026, 3, 3, 6, 30));
+        assertThat(monday.get(10).getScheduledStartDate()).isEqualTo(LocalDateTime.of(2026, 3, 2, 21, 0));
+
+        // Each following weekday gets a full day of its own; Monday after the weekend as well
+        for (LocalDateTime now : List.of(MONDAY_MORNING.plusDays(3), MONDAY_MORNING.plusDays(7))) {
+            ProductionOrder order = scheduledOrder();
+            SchedulePlan plan = scheduler.schedule(List.of(order), now);
+
+            assertThat(plan.scheduled()).containsExactly(order.getId());
+            assertThat(order.getScheduledStartDate()).isEqualTo(now.withHour(6));
+        }
+
+        // Later the same day the rolled horizon holds as before: one day of 11 starts, then nothing
+        List<ProductionOrder> sameDay = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            sameDay.add(scheduledOrder());
+        }
+        SchedulePlan full = scheduler.schedule(sameDay, MONDAY_MORNING.plusDays(7).withHour(9));
+
+        assertThat(full.scheduled()).hasSize(9);
+        assertThat(full.unscheduled()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("incremental scheduling requires a baseline plan")
+    void schedule_without_baseline_fails() {
+        ProductionScheduler scheduler = new ProductionScheduler(
+            ShiftCalendar.twoShiftWeekdays(), Map.of(), 1, 90);
+
+        assertThatThrownBy(() -> scheduler.schedule(List.of(scheduledOrder()), MONDAY_MORNING))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
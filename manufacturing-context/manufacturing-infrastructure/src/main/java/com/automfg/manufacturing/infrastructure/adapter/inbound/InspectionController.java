@@ -1,10 +1,12 @@
 package com.automfg.manufacturing.infrastructure.adapter.inbound;
 
 import com.automfg.manufacturing.application.usecase.*;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -14,6 +16,7 @@ public class InspectionController {
     // Command use cases
     private final CreateInspectionUseCase createInspectionUseCase;
     private final RecordInspectionItemResultUseCase recordInspectionItemResultUseCase;
+    private final RecordInspectionItemResultsUseCase recordInspectionItemResultsUseCase;
     private final CompleteInspectionUseCase completeInspectionUseCase;
     private final ReviewInspectionUseCase reviewInspectionUseCase;
 
@@ -22,11 +25,13 @@ public class InspectionController {
 
     public InspectionController(CreateInspectionUseCase createInspectionUseCase,
                                  RecordInspectionItemResultUseCase recordInspectionItemResultUseCase,
+                                 RecordInspectionItemResultsUseCase recordInspectionItemResultsUseCase,
                                  CompleteInspectionUseCase completeInspectionUseCase,
                                  ReviewInspectionUseCase reviewInspectionUseCase,
                                  GetInspectionUseCase getInspectionUseCase) {
         this.createInspectionUseCase = createInspectionUseCase;
         this.recordInspectionItemResultUseCase = recordInspectionItemResultUseCase;
+        this.recordInspectionItemResultsUseCase = recordInspectionItemResultsUseCase;
         this.completeInspectionUseCase = completeInspectionUseCase;
         this.reviewInspectionUseCase = reviewInspectionUseCase;
         this.getInspectionUseCase = getInspectionUseCase;
@@ -45,16 +50,45 @@ public class InspectionController {
     }
 
     @PostMapping("/{inspectionId}/items/{itemId}/result")
-    public ResponseEntity<Void> recordItemResult(
+    public ResponseEntity<?> recordItemResult(
             @PathVariable UUID inspectionId,
             @PathVariable UUID itemId,
             @RequestBody RecordItemResultRequest request) {
         var command = new RecordInspectionItemResultUseCase.RecordItemResultCommand(
             inspectionId, itemId, request.status(), request.notes());
-        recordInspectionItemResultUseCase.execute(command);
+        try {
+            recordInspectionItemResultUseCase.execute(command);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Records a whole checklist in one request; with {@code complete} the inspection is also
+     * completed. All results are rejected together if any of them is invalid.
+     */
+    @PostMapping("/{inspectionId}/items/results")
+    public ResponseEntity<?> recordItemResults(
+            @PathVariable UUID inspectionId,
+            @RequestBody RecordItemResultsRequest request) {
+        List<RecordInspectionItemResultsUseCase.ItemResult> results = request.results() == null ? List.of()
+            : request.results().stream()
+                .map(r -> new RecordInspectionItemResultsUseCase.ItemResult(r.itemId(), r.status(), r.notes()))
+                .toList();
+        try {
+            var result = recordInspectionItemResultsUseCase.execute(
+                new RecordInspectionItemResultsUseCase.RecordItemResultsCommand(
+                    inspectionId, results, request.complete(), request.inspectorId()));
+            return ResponseEntity.ok(new RecordItemResultsResponse(
+                result.inspectionId(), result.recordedCount(), result.result()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     @PostMapping("/{inspectionId}/complete")
     public ResponseEntity<CompleteInspectionResponse> completeInspection(
             @PathVariable UUID inspectionId,
@@ -65,15 +99,24 @@ public class InspectionController {
         return ResponseEntity.ok(new CompleteInspectionResponse(result.inspectionId(), result.result()));
     }
 
+    /**
+     * 409 when another reviewer holds a live claim on the inspection.
+     */
     @PostMapping("/{inspectionId}/review")
-    public ResponseEntity<ReviewInspectionResponse> reviewInspection(
+    public ResponseEntity<?> reviewInspection(
             @PathVariable UUID inspectionId,
             @RequestBody ReviewInspectionRequest request) {
         var command = new ReviewInspectionUseCase.ReviewInspectionCommand(
             inspectionId, request.reviewerId());
-        var result = reviewInspectionUseCase.execute(command);
-        return ResponseEntity.ok(new ReviewInspectionResponse(
-            result.inspectionId(), result.result(), result.reviewerId()));
+        try {
+            var result = reviewInspectionUseCase.execute(command);
+            return ResponseEntity.ok(new ReviewInspectionResponse(
+                result.inspectionId(), result.result(), result.reviewerId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (IllegalStateException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
     }
 
     // --- Query Endpoints (CQRS read path) ---
@@ -96,6 +139,12 @@ public class InspectionController {
 
     record RecordItemResultRequest(String status, String notes) {}
 
+    record ItemResultRequest(UUID itemId, String status, String notes) {}
+    record RecordItemResultsRequest(List<ItemResultRequest> results, boolean complete, String inspectorId) {}
+    record RecordItemResultsResponse(UUID inspectionId, int recordedCount, String result) {}
+
+    record ErrorResponse(String message) {}
+
     record CompleteInspectionRequest(String inspectorId) {}
     record CompleteInspectionResponse(UUID inspectionId, String result) {}
 
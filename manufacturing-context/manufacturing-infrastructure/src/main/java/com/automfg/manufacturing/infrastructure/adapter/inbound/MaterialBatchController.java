@@ -0,0 +1,61 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.TraceMaterialBatchUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+@RestController
+@RequestMapping("/api/v1/material-batches")
+public class MaterialBatchController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final TraceMaterialBatchUseCase traceMaterialBatchUseCase;
+    private final ObjectMapper objectMapper;
+
+    public MaterialBatchController(TraceMaterialBatchUseCase traceMaterialBatchUseCase, ObjectMapper objectMapper) {
+        this.traceMaterialBatchUseCase = traceMaterialBatchUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Recall lookup. Streams one JSON object per line (vin, productionOrderId, workStationCode,
+     * completedAt) as rows are read, so the response starts immediately and memory stays flat
+     * however many vehicles the batch went into.
+     */
+    @GetMapping("/{materialBatchId}/affected-vehicles")
+    public ResponseEntity<StreamingResponseBody> affectedVehicles(@PathVariable String materialBatchId) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            try {
+                traceMaterialBatchUseCase.execute(
+                    new TraceMaterialBatchUseCase.TraceMaterialBatchQuery(materialBatchId),
+                    vehicle -> writeLine(out, vehicle));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream out, TraceMaterialBatchUseCase.AffectedVehicle vehicle) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(vehicle));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.GetMaterialShortagesUseCase;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Time-phased material shortage projections over the open production orders.
+ */
+@RestController
+@RequestMapping("/api/v1/material-requirements")
+public class MaterialRequirementsController {
+
+    private final GetMaterialShortagesUseCase getMaterialShortagesUseCase;
+
+    public MaterialRequirementsController(GetMaterialShortagesUseCase getMaterialShortagesUseCase) {
+        this.getMaterialShortagesUseCase = getMaterialShortagesUseCase;
+    }
+
+    record ErrorResponse(String message) {}
+
+    /**
+     * Projected on-hand balance per part and day; by default only parts that go short.
+     */
+    @GetMapping("/shortages")
+    public ResponseEntity<?> shortages(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) String partNumber,
+            @RequestParam(required = false) Boolean shortagesOnly) {
+        try {
+            return ResponseEntity.ok(getMaterialShortagesUseCase.execute(
+                new GetMaterialShortagesUseCase.MaterialShortagesQuery(from, days, partNumber, shortagesOnly)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+}
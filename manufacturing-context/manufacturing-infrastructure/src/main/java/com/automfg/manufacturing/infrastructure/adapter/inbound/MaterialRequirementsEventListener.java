@@ -0,0 +1,82 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.RegenerateMaterialRequirementsUseCase;
+import com.automfg.manufacturing.application.usecase.UpdateMaterialRequirementsUseCase;
+import com.automfg.manufacturing.application.usecase.UpdateMaterialRequirementsUseCase.Change;
+import com.automfg.manufacturing.domain.event.MaterialShortageEvent;
+import com.automfg.manufacturing.domain.event.ProductionOrderScheduledEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotAssignedEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotClearedEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keeps the material requirements ledger in step with production orders: a new order adds its
+ * requirements, a new or withdrawn start slot moves them, and starting production (when material is issued
+ * to the line) withdraws them. The ledger is regenerated at startup and nightly, which also
+ * rolls its horizon forward.
+ */
+@Component
+public class MaterialRequirementsEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MaterialRequirementsEventListener.class);
+
+    private final UpdateMaterialRequirementsUseCase updateMaterialRequirementsUseCase;
+    private final RegenerateMaterialRequirementsUseCase regenerateMaterialRequirementsUseCase;
+
+    public MaterialRequirementsEventListener(UpdateMaterialRequirementsUseCase updateMaterialRequirementsUseCase,
+                                             RegenerateMaterialRequirementsUseCase regenerateMaterialRequirementsUseCase) {
+        this.updateMaterialRequirementsUseCase = updateMaterialRequirementsUseCase;
+        this.regenerateMaterialRequirementsUseCase = regenerateMaterialRequirementsUseCase;
+    }
+
+    @EventListener
+    public void onProductionOrderScheduled(ProductionOrderScheduledEvent event) {
+        update(event.getProductionOrderId(), Change.OPENED, null);
+    }
+
+    @EventListener
+    public void onMaterialShortage(MaterialShortageEvent event) {
+        update(event.getProductionOrderId(), Change.OPENED, null);
+    }
+
+    @EventListener
+    public void onStartSlotAssigned(ProductionStartSlotAssignedEvent event) {
+        update(event.getProductionOrderId(), Change.RESCHEDULED, event.getScheduledStartDate());
+    }
+
+    @EventListener
+    public void onStartSlotCleared(ProductionStartSlotClearedEvent event) {
+        // Read the order back, which files its requirements as unscheduled
+        update(event.getProductionOrderId(), Change.OPENED, null);
+    }
+
+    @EventListener
+    public void onProductionStarted(ProductionStartedEvent event) {
+        update(event.getProductionOrderId(), Change.CLOSED, null);
+    }
+
+    private void update(UUID productionOrderId, Change change, LocalDateTime scheduledStartDate) {
+        updateMaterialRequirementsUseCase.execute(
+            new UpdateMaterialRequirementsUseCase.UpdateMaterialRequirementsCommand(
+                productionOrderId, change, scheduledStartDate));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${automfg.mrp.regenerate-cron:0 5 0 * * *}")
+    public void regenerate() {
+        RegenerateMaterialRequirementsUseCase.RegenerateMaterialRequirementsResult result =
+            regenerateMaterialRequirementsUseCase.execute(
+                new RegenerateMaterialRequirementsUseCase.RegenerateMaterialRequirementsCommand());
+        log.info("Regenerated material requirements from {} open production orders in {} ms, horizon from {}",
+            result.openOrders(), result.elapsedMillis(), result.horizonStart());
+    }
+}
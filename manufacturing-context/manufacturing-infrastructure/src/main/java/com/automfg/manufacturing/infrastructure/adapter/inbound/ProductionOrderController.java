@@ -1,10 +1,17 @@
 package com.automfg.manufacturing.infrastructure.adapter.inbound;
 
 import com.automfg.manufacturing.application.usecase.CompleteAssemblyStepUseCase;
+import com.automfg.manufacturing.application.usecase.CompleteAssemblyStepsBatchUseCase;
 import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase;
 import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase;
 import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase;
+import com.automfg.manufacturing.application.usecase.ScheduleProductionOrdersUseCase;
+import com.automfg.manufacturing.application.usecase.SequencePaintShopUseCase;
 import com.automfg.manufacturing.application.usecase.StartProductionUseCase;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,22 +32,34 @@ public class ProductionOrderController {
     // Command use cases
     private final StartProductionUseCase startProductionUseCase;
     private final CompleteAssemblyStepUseCase completeAssemblyStepUseCase;
+    private final CompleteAssemblyStepsBatchUseCase completeAssemblyStepsBatchUseCase;
+    private final ScheduleProductionOrdersUseCase scheduleProductionOrdersUseCase;
+    private final SequencePaintShopUseCase sequencePaintShopUseCase;
 
     // Query use cases (CQRS read path)
     private final GetProductionOrderUseCase getProductionOrderUseCase;
     private final ListProductionOrdersUseCase listProductionOrdersUseCase;
     private final GetAssemblyStepsUseCase getAssemblyStepsUseCase;
+    private final GetProductionStatusBoardUseCase getProductionStatusBoardUseCase;
 
     public ProductionOrderController(StartProductionUseCase startProductionUseCase,
                                      CompleteAssemblyStepUseCase completeAssemblyStepUseCase,
+                                     CompleteAssemblyStepsBatchUseCase completeAssemblyStepsBatchUseCase,
+                                     ScheduleProductionOrdersUseCase scheduleProductionOrdersUseCase,
+                                     SequencePaintShopUseCase sequencePaintShopUseCase,
                                      GetProductionOrderUseCase getProductionOrderUseCase,
                                      ListProductionOrdersUseCase listProductionOrdersUseCase,
-                                     GetAssemblyStepsUseCase getAssemblyStepsUseCase) {
+                                     GetAssemblyStepsUseCase getAssemblyStepsUseCase,
+                                     GetProductionStatusBoardUseCase getProductionStatusBoardUseCase) {
         this.startProductionUseCase = startProductionUseCase;
         this.completeAssemblyStepUseCase = completeAssemblyStepUseCase;
+        this.completeAssemblyStepsBatchUseCase = completeAssemblyStepsBatchUseCase;
+        this.scheduleProductionOrdersUseCase = scheduleProductionOrdersUseCase;
+        this.sequencePaintShopUseCase = sequencePaintShopUseCase;
         this.getProductionOrderUseCase = getProductionOrderUseCase;
         this.listProductionOrdersUseCase = listProductionOrdersUseCase;
         this.getAssemblyStepsUseCase = getAssemblyStepsUseCase;
+        this.getProductionStatusBoardUseCase = getProductionStatusBoardUseCase;
     }
 
     // --- Command DTOs ---
@@ -53,30 +73,70 @@ public class ProductionOrderController {
         boolean overtimeAlert, boolean stationCompleted, boolean assemblyCompleted
     ) {}
 
+    record StepScanRequest(
+        String idempotencyKey, UUID productionOrderId, UUID assemblyStepId,
+        String operatorId, String materialBatchId, int actualMinutes
+    ) {}
+    record StepScanBatchRequest(List<StepScanRequest> scans) {}
+
+    record ErrorResponse(String message) {}
+
+    record ScheduleRequest(boolean fullReplan) {}
+    record PaintSequenceRequest(String previousColor) {}
+
     // --- Command Endpoints ---
 
+    @PostMapping("/schedule")
+    public ResponseEntity<ScheduleProductionOrdersUseCase.ScheduleProductionOrdersResult> schedule(
+            @RequestBody(required = false) ScheduleRequest request) {
+        ScheduleProductionOrdersUseCase.ScheduleProductionOrdersResult result =
+            scheduleProductionOrdersUseCase.execute(
+                new ScheduleProductionOrdersUseCase.ScheduleProductionOrdersCommand(
+                    null, request != null && request.fullReplan()));
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/paint-sequence")
+    public ResponseEntity<SequencePaintShopUseCase.SequencePaintShopResult> sequencePaintShop(
+            @RequestBody(required = false) PaintSequenceRequest request) {
+        SequencePaintShopUseCase.SequencePaintShopResult result =
+            sequencePaintShopUseCase.execute(
+                new SequencePaintShopUseCase.SequencePaintShopCommand(
+                    request != null ? request.previousColor() : null));
+        return ResponseEntity.ok(result);
+    }
+
     @PostMapping("/{id}/start")
-    public ResponseEntity<StartProductionResponse> startProduction(
+    public ResponseEntity<?> startProduction(
             @PathVariable UUID id,
             @RequestBody StartProductionRequest request) {
-        StartProductionUseCase.StartProductionResult result = startProductionUseCase.execute(
-            new StartProductionUseCase.StartProductionCommand(
-                id, request.operatorId(), request.workstationCode()));
+        StartProductionUseCase.StartProductionResult result;
+        try {
+            result = startProductionUseCase.execute(
+                new StartProductionUseCase.StartProductionCommand(
+                    id, request.operatorId(), request.workstationCode()));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
 
         return ResponseEntity.ok(new StartProductionResponse(
             result.productionOrderId(), result.status()));
     }
 
     @PostMapping("/{id}/assembly-steps/{stepId}/complete")
-    public ResponseEntity<CompleteAssemblyStepResponse> completeAssemblyStep(
+    public ResponseEntity<?> completeAssemblyStep(
             @PathVariable UUID id,
             @PathVariable UUID stepId,
             @RequestBody CompleteAssemblyStepRequest request) {
-        CompleteAssemblyStepUseCase.CompleteAssemblyStepResult result =
-            completeAssemblyStepUseCase.execute(
+        CompleteAssemblyStepUseCase.CompleteAssemblyStepResult result;
+        try {
+            result = completeAssemblyStepUseCase.execute(
                 new CompleteAssemblyStepUseCase.CompleteAssemblyStepCommand(
                     id, stepId, request.operatorId(),
                     request.materialBatchId(), request.actualMinutes()));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        }
 
         return ResponseEntity.ok(new CompleteAssemblyStepResponse(
             result.productionOrderId(), result.assemblyStepId(),
@@ -84,15 +144,59 @@ public class ProductionOrderController {
             result.stationCompleted(), result.assemblyCompleted()));
     }
 
+    @PostMapping("/assembly-steps/complete-batch")
+    public ResponseEntity<?> completeAssemblyStepsBatch(@RequestBody StepScanBatchRequest request) {
+        List<CompleteAssemblyStepsBatchUseCase.StepScan> scans = request.scans() == null ? List.of()
+            : request.scans().stream()
+                .map(scan -> new CompleteAssemblyStepsBatchUseCase.StepScan(
+                    scan.idempotencyKey(), scan.productionOrderId(), scan.assemblyStepId(),
+                    scan.operatorId(), scan.materialBatchId(), scan.actualMinutes()))
+                .toList();
+        try {
+            return ResponseEntity.ok(completeAssemblyStepsBatchUseCase.execute(
+                new CompleteAssemblyStepsBatchUseCase.CompleteAssemblyStepsBatchCommand(scans)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     // --- Query Endpoints (CQRS read path) ---
 
     @GetMapping
-    public ResponseEntity<List<ListProductionOrdersUseCase.ProductionOrderSummary>> listProductionOrders(
-            @RequestParam(required = false) String status) {
-        List<ListProductionOrdersUseCase.ProductionOrderSummary> result =
-            listProductionOrdersUseCase.execute(
-                new ListProductionOrdersUseCase.ListProductionOrdersQuery(status));
-        return ResponseEntity.ok(result);
+    public ResponseEntity<?> listProductionOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String plantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            ListProductionOrdersUseCase.ProductionOrderPage result =
+                listProductionOrdersUseCase.execute(
+                    new ListProductionOrdersUseCase.ListProductionOrdersQuery(
+                        status, plantId, createdFrom, createdTo, cursor, limit));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/status-board")
+    public ResponseEntity<?> getStatusBoard(
+            @RequestParam(required = false) String plantId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String vehicleModelCode,
+            @RequestParam(required = false) Integer stationSequence,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            GetProductionStatusBoardUseCase.ProductionStatusBoard result =
+                getProductionStatusBoardUseCase.execute(
+                    new GetProductionStatusBoardUseCase.ProductionStatusBoardQuery(
+                        plantId, status, vehicleModelCode, stationSequence, limit));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,61 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.ScheduleProductionOrdersUseCase;
+import com.automfg.manufacturing.domain.event.ProductionOrderScheduledEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Appends newly SCHEDULED production orders to the current production plan
+ * so that the line is re-planned incrementally rather than from scratch.
+ * <p>
+ * Planning runs on a single thread of its own once the transaction that scheduled the order has
+ * committed, so placing an order never waits for the plan, and plans are appended one at a time
+ * in the order the orders arrived. The first order after startup builds the baseline plan there.
+ */
+@Component
+public class ProductionScheduleEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductionScheduleEventListener.class);
+
+    private final ScheduleProductionOrdersUseCase scheduleProductionOrdersUseCase;
+    private final ExecutorService planner = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("production-scheduler").daemon().factory());
+
+    public ProductionScheduleEventListener(ScheduleProductionOrdersUseCase scheduleProductionOrdersUseCase) {
+        this.scheduleProductionOrdersUseCase = scheduleProductionOrdersUseCase;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductionOrderScheduled(ProductionOrderScheduledEvent event) {
+        UUID productionOrderId = event.getProductionOrderId();
+        planner.execute(() -> schedule(productionOrderId));
+    }
+
+    private void schedule(UUID productionOrderId) {
+        try {
+            ScheduleProductionOrdersUseCase.ScheduleProductionOrdersResult result =
+                scheduleProductionOrdersUseCase.execute(
+                    new ScheduleProductionOrdersUseCase.ScheduleProductionOrdersCommand(productionOrderId, false));
+            if (result.unscheduledCount() > 0) {
+                log.warn("Production order {} does not fit the scheduling horizon ending {}",
+                    productionOrderId, result.horizonEnd());
+            }
+        } catch (RuntimeException e) {
+            // The order keeps no slot; the next full replan picks it up
+            log.error("Could not schedule production order {}", productionOrderId, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        planner.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.GetDefectParetoUseCase;
+import com.automfg.manufacturing.application.usecase.GetQualityYieldUseCase;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * Defect dashboards. Both endpoints read the weekly rollups only; ranges are widened to whole
+ * weeks (Monday to Sunday) and default to the last twelve weeks including the current one.
+ */
+@RestController
+@RequestMapping("/api/v1/quality-analytics")
+public class QualityAnalyticsController {
+
+    private static final int DEFAULT_WEEKS = 12;
+
+    private final GetDefectParetoUseCase getDefectParetoUseCase;
+    private final GetQualityYieldUseCase getQualityYieldUseCase;
+
+    public QualityAnalyticsController(GetDefectParetoUseCase getDefectParetoUseCase,
+                                      GetQualityYieldUseCase getQualityYieldUseCase) {
+        this.getDefectParetoUseCase = getDefectParetoUseCase;
+        this.getQualityYieldUseCase = getQualityYieldUseCase;
+    }
+
+    record ErrorResponse(String message) {}
+
+    @GetMapping("/defect-pareto")
+    public ResponseEntity<?> defectPareto(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String modelCode,
+            @RequestParam(required = false) String inspectorId,
+            @RequestParam(required = false) Integer limit) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        try {
+            return ResponseEntity.ok(getDefectParetoUseCase.execute(new GetDefectParetoUseCase.DefectParetoQuery(
+                from == null ? defaultFrom(end) : from, end, modelCode, inspectorId, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/yield")
+    public ResponseEntity<?> yield(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String modelCode,
+            @RequestParam(required = false) String inspectorId,
+            @RequestParam(required = false) String groupBy) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        try {
+            return ResponseEntity.ok(getQualityYieldUseCase.execute(new GetQualityYieldUseCase.QualityYieldQuery(
+                from == null ? defaultFrom(end) : from, end, modelCode, inspectorId, groupBy)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    private static LocalDate defaultFrom(LocalDate to) {
+        return to.minusWeeks(DEFAULT_WEEKS - 1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.ArchiveClosedProductionOrdersUseCase;
+import com.automfg.manufacturing.infrastructure.config.ArchiveProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Nightly move of vehicles closed longer than the retention window into the archive.
+ */
+@Component
+@ConditionalOnProperty(prefix = "automfg.archive", name = "enabled", havingValue = "true")
+public class VehicleArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleArchiveJob.class);
+
+    private final ArchiveClosedProductionOrdersUseCase archiveClosedProductionOrdersUseCase;
+    private final ArchiveProperties properties;
+
+    public VehicleArchiveJob(ArchiveClosedProductionOrdersUseCase archiveClosedProductionOrdersUseCase,
+                             ArchiveProperties properties) {
+        this.archiveClosedProductionOrdersUseCase = archiveClosedProductionOrdersUseCase;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${automfg.archive.cron:0 30 2 * * *}")
+    public void archiveClosedVehicles() {
+        ArchiveClosedProductionOrdersUseCase.ArchiveClosedProductionOrdersResult result =
+            archiveClosedProductionOrdersUseCase.execute(
+                new ArchiveClosedProductionOrdersUseCase.ArchiveClosedProductionOrdersCommand(
+                    LocalDateTime.now().minusDays(properties.closedAfterDays()),
+                    properties.batchSize(),
+                    properties.maxBatchesPerRun()));
+        if (result.archivedCount() > 0) {
+            log.info("Archived {} production orders into {}", result.archivedCount(), result.segments());
+        }
+    }
+}
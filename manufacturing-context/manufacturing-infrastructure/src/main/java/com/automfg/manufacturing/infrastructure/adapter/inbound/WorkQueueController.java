@@ -0,0 +1,77 @@
+package com.automfg.manufacturing.infrastructure.adapter.inbound;
+
+import com.automfg.manufacturing.application.usecase.ClaimNextReviewUseCase;
+import com.automfg.manufacturing.application.usecase.ListReviewQueueUseCase;
+import com.automfg.manufacturing.application.usecase.ListReworkQueueUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Supervisor queues. Both listings are oldest first and keyset-paginated; a reviewer takes work
+ * with claim-next rather than picking from the listing, so two reviewers never get the same
+ * inspection.
+ */
+@RestController
+@RequestMapping("/api/v1/work-queues")
+public class WorkQueueController {
+
+    private final ListReviewQueueUseCase listReviewQueueUseCase;
+    private final ListReworkQueueUseCase listReworkQueueUseCase;
+    private final ClaimNextReviewUseCase claimNextReviewUseCase;
+
+    public WorkQueueController(ListReviewQueueUseCase listReviewQueueUseCase,
+                               ListReworkQueueUseCase listReworkQueueUseCase,
+                               ClaimNextReviewUseCase claimNextReviewUseCase) {
+        this.listReviewQueueUseCase = listReviewQueueUseCase;
+        this.listReworkQueueUseCase = listReworkQueueUseCase;
+        this.claimNextReviewUseCase = claimNextReviewUseCase;
+    }
+
+    record ErrorResponse(String message) {}
+
+    record ClaimReviewRequest(String reviewerId) {}
+
+    @GetMapping("/awaiting-review")
+    public ResponseEntity<?> awaitingReview(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(listReviewQueueUseCase.execute(
+                new ListReviewQueueUseCase.ListReviewQueueQuery(cursor, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Claims the oldest inspection this reviewer may review; 204 when there is none.
+     */
+    @PostMapping("/awaiting-review/claim")
+    public ResponseEntity<?> claimNextReview(@RequestBody ClaimReviewRequest request) {
+        try {
+            return claimNextReviewUseCase.execute(
+                    new ClaimNextReviewUseCase.ClaimNextReviewCommand(request.reviewerId()))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/open-rework")
+    public ResponseEntity<?> openRework(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(listReworkQueueUseCase.execute(
+                new ListReworkQueueUseCase.ListReworkQueueQuery(cursor, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+}
@@ -2,32 +2,90 @@ package com.automfg.manufacturing.infrastructure.adapter.outbound;
 
 import com.automfg.manufacturing.domain.model.ChecklistItemTemplate;
 import com.automfg.manufacturing.domain.port.InspectionChecklistGateway;
+import com.automfg.manufacturing.infrastructure.persistence.InspectionChecklistJpaEntity;
 import com.automfg.manufacturing.infrastructure.persistence.InspectionChecklistJpaRepository;
+import com.automfg.shared.infrastructure.refdata.ReferenceDataChangedEvent;
+import com.automfg.shared.infrastructure.refdata.ReferenceDataVersions;
+import com.automfg.shared.infrastructure.refdata.VersionedCache;
+import com.automfg.shared.infrastructure.refdata.VersionedCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Anti-Corruption Layer adapter that reads inspection checklist data from the
  * inspection_checklists table (owned by vehicle-config context) and translates
  * it into the manufacturing domain's ChecklistItemTemplate value objects.
+ * <p>
+ * Checklists are served from an immutable per-model cache, preloaded at startup with a single
+ * query and reloaded whenever the {@code inspection_checklists} reference data version moves,
+ * so creating an inspection does not touch the table once the cache is warm.
  */
 @Service
 public class InspectionChecklistACLAdapter implements InspectionChecklistGateway {
 
+    static final String DATASET = "inspection_checklists";
+
+    private static final Logger log = LoggerFactory.getLogger(InspectionChecklistACLAdapter.class);
+
     private final InspectionChecklistJpaRepository checklistJpaRepository;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final VersionedCache<String, List<ChecklistItemTemplate>> cache = new VersionedCache<>();
 
-    public InspectionChecklistACLAdapter(InspectionChecklistJpaRepository checklistJpaRepository) {
+    public InspectionChecklistACLAdapter(InspectionChecklistJpaRepository checklistJpaRepository,
+                                         ReferenceDataVersions referenceDataVersions,
+                                         MeterRegistry meterRegistry) {
         this.checklistJpaRepository = checklistJpaRepository;
+        this.referenceDataVersions = referenceDataVersions;
+        new VersionedCacheMetrics(cache, "inspection-checklists", Tags.of("context", "manufacturing"))
+            .bindTo(meterRegistry);
     }
 
     @Override
     public List<ChecklistItemTemplate> getChecklistForModel(String vehicleModelCode) {
+        return cache.get(vehicleModelCode, this::loadModel);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload(referenceDataVersions.current(DATASET));
+    }
+
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (DATASET.equals(event.dataset()) && event.version() > cache.version()) {
+            reload(event.version());
+        }
+    }
+
+    private void reload(long version) {
+        Map<String, List<ChecklistItemTemplate>> byModel = new HashMap<>();
+        for (InspectionChecklistJpaEntity entity : checklistJpaRepository.findAllByOrderByModelCodeAscDisplayOrderAsc()) {
+            byModel.computeIfAbsent(entity.getModelCode(), model -> new ArrayList<>()).add(toTemplate(entity));
+        }
+        byModel.replaceAll((model, templates) -> List.copyOf(templates));
+        if (cache.replaceAll(version, byModel)) {
+            log.info("Loaded inspection checklists for {} models at version {}", byModel.size(), version);
+        }
+    }
+
+    private List<ChecklistItemTemplate> loadModel(String vehicleModelCode) {
         return checklistJpaRepository.findByModelCodeOrderByDisplayOrder(vehicleModelCode)
             .stream()
-            .map(entity -> new ChecklistItemTemplate(
-                entity.getItemDescription(),
-                entity.isSafetyRelated()))
+            .map(InspectionChecklistACLAdapter::toTemplate)
             .toList();
     }
+
+    private static ChecklistItemTemplate toTemplate(InspectionChecklistJpaEntity entity) {
+        return new ChecklistItemTemplate(entity.getItemDescription(), entity.isSafetyRelated());
+    }
 }
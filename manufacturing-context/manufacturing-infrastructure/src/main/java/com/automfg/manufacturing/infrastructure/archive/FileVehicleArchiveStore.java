@@ -0,0 +1,99 @@
+package com.automfg.manufacturing.infrastructure.archive;
+
+import com.automfg.manufacturing.application.port.ArchivedVehicle;
+import com.automfg.manufacturing.application.port.VehicleArchiveStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Archive store on local disk: one {@link SegmentFile} per archiving batch, each record a
+ * JSON-encoded {@link ArchivedVehicle} keyed by production order id. Segment indexes are
+ * small (one entry per block) and are cached after first use.
+ */
+public class FileVehicleArchiveStore implements VehicleArchiveStore {
+
+    private static final String EXTENSION = ".amseg";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-\\d{8}-\\d{6}-[0-9a-f]{8}\\.amseg");
+    private static final DateTimeFormatter NAME_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Map<String, SegmentFile.Index> indexes = new ConcurrentHashMap<>();
+
+    public FileVehicleArchiveStore(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create archive directory " + directory, e);
+        }
+    }
+
+    @Override
+    public String writeSegment(List<ArchivedVehicle> vehicles) {
+        if (vehicles.isEmpty()) {
+            throw new IllegalArgumentException("A segment must contain at least one vehicle");
+        }
+        List<SegmentFile.Entry> entries = vehicles.stream()
+            .sorted(Comparator.comparing(ArchivedVehicle::productionOrderId))
+            .map(vehicle -> new SegmentFile.Entry(vehicle.productionOrderId(), toJson(vehicle)))
+            .toList();
+
+        String name = "segment-" + LocalDateTime.now().format(NAME_TIMESTAMP) + "-"
+            + UUID.randomUUID().toString().substring(0, 8) + EXTENSION;
+        Path file = directory.resolve(name);
+        try {
+            SegmentFile.write(file, entries);
+            // Read the index back before the caller deletes the hot rows
+            indexes.put(name, SegmentFile.readIndex(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment " + name, e);
+        }
+        return name;
+    }
+
+    @Override
+    public Optional<ArchivedVehicle> read(String segmentName, UUID productionOrderId) {
+        if (!SEGMENT_NAME.matcher(segmentName).matches()) {
+            throw new IllegalArgumentException("Invalid archive segment name: " + segmentName);
+        }
+        Path file = directory.resolve(segmentName);
+        try {
+            SegmentFile.Index index = indexes.get(segmentName);
+            if (index == null) {
+                index = SegmentFile.readIndex(file);
+                indexes.put(segmentName, index);
+            }
+            Optional<byte[]> payload = SegmentFile.read(file, index, productionOrderId);
+            if (payload.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(payload.get(), ArchivedVehicle.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive segment " + segmentName, e);
+        }
+    }
+
+    private byte[] toJson(ArchivedVehicle vehicle) {
+        try {
+            return objectMapper.writeValueAsBytes(vehicle);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise archived vehicle " + vehicle.productionOrderId(), e);
+        }
+    }
+}
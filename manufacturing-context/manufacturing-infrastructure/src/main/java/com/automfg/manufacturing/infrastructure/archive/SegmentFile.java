@@ -0,0 +1,259 @@
+package com.automfg.manufacturing.infrastructure.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * On-disk format of an archive segment. A segment is written once and never modified.
+ *
+ * <pre>
+ * header   : magic(int) version(short)
+ * block*   : deflate( (keyMsb(long) keyLsb(long) length(int) payload)* )
+ * index    : blockCount(int) (firstKeyMsb firstKeyLsb offset(long) compressedLength(int)
+ *            rawLength(int) recordCount(int) crc32(int))*
+ * trailer  : indexOffset(long) indexLength(int) indexCrc32(int) magic(int)
+ * </pre>
+ *
+ * Records are sorted by key, so the index only needs the first key of each block: a lookup
+ * binary-searches the index, then reads and inflates a single block. Every block and the
+ * index carry a CRC32 that is checked on read.
+ */
+final class SegmentFile {
+
+    static final int MAGIC = 0x414D5347; // "AMSG"
+    static final short VERSION = 1;
+    static final int RECORDS_PER_BLOCK = 64;
+
+    private static final int HEADER_LENGTH = Integer.BYTES + Short.BYTES;
+    private static final int INDEX_ENTRY_LENGTH = 2 * Long.BYTES + Long.BYTES + 4 * Integer.BYTES;
+    private static final int TRAILER_LENGTH = Long.BYTES + 3 * Integer.BYTES;
+
+    record Entry(UUID key, byte[] payload) {}
+
+    record BlockEntry(UUID firstKey, long offset, int compressedLength, int rawLength, int recordCount, int crc) {}
+
+    record Index(List<BlockEntry> blocks) {
+
+        /**
+         * The only block that can hold the key: the last one whose first key is not greater.
+         */
+        Optional<BlockEntry> blockFor(UUID key) {
+            int low = 0;
+            int high = blocks.size() - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (blocks.get(mid).firstKey().compareTo(key) <= 0) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found < 0 ? Optional.empty() : Optional.of(blocks.get(found));
+        }
+    }
+
+    private SegmentFile() {
+    }
+
+    /**
+     * Writes the entries (which must be sorted by key) to a temporary file, forces it to
+     * disk and atomically renames it into place.
+     */
+    static void write(Path target, List<Entry> sortedEntries) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        List<BlockEntry> blocks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = writeFully(channel, ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).putShort(VERSION).flip());
+
+            for (int start = 0; start < sortedEntries.size(); start += RECORDS_PER_BLOCK) {
+                List<Entry> chunk = sortedEntries.subList(start, Math.min(start + RECORDS_PER_BLOCK, sortedEntries.size()));
+                byte[] raw = encodeBlock(chunk);
+                byte[] compressed = deflate(raw);
+                blocks.add(new BlockEntry(chunk.get(0).key(), position, compressed.length, raw.length,
+                    chunk.size(), crc(compressed)));
+                position += writeFully(channel, ByteBuffer.wrap(compressed));
+            }
+
+            ByteBuffer index = ByteBuffer.allocate(Integer.BYTES + blocks.size() * INDEX_ENTRY_LENGTH);
+            index.putInt(blocks.size());
+            for (BlockEntry block : blocks) {
+                index.putLong(block.firstKey().getMostSignificantBits())
+                    .putLong(block.firstKey().getLeastSignificantBits())
+                    .putLong(block.offset())
+                    .putInt(block.compressedLength())
+                    .putInt(block.rawLength())
+                    .putInt(block.recordCount())
+                    .putInt(block.crc());
+            }
+            byte[] indexBytes = index.array();
+            long indexOffset = position;
+            writeFully(channel, ByteBuffer.wrap(indexBytes));
+            writeFully(channel, ByteBuffer.allocate(TRAILER_LENGTH)
+                .putLong(indexOffset).putInt(indexBytes.length).putInt(crc(indexBytes)).putInt(MAGIC).flip());
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static Index readIndex(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_LENGTH + TRAILER_LENGTH) {
+                throw new CorruptSegmentException(file, "file too short");
+            }
+            ByteBuffer header = readFully(channel, 0, HEADER_LENGTH);
+            if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+                throw new CorruptSegmentException(file, "bad header");
+            }
+            ByteBuffer trailer = readFully(channel, size - TRAILER_LENGTH, TRAILER_LENGTH);
+            long indexOffset = trailer.getLong();
+            int indexLength = trailer.getInt();
+            int indexCrc = trailer.getInt();
+            if (trailer.getInt() != MAGIC || indexOffset < HEADER_LENGTH
+                    || indexOffset + indexLength != size - TRAILER_LENGTH) {
+                throw new CorruptSegmentException(file, "bad trailer");
+            }
+            byte[] indexBytes = readFully(channel, indexOffset, indexLength).array();
+            if (crc(indexBytes) != indexCrc) {
+                throw new CorruptSegmentException(file, "index checksum mismatch");
+            }
+
+            ByteBuffer index = ByteBuffer.wrap(indexBytes);
+            int blockCount = index.getInt();
+            List<BlockEntry> blocks = new ArrayList<>(blockCount);
+            for (int i = 0; i < blockCount; i++) {
+                blocks.add(new BlockEntry(new UUID(index.getLong(), index.getLong()), index.getLong(),
+                    index.getInt(), index.getInt(), index.getInt(), index.getInt()));
+            }
+            return new Index(List.copyOf(blocks));
+        }
+    }
+
+    static Optional<byte[]> read(Path file, Index index, UUID key) throws IOException {
+        Optional<BlockEntry> candidate = index.blockFor(key);
+        if (candidate.isEmpty()) {
+            return Optional.empty();
+        }
+        BlockEntry block = candidate.get();
+        byte[] compressed;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            compressed = readFully(channel, block.offset(), block.compressedLength()).array();
+        }
+        if (crc(compressed) != block.crc()) {
+            throw new CorruptSegmentException(file, "block checksum mismatch at offset " + block.offset());
+        }
+
+        ByteBuffer raw = ByteBuffer.wrap(inflate(file, compressed, block.rawLength()));
+        for (int i = 0; i < block.recordCount(); i++) {
+            UUID recordKey = new UUID(raw.getLong(), raw.getLong());
+            byte[] payload = new byte[raw.getInt()];
+            raw.get(payload);
+            if (recordKey.equals(key)) {
+                return Optional.of(payload);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static byte[] encodeBlock(List<Entry> entries) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Entry entry : entries) {
+            ByteBuffer head = ByteBuffer.allocate(2 * Long.BYTES + Integer.BYTES)
+                .putLong(entry.key().getMostSignificantBits())
+                .putLong(entry.key().getLeastSignificantBits())
+                .putInt(entry.payload().length);
+            out.writeBytes(head.array());
+            out.writeBytes(entry.payload());
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(Path file, byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, n, rawLength - n);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += inflated;
+            }
+            if (n != rawLength) {
+                throw new CorruptSegmentException(file, "block inflated to " + n + " bytes, expected " + rawLength);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new CorruptSegmentException(file, "block is not valid deflate data");
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static long writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return length;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    static final class CorruptSegmentException extends IOException {
+        CorruptSegmentException(Path file, String reason) {
+            super("Corrupt archive segment " + file.getFileName() + ": " + reason);
+        }
+    }
+}
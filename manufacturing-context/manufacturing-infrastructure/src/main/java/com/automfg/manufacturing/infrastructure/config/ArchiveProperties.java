@@ -0,0 +1,19 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Archival of finished vehicles into cold segment files.
+ */
+@ConfigurationProperties(prefix = "automfg.archive")
+public record ArchiveProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("data/archive") Path directory,
+    @DefaultValue("180") int closedAfterDays,
+    @DefaultValue("1000") int batchSize,
+    @DefaultValue("50") int maxBatchesPerRun
+) {
+}
@@ -0,0 +1,15 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.domain.port.MaterialAvailabilityGateway;
+import com.automfg.manufacturing.domain.service.BomExpansionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BomExplosionConfig {
+
+    @Bean
+    public BomExpansionService bomExpansionService(MaterialAvailabilityGateway materialAvailabilityGateway) {
+        return new BomExpansionService(materialAvailabilityGateway);
+    }
+}
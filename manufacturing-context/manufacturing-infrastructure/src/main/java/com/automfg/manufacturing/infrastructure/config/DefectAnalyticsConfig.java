@@ -0,0 +1,23 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.DefectAnalyticsQueryPort;
+import com.automfg.manufacturing.application.usecase.GetDefectParetoUseCase;
+import com.automfg.manufacturing.application.usecase.GetDefectParetoUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.GetQualityYieldUseCase;
+import com.automfg.manufacturing.application.usecase.GetQualityYieldUseCaseImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DefectAnalyticsConfig {
+
+    @Bean
+    public GetDefectParetoUseCase getDefectParetoUseCase(DefectAnalyticsQueryPort queryPort) {
+        return new GetDefectParetoUseCaseImpl(queryPort);
+    }
+
+    @Bean
+    public GetQualityYieldUseCase getQualityYieldUseCase(DefectAnalyticsQueryPort queryPort) {
+        return new GetQualityYieldUseCaseImpl(queryPort);
+    }
+}
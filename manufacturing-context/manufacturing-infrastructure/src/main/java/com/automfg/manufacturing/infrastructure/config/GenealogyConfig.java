@@ -0,0 +1,9 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GenealogyProperties.class)
+public class GenealogyConfig {
+}
@@ -0,0 +1,20 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * The material batch genealogy index.
+ *
+ * @param reconcileInterval how often steps missing from the index are copied in from the plant shards
+ * @param reconcileLookback how far back a reconcile looks at step completions; longer than the
+ *                          interval, so an outage shorter than the difference loses nothing
+ */
+@ConfigurationProperties(prefix = "automfg.genealogy")
+public record GenealogyProperties(
+    @DefaultValue("PT5M") Duration reconcileInterval,
+    @DefaultValue("PT24H") Duration reconcileLookback
+) {
+}
@@ -0,0 +1,19 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.usecase.RecordInspectionItemResultsUseCase;
+import com.automfg.manufacturing.application.usecase.RecordInspectionItemResultsUseCaseImpl;
+import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class InspectionRecordingConfig {
+
+    @Bean
+    public RecordInspectionItemResultsUseCase recordInspectionItemResultsUseCase(
+            QualityInspectionRepository qualityInspectionRepository,
+            DomainEventPublisher domainEventPublisher) {
+        return new RecordInspectionItemResultsUseCaseImpl(qualityInspectionRepository, domainEventPublisher);
+    }
+}
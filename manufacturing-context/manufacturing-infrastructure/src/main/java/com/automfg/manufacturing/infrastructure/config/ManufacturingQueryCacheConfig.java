@@ -0,0 +1,58 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCase;
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCase.GetInspectionQuery;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase.GetProductionOrderQuery;
+import com.automfg.manufacturing.domain.event.AssemblyCompletedEvent;
+import com.automfg.manufacturing.domain.event.AssemblyStepCompletedEvent;
+import com.automfg.manufacturing.domain.event.InspectionCompletedEvent;
+import com.automfg.manufacturing.domain.event.InspectionFailedEvent;
+import com.automfg.manufacturing.domain.event.InspectionReviewedEvent;
+import com.automfg.manufacturing.domain.event.ProductionOrderScheduledEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotAssignedEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartSlotClearedEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartedEvent;
+import com.automfg.manufacturing.domain.event.ReworkCompletedEvent;
+import com.automfg.manufacturing.domain.event.VehicleCompletedEvent;
+import com.automfg.shared.infrastructure.querycache.CachedQuery;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * Manufacturing queries polled by dashboards and station terminals, with the events after
+ * which each answer changes. Every write to a production order's status, station, start slot
+ * or assembly progress publishes one of them once it is saved; a review and a completed
+ * rework publish theirs after saving the order along with the inspection or rework order.
+ */
+@Configuration
+public class ManufacturingQueryCacheConfig {
+
+    @Bean
+    public CachedQuery<GetProductionOrderQuery> getProductionOrderCache() {
+        return CachedQuery.of("manufacturing", GetProductionOrderUseCase.class, GetProductionOrderQuery.class)
+            .invalidatedBy(ProductionOrderScheduledEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(ProductionStartSlotAssignedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(ProductionStartSlotClearedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(ProductionStartedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(AssemblyStepCompletedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(AssemblyCompletedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(InspectionReviewedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(VehicleCompletedEvent.class, event -> byOrder(event.getProductionOrderId()))
+            .invalidatedBy(ReworkCompletedEvent.class, event -> byOrder(event.getProductionOrderId()));
+    }
+
+    @Bean
+    public CachedQuery<GetInspectionQuery> getInspectionCache() {
+        return CachedQuery.of("manufacturing", GetInspectionUseCase.class, GetInspectionQuery.class)
+            .invalidatedBy(InspectionCompletedEvent.class, event -> new GetInspectionQuery(event.getInspectionId()))
+            .invalidatedBy(InspectionFailedEvent.class, event -> new GetInspectionQuery(event.getInspectionId()))
+            .invalidatedBy(InspectionReviewedEvent.class, event -> new GetInspectionQuery(event.getInspectionId()));
+    }
+
+    private static GetProductionOrderQuery byOrder(UUID productionOrderId) {
+        return new GetProductionOrderQuery(productionOrderId);
+    }
+}
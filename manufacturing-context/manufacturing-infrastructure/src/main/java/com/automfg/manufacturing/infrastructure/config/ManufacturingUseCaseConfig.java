@@ -0,0 +1,136 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.InspectionQueryPort;
+import com.automfg.manufacturing.application.port.ProductionOrderQueryPort;
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+import com.automfg.manufacturing.application.usecase.CompleteAssemblyStepUseCase;
+import com.automfg.manufacturing.application.usecase.CompleteAssemblyStepUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.CompleteInspectionUseCase;
+import com.automfg.manufacturing.application.usecase.CompleteInspectionUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.CompleteReworkUseCase;
+import com.automfg.manufacturing.application.usecase.CompleteReworkUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.CreateInspectionUseCase;
+import com.automfg.manufacturing.application.usecase.CreateInspectionUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.CreateProductionOrderUseCase;
+import com.automfg.manufacturing.application.usecase.CreateProductionOrderUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase;
+import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCase;
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase;
+import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.RecordInspectionItemResultUseCase;
+import com.automfg.manufacturing.application.usecase.RecordInspectionItemResultUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.ReviewInspectionUseCase;
+import com.automfg.manufacturing.application.usecase.ReviewInspectionUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.StartProductionUseCase;
+import com.automfg.manufacturing.application.usecase.StartProductionUseCaseImpl;
+import com.automfg.manufacturing.domain.model.PlantAssignment;
+import com.automfg.manufacturing.domain.port.InspectionChecklistGateway;
+import com.automfg.manufacturing.domain.port.ManufacturingCatalogProvider;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
+import com.automfg.manufacturing.domain.port.ReworkOrderRepository;
+import com.automfg.manufacturing.domain.service.BomExpansionService;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Wires the framework-free manufacturing use cases and domain services into the Spring context.
+ */
+@Configuration
+public class ManufacturingUseCaseConfig {
+
+    // --- Production orders ---
+
+    @Bean
+    public CreateProductionOrderUseCase createProductionOrderUseCase(ProductionOrderRepository productionOrderRepository,
+                                                                     BomExpansionService bomExpansionService,
+                                                                     ManufacturingCatalogProvider manufacturingCatalogProvider,
+                                                                     DomainEventPublisher domainEventPublisher,
+                                                                     PlantAssignment plantAssignment) {
+        return new CreateProductionOrderUseCaseImpl(productionOrderRepository, bomExpansionService,
+            manufacturingCatalogProvider, domainEventPublisher, plantAssignment);
+    }
+
+    @Bean
+    public StartProductionUseCase startProductionUseCase(ProductionOrderRepository productionOrderRepository,
+                                                         DomainEventPublisher domainEventPublisher) {
+        return new StartProductionUseCaseImpl(productionOrderRepository, domainEventPublisher);
+    }
+
+    @Bean
+    public CompleteAssemblyStepUseCase completeAssemblyStepUseCase(ProductionOrderRepository productionOrderRepository,
+                                                                   DomainEventPublisher domainEventPublisher) {
+        return new CompleteAssemblyStepUseCaseImpl(productionOrderRepository, domainEventPublisher);
+    }
+
+    @Bean
+    public GetProductionOrderUseCase getProductionOrderUseCase(ProductionOrderQueryPort queryPort) {
+        return new GetProductionOrderUseCaseImpl(queryPort);
+    }
+
+    @Bean
+    public ListProductionOrdersUseCase listProductionOrdersUseCase(ProductionOrderQueryPort queryPort) {
+        return new ListProductionOrdersUseCaseImpl(queryPort);
+    }
+
+    @Bean
+    public GetAssemblyStepsUseCase getAssemblyStepsUseCase(ProductionOrderQueryPort queryPort) {
+        return new GetAssemblyStepsUseCaseImpl(queryPort);
+    }
+
+    // --- Quality inspection and rework ---
+
+    @Bean
+    public CreateInspectionUseCase createInspectionUseCase(ProductionOrderRepository productionOrderRepository,
+                                                           QualityInspectionRepository qualityInspectionRepository,
+                                                           InspectionChecklistGateway inspectionChecklistGateway,
+                                                           DomainEventPublisher domainEventPublisher) {
+        return new CreateInspectionUseCaseImpl(productionOrderRepository, qualityInspectionRepository,
+            inspectionChecklistGateway, domainEventPublisher);
+    }
+
+    @Bean
+    public RecordInspectionItemResultUseCase recordInspectionItemResultUseCase(
+            QualityInspectionRepository qualityInspectionRepository, DomainEventPublisher domainEventPublisher) {
+        return new RecordInspectionItemResultUseCaseImpl(qualityInspectionRepository, domainEventPublisher);
+    }
+
+    @Bean
+    public CompleteInspectionUseCase completeInspectionUseCase(QualityInspectionRepository qualityInspectionRepository,
+                                                               DomainEventPublisher domainEventPublisher) {
+        return new CompleteInspectionUseCaseImpl(qualityInspectionRepository, domainEventPublisher);
+    }
+
+    @Bean
+    public ReviewInspectionUseCase reviewInspectionUseCase(QualityInspectionRepository qualityInspectionRepository,
+                                                           ProductionOrderRepository productionOrderRepository,
+                                                           ReworkOrderRepository reworkOrderRepository,
+                                                           DomainEventPublisher domainEventPublisher,
+                                                           WorkQueuePort workQueuePort,
+                                                           @Value("${automfg.review-queue.claim-ttl:PT30M}")
+                                                           Duration claimTtl) {
+        return new ReviewInspectionUseCaseImpl(qualityInspectionRepository, productionOrderRepository,
+            reworkOrderRepository, domainEventPublisher, workQueuePort, claimTtl);
+    }
+
+    @Bean
+    public GetInspectionUseCase getInspectionUseCase(InspectionQueryPort queryPort) {
+        return new GetInspectionUseCaseImpl(queryPort);
+    }
+
+    @Bean
+    public CompleteReworkUseCase completeReworkUseCase(ReworkOrderRepository reworkOrderRepository,
+                                                       ProductionOrderRepository productionOrderRepository,
+                                                       DomainEventPublisher domainEventPublisher) {
+        return new CompleteReworkUseCaseImpl(reworkOrderRepository, productionOrderRepository,
+            domainEventPublisher);
+    }
+}
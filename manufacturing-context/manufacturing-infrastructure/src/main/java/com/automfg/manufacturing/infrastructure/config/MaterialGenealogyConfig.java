@@ -0,0 +1,16 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.MaterialGenealogyQueryPort;
+import com.automfg.manufacturing.application.usecase.TraceMaterialBatchUseCase;
+import com.automfg.manufacturing.application.usecase.TraceMaterialBatchUseCaseImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MaterialGenealogyConfig {
+
+    @Bean
+    public TraceMaterialBatchUseCase traceMaterialBatchUseCase(MaterialGenealogyQueryPort queryPort) {
+        return new TraceMaterialBatchUseCaseImpl(queryPort);
+    }
+}
@@ -0,0 +1,43 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.MaterialRequirementsPort;
+import com.automfg.manufacturing.application.usecase.GetMaterialShortagesUseCase;
+import com.automfg.manufacturing.application.usecase.GetMaterialShortagesUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.RegenerateMaterialRequirementsUseCase;
+import com.automfg.manufacturing.application.usecase.RegenerateMaterialRequirementsUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.UpdateMaterialRequirementsUseCase;
+import com.automfg.manufacturing.application.usecase.UpdateMaterialRequirementsUseCaseImpl;
+import com.automfg.manufacturing.domain.service.MaterialRequirementsPlanner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+@Configuration
+public class MaterialRequirementsConfig {
+
+    @Bean
+    public MaterialRequirementsPlanner materialRequirementsPlanner(
+            @Value("${automfg.mrp.horizon-days:90}") int horizonDays) {
+        return new MaterialRequirementsPlanner(horizonDays, LocalDate.now());
+    }
+
+    @Bean
+    public UpdateMaterialRequirementsUseCase updateMaterialRequirementsUseCase(
+            MaterialRequirementsPlanner planner, MaterialRequirementsPort materialRequirementsPort) {
+        return new UpdateMaterialRequirementsUseCaseImpl(planner, materialRequirementsPort);
+    }
+
+    @Bean
+    public RegenerateMaterialRequirementsUseCase regenerateMaterialRequirementsUseCase(
+            MaterialRequirementsPlanner planner, MaterialRequirementsPort materialRequirementsPort) {
+        return new RegenerateMaterialRequirementsUseCaseImpl(planner, materialRequirementsPort);
+    }
+
+    @Bean
+    public GetMaterialShortagesUseCase getMaterialShortagesUseCase(
+            MaterialRequirementsPlanner planner, MaterialRequirementsPort materialRequirementsPort) {
+        return new GetMaterialShortagesUseCaseImpl(planner, materialRequirementsPort);
+    }
+}
@@ -0,0 +1,17 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * WS-PAINT color batching window and the delay an order may absorb for it.
+ */
+@ConfigurationProperties(prefix = "automfg.scheduling.paint")
+public record PaintSequencingProperties(
+    @DefaultValue("2000") int windowSize,
+    @DefaultValue("20") int maxDelayPositions,
+    @DefaultValue("8h") Duration dueTolerance
+) {
+}
@@ -0,0 +1,45 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assembly plants and where their manufacturing records are stored. Plants that no shard lists
+ * are stored in the application's own database; a shard is a separate database holding the
+ * production orders, inspections and rework orders of the plants it lists, with its own
+ * connection pool configured under {@code automfg.plants.shards.<name>.hikari}.
+ *
+ * @param defaultPlant       plant that builds models without an entry in modelPlants
+ * @param modelPlants        plant that builds each vehicle model, by model code
+ * @param directoryCapacity  how many aggregate ids to remember the shard of, so that loading one
+ *                           by id goes straight to its shard instead of asking every shard
+ */
+@ConfigurationProperties(prefix = "automfg.plants")
+public record PlantProperties(
+    @DefaultValue("PLANT-01") String defaultPlant,
+    Map<String, String> modelPlants,
+    Map<String, ShardProperties> shards,
+    @DefaultValue("100000") int directoryCapacity
+) {
+
+    public PlantProperties {
+        modelPlants = modelPlants == null ? Map.of() : modelPlants;
+        shards = shards == null ? Map.of() : shards;
+    }
+
+    public record ShardProperties(
+        List<String> plants,
+        String url,
+        String username,
+        String password,
+        String driverClassName
+    ) {
+
+        public ShardProperties {
+            plants = plants == null ? List.of() : plants;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.domain.model.PlantAssignment;
+import com.automfg.manufacturing.domain.model.PlantId;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShardFactory;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(PlantProperties.class)
+public class PlantShardingConfig {
+
+    @Bean
+    public PlantAssignment plantAssignment(PlantProperties properties) {
+        Map<String, PlantId> modelPlants = new HashMap<>();
+        properties.modelPlants().forEach((model, plant) -> modelPlants.put(model, new PlantId(plant)));
+        return new PlantAssignment(new PlantId(properties.defaultPlant()), modelPlants);
+    }
+
+    @Bean
+    public PlantShardFactory plantShardFactory(Environment environment,
+                                               EntityManagerFactoryBuilder entityManagerFactoryBuilder,
+                                               JpaProperties jpaProperties, HibernateProperties hibernateProperties,
+                                               FlywayProperties flywayProperties, MeterRegistry meterRegistry) {
+        return new PlantShardFactory(environment, entityManagerFactoryBuilder, jpaProperties, hibernateProperties,
+            flywayProperties, meterRegistry);
+    }
+
+    @Bean
+    public PlantShards plantShards(PlantProperties properties, PlantShardFactory factory,
+                                   EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager, ListableBeanFactory beanFactory) {
+        List<PlantShard> shards = new ArrayList<>();
+        Map<PlantId, PlantShard> byPlant = new HashMap<>();
+        List<AutoCloseable> resources = new ArrayList<>();
+        shards.add(factory.primary(entityManager, jdbcTemplate, transactionManager, beanFactory));
+        properties.shards().forEach((name, shardProperties) -> {
+            if (PlantShard.PRIMARY.equals(name)) {
+                throw new IllegalArgumentException("Plant shard name is reserved: " + name);
+            }
+            PlantShard shard = factory.open(name, shardProperties, resources);
+            shards.add(shard);
+            for (String plant : shardProperties.plants()) {
+                PlantShard previous = byPlant.put(new PlantId(plant), shard);
+                if (previous != null) {
+                    throw new IllegalArgumentException(
+                        "Plant " + plant + " is listed by shards " + previous + " and " + shard);
+                }
+            }
+        });
+        return new PlantShards(shards, byPlant, properties.directoryCapacity(), resources);
+    }
+}
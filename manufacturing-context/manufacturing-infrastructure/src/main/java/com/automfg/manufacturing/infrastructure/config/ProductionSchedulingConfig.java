@@ -0,0 +1,63 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.usecase.ScheduleProductionOrdersUseCase;
+import com.automfg.manufacturing.application.usecase.ScheduleProductionOrdersUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.SequencePaintShopUseCase;
+import com.automfg.manufacturing.application.usecase.SequencePaintShopUseCaseImpl;
+import com.automfg.manufacturing.domain.model.ShiftCalendar;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.domain.service.PaintShopSequencer;
+import com.automfg.manufacturing.domain.service.ProductionScheduler;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties({SchedulingProperties.class, PaintSequencingProperties.class})
+public class ProductionSchedulingConfig {
+
+    @Bean
+    public ShiftCalendar shiftCalendar(SchedulingProperties properties) {
+        if (properties.shifts() == null || properties.shifts().isEmpty()) {
+            return ShiftCalendar.twoShiftWeekdays();
+        }
+        return new ShiftCalendar(
+            properties.shifts().stream()
+                .map(shift -> new ShiftCalendar.Shift(shift.start(), shift.durationMinutes()))
+                .toList(),
+            properties.workingDays() == null || properties.workingDays().isEmpty()
+                ? EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+                : properties.workingDays(),
+            properties.holidays());
+    }
+
+    @Bean
+    public ProductionScheduler productionScheduler(ShiftCalendar shiftCalendar, SchedulingProperties properties) {
+        return new ProductionScheduler(
+            shiftCalendar,
+            properties.stationCapacity() == null ? Map.of() : properties.stationCapacity(),
+            properties.defaultStationCapacity(),
+            properties.horizonDays());
+    }
+
+    @Bean
+    public ScheduleProductionOrdersUseCase scheduleProductionOrdersUseCase(
+            ProductionOrderRepository productionOrderRepository, ProductionScheduler productionScheduler,
+            DomainEventPublisher domainEventPublisher) {
+        return new ScheduleProductionOrdersUseCaseImpl(productionOrderRepository, productionScheduler,
+            domainEventPublisher);
+    }
+
+    @Bean
+    public SequencePaintShopUseCase sequencePaintShopUseCase(
+            ProductionOrderRepository productionOrderRepository, PaintSequencingProperties properties,
+            DomainEventPublisher domainEventPublisher) {
+        return new SequencePaintShopUseCaseImpl(productionOrderRepository, new PaintShopSequencer(),
+            domainEventPublisher, properties.windowSize(), properties.maxDelayPositions(), properties.dueTolerance());
+    }
+}
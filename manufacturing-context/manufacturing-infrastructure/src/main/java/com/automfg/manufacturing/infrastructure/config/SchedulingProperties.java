@@ -0,0 +1,27 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plant shift calendar and station capacity used by the production scheduler.
+ */
+@ConfigurationProperties(prefix = "automfg.scheduling")
+public record SchedulingProperties(
+    @DefaultValue("90") int horizonDays,
+    @DefaultValue("1") int defaultStationCapacity,
+    Map<String, Integer> stationCapacity,
+    List<ShiftProperties> shifts,
+    Set<DayOfWeek> workingDays,
+    Set<LocalDate> holidays
+) {
+
+    public record ShiftProperties(LocalTime start, int durationMinutes) {}
+}
@@ -0,0 +1,22 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.ScanIdempotencyStore;
+import com.automfg.manufacturing.application.usecase.CompleteAssemblyStepsBatchUseCase;
+import com.automfg.manufacturing.application.usecase.CompleteAssemblyStepsBatchUseCaseImpl;
+import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StationScanConfig {
+
+    @Bean
+    public CompleteAssemblyStepsBatchUseCase completeAssemblyStepsBatchUseCase(
+            ProductionOrderRepository productionOrderRepository,
+            ScanIdempotencyStore scanIdempotencyStore,
+            DomainEventPublisher domainEventPublisher) {
+        return new CompleteAssemblyStepsBatchUseCaseImpl(productionOrderRepository, scanIdempotencyStore,
+            domainEventPublisher);
+    }
+}
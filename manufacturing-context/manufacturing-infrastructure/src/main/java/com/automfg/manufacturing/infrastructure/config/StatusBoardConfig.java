@@ -0,0 +1,18 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.ProductionStatusQueryPort;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCaseImpl;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(StatusBoardProperties.class)
+public class StatusBoardConfig {
+
+    @Bean
+    public GetProductionStatusBoardUseCase getProductionStatusBoardUseCase(ProductionStatusQueryPort queryPort) {
+        return new GetProductionStatusBoardUseCaseImpl(queryPort);
+    }
+}
@@ -0,0 +1,24 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * The in-memory production status board.
+ *
+ * @param refreshInterval how often orders changed by domain events are read back into the board
+ * @param rebuildInterval how often the board is reloaded in full, which picks up orders archived
+ *                        or changed by other instances of the application
+ * @param fetchSize       rows fetched per round trip while loading the board
+ * @param expectedOrders  initial capacity, to save regrowing the columns on the first load
+ */
+@ConfigurationProperties(prefix = "automfg.status-board")
+public record StatusBoardProperties(
+    @DefaultValue("PT0.5S") Duration refreshInterval,
+    @DefaultValue("PT15M") Duration rebuildInterval,
+    @DefaultValue("10000") int fetchSize,
+    @DefaultValue("100000") int expectedOrders
+) {
+}
@@ -0,0 +1,29 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.ProductionOrderArchiveSourcePort;
+import com.automfg.manufacturing.application.port.VehicleArchiveStore;
+import com.automfg.manufacturing.application.usecase.ArchiveClosedProductionOrdersUseCase;
+import com.automfg.manufacturing.application.usecase.ArchiveClosedProductionOrdersUseCaseImpl;
+import com.automfg.manufacturing.infrastructure.archive.FileVehicleArchiveStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class VehicleArchiveConfig {
+
+    @Bean
+    public VehicleArchiveStore vehicleArchiveStore(ArchiveProperties properties, ObjectMapper objectMapper) {
+        return new FileVehicleArchiveStore(properties.directory(), objectMapper);
+    }
+
+    @Bean
+    public ArchiveClosedProductionOrdersUseCase archiveClosedProductionOrdersUseCase(
+            ProductionOrderArchiveSourcePort archiveSource, VehicleArchiveStore vehicleArchiveStore) {
+        return new ArchiveClosedProductionOrdersUseCaseImpl(archiveSource, vehicleArchiveStore);
+    }
+}
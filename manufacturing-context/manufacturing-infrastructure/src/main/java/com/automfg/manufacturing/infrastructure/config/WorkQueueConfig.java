@@ -0,0 +1,35 @@
+package com.automfg.manufacturing.infrastructure.config;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+import com.automfg.manufacturing.application.usecase.ClaimNextReviewUseCase;
+import com.automfg.manufacturing.application.usecase.ClaimNextReviewUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.ListReviewQueueUseCase;
+import com.automfg.manufacturing.application.usecase.ListReviewQueueUseCaseImpl;
+import com.automfg.manufacturing.application.usecase.ListReworkQueueUseCase;
+import com.automfg.manufacturing.application.usecase.ListReworkQueueUseCaseImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class WorkQueueConfig {
+
+    @Bean
+    public ListReviewQueueUseCase listReviewQueueUseCase(WorkQueuePort workQueuePort) {
+        return new ListReviewQueueUseCaseImpl(workQueuePort);
+    }
+
+    @Bean
+    public ListReworkQueueUseCase listReworkQueueUseCase(WorkQueuePort workQueuePort) {
+        return new ListReworkQueueUseCaseImpl(workQueuePort);
+    }
+
+    @Bean
+    public ClaimNextReviewUseCase claimNextReviewUseCase(
+            WorkQueuePort workQueuePort,
+            @Value("${automfg.review-queue.claim-ttl:PT30M}") Duration claimTtl) {
+        return new ClaimNextReviewUseCaseImpl(workQueuePort, claimTtl);
+    }
+}
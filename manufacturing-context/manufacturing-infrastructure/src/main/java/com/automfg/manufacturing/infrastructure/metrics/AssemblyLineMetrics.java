@@ -0,0 +1,102 @@
+package com.automfg.manufacturing.infrastructure.metrics;
+
+import com.automfg.manufacturing.domain.event.AssemblyStepCompletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-station takt / cycle-time instrumentation fed by AssemblyStepCompletedEvent.
+ * Meters are registered once per station code, so recording a step is a map lookup
+ * plus primitive updates — no tag or meter-id building on the scan path.
+ * Steps per minute is derived from the {@code assembly.steps.completed} counter rate.
+ */
+@Component
+public class AssemblyLineMetrics {
+
+    static final String TAG_STATION = "station";
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, StationMeters> stations = new ConcurrentHashMap<>();
+
+    public AssemblyLineMetrics(MeterRegistry registry,
+                               @Value("${automfg.metrics.assembly.stations:WS-BODY,WS-PAINT,WS-TRIM,WS-MECH,WS-FINAL}")
+                               List<String> stationCodes) {
+        this.registry = registry;
+        for (String code : stationCodes) {
+            stations.put(code, new StationMeters(registry, code));
+        }
+    }
+
+    @EventListener
+    public void onAssemblyStepCompleted(AssemblyStepCompletedEvent event) {
+        record(event.getWorkStationCode(), event.getStandardMinutes(),
+            event.getActualMinutes(), event.isOvertime());
+    }
+
+    void record(String stationCode, int standardMinutes, int actualMinutes, boolean overtime) {
+        StationMeters meters = stations.get(stationCode);
+        if (meters == null) {
+            // Station not configured up front; register once and reuse
+            meters = stations.computeIfAbsent(stationCode, code -> new StationMeters(registry, code));
+        }
+        meters.record(standardMinutes, actualMinutes, overtime);
+    }
+
+    private static final class StationMeters {
+
+        private final Timer cycleTime;
+        private final Timer standardTime;
+        private final DistributionSummary overtimeRatio;
+        private final Counter completed;
+        private final Counter overtime;
+
+        StationMeters(MeterRegistry registry, String stationCode) {
+            this.cycleTime = Timer.builder("assembly.step.cycle.time")
+                .description("Actual time spent on an assembly step")
+                .tag(TAG_STATION, stationCode)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMinutes(1))
+                .maximumExpectedValue(Duration.ofHours(8))
+                .register(registry);
+            this.standardTime = Timer.builder("assembly.step.standard.time")
+                .description("Standard time of completed assembly steps")
+                .tag(TAG_STATION, stationCode)
+                .register(registry);
+            this.overtimeRatio = DistributionSummary.builder("assembly.step.overtime.ratio")
+                .description("Actual / standard time per completed step (BR-09 alerts above 1.5)")
+                .tag(TAG_STATION, stationCode)
+                .serviceLevelObjectives(0.5, 0.8, 1.0, 1.2, 1.5, 2.0, 3.0)
+                .register(registry);
+            this.completed = Counter.builder("assembly.steps.completed")
+                .description("Completed assembly steps")
+                .tag(TAG_STATION, stationCode)
+                .register(registry);
+            this.overtime = Counter.builder("assembly.steps.overtime")
+                .description("Completed assembly steps exceeding 1.5x standard time (BR-09)")
+                .tag(TAG_STATION, stationCode)
+                .register(registry);
+        }
+
+        void record(int standardMinutes, int actualMinutes, boolean isOvertime) {
+            cycleTime.record(actualMinutes, TimeUnit.MINUTES);
+            standardTime.record(standardMinutes, TimeUnit.MINUTES);
+            if (standardMinutes > 0) {
+                overtimeRatio.record((double) actualMinutes / standardMinutes);
+            }
+            completed.increment();
+            if (isOvertime) {
+                overtime.increment();
+            }
+        }
+    }
+}
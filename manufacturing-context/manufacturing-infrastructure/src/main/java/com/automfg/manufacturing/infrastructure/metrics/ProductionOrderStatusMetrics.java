@@ -0,0 +1,65 @@
+package com.automfg.manufacturing.infrastructure.metrics;
+
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import com.automfg.manufacturing.infrastructure.persistence.ProductionOrderJpaRepository;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Gauges for the number of production orders in each ProductionOrderStatus.
+ * All gauges share one GROUP BY snapshot that is refreshed at most once per
+ * refresh interval, so a scrape costs at most one query per plant shard regardless of status count.
+ */
+@Component
+public class ProductionOrderStatusMetrics {
+
+    private static final ProductionOrderStatus[] STATUSES = ProductionOrderStatus.values();
+
+    private final PlantShards shards;
+    private final long refreshIntervalNanos;
+    private final long[] counts = new long[STATUSES.length];
+    private long lastRefreshNanos;
+    private boolean initialized;
+
+    public ProductionOrderStatusMetrics(MeterRegistry registry,
+                                        PlantShards shards,
+                                        @Value("${automfg.metrics.production-orders.refresh-seconds:15}")
+                                        long refreshSeconds) {
+        this.shards = shards;
+        this.refreshIntervalNanos = refreshSeconds * 1_000_000_000L;
+        for (ProductionOrderStatus status : STATUSES) {
+            Gauge.builder("production.orders", this, metrics -> metrics.count(status))
+                .description("Production orders per status")
+                .tag("status", status.name())
+                .register(registry);
+        }
+    }
+
+    synchronized double count(ProductionOrderStatus status) {
+        long now = System.nanoTime();
+        if (!initialized || now - lastRefreshNanos >= refreshIntervalNanos) {
+            refresh();
+            lastRefreshNanos = now;
+            initialized = true;
+        }
+        return counts[status.ordinal()];
+    }
+
+    private void refresh() {
+        List<List<Object[]>> shardRows = shards.scatter(shard -> shard.read(() ->
+            shard.repository(ProductionOrderJpaRepository.class).countGroupedByStatus()));
+        Arrays.fill(counts, 0L);
+        for (List<Object[]> rows : shardRows) {
+            for (Object[] row : rows) {
+                ProductionOrderStatus status = ProductionOrderStatus.valueOf((String) row[0]);
+                counts[status.ordinal()] += ((Number) row[1]).longValue();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Maps an archived inspection to the vehicle whose archive record contains it.
+ */
+@Entity
+@Table(name = "archived_inspections")
+public class ArchivedInspectionJpaEntity {
+
+    @Id
+    @Column(name = "inspection_id")
+    private UUID inspectionId;
+
+    @Column(name = "production_order_id", nullable = false)
+    private UUID productionOrderId;
+
+    protected ArchivedInspectionJpaEntity() {
+        // JPA requires a no-arg constructor
+    }
+
+    public ArchivedInspectionJpaEntity(UUID inspectionId, UUID productionOrderId) {
+        this.inspectionId = inspectionId;
+        this.productionOrderId = productionOrderId;
+    }
+
+    public UUID getInspectionId() { return inspectionId; }
+    public UUID getProductionOrderId() { return productionOrderId; }
+}
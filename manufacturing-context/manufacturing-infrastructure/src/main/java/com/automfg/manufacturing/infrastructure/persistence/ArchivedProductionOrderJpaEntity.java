@@ -0,0 +1,50 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Locator for an archived vehicle: which segment holds it. The only per-vehicle row kept
+ * in the database after archival.
+ */
+@Entity
+@Table(name = "archived_production_orders")
+public class ArchivedProductionOrderJpaEntity {
+
+    @Id
+    @Column(name = "production_order_id")
+    private UUID productionOrderId;
+
+    @Column(name = "vin", nullable = false, length = 17)
+    private String vin;
+
+    @Column(name = "segment_name", nullable = false, length = 100)
+    private String segmentName;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected ArchivedProductionOrderJpaEntity() {
+        // JPA requires a no-arg constructor
+    }
+
+    public ArchivedProductionOrderJpaEntity(UUID productionOrderId, String vin, String segmentName,
+                                            LocalDateTime closedAt) {
+        this.productionOrderId = productionOrderId;
+        this.vin = vin;
+        this.segmentName = segmentName;
+        this.closedAt = closedAt;
+        this.archivedAt = LocalDateTime.now();
+    }
+
+    public UUID getProductionOrderId() { return productionOrderId; }
+    public String getVin() { return vin; }
+    public String getSegmentName() { return segmentName; }
+    public LocalDateTime getClosedAt() { return closedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,11 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivedProductionOrderJpaRepository extends JpaRepository<ArchivedProductionOrderJpaEntity, UUID> {
+
+    Optional<ArchivedProductionOrderJpaEntity> findByVin(String vin);
+}
@@ -53,6 +53,10 @@ public class AssemblyStepJpaEntity {
     @Column(name = "corrects_record_id")
     private UUID correctsRecordId;
 
+    /** Partition key; copied from the owning production order. */
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     protected AssemblyStepJpaEntity() {
         // JPA
     }
@@ -152,4 +156,12 @@ public class AssemblyStepJpaEntity {
     public void setCorrectsRecordId(UUID correctsRecordId) {
         this.correctsRecordId = correctsRecordId;
     }
+
+    public LocalDateTime getOrderCreatedAt() {
+        return orderCreatedAt;
+    }
+
+    public void setOrderCreatedAt(LocalDateTime orderCreatedAt) {
+        this.orderCreatedAt = orderCreatedAt;
+    }
 }
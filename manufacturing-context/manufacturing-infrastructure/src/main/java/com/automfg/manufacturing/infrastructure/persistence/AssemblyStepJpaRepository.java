@@ -0,0 +1,28 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AssemblyStepJpaRepository extends JpaRepository<AssemblyStepJpaEntity, UUID> {
+
+    // The orderCreatedAt predicates are redundant but let Postgres prune the monthly partitions
+    @Query("SELECT s FROM AssemblyStepJpaEntity s "
+        + "WHERE s.assemblyProcess.productionOrder.id = :productionOrderId "
+        + "AND s.orderCreatedAt = s.assemblyProcess.productionOrder.createdAt "
+        + "ORDER BY s.workStationSequence")
+    List<AssemblyStepJpaEntity> findByProductionOrderId(@Param("productionOrderId") UUID productionOrderId);
+
+    @Query("SELECT s FROM AssemblyStepJpaEntity s "
+        + "WHERE s.assemblyProcess.productionOrder.id = :productionOrderId "
+        + "AND s.orderCreatedAt = s.assemblyProcess.productionOrder.createdAt "
+        + "AND s.workStationCode = :stationCode "
+        + "ORDER BY s.workStationSequence")
+    List<AssemblyStepJpaEntity> findByProductionOrderIdAndStationCode(
+        @Param("productionOrderId") UUID productionOrderId, @Param("stationCode") String stationCode);
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -37,6 +38,10 @@ public class BomLineItemJpaEntity {
     @Column(name = "is_available", nullable = false)
     private boolean available;
 
+    /** Partition key; copied from the owning production order. */
+    @Column(name = "order_created_at", nullable = false, updatable = false)
+    private LocalDateTime orderCreatedAt;
+
     protected BomLineItemJpaEntity() {
         // JPA
     }
@@ -96,4 +101,12 @@ public class BomLineItemJpaEntity {
     public void setAvailable(boolean available) {
         this.available = available;
     }
+
+    public LocalDateTime getOrderCreatedAt() {
+        return orderCreatedAt;
+    }
+
+    public void setOrderCreatedAt(LocalDateTime orderCreatedAt) {
+        this.orderCreatedAt = orderCreatedAt;
+    }
 }
@@ -0,0 +1,189 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.domain.event.InspectionCompletedEvent;
+import com.automfg.manufacturing.domain.event.InspectionFailedEvent;
+import com.automfg.manufacturing.domain.event.ReworkCompletedEvent;
+import com.automfg.manufacturing.domain.model.InspectionResult;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Folds inspection and rework events into the weekly rollup tables (V13) that back the defect
+ * Pareto and yield queries. Each event adds to one row per (week, model, inspector), plus one row
+ * per failed item for a failed inspection, so maintaining the rollups costs a few keyed upserts
+ * per event instead of scans of inspection_items and rework_orders at query time.
+ * <p>
+ * The additions are not idempotent, so each fact is first recorded in defect_analytics_processed
+ * (V26), keyed by the inspection or rework order it comes from, in the transaction that adds it;
+ * a redelivered event finds its fact recorded and leaves the rollups alone.
+ * <p>
+ * Rollups for every plant are kept on the primary; the model code and inspector an event is
+ * rolled up under are read from the shard of the plant that stores the order or inspection.
+ * <p>
+ * The rollups are derived data: a failed update is logged rather than failing the inspection or
+ * rework that has already been saved.
+ */
+@Component
+public class DefectAnalyticsProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(DefectAnalyticsProjection.class);
+
+    static final String UNKNOWN = "UNKNOWN";
+
+    private static final String CLAIM = """
+        INSERT INTO defect_analytics_processed (source_id, fact, processed_at)
+        VALUES (?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String UPSERT_OUTCOME = """
+        MERGE INTO inspection_outcome_rollups r
+        USING (SELECT CAST(? AS DATE) AS week_start, CAST(? AS VARCHAR(50)) AS model_code,
+                      CAST(? AS VARCHAR(50)) AS inspector_id) k
+        ON r.week_start = k.week_start AND r.model_code = k.model_code AND r.inspector_id = k.inspector_id
+        WHEN MATCHED THEN UPDATE SET
+            inspections_completed = r.inspections_completed + ?,
+            passed = r.passed + ?,
+            conditional_passed = r.conditional_passed + ?,
+            failed = r.failed + ?,
+            first_inspections = r.first_inspections + ?,
+            first_pass_passed = r.first_pass_passed + ?,
+            reworks_completed = r.reworks_completed + ?
+        WHEN NOT MATCHED THEN INSERT (week_start, model_code, inspector_id, inspections_completed, passed,
+            conditional_passed, failed, first_inspections, first_pass_passed, reworks_completed)
+            VALUES (k.week_start, k.model_code, k.inspector_id, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String UPSERT_ITEM = """
+        MERGE INTO defect_item_rollups r
+        USING (SELECT CAST(? AS DATE) AS week_start, CAST(? AS VARCHAR(50)) AS model_code,
+                      CAST(? AS VARCHAR(50)) AS inspector_id, CAST(? AS VARCHAR(500)) AS item_description) k
+        ON r.week_start = k.week_start AND r.model_code = k.model_code AND r.inspector_id = k.inspector_id
+           AND r.item_description = k.item_description
+        WHEN MATCHED THEN UPDATE SET failures = r.failures + ?
+        WHEN NOT MATCHED THEN INSERT (week_start, model_code, inspector_id, item_description, failures)
+            VALUES (k.week_start, k.model_code, k.inspector_id, k.item_description, ?)
+        """;
+
+    private record OutcomeDelta(int completed, int passed, int conditionalPassed, int failed,
+                                int firstInspections, int firstPassPassed, int reworksCompleted) {
+    }
+
+    private final PlantShards shards;
+
+    public DefectAnalyticsProjection(PlantShards shards) {
+        this.shards = shards;
+    }
+
+    @EventListener
+    public void on(InspectionCompletedEvent event) {
+        InspectionResult result = InspectionResult.valueOf(event.getResult());
+        boolean firstPass = !event.isReinspection();
+        OutcomeDelta delta = new OutcomeDelta(
+            1,
+            result == InspectionResult.PASSED ? 1 : 0,
+            result == InspectionResult.CONDITIONAL_PASS ? 1 : 0,
+            result == InspectionResult.FAILED ? 1 : 0,
+            firstPass ? 1 : 0,
+            firstPass && result != InspectionResult.FAILED ? 1 : 0,
+            0);
+        apply(event.getInspectionId(), "OUTCOME", () -> upsertOutcome(weekOf(event.getOccurredAt()),
+            modelCodeOf(event.getProductionOrderId()), event.getInspectorId(), delta));
+    }
+
+    @EventListener
+    public void on(InspectionFailedEvent event) {
+        apply(event.getInspectionId(), "DEFECT_ITEMS", () -> {
+            LocalDate week = weekOf(event.getOccurredAt());
+            String modelCode = modelCodeOf(event.getProductionOrderId());
+            for (String description : event.getFailedItemDescriptions()) {
+                upsertItem(week, modelCode, event.getInspectorId(), description);
+            }
+        });
+    }
+
+    @EventListener
+    public void on(ReworkCompletedEvent event) {
+        OutcomeDelta delta = new OutcomeDelta(0, 0, 0, 0, 0, 0, 1);
+        apply(event.getReworkOrderId(), "REWORK", () -> {
+            // Attributed to the inspector whose inspection sent the vehicle to rework
+            UUID inspectionId = event.getInspectionId();
+            String inspectorId = shards.locate(inspectionId, shard -> shard.read(() ->
+                    shard.repository(QualityInspectionJpaRepository.class).findInspectorIdById(inspectionId)))
+                .orElse(UNKNOWN);
+            upsertOutcome(weekOf(event.getOccurredAt()),
+                modelCodeOf(event.getProductionOrderId()), inspectorId, delta);
+        });
+    }
+
+    private void apply(UUID sourceId, String fact, Runnable update) {
+        try {
+            try {
+                applyOnce(sourceId, fact, update);
+            } catch (DuplicateKeyException e) {
+                // A concurrent first write inserted the same rollup row; now it exists, so add to it
+                applyOnce(sourceId, fact, update);
+            }
+        } catch (DataAccessException e) {
+            log.error("Could not update defect analytics rollups with {} of {}", fact, sourceId, e);
+        }
+    }
+
+    private void applyOnce(UUID sourceId, String fact, Runnable update) {
+        PlantShard primary = shards.primary();
+        primary.write(() -> {
+            if (primary.jdbcTemplate().update(CLAIM, sourceId, fact, Timestamp.valueOf(LocalDateTime.now())) == 0) {
+                log.debug("Defect analytics rollups already hold {} of {}", fact, sourceId);
+                return;
+            }
+            update.run();
+        });
+    }
+
+    private void upsert(String sql, Object... args) {
+        shards.primary().jdbcTemplate().update(sql, args);
+    }
+
+    private void upsertOutcome(LocalDate week, String modelCode, String inspectorId, OutcomeDelta d) {
+        List<Object> deltas = List.of(d.completed(), d.passed(), d.conditionalPassed(), d.failed(),
+            d.firstInspections(), d.firstPassPassed(), d.reworksCompleted());
+        Object[] args = new Object[3 + 2 * deltas.size()];
+        args[0] = Date.valueOf(week);
+        args[1] = modelCode;
+        args[2] = inspectorId;
+        for (int i = 0; i < deltas.size(); i++) {
+            args[3 + i] = deltas.get(i);
+            args[3 + deltas.size() + i] = deltas.get(i);
+        }
+        upsert(UPSERT_OUTCOME, args);
+    }
+
+    private void upsertItem(LocalDate week, String modelCode, String inspectorId, String description) {
+        upsert(UPSERT_ITEM, Date.valueOf(week), modelCode, inspectorId, description, 1, 1);
+    }
+
+    private String modelCodeOf(UUID productionOrderId) {
+        return shards.locate(productionOrderId, shard -> shard.read(() ->
+                shard.repository(ProductionOrderJpaRepository.class).findVehicleModelCodeById(productionOrderId)))
+            .orElse(UNKNOWN);
+    }
+
+    static LocalDate weekOf(LocalDateTime occurredAt) {
+        return occurredAt.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 
 import java.util.UUID;
 
-@Entity
+@Entity(name = "ManufacturingInspectionChecklist")
 @Table(name = "inspection_checklists")
 public class InspectionChecklistJpaEntity {
 
@@ -7,4 +7,6 @@ import java.util.UUID;
 
 public interface InspectionChecklistJpaRepository extends JpaRepository<InspectionChecklistJpaEntity, UUID> {
     List<InspectionChecklistJpaEntity> findByModelCodeOrderByDisplayOrder(String modelCode);
+
+    List<InspectionChecklistJpaEntity> findAllByOrderByModelCodeAscDisplayOrderAsc();
 }
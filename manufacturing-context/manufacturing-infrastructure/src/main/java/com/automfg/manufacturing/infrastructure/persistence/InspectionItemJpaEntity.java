@@ -2,6 +2,7 @@ package com.automfg.manufacturing.infrastructure.persistence;
 
 import jakarta.persistence.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -28,6 +29,10 @@ public class InspectionItemJpaEntity {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    /** Partition key; copied from the owning inspection. */
+    @Column(name = "inspection_created_at", nullable = false, updatable = false)
+    private LocalDateTime inspectionCreatedAt;
+
     protected InspectionItemJpaEntity() {
         // JPA requires a no-arg constructor
     }
@@ -81,4 +86,12 @@ public class InspectionItemJpaEntity {
     public void setNotes(String notes) {
         this.notes = notes;
     }
+
+    public LocalDateTime getInspectionCreatedAt() {
+        return inspectionCreatedAt;
+    }
+
+    public void setInspectionCreatedAt(LocalDateTime inspectionCreatedAt) {
+        this.inspectionCreatedAt = inspectionCreatedAt;
+    }
 }
@@ -0,0 +1,71 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.DefectAnalyticsQueryPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers the defect analytics queries from the weekly rollup tables alone. A year of data for
+ * one model is at most 52 rows per inspector, so these reads stay small however many vehicles
+ * were inspected.
+ */
+@Component
+public class JdbcDefectAnalyticsQueryAdapter implements DefectAnalyticsQueryPort {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDefectAnalyticsQueryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ItemFailures> findItemFailures(RollupFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT item_description, SUM(failures) FROM defect_item_rollups"
+            + where(filter, args)
+            + " GROUP BY item_description";
+        return jdbcTemplate.query(sql,
+            (rs, rowNum) -> new ItemFailures(rs.getString(1), rs.getLong(2)),
+            args.toArray());
+    }
+
+    @Override
+    public List<OutcomeCounts> findOutcomeCounts(RollupFilter filter, Grouping grouping) {
+        String column = switch (grouping) {
+            case WEEK -> "week_start";
+            case MODEL -> "model_code";
+            case INSPECTOR -> "inspector_id";
+        };
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT " + column + ", SUM(inspections_completed), SUM(passed), SUM(conditional_passed), "
+            + "SUM(failed), SUM(first_inspections), SUM(first_pass_passed), SUM(reworks_completed) "
+            + "FROM inspection_outcome_rollups"
+            + where(filter, args)
+            + " GROUP BY " + column + " ORDER BY " + column;
+        return jdbcTemplate.query(sql,
+            (rs, rowNum) -> new OutcomeCounts(
+                grouping == Grouping.WEEK ? rs.getDate(1).toLocalDate().toString() : rs.getString(1),
+                rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5),
+                rs.getLong(6), rs.getLong(7), rs.getLong(8)),
+            args.toArray());
+    }
+
+    private static String where(RollupFilter filter, List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE week_start BETWEEN ? AND ?");
+        args.add(Date.valueOf(filter.fromWeek()));
+        args.add(Date.valueOf(filter.toWeek()));
+        if (filter.modelCode() != null) {
+            where.append(" AND model_code = ?");
+            args.add(filter.modelCode());
+        }
+        if (filter.inspectorId() != null) {
+            where.append(" AND inspector_id = ?");
+            args.add(filter.inspectorId());
+        }
+        return where.toString();
+    }
+}
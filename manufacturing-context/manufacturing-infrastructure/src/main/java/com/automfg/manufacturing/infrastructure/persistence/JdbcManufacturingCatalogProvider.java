@@ -0,0 +1,119 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.domain.model.AssemblyStepTemplate;
+import com.automfg.manufacturing.domain.model.BomStructure;
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog;
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog.Effective;
+import com.automfg.manufacturing.domain.model.ManufacturingCatalog.RoutingStep;
+import com.automfg.manufacturing.domain.port.ManufacturingCatalogProvider;
+import com.automfg.shared.infrastructure.refdata.ReferenceDataChangedEvent;
+import com.automfg.shared.infrastructure.refdata.ReferenceDataVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Loads bom_parts, bom_components and routing_steps with three queries and compiles them into
+ * one {@link ManufacturingCatalog}. Publishing a catalog change means bumping the
+ * {@code manufacturing_catalog} reference data version (the Postgres triggers do it on every
+ * write); the next poll compiles the new version off the request path and swaps it in with a
+ * single volatile write. A version that fails to compile, for instance a cycle introduced by a
+ * bad edit, is rejected and the previous catalog stays live.
+ */
+@Component
+public class JdbcManufacturingCatalogProvider implements ManufacturingCatalogProvider {
+
+    static final String DATASET = "manufacturing_catalog";
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcManufacturingCatalogProvider.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceDataVersions referenceDataVersions;
+    private volatile ManufacturingCatalog catalog;
+
+    public JdbcManufacturingCatalogProvider(JdbcTemplate jdbcTemplate, ReferenceDataVersions referenceDataVersions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.referenceDataVersions = referenceDataVersions;
+    }
+
+    @Override
+    public ManufacturingCatalog current() {
+        ManufacturingCatalog current = catalog;
+        if (current == null) {
+            reload(referenceDataVersions.current(DATASET));
+            current = catalog;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload(referenceDataVersions.current(DATASET));
+    }
+
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (DATASET.equals(event.dataset())) {
+            reload(event.version());
+        }
+    }
+
+    private synchronized void reload(long version) {
+        ManufacturingCatalog current = catalog;
+        if (current != null && version <= current.version()) {
+            return;
+        }
+        List<BomStructure.Part> parts = jdbcTemplate.query(
+            "SELECT part_number, description, unit_of_measure FROM bom_parts ORDER BY part_number",
+            (rs, rowNum) -> new BomStructure.Part(
+                rs.getString("part_number"), rs.getString("description"), rs.getString("unit_of_measure")));
+        List<Effective<BomStructure.Link>> links = jdbcTemplate.query(
+            "SELECT parent_type, parent_code, component_part_number, quantity, effective_from, effective_to"
+                + " FROM bom_components",
+            (rs, rowNum) -> new Effective<>(
+                new BomStructure.Link(
+                    BomStructure.ParentType.valueOf(rs.getString("parent_type")),
+                    rs.getString("parent_code"),
+                    rs.getString("component_part_number"),
+                    rs.getInt("quantity")),
+                toLocalDate(rs.getDate("effective_from")),
+                toLocalDate(rs.getDate("effective_to"))));
+        List<Effective<RoutingStep>> steps = jdbcTemplate.query(
+            "SELECT parent_type, parent_code, workstation_code, workstation_sequence, task_description,"
+                + " standard_minutes, effective_from, effective_to FROM routing_steps"
+                + " ORDER BY parent_type, parent_code, step_no",
+            (rs, rowNum) -> new Effective<>(
+                new RoutingStep(
+                    BomStructure.ParentType.valueOf(rs.getString("parent_type")),
+                    rs.getString("parent_code"),
+                    new AssemblyStepTemplate(
+                        rs.getString("workstation_code"),
+                        rs.getInt("workstation_sequence"),
+                        rs.getString("task_description"),
+                        rs.getInt("standard_minutes"))),
+                toLocalDate(rs.getDate("effective_from")),
+                toLocalDate(rs.getDate("effective_to"))));
+        try {
+            catalog = ManufacturingCatalog.compile(version, parts, links, steps);
+            log.info("Loaded manufacturing catalog version {}: {} parts, {} BOM components, {} routing steps",
+                version, parts.size(), links.size(), steps.size());
+        } catch (IllegalArgumentException e) {
+            if (current == null) {
+                throw e;
+            }
+            log.error("Rejected manufacturing catalog version {}, keeping version {}: {}",
+                version, current.version(), e.getMessage());
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -0,0 +1,93 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.MaterialRequirementsPort;
+import com.automfg.manufacturing.domain.model.RequirementsLedger.OrderRequirements;
+import com.automfg.manufacturing.domain.model.RequirementsLedger.PartQuantity;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads open-order requirements as flat (order, start date, part, quantity) rows straight from
+ * production_orders and the BOM snapshot tables, without materializing aggregates. The full
+ * read streams the rows and groups them in a single pass.
+ * <p>
+ * Open orders are read from every plant shard; inventory is one stock shared by all plants and
+ * is kept on the primary.
+ */
+@Component
+public class JdbcMaterialRequirementsAdapter implements MaterialRequirementsPort {
+
+    private static final String OPEN_ORDER_LINES = "SELECT p.id, p.scheduled_start_date, l.part_number, l.quantity_required"
+        + " FROM production_orders p"
+        + " JOIN bom_snapshots s ON s.production_order_id = p.id"
+        + " JOIN bom_line_items l ON l.bom_snapshot_id = s.id AND l.order_created_at = p.created_at"
+        + " WHERE p.status IN ('SCHEDULED', 'MATERIAL_PENDING')";
+
+    private final PlantShards shards;
+
+    public JdbcMaterialRequirementsAdapter(PlantShards shards) {
+        this.shards = shards;
+    }
+
+    private static final class OrderLines {
+        final LocalDate neededOn;
+        final List<PartQuantity> parts = new ArrayList<>();
+
+        OrderLines(LocalDate neededOn) {
+            this.neededOn = neededOn;
+        }
+    }
+
+    @Override
+    public List<OrderRequirements> findOpenOrderRequirements() {
+        List<OrderRequirements> result = new ArrayList<>();
+        shards.scatter(shard -> shard.read(() -> group(shard, OPEN_ORDER_LINES))).forEach(result::addAll);
+        return result;
+    }
+
+    @Override
+    public Optional<OrderRequirements> findOpenOrderRequirements(UUID productionOrderId) {
+        PlantShard shard = JpaProductionOrderRepositoryAdapter.shardOf(shards, productionOrderId);
+        return shard.read(() -> group(shard, OPEN_ORDER_LINES + " AND p.id = ?", productionOrderId))
+            .stream().findFirst();
+    }
+
+    private List<OrderRequirements> group(PlantShard shard, String sql, Object... args) {
+        Map<UUID, OrderLines> byOrder = new LinkedHashMap<>();
+        shard.jdbcTemplate().query(sql, rs -> {
+            UUID orderId = rs.getObject("id", UUID.class);
+            OrderLines lines = byOrder.get(orderId);
+            if (lines == null) {
+                Timestamp start = rs.getTimestamp("scheduled_start_date");
+                lines = new OrderLines(start == null ? null : start.toLocalDateTime().toLocalDate());
+                byOrder.put(orderId, lines);
+            }
+            lines.parts.add(new PartQuantity(rs.getString("part_number"), rs.getInt("quantity_required")));
+        }, args);
+
+        List<OrderRequirements> result = new ArrayList<>(byOrder.size());
+        byOrder.forEach((orderId, lines) -> result.add(new OrderRequirements(orderId, lines.neededOn, lines.parts)));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> findOnHand() {
+        Map<String, Long> onHand = new HashMap<>();
+        shards.primary().jdbcTemplate().query("SELECT part_number, on_hand FROM part_inventory",
+            rs -> {
+                onHand.put(rs.getString("part_number"), rs.getLong("on_hand"));
+            });
+        return onHand;
+    }
+}
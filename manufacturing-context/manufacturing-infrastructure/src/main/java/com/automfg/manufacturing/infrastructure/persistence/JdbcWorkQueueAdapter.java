@@ -0,0 +1,160 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.WorkQueuePort;
+import com.automfg.manufacturing.application.usecase.ListReviewQueueUseCase.AwaitingReview;
+import com.automfg.manufacturing.application.usecase.ListReworkQueueUseCase.OpenRework;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Work queues read straight from quality_inspections and rework_orders. Every query repeats the
+ * queue predicate verbatim ({@code result IS NOT NULL AND reviewer_id IS NULL}, or
+ * {@code status <> 'COMPLETED'}) so that on Postgres it is answered from the partial indexes of
+ * V15, which hold only queued rows in queue order.
+ * <p>
+ * Queues span plants: each page is read from every plant shard and merged in queue order. A
+ * claim is written on the shard of the inspection it claims.
+ */
+@Component
+public class JdbcWorkQueueAdapter implements WorkQueuePort {
+
+    private static final String AWAITING_REVIEW = "result IS NOT NULL AND reviewer_id IS NULL";
+
+    private static final String REVIEW_COLUMNS = "id, production_order_id, vin, result, inspector_id, "
+        + "inspected_at, review_claimed_by, review_claimed_at";
+
+    private static final String CLAIMABLE = " AND inspector_id <> ?"
+        + " AND (review_claimed_by IS NULL OR review_claimed_at < ?)";
+
+    private static final RowMapper<AwaitingReview> AWAITING_REVIEW_MAPPER = (rs, rowNum) -> new AwaitingReview(
+        rs.getObject("id", UUID.class),
+        rs.getObject("production_order_id", UUID.class),
+        rs.getString("vin"),
+        rs.getString("result"),
+        rs.getString("inspector_id"),
+        toLocalDateTime(rs.getTimestamp("inspected_at")),
+        rs.getString("review_claimed_by"),
+        toLocalDateTime(rs.getTimestamp("review_claimed_at")));
+
+    private static final RowMapper<OpenRework> OPEN_REWORK_MAPPER = (rs, rowNum) -> new OpenRework(
+        rs.getObject("id", UUID.class),
+        rs.getObject("production_order_id", UUID.class),
+        rs.getObject("inspection_id", UUID.class),
+        rs.getString("status"),
+        toLocalDateTime(rs.getTimestamp("created_at")));
+
+    private static final Comparator<AwaitingReview> REVIEW_ORDER =
+        Comparator.comparing(AwaitingReview::inspectedAt).thenComparing(AwaitingReview::inspectionId, PlantShards.UUID_ORDER);
+
+    private static final Comparator<OpenRework> REWORK_ORDER =
+        Comparator.comparing(OpenRework::createdAt).thenComparing(OpenRework::reworkOrderId, PlantShards.UUID_ORDER);
+
+    private record Candidate(UUID id, LocalDateTime inspectedAt, PlantShard shard) {}
+
+    private final PlantShards shards;
+
+    public JdbcWorkQueueAdapter(PlantShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public List<AwaitingReview> findAwaitingReview(Keyset after, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM quality_inspections WHERE " + AWAITING_REVIEW
+            + after("inspected_at", after, args)
+            + " ORDER BY inspected_at, id LIMIT ?";
+        args.add(limit);
+        return PlantShards.mergePages(shards.scatter(shard ->
+            shard.jdbcTemplate().query(sql, AWAITING_REVIEW_MAPPER, args.toArray())), REVIEW_ORDER, limit);
+    }
+
+    @Override
+    public List<OpenRework> findOpenRework(Keyset after, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = "SELECT id, production_order_id, inspection_id, status, created_at FROM rework_orders"
+            + " WHERE status <> 'COMPLETED'"
+            + after("created_at", after, args)
+            + " ORDER BY created_at, id LIMIT ?";
+        args.add(limit);
+        return PlantShards.mergePages(shards.scatter(shard ->
+            shard.jdbcTemplate().query(sql, OPEN_REWORK_MAPPER, args.toArray())), REWORK_ORDER, limit);
+    }
+
+    @Override
+    public Optional<AwaitingReview> findActiveClaim(String reviewerId, LocalDateTime staleBefore) {
+        String sql = "SELECT " + REVIEW_COLUMNS + " FROM quality_inspections WHERE " + AWAITING_REVIEW
+            + " AND review_claimed_by = ? AND review_claimed_at >= ? ORDER BY inspected_at, id LIMIT 1";
+        return PlantShards.mergePages(shards.scatter(shard ->
+                shard.jdbcTemplate().query(sql, AWAITING_REVIEW_MAPPER, reviewerId, Timestamp.valueOf(staleBefore))),
+            REVIEW_ORDER, 1).stream().findFirst();
+    }
+
+    @Override
+    public List<UUID> findClaimCandidates(String reviewerId, LocalDateTime staleBefore, int limit) {
+        String sql = "SELECT id, inspected_at FROM quality_inspections WHERE " + AWAITING_REVIEW + CLAIMABLE
+            + " ORDER BY inspected_at, id LIMIT ?";
+        List<Candidate> candidates = PlantShards.mergePages(shards.scatter(shard ->
+                shard.jdbcTemplate().query(sql, (rs, rowNum) -> new Candidate(rs.getObject("id", UUID.class),
+                        toLocalDateTime(rs.getTimestamp("inspected_at")), shard),
+                    reviewerId, Timestamp.valueOf(staleBefore), limit)),
+            Comparator.comparing(Candidate::inspectedAt).thenComparing(Candidate::id, PlantShards.UUID_ORDER),
+            limit);
+        // The claim that follows goes straight to the candidate's shard
+        candidates.forEach(candidate -> shards.remember(candidate.id(), candidate.shard()));
+        return candidates.stream().map(Candidate::id).toList();
+    }
+
+    @Override
+    public boolean tryClaim(UUID inspectionId, String reviewerId, LocalDateTime claimedAt, LocalDateTime staleBefore) {
+        // The WHERE clause re-checks claimability, so of two concurrent claims only one matches
+        return shardOfInspection(inspectionId)
+            .map(shard -> shard.jdbcTemplate().update(
+                "UPDATE quality_inspections SET review_claimed_by = ?, review_claimed_at = ?"
+                    + " WHERE id = ? AND " + AWAITING_REVIEW + CLAIMABLE,
+                reviewerId, Timestamp.valueOf(claimedAt), inspectionId, reviewerId,
+                Timestamp.valueOf(staleBefore)) == 1)
+            .orElse(false);
+    }
+
+    @Override
+    public boolean holdClaim(UUID inspectionId, String reviewerId, LocalDateTime claimedAt, LocalDateTime staleBefore) {
+        // Like a claim, but the reviewer's own live claim matches too
+        return shardOfInspection(inspectionId)
+            .map(shard -> shard.jdbcTemplate().update(
+                "UPDATE quality_inspections SET review_claimed_by = ?, review_claimed_at = ? WHERE id = ?"
+                    + " AND (review_claimed_by IS NULL OR review_claimed_by = ? OR review_claimed_at < ?)",
+                reviewerId, Timestamp.valueOf(claimedAt), inspectionId, reviewerId,
+                Timestamp.valueOf(staleBefore)) == 1)
+            .orElse(false);
+    }
+
+    private Optional<PlantShard> shardOfInspection(UUID inspectionId) {
+        return shards.shardOf(inspectionId, shard -> shard.read(() ->
+            shard.repository(QualityInspectionJpaRepository.class).existsById(inspectionId)));
+    }
+
+    private static String after(String column, Keyset after, List<Object> args) {
+        if (after == null) {
+            return "";
+        }
+        // Redundant >= bound lets the index range start at the cursor
+        args.add(Timestamp.valueOf(after.queuedAt()));
+        args.add(Timestamp.valueOf(after.queuedAt()));
+        args.add(after.id());
+        return " AND " + column + " >= ? AND (" + column + " > ? OR id > ?)";
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
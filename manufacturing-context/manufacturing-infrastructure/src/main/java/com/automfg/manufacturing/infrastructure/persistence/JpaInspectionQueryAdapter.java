@@ -2,29 +2,32 @@ package com.automfg.manufacturing.infrastructure.persistence;
 
 import com.automfg.manufacturing.application.port.InspectionQueryPort;
 import com.automfg.manufacturing.application.usecase.GetInspectionUseCase;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Query-side adapter for inspections: reads JPA entities and maps to DTOs.
+ * Query-side adapter for inspections: reads JPA entities from the plant's shard and maps to DTOs.
  */
 @Repository
 public class JpaInspectionQueryAdapter implements InspectionQueryPort {
 
-    private final QualityInspectionJpaRepository jpaRepository;
+    private final PlantShards shards;
 
-    public JpaInspectionQueryAdapter(QualityInspectionJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    public JpaInspectionQueryAdapter(PlantShards shards) {
+        this.shards = shards;
     }
 
     @Override
     public Optional<GetInspectionUseCase.InspectionDetail> findById(UUID id) {
-        return jpaRepository.findById(id).map(e -> new GetInspectionUseCase.InspectionDetail(
-            e.getId(), e.getProductionOrderId(), e.getVin(),
-            e.getResult(), e.getInspectorId(), e.getReviewerId(),
-            e.getItems().size()
-        ));
+        return shards.locate(id, shard -> shard.read(() ->
+            shard.repository(QualityInspectionJpaRepository.class).findById(id)
+                .map(e -> new GetInspectionUseCase.InspectionDetail(
+                    e.getId(), e.getProductionOrderId(), e.getVin(),
+                    e.getResult(), e.getInspectorId(), e.getReviewerId(),
+                    e.getItems().size()
+                ))));
     }
 }
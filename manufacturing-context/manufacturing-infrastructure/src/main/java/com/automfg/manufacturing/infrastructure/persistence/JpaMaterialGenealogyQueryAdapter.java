@@ -0,0 +1,65 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.MaterialGenealogyQueryPort;
+import com.automfg.manufacturing.application.usecase.TraceMaterialBatchUseCase.AffectedVehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams recall results straight off the genealogy index. The query is a range scan on
+ * (material_batch_id, completed_at, ...) that never touches assembly_steps or
+ * production_orders, so its cost grows with the number of matches, not with table size.
+ * Rows are read through a server-side cursor inside a read-only transaction and are not
+ * kept in the persistence context. The index covers every plant shard; see
+ * {@link MaterialGenealogyProjection}.
+ */
+@Repository
+public class JpaMaterialGenealogyQueryAdapter implements MaterialGenealogyQueryPort {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String RECALL_QUERY =
+        "SELECT g.vin AS vin, g.productionOrderId AS productionOrderId, "
+            + "g.workStationCode AS workStationCode, g.completedAt AS completedAt "
+            + "FROM MaterialGenealogyJpaEntity g "
+            + "WHERE g.materialBatchId = :materialBatchId "
+            + "ORDER BY g.completedAt";
+
+    private final EntityManager entityManager;
+
+    public JpaMaterialGenealogyQueryAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAffectedVehicles(String materialBatchId, Consumer<AffectedVehicle> sink) {
+        long count = 0;
+        try (Stream<Tuple> rows = entityManager.createQuery(RECALL_QUERY, Tuple.class)
+                .setParameter("materialBatchId", materialBatchId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Tuple> it = rows.iterator();
+            while (it.hasNext()) {
+                Tuple row = it.next();
+                sink.accept(new AffectedVehicle(
+                    row.get("vin", String.class),
+                    row.get("productionOrderId", UUID.class),
+                    row.get("workStationCode", String.class),
+                    row.get("completedAt", LocalDateTime.class)));
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,206 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.ArchivedVehicle;
+import com.automfg.manufacturing.application.port.ProductionOrderArchiveSourcePort;
+import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase;
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCase;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Reads closed vehicles from every plant shard and removes them from the shard that stored them
+ * once they are archived.
+ */
+@Repository
+public class JpaProductionOrderArchiveSourceAdapter implements ProductionOrderArchiveSourcePort {
+
+    /**
+     * Closed = passed inspection; the close time is the latest inspection review (or
+     * inspection, when it was never reviewed).
+     */
+    private static final String ARCHIVABLE_QUERY =
+        "SELECT p.id FROM production_orders p "
+            + "JOIN quality_inspections qi ON qi.production_order_id = p.id "
+            + "WHERE p.status = 'INSPECTION_PASSED' "
+            + "GROUP BY p.id "
+            + "HAVING MAX(COALESCE(qi.reviewed_at, qi.inspected_at, qi.created_at)) < :closedBefore "
+            + "ORDER BY p.id";
+
+    /** Child tables first, so no foreign key is violated part-way through. */
+    private static final List<String> DELETE_STATEMENTS = List.of(
+        "DELETE FROM rework_orders WHERE production_order_id IN (:ids)",
+        "DELETE FROM inspection_items WHERE inspection_id IN "
+            + "(SELECT id FROM quality_inspections WHERE production_order_id IN (:ids))",
+        "DELETE FROM quality_inspections WHERE production_order_id IN (:ids)",
+        "DELETE FROM assembly_steps WHERE assembly_process_id IN "
+            + "(SELECT id FROM assembly_processes WHERE production_order_id IN (:ids))",
+        "DELETE FROM assembly_processes WHERE production_order_id IN (:ids)",
+        "DELETE FROM bom_line_items WHERE bom_snapshot_id IN "
+            + "(SELECT id FROM bom_snapshots WHERE production_order_id IN (:ids))",
+        "DELETE FROM bom_snapshots WHERE production_order_id IN (:ids)",
+        "DELETE FROM production_orders WHERE id IN (:ids)"
+    );
+
+    private static final int DELETE_CHUNK = 500;
+
+    private final PlantShards shards;
+
+    public JpaProductionOrderArchiveSourceAdapter(PlantShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> findArchivable(LocalDateTime closedBefore, int limit) {
+        List<List<UUID>> pages = shards.scatter(shard -> shard.read(() -> {
+            List<UUID> ids = shard.entityManager().createNativeQuery(ARCHIVABLE_QUERY, UUID.class)
+                .setParameter("closedBefore", closedBefore)
+                .setMaxResults(limit)
+                .getResultList();
+            ids.forEach(id -> shards.remember(id, shard));
+            return ids;
+        }));
+        return PlantShards.mergePages(pages, PlantShards.UUID_ORDER, limit);
+    }
+
+    @Override
+    public List<ArchivedVehicle> load(List<UUID> productionOrderIds) {
+        List<ArchivedVehicle> vehicles = new ArrayList<>(productionOrderIds.size());
+        byShard(productionOrderIds).forEach((shard, ids) -> vehicles.addAll(shard.read(() -> load(shard, ids))));
+        return vehicles;
+    }
+
+    private List<ArchivedVehicle> load(PlantShard shard, List<UUID> productionOrderIds) {
+        Map<UUID, List<QualityInspectionJpaEntity>> inspections = shard.repository(QualityInspectionJpaRepository.class)
+            .findByProductionOrderIdIn(productionOrderIds).stream()
+            .collect(Collectors.groupingBy(QualityInspectionJpaEntity::getProductionOrderId));
+        Map<UUID, List<ReworkOrderJpaEntity>> reworkOrders = shard.repository(ReworkOrderJpaRepository.class)
+            .findByProductionOrderIdIn(productionOrderIds).stream()
+            .collect(Collectors.groupingBy(ReworkOrderJpaEntity::getProductionOrderId));
+
+        return shard.repository(ProductionOrderJpaRepository.class).findAllById(productionOrderIds).stream()
+            .map(order -> toArchivedVehicle(order,
+                inspections.getOrDefault(order.getId(), List.of()),
+                reworkOrders.getOrDefault(order.getId(), List.of())))
+            .toList();
+    }
+
+    /**
+     * Writes the locators to the primary, where every archived vehicle is looked up, then deletes
+     * the live rows from each shard. Vehicles on the primary are deleted in the locators'
+     * transaction; on another shard, in a transaction of that shard once the locators are
+     * committed, so a failure there leaves the vehicle both live and archived until the next run
+     * archives it again, never in neither.
+     */
+    @Override
+    public void moveToArchive(List<ArchivedVehicle> vehicles, String segmentName) {
+        List<ArchivedProductionOrderJpaEntity> locators = new ArrayList<>();
+        List<ArchivedInspectionJpaEntity> inspectionLocators = new ArrayList<>();
+        for (ArchivedVehicle vehicle : vehicles) {
+            locators.add(new ArchivedProductionOrderJpaEntity(
+                vehicle.productionOrderId(), vehicle.order().vin(), segmentName, vehicle.closedAt()));
+            for (ArchivedVehicle.Inspection inspection : vehicle.inspections()) {
+                inspectionLocators.add(new ArchivedInspectionJpaEntity(
+                    inspection.detail().id(), vehicle.productionOrderId()));
+            }
+        }
+        Map<PlantShard, List<UUID>> byShard = byShard(
+            vehicles.stream().map(ArchivedVehicle::productionOrderId).toList());
+
+        PlantShard primary = shards.primary();
+        primary.write(() -> {
+            primary.repository(ArchivedProductionOrderJpaRepository.class).saveAll(locators);
+            primary.repository(ArchivedInspectionJpaRepository.class).saveAll(inspectionLocators);
+            primary.entityManager().flush();
+            delete(primary, byShard.getOrDefault(primary, List.of()));
+        });
+        byShard.forEach((shard, ids) -> {
+            if (!shard.isPrimary()) {
+                shard.write(() -> delete(shard, ids));
+            }
+        });
+    }
+
+    private static void delete(PlantShard shard, List<UUID> ids) {
+        for (int start = 0; start < ids.size(); start += DELETE_CHUNK) {
+            List<UUID> chunk = ids.subList(start, Math.min(start + DELETE_CHUNK, ids.size()));
+            for (String statement : DELETE_STATEMENTS) {
+                shard.entityManager().createNativeQuery(statement).setParameter("ids", chunk).executeUpdate();
+            }
+        }
+    }
+
+    private Map<PlantShard, List<UUID>> byShard(List<UUID> productionOrderIds) {
+        Map<PlantShard, List<UUID>> byShard = new LinkedHashMap<>();
+        for (UUID id : productionOrderIds) {
+            byShard.computeIfAbsent(JpaProductionOrderRepositoryAdapter.shardOf(shards, id), shard -> new ArrayList<>())
+                .add(id);
+        }
+        return byShard;
+    }
+
+    private ArchivedVehicle toArchivedVehicle(ProductionOrderJpaEntity order,
+                                              List<QualityInspectionJpaEntity> inspections,
+                                              List<ReworkOrderJpaEntity> reworkOrders) {
+        AssemblyProcessJpaEntity process = order.getAssemblyProcess();
+        List<GetAssemblyStepsUseCase.AssemblyStepDetail> steps = process == null ? List.of()
+            : process.getSteps().stream()
+                .sorted(Comparator.comparingInt(AssemblyStepJpaEntity::getWorkStationSequence))
+                .map(s -> new GetAssemblyStepsUseCase.AssemblyStepDetail(
+                    s.getId(), s.getWorkStationCode(), s.getWorkStationSequence(),
+                    s.getTaskDescription(), s.getStandardTimeMinutes(),
+                    s.getStatus(), s.getOperatorId(), s.getMaterialBatchId(),
+                    s.getActualTimeMinutes(), s.getCompletedAt()))
+                .toList();
+
+        GetProductionOrderUseCase.ProductionOrderDetail detail = new GetProductionOrderUseCase.ProductionOrderDetail(
+            order.getId(), order.getOrderNumber(), order.getSourceOrderId(), order.getVin(), order.getPlantId(),
+            order.getStatus(), order.getCurrentStationSequence(),
+            order.getScheduledStartDate(), order.getCreatedAt(),
+            process != null ? process.getStatus() : null, steps.size());
+
+        List<ArchivedVehicle.BomLine> bomLines = order.getBomSnapshot() == null ? List.of()
+            : order.getBomSnapshot().getLineItems().stream()
+                .map(line -> new ArchivedVehicle.BomLine(line.getPartNumber(), line.getPartDescription(),
+                    line.getQuantityRequired(), line.getUnitOfMeasure(), line.isAvailable()))
+                .toList();
+
+        List<ArchivedVehicle.Inspection> archivedInspections = inspections.stream()
+            .map(qi -> new ArchivedVehicle.Inspection(
+                new GetInspectionUseCase.InspectionDetail(qi.getId(), qi.getProductionOrderId(), qi.getVin(),
+                    qi.getResult(), qi.getInspectorId(), qi.getReviewerId(), qi.getItems().size()),
+                qi.getInspectedAt(), qi.getReviewedAt(), qi.getCreatedAt(),
+                qi.getItems().stream()
+                    .map(item -> new ArchivedVehicle.InspectionItem(item.getId(), item.getDescription(),
+                        item.isSafetyRelated(), item.getStatus(), item.getNotes()))
+                    .toList()))
+            .toList();
+
+        LocalDateTime closedAt = inspections.stream()
+            .map(qi -> qi.getReviewedAt() != null ? qi.getReviewedAt()
+                : qi.getInspectedAt() != null ? qi.getInspectedAt() : qi.getCreatedAt())
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+
+        List<ArchivedVehicle.Rework> archivedRework = reworkOrders.stream()
+            .map(r -> new ArchivedVehicle.Rework(r.getId(), r.getInspectionId(), r.getStatus(),
+                r.getFailedItems(), r.getCreatedAt(), r.getCompletedAt()))
+            .toList();
+
+        return new ArchivedVehicle(detail, order.getVehicleModelCode(), order.getColorCode(), closedAt,
+            steps, bomLines, archivedInspections, archivedRework);
+    }
+}
@@ -4,76 +4,146 @@ import com.automfg.manufacturing.application.port.ProductionOrderQueryPort;
 import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase;
 import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
 import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Query-side adapter: reads JPA entities and maps directly to DTOs.
- * Does NOT reconstitute domain objects — this is a key CQRS optimization.
+ * Query-side adapter: selects only the columns each read model needs and maps them directly to DTOs.
+ * Does NOT reconstitute domain objects or touch lazy associations — this is a key CQRS optimization.
+ * <p>
+ * Listing across plants asks every plant shard for a page after the same keyset, in parallel,
+ * and merges them: the first {@code limit} rows of the merge are exactly the page a single
+ * database would have returned.
  */
 @Repository
 public class JpaProductionOrderQueryAdapter implements ProductionOrderQueryPort {
 
-    private final ProductionOrderJpaRepository jpaRepository;
+    private static final String DETAIL_QUERY =
+        "SELECT p.id AS id, p.orderNumber AS orderNumber, p.sourceOrderId AS sourceOrderId, p.vin AS vin, "
+            + "p.plantId AS plantId, p.status AS status, p.currentStationSequence AS currentStationSequence, "
+            + "p.scheduledStartDate AS scheduledStartDate, p.createdAt AS createdAt, "
+            + "ap.status AS assemblyProcessStatus, p.totalAssemblySteps AS totalAssemblySteps "
+            + "FROM ProductionOrderJpaEntity p LEFT JOIN p.assemblyProcess ap "
+            + "WHERE p.id = :id";
 
-    public JpaProductionOrderQueryAdapter(ProductionOrderJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    private static final String SUMMARY_SELECT =
+        "SELECT p.id AS id, p.orderNumber AS orderNumber, p.vin AS vin, p.plantId AS plantId, p.status AS status, "
+            + "p.currentStationSequence AS currentStationSequence, p.createdAt AS createdAt "
+            + "FROM ProductionOrderJpaEntity p WHERE 1 = 1";
+
+    private static final Comparator<ListProductionOrdersUseCase.ProductionOrderSummary> KEYSET_ORDER =
+        Comparator.comparing(ListProductionOrdersUseCase.ProductionOrderSummary::createdAt)
+            .thenComparing(ListProductionOrdersUseCase.ProductionOrderSummary::id, PlantShards.UUID_ORDER);
+
+    private final PlantShards shards;
+
+    public JpaProductionOrderQueryAdapter(PlantShards shards) {
+        this.shards = shards;
     }
 
     @Override
     public Optional<GetProductionOrderUseCase.ProductionOrderDetail> findById(UUID id) {
-        return jpaRepository.findById(id).map(this::toDetail);
+        return shards.locate(id, shard -> shard.read(() ->
+            shard.entityManager().createQuery(DETAIL_QUERY, Tuple.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(this::toDetail)));
     }
 
     @Override
-    public List<ListProductionOrdersUseCase.ProductionOrderSummary> findByStatus(String status) {
-        return jpaRepository.findByStatus(status).stream()
-            .map(this::toSummary).toList();
+    public List<ListProductionOrdersUseCase.ProductionOrderSummary> findSummaries(
+            SummaryFilter filter, Keyset after, int limit) {
+        List<List<ListProductionOrdersUseCase.ProductionOrderSummary>> pages = shards.scatter(
+            shards.forPlantOrAll(filter.plantId()),
+            shard -> shard.read(() -> findSummaries(shard, filter, after, limit)));
+        return PlantShards.mergePages(pages, KEYSET_ORDER, limit);
     }
 
-    @Override
-    public List<ListProductionOrdersUseCase.ProductionOrderSummary> findAll() {
-        return jpaRepository.findAll().stream()
-            .map(this::toSummary).toList();
+    private List<ListProductionOrdersUseCase.ProductionOrderSummary> findSummaries(
+            PlantShard shard, SummaryFilter filter, Keyset after, int limit) {
+        StringBuilder jpql = new StringBuilder(SUMMARY_SELECT);
+        if (filter.status() != null) {
+            jpql.append(" AND p.status = :status");
+        }
+        if (filter.plantId() != null) {
+            jpql.append(" AND p.plantId = :plantId");
+        }
+        if (filter.createdFrom() != null) {
+            jpql.append(" AND p.createdAt >= :createdFrom");
+        }
+        if (filter.createdTo() != null) {
+            jpql.append(" AND p.createdAt < :createdTo");
+        }
+        if (after != null) {
+            // Leading range predicate keeps the (created_at, id) index usable for the seek
+            jpql.append(" AND p.createdAt >= :afterCreatedAt"
+                + " AND (p.createdAt > :afterCreatedAt OR p.id > :afterId)");
+        }
+        jpql.append(" ORDER BY p.createdAt, p.id");
+
+        TypedQuery<Tuple> query = shard.entityManager().createQuery(jpql.toString(), Tuple.class);
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status());
+        }
+        if (filter.plantId() != null) {
+            query.setParameter("plantId", filter.plantId());
+        }
+        if (filter.createdFrom() != null) {
+            query.setParameter("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            query.setParameter("createdTo", filter.createdTo());
+        }
+        if (after != null) {
+            query.setParameter("afterCreatedAt", after.createdAt());
+            query.setParameter("afterId", after.id());
+        }
+        return query.setMaxResults(limit)
+            .getResultStream()
+            .map(this::toSummary)
+            .toList();
     }
 
     @Override
     public List<GetAssemblyStepsUseCase.AssemblyStepDetail> findAssemblySteps(
             UUID productionOrderId, String stationCode) {
-        return jpaRepository.findById(productionOrderId)
-            .map(e -> {
-                AssemblyProcessJpaEntity ap = e.getAssemblyProcess();
-                if (ap == null) return List.<GetAssemblyStepsUseCase.AssemblyStepDetail>of();
-
-                List<AssemblyStepJpaEntity> steps = ap.getSteps();
-                if (stationCode != null && !stationCode.isBlank()) {
-                    steps = steps.stream()
-                        .filter(s -> s.getWorkStationCode().equals(stationCode))
-                        .toList();
-                }
-                return steps.stream().map(this::toStepDetail).toList();
-            })
-            .orElse(List.of());
+        PlantShard shard = JpaProductionOrderRepositoryAdapter.shardOf(shards, productionOrderId);
+        return shard.read(() -> {
+            AssemblyStepJpaRepository steps = shard.repository(AssemblyStepJpaRepository.class);
+            return (stationCode != null && !stationCode.isBlank()
+                ? steps.findByProductionOrderIdAndStationCode(productionOrderId, stationCode)
+                : steps.findByProductionOrderId(productionOrderId))
+                .stream().map(this::toStepDetail).toList();
+        });
     }
 
-    private GetProductionOrderUseCase.ProductionOrderDetail toDetail(ProductionOrderJpaEntity e) {
-        AssemblyProcessJpaEntity ap = e.getAssemblyProcess();
+    private GetProductionOrderUseCase.ProductionOrderDetail toDetail(Tuple t) {
+        Integer totalSteps = t.get("totalAssemblySteps", Integer.class);
         return new GetProductionOrderUseCase.ProductionOrderDetail(
-            e.getId(), e.getOrderNumber(), e.getSourceOrderId(), e.getVin(),
-            e.getStatus(), e.getCurrentStationSequence(),
-            e.getScheduledStartDate(), e.getCreatedAt(),
-            ap != null ? ap.getStatus() : null,
-            ap != null ? ap.getSteps().size() : 0
+            t.get("id", UUID.class), t.get("orderNumber", String.class),
+            t.get("sourceOrderId", UUID.class), t.get("vin", String.class), t.get("plantId", String.class),
+            t.get("status", String.class), t.get("currentStationSequence", Integer.class),
+            t.get("scheduledStartDate", LocalDateTime.class), t.get("createdAt", LocalDateTime.class),
+            t.get("assemblyProcessStatus", String.class),
+            totalSteps != null ? totalSteps : 0
         );
     }
 
-    private ListProductionOrdersUseCase.ProductionOrderSummary toSummary(ProductionOrderJpaEntity e) {
+    private ListProductionOrdersUseCase.ProductionOrderSummary toSummary(Tuple t) {
         return new ListProductionOrdersUseCase.ProductionOrderSummary(
-            e.getId(), e.getOrderNumber(), e.getVin(),
-            e.getStatus(), e.getCurrentStationSequence(), e.getCreatedAt()
+            t.get("id", UUID.class), t.get("orderNumber", String.class), t.get("vin", String.class),
+            t.get("plantId", String.class), t.get("status", String.class), t.get("currentStationSequence", Integer.class),
+            t.get("createdAt", LocalDateTime.class)
         );
     }
 
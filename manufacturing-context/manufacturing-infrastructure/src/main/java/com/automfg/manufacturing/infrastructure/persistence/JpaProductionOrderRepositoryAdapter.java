@@ -2,38 +2,169 @@ package com.automfg.manufacturing.infrastructure.persistence;
 
 import com.automfg.manufacturing.domain.model.ProductionOrder;
 import com.automfg.manufacturing.domain.model.ProductionOrderId;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
 import com.automfg.manufacturing.domain.port.ProductionOrderRepository;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Stores each production order in the shard of its plant. The order number and VIN of a new
+ * order are registered on the primary first, where they are unique across all shards.
+ */
 @Repository
 public class JpaProductionOrderRepositoryAdapter implements ProductionOrderRepository {
 
-    private final ProductionOrderJpaRepository jpaRepository;
+    // Bumps the version too, so a save of a copy loaded before the slot moved fails instead of undoing it
+    private static final String UPDATE_SCHEDULED_START_SQL =
+        "UPDATE production_orders SET scheduled_start_date = ?, version = version + 1 "
+            + "WHERE id = ? AND status = 'SCHEDULED'";
+    private static final int SLOT_BATCH_SIZE = 500;
+
+    private static final String REGISTER_KEYS_SQL =
+        "INSERT INTO production_order_keys (production_order_id, order_number, vin) VALUES (?, ?, ?)";
+    private static final String RELEASE_KEYS_SQL = "DELETE FROM production_order_keys WHERE production_order_id = ?";
+
+    private final PlantShards shards;
     private final ProductionOrderMapper mapper;
 
-    public JpaProductionOrderRepositoryAdapter(ProductionOrderJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    public JpaProductionOrderRepositoryAdapter(PlantShards shards) {
+        this.shards = shards;
         this.mapper = new ProductionOrderMapper();
     }
 
     @Override
     public ProductionOrder save(ProductionOrder order) {
-        ProductionOrderJpaEntity entity = mapper.toJpaEntity(order);
-        ProductionOrderJpaEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        PlantShard shard = shards.forPlant(order.getPlantId());
+        if (order.getVersion() != null || shard.isPrimary()) {
+            return write(shard, order);
+        }
+        // The keys are committed on the primary before the order is written to its shard, and
+        // released again if that write fails
+        shards.primary().write(() -> registerKeys(order));
+        try {
+            return write(shard, order);
+        } catch (RuntimeException e) {
+            shards.primary().write(() -> releaseKeys(order));
+            throw e;
+        }
+    }
+
+    private ProductionOrder write(PlantShard shard, ProductionOrder order) {
+        ProductionOrder saved = shard.write(() -> {
+            if (order.getVersion() == null && shard.isPrimary()) {
+                registerKeys(order);
+            }
+            ProductionOrderJpaEntity entity = shard.repository(ProductionOrderJpaRepository.class)
+                .save(mapper.toJpaEntity(order));
+            if (order.getVersion() != null) {
+                // Completing a step may leave the order row itself unchanged; bump the version anyway,
+                // so that two saves of the same loaded version conflict instead of the later one winning
+                shard.entityManager().lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            }
+            return mapper.toDomain(entity);
+        });
+        shards.remember(order.getId().value(), shard);
+        return saved;
+    }
+
+    private void registerKeys(ProductionOrder order) {
+        shards.primary().jdbcTemplate().update(REGISTER_KEYS_SQL,
+            order.getId().value(), order.getOrderNumber().value(), order.getVin().value());
+    }
+
+    private void releaseKeys(ProductionOrder order) {
+        shards.primary().jdbcTemplate().update(RELEASE_KEYS_SQL, order.getId().value());
     }
 
     @Override
     public Optional<ProductionOrder> findById(ProductionOrderId id) {
-        return jpaRepository.findById(id.value())
-            .map(mapper::toDomain);
+        return shards.locate(id.value(), shard -> shard.read(() ->
+            shard.repository(ProductionOrderJpaRepository.class).findById(id.value())
+                .map(mapper::toDomain)));
+    }
+
+    /**
+     * The shard of the production order, where its inspections and rework orders are stored too.
+     * An order that is no longer stored anywhere, having been archived, counts as the primary's.
+     */
+    static PlantShard shardOf(PlantShards shards, UUID productionOrderId) {
+        return shards.shardOf(productionOrderId, shard -> shard.read(() ->
+                shard.repository(ProductionOrderJpaRepository.class).existsById(productionOrderId)))
+            .orElseGet(shards::primary);
     }
 
     @Override
     public boolean existsBySourceOrderId(UUID sourceOrderId) {
-        return jpaRepository.existsBySourceOrderId(sourceOrderId);
+        return shards.scatter(shard -> shard.read(() ->
+                shard.repository(ProductionOrderJpaRepository.class).existsBySourceOrderId(sourceOrderId)))
+            .contains(true);
+    }
+
+    @Override
+    public List<ProductionOrder> findByStatus(ProductionOrderStatus status) {
+        return shards.scatter(shard -> shard.read(() ->
+                shard.repository(ProductionOrderJpaRepository.class).findByStatus(status.name()).stream()
+                    .map(mapper::toDomain)
+                    .toList()))
+            .stream()
+            .flatMap(Collection::stream)
+            .toList();
+    }
+
+    /**
+     * The first slots of each shard, merged.
+     */
+    @Override
+    public List<ProductionOrder> findScheduledByStartSlot(int limit) {
+        List<List<ProductionOrder>> pages = shards.scatter(shard -> shard.read(() ->
+            shard.repository(ProductionOrderJpaRepository.class).findScheduledByStartSlot(Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList()));
+        return PlantShards.mergePages(pages, Comparator.comparing(ProductionOrder::getScheduledStartDate), limit);
+    }
+
+    /**
+     * One JDBC batch per shard, each row updated only while its order is still SCHEDULED.
+     */
+    @Override
+    public List<ProductionOrderId> saveScheduledStarts(Collection<ProductionOrder> orders) {
+        Map<PlantShard, List<ProductionOrder>> byShard = new LinkedHashMap<>();
+        for (ProductionOrder order : orders) {
+            byShard.computeIfAbsent(shards.forPlant(order.getPlantId()), shard -> new ArrayList<>()).add(order);
+        }
+        List<ProductionOrderId> written = new ArrayList<>(orders.size());
+        byShard.forEach((shard, shardOrders) -> {
+            int[][] updateCounts = shard.write(() -> shard.jdbcTemplate().batchUpdate(
+                UPDATE_SCHEDULED_START_SQL, shardOrders, SLOT_BATCH_SIZE, (ps, order) -> {
+                    LocalDateTime start = order.getScheduledStartDate();
+                    ps.setTimestamp(1, start != null ? Timestamp.valueOf(start) : null);
+                    ps.setObject(2, order.getId().value());
+                }));
+            int i = 0;
+            for (int[] batch : updateCounts) {
+                for (int count : batch) {
+                    ProductionOrder order = shardOrders.get(i++);
+                    if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        written.add(order.getId());
+                    }
+                }
+            }
+        });
+        return written;
     }
 }
@@ -1,31 +1,98 @@
 package com.automfg.manufacturing.infrastructure.persistence;
 
+import com.automfg.manufacturing.domain.model.InspectionItem;
+import com.automfg.manufacturing.domain.model.InspectionItemId;
 import com.automfg.manufacturing.domain.model.QualityInspection;
 import com.automfg.manufacturing.domain.model.QualityInspectionId;
 import com.automfg.manufacturing.domain.port.QualityInspectionRepository;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Stores each inspection in the shard of its production order.
+ */
 @Repository
 public class JpaQualityInspectionRepositoryAdapter implements QualityInspectionRepository {
 
-    private final QualityInspectionJpaRepository jpaRepository;
+    // inspection_created_at is the partition key; matching on it keeps each update to one partition
+    private static final String UPDATE_ITEM_RESULT_SQL =
+        "UPDATE inspection_items SET status = ?, notes = ? "
+            + "WHERE id = ? AND inspection_id = ? AND inspection_created_at = ?";
+    private static final int ITEM_BATCH_SIZE = 200;
 
-    public JpaQualityInspectionRepositoryAdapter(QualityInspectionJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    private final PlantShards shards;
+
+    public JpaQualityInspectionRepositoryAdapter(PlantShards shards) {
+        this.shards = shards;
     }
 
     @Override
     public QualityInspection save(QualityInspection inspection) {
-        QualityInspectionJpaEntity entity = QualityInspectionMapper.toJpaEntity(inspection);
-        QualityInspectionJpaEntity saved = jpaRepository.save(entity);
-        return QualityInspectionMapper.toDomain(saved);
+        PlantShard shard = shardOf(inspection);
+        QualityInspection saved = shard.write(() -> {
+            QualityInspectionJpaEntity entity = QualityInspectionMapper.toJpaEntity(inspection);
+            return QualityInspectionMapper.toDomain(shard.repository(QualityInspectionJpaRepository.class).save(entity));
+        });
+        shards.remember(inspection.getId().value(), shard);
+        return saved;
     }
 
     @Override
     public Optional<QualityInspection> findById(QualityInspectionId id) {
-        return jpaRepository.findById(id.value())
-            .map(QualityInspectionMapper::toDomain);
+        return shards.locate(id.value(), shard -> shard.read(() ->
+            shard.repository(QualityInspectionJpaRepository.class).findById(id.value())
+                .map(QualityInspectionMapper::toDomain)));
+    }
+
+    /**
+     * One versioned update of the inspection row, then the items as a single JDBC batch.
+     */
+    @Override
+    public void saveItemResults(QualityInspection inspection, Collection<InspectionItemId> itemIds) {
+        UUID inspectionId = inspection.getId().value();
+        if (inspection.getVersion() == null) {
+            throw new IllegalStateException("Inspection has not been saved yet: " + inspectionId);
+        }
+        PlantShard shard = shardOf(inspection);
+        shard.write(() -> writeItemResults(shard, inspection, itemIds));
+    }
+
+    private void writeItemResults(PlantShard shard, QualityInspection inspection, Collection<InspectionItemId> itemIds) {
+        UUID inspectionId = inspection.getId().value();
+        String result = inspection.getResult() != null ? inspection.getResult().name() : null;
+        if (shard.repository(QualityInspectionJpaRepository.class).updateResultIfVersion(
+                inspectionId, inspection.getVersion(), result, inspection.getInspectedAt()) == 0) {
+            throw new OptimisticLockingFailureException(
+                "Inspection was modified concurrently: " + inspectionId);
+        }
+
+        List<InspectionItem> items = itemIds.stream().map(inspection::getItem).toList();
+        int[][] updateCounts = shard.jdbcTemplate().batchUpdate(UPDATE_ITEM_RESULT_SQL, items, ITEM_BATCH_SIZE,
+            (ps, item) -> {
+                ps.setString(1, item.getStatus().name());
+                ps.setString(2, item.getNotes());
+                ps.setObject(3, item.getId().value());
+                ps.setObject(4, inspectionId);
+                ps.setObject(5, inspection.getCreatedAt());
+            });
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+                    throw new IllegalStateException("Inspection item rows out of sync for inspection " + inspectionId);
+                }
+            }
+        }
+    }
+
+    private PlantShard shardOf(QualityInspection inspection) {
+        return JpaProductionOrderRepositoryAdapter.shardOf(shards, inspection.getProductionOrderId().value());
     }
 }
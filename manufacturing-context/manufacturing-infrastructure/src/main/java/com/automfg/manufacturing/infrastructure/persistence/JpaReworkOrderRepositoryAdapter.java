@@ -2,30 +2,40 @@ package com.automfg.manufacturing.infrastructure.persistence;
 
 import com.automfg.manufacturing.domain.model.ReworkOrder;
 import com.automfg.manufacturing.domain.port.ReworkOrderRepository;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Stores each rework order in the shard of its production order.
+ */
 @Repository
 public class JpaReworkOrderRepositoryAdapter implements ReworkOrderRepository {
 
-    private final ReworkOrderJpaRepository jpaRepository;
+    private final PlantShards shards;
 
-    public JpaReworkOrderRepositoryAdapter(ReworkOrderJpaRepository jpaRepository) {
-        this.jpaRepository = jpaRepository;
+    public JpaReworkOrderRepositoryAdapter(PlantShards shards) {
+        this.shards = shards;
     }
 
     @Override
     public ReworkOrder save(ReworkOrder order) {
-        ReworkOrderJpaEntity entity = ReworkOrderMapper.toJpaEntity(order);
-        ReworkOrderJpaEntity saved = jpaRepository.save(entity);
-        return ReworkOrderMapper.toDomain(saved);
+        PlantShard shard = JpaProductionOrderRepositoryAdapter.shardOf(shards, order.getProductionOrderId().value());
+        ReworkOrder saved = shard.write(() -> {
+            ReworkOrderJpaEntity entity = ReworkOrderMapper.toJpaEntity(order);
+            return ReworkOrderMapper.toDomain(shard.repository(ReworkOrderJpaRepository.class).save(entity));
+        });
+        shards.remember(order.getId(), shard);
+        return saved;
     }
 
     @Override
     public Optional<ReworkOrder> findById(UUID id) {
-        return jpaRepository.findById(id)
-            .map(ReworkOrderMapper::toDomain);
+        return shards.locate(id, shard -> shard.read(() ->
+            shard.repository(ReworkOrderJpaRepository.class).findById(id)
+                .map(ReworkOrderMapper::toDomain)));
     }
 }
@@ -0,0 +1,150 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.ScanIdempotencyStore;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Scan key store backed by the processed_scans table of the production order's shard, fronted
+ * by a bounded LRU cache of recently applied keys. Terminals replay shortly after reconnecting,
+ * so most duplicates are answered from memory; older keys fall through to a single batched
+ * primary-key lookup on each shard.
+ * <p>
+ * A key is claimed by inserting its row before the scan is applied. A second batch carrying the
+ * same key waits on the first one's uncommitted row and, once it commits, finds the key taken.
+ */
+@Repository
+public class JpaScanIdempotencyStore implements ScanIdempotencyStore {
+
+    // The outcome columns are filled in once the scan has been applied, in the same transaction
+    private static final String CLAIM_SQL = """
+        INSERT INTO processed_scans (idempotency_key, production_order_id, assembly_step_id, order_status,
+                                     overtime_alert, station_completed, assembly_completed, processed_at)
+        VALUES (?, ?, ?, '', FALSE, FALSE, FALSE, ?)
+        ON CONFLICT DO NOTHING
+        """;
+    private static final String RECORD_SQL = """
+        UPDATE processed_scans
+        SET assembly_step_id = ?, order_status = ?, overtime_alert = ?, station_completed = ?, assembly_completed = ?
+        WHERE idempotency_key = ?
+        """;
+    private static final String RELEASE_SQL = "DELETE FROM processed_scans WHERE idempotency_key = ?";
+    private static final UUID UNKNOWN_STEP = new UUID(0, 0);
+    private static final int BATCH_SIZE = 500;
+
+    private final PlantShards shards;
+    private final Map<String, RecordedScan> recent;
+
+    public JpaScanIdempotencyStore(PlantShards shards,
+                                   @Value("${automfg.scanning.idempotency-cache-size:10000}") int cacheSize) {
+        this.shards = shards;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RecordedScan> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public Map<String, RecordedScan> findAll(Collection<String> idempotencyKeys) {
+        Map<String, RecordedScan> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        synchronized (recent) {
+            for (String key : idempotencyKeys) {
+                RecordedScan cached = recent.get(key);
+                if (cached != null) {
+                    found.put(key, cached);
+                } else {
+                    misses.add(key);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        List<RecordedScan> loaded = shards.scatter(shard -> shard.read(() ->
+                shard.repository(ProcessedScanJpaRepository.class).findAllById(misses).stream()
+                    .map(JpaScanIdempotencyStore::toRecordedScan)
+                    .toList()))
+            .stream()
+            .flatMap(Collection::stream)
+            .toList();
+        synchronized (recent) {
+            for (RecordedScan scan : loaded) {
+                recent.put(scan.idempotencyKey(), scan);
+                found.put(scan.idempotencyKey(), scan);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void claim(UUID productionOrderId, Collection<String> idempotencyKeys,
+                      Function<Set<String>, Collection<RecordedScan>> work) {
+        PlantShard shard = JpaProductionOrderRepositoryAdapter.shardOf(shards, productionOrderId);
+        List<String> keys = List.copyOf(new HashSet<>(idempotencyKeys));
+        Collection<RecordedScan> applied = shard.write(() -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int[][] counts = shard.jdbcTemplate().batchUpdate(CLAIM_SQL, keys, BATCH_SIZE, (ps, key) -> {
+                ps.setString(1, key);
+                ps.setObject(2, productionOrderId);
+                ps.setObject(3, UNKNOWN_STEP);
+                ps.setTimestamp(4, now);
+            });
+            // A conflicting row is skipped with a count of 0, so counts must not be batch-rewritten
+            Set<String> claimed = new HashSet<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (counts[i / BATCH_SIZE][i % BATCH_SIZE] != 0) {
+                    claimed.add(keys.get(i));
+                }
+            }
+            if (claimed.isEmpty()) {
+                return List.<RecordedScan>of();
+            }
+
+            Collection<RecordedScan> recorded = work.apply(Set.copyOf(claimed));
+            List<RecordedScan> outcomes = List.copyOf(recorded);
+            shard.jdbcTemplate().batchUpdate(RECORD_SQL, outcomes, BATCH_SIZE, (ps, scan) -> {
+                ps.setObject(1, scan.assemblyStepId());
+                ps.setString(2, scan.orderStatus());
+                ps.setBoolean(3, scan.overtimeAlert());
+                ps.setBoolean(4, scan.stationCompleted());
+                ps.setBoolean(5, scan.assemblyCompleted());
+                ps.setString(6, scan.idempotencyKey());
+            });
+            // Rejected scans leave no record, so the terminal may send them again once corrected
+            outcomes.forEach(scan -> claimed.remove(scan.idempotencyKey()));
+            shard.jdbcTemplate().batchUpdate(RELEASE_SQL, List.copyOf(claimed), BATCH_SIZE,
+                (ps, key) -> ps.setString(1, key));
+            return outcomes;
+        });
+        synchronized (recent) {
+            for (RecordedScan scan : applied) {
+                recent.put(scan.idempotencyKey(), scan);
+            }
+        }
+    }
+
+    private static RecordedScan toRecordedScan(ProcessedScanJpaEntity entity) {
+        return new RecordedScan(entity.getIdempotencyKey(), entity.getProductionOrderId(),
+            entity.getAssemblyStepId(), entity.getOrderStatus(), entity.isOvertimeAlert(),
+            entity.isStationCompleted(), entity.isAssemblyCompleted());
+    }
+}
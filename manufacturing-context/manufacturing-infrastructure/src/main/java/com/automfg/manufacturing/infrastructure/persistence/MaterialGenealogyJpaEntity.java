@@ -0,0 +1,55 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row per completed assembly step that consumed a material batch. Keyed by the step
+ * so that replaying a completion event cannot create a second row.
+ */
+@Entity
+@Table(name = "material_batch_genealogy")
+public class MaterialGenealogyJpaEntity {
+
+    @Id
+    @Column(name = "assembly_step_id")
+    private UUID assemblyStepId;
+
+    @Column(name = "material_batch_id", nullable = false, length = 100)
+    private String materialBatchId;
+
+    @Column(name = "production_order_id", nullable = false)
+    private UUID productionOrderId;
+
+    @Column(name = "vin", nullable = false, length = 17)
+    private String vin;
+
+    @Column(name = "work_station_code", nullable = false, length = 20)
+    private String workStationCode;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    protected MaterialGenealogyJpaEntity() {
+        // JPA requires a no-arg constructor
+    }
+
+    public MaterialGenealogyJpaEntity(UUID assemblyStepId, String materialBatchId, UUID productionOrderId,
+                                      String vin, String workStationCode, LocalDateTime completedAt) {
+        this.assemblyStepId = assemblyStepId;
+        this.materialBatchId = materialBatchId;
+        this.productionOrderId = productionOrderId;
+        this.vin = vin;
+        this.workStationCode = workStationCode;
+        this.completedAt = completedAt;
+    }
+
+    public UUID getAssemblyStepId() { return assemblyStepId; }
+    public String getMaterialBatchId() { return materialBatchId; }
+    public UUID getProductionOrderId() { return productionOrderId; }
+    public String getVin() { return vin; }
+    public String getWorkStationCode() { return workStationCode; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+}
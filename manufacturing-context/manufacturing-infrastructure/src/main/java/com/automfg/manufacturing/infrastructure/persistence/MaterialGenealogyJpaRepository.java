@@ -0,0 +1,8 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface MaterialGenealogyJpaRepository extends JpaRepository<MaterialGenealogyJpaEntity, UUID> {
+}
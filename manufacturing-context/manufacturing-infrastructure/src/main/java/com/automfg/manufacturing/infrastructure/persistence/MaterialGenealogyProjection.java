@@ -0,0 +1,97 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.domain.event.AssemblyStepCompletedEvent;
+import com.automfg.manufacturing.infrastructure.config.GenealogyProperties;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maintains the material batch genealogy index from step completions. Rows are keyed by
+ * assembly step, so a replayed event overwrites its own row instead of adding one. Like the V6
+ * backfill, a row carries the step's completion time, not the time the event was raised.
+ * <p>
+ * The index is kept on the primary for every plant, whichever shard stores the order, so that a
+ * recall is a single range scan there rather than a query of every shard. That write cannot
+ * share the step's transaction, so an event lost between the two leaves the VIN out of the
+ * index; every reconcile interval the steps completed within the lookback are read from each
+ * shard, as the V6 backfill did, and those still missing are copied in.
+ */
+@Component
+public class MaterialGenealogyProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(MaterialGenealogyProjection.class);
+
+    private static final String COMPLETED_STEPS = """
+        SELECT s.id, s.material_batch_id, p.id, p.vin, s.work_station_code, s.completed_at
+        FROM assembly_steps s
+        JOIN assembly_processes ap ON ap.id = s.assembly_process_id
+        JOIN production_orders p ON p.id = ap.production_order_id
+        WHERE s.status = 'COMPLETED'
+          AND s.material_batch_id IS NOT NULL
+          AND s.completed_at >= ?
+        """;
+
+    private static final String INSERT_MISSING = """
+        INSERT INTO material_batch_genealogy
+            (assembly_step_id, material_batch_id, production_order_id, vin, work_station_code, completed_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final MaterialGenealogyJpaRepository jpaRepository;
+    private final PlantShards shards;
+    private final GenealogyProperties properties;
+
+    public MaterialGenealogyProjection(MaterialGenealogyJpaRepository jpaRepository, PlantShards shards,
+                                       GenealogyProperties properties) {
+        this.jpaRepository = jpaRepository;
+        this.shards = shards;
+        this.properties = properties;
+    }
+
+    @EventListener
+    public void on(AssemblyStepCompletedEvent event) {
+        if (event.getMaterialBatchId() == null) {
+            return;
+        }
+        jpaRepository.save(new MaterialGenealogyJpaEntity(
+            event.getAssemblyStepId(),
+            event.getMaterialBatchId(),
+            event.getProductionOrderId(),
+            event.getVin(),
+            event.getWorkStationCode(),
+            event.getCompletedAt()
+        ));
+    }
+
+    @Scheduled(fixedDelayString = "${automfg.genealogy.reconcile-interval:PT5M}")
+    public void reconcile() {
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minus(properties.reconcileLookback()));
+        try {
+            List<Object[]> steps = shards.scatter(shard -> shard.read(() -> shard.jdbcTemplate().query(
+                    COMPLETED_STEPS, (rs, rowNum) -> new Object[] {rs.getObject(1), rs.getString(2),
+                        rs.getObject(3), rs.getString(4), rs.getString(5), rs.getTimestamp(6)}, since)))
+                .stream().flatMap(List::stream).toList();
+            if (steps.isEmpty()) {
+                return;
+            }
+            int added = shards.primary().write(() -> Arrays.stream(
+                shards.primary().jdbcTemplate().batchUpdate(INSERT_MISSING, steps)).sum());
+            if (added > 0) {
+                log.warn("Added {} completed steps missing from the material batch genealogy", added);
+            }
+        } catch (DataAccessException e) {
+            log.error("Could not reconcile the material batch genealogy, retrying on the next run", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "processed_scans")
+public class ProcessedScanJpaEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "production_order_id", nullable = false)
+    private UUID productionOrderId;
+
+    @Column(name = "assembly_step_id", nullable = false)
+    private UUID assemblyStepId;
+
+    @Column(name = "order_status", nullable = false, length = 30)
+    private String orderStatus;
+
+    @Column(name = "overtime_alert", nullable = false)
+    private boolean overtimeAlert;
+
+    @Column(name = "station_completed", nullable = false)
+    private boolean stationCompleted;
+
+    @Column(name = "assembly_completed", nullable = false)
+    private boolean assemblyCompleted;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    protected ProcessedScanJpaEntity() {
+        // JPA requires a no-arg constructor
+    }
+
+    public ProcessedScanJpaEntity(String idempotencyKey, UUID productionOrderId, UUID assemblyStepId,
+                                  String orderStatus, boolean overtimeAlert, boolean stationCompleted,
+                                  boolean assemblyCompleted) {
+        this.idempotencyKey = idempotencyKey;
+        this.productionOrderId = productionOrderId;
+        this.assemblyStepId = assemblyStepId;
+        this.orderStatus = orderStatus;
+        this.overtimeAlert = overtimeAlert;
+        this.stationCompleted = stationCompleted;
+        this.assemblyCompleted = assemblyCompleted;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public UUID getProductionOrderId() { return productionOrderId; }
+    public UUID getAssemblyStepId() { return assemblyStepId; }
+    public String getOrderStatus() { return orderStatus; }
+    public boolean isOvertimeAlert() { return overtimeAlert; }
+    public boolean isStationCompleted() { return stationCompleted; }
+    public boolean isAssemblyCompleted() { return assemblyCompleted; }
+    public LocalDateTime getProcessedAt() { return processedAt; }
+}
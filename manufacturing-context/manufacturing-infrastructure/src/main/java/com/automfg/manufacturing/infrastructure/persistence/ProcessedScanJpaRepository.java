@@ -0,0 +1,6 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProcessedScanJpaRepository extends JpaRepository<ProcessedScanJpaEntity, String> {
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -28,6 +29,15 @@ public class ProductionOrderJpaEntity {
     @Column(name = "vin", nullable = false, unique = true, length = 17)
     private String vin;
 
+    @Column(name = "plant_id", nullable = false, updatable = false, length = 20)
+    private String plantId;
+
+    @Column(name = "vehicle_model_code", length = 50)
+    private String vehicleModelCode;
+
+    @Column(name = "color_code", length = 30)
+    private String colorCode;
+
     @Column(name = "status", nullable = false, length = 30)
     private String status;
 
@@ -37,9 +47,18 @@ public class ProductionOrderJpaEntity {
     @Column(name = "scheduled_start_date")
     private LocalDateTime scheduledStartDate;
 
+    // Denormalized so read models need not touch assembly_steps to count them
+    @Column(name = "total_assembly_steps")
+    private Integer totalAssemblySteps;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Null until first saved, which is how Spring Data tells a new order to persist rather than merge
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToOne(mappedBy = "productionOrder", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private BomSnapshotJpaEntity bomSnapshot;
 
@@ -82,6 +101,30 @@ public class ProductionOrderJpaEntity {
         this.vin = vin;
     }
 
+    public String getPlantId() {
+        return plantId;
+    }
+
+    public void setPlantId(String plantId) {
+        this.plantId = plantId;
+    }
+
+    public String getVehicleModelCode() {
+        return vehicleModelCode;
+    }
+
+    public void setVehicleModelCode(String vehicleModelCode) {
+        this.vehicleModelCode = vehicleModelCode;
+    }
+
+    public String getColorCode() {
+        return colorCode;
+    }
+
+    public void setColorCode(String colorCode) {
+        this.colorCode = colorCode;
+    }
+
     public String getStatus() {
         return status;
     }
@@ -106,6 +149,14 @@ public class ProductionOrderJpaEntity {
         this.scheduledStartDate = scheduledStartDate;
     }
 
+    public Integer getTotalAssemblySteps() {
+        return totalAssemblySteps;
+    }
+
+    public void setTotalAssemblySteps(Integer totalAssemblySteps) {
+        this.totalAssemblySteps = totalAssemblySteps;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -114,6 +165,14 @@ public class ProductionOrderJpaEntity {
         this.createdAt = createdAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public BomSnapshotJpaEntity getBomSnapshot() {
         return bomSnapshot;
     }
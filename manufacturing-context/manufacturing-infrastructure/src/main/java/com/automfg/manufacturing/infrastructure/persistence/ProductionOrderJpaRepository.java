@@ -1,9 +1,13 @@
 package com.automfg.manufacturing.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -12,4 +16,20 @@ public interface ProductionOrderJpaRepository extends JpaRepository<ProductionOr
     boolean existsBySourceOrderId(UUID sourceOrderId);
 
     List<ProductionOrderJpaEntity> findByStatus(String status);
+
+    /**
+     * Reads the (status, scheduled_start_date) index in order and stops at the limit.
+     */
+    @Query("SELECT p FROM ProductionOrderJpaEntity p WHERE p.status = 'SCHEDULED' "
+        + "AND p.scheduledStartDate IS NOT NULL AND p.colorCode IS NOT NULL ORDER BY p.scheduledStartDate")
+    List<ProductionOrderJpaEntity> findScheduledByStartSlot(Limit limit);
+
+    /**
+     * Returns one {@code [status, count]} row per status present.
+     */
+    @Query("SELECT p.status, COUNT(p) FROM ProductionOrderJpaEntity p GROUP BY p.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT p.vehicleModelCode FROM ProductionOrderJpaEntity p WHERE p.id = :id")
+    Optional<String> findVehicleModelCodeById(@Param("id") UUID id);
 }
@@ -9,6 +9,7 @@ import com.automfg.manufacturing.domain.model.AssemblyStepStatus;
 import com.automfg.manufacturing.domain.model.BomLineItem;
 import com.automfg.manufacturing.domain.model.BomSnapshot;
 import com.automfg.manufacturing.domain.model.MaterialBatchId;
+import com.automfg.manufacturing.domain.model.PlantId;
 import com.automfg.manufacturing.domain.model.ProductionOrder;
 import com.automfg.manufacturing.domain.model.ProductionOrderId;
 import com.automfg.manufacturing.domain.model.ProductionOrderNumber;
@@ -16,6 +17,7 @@ import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
 import com.automfg.manufacturing.domain.model.VIN;
 import com.automfg.manufacturing.domain.model.WorkStationId;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -31,10 +33,14 @@ public class ProductionOrderMapper {
         entity.setOrderNumber(domain.getOrderNumber().value());
         entity.setSourceOrderId(domain.getSourceOrderId());
         entity.setVin(domain.getVin().value());
+        entity.setPlantId(domain.getPlantId().code());
+        entity.setVehicleModelCode(domain.getVehicleModelCode());
+        entity.setColorCode(domain.getColorCode());
         entity.setStatus(domain.getStatus().name());
         entity.setCurrentStationSequence(domain.getCurrentStationSequence());
         entity.setScheduledStartDate(domain.getScheduledStartDate());
         entity.setCreatedAt(domain.getCreatedAt());
+        entity.setVersion(domain.getVersion());
 
         // Map BOM snapshot
         if (domain.getBomSnapshot() != null) {
@@ -46,6 +52,7 @@ public class ProductionOrderMapper {
         if (domain.getAssemblyProcess() != null) {
             AssemblyProcessJpaEntity processEntity = mapAssemblyProcessToJpa(domain.getAssemblyProcess(), entity);
             entity.setAssemblyProcess(processEntity);
+            entity.setTotalAssemblySteps(processEntity.getSteps().size());
         }
 
         return entity;
@@ -73,30 +80,40 @@ public class ProductionOrderMapper {
         }
 
         return ProductionOrder.reconstitute(
-            id, orderNumber, entity.getSourceOrderId(), vin, status,
+            id, orderNumber, entity.getSourceOrderId(), vin, new PlantId(entity.getPlantId()),
+            entity.getVehicleModelCode(), entity.getColorCode(), status,
             bomSnapshot, assemblyProcess, entity.getCurrentStationSequence(),
-            entity.getScheduledStartDate(), entity.getCreatedAt()
+            entity.getScheduledStartDate(), entity.getCreatedAt(), entity.getVersion()
         );
     }
 
     // --- BOM Snapshot mapping ---
 
+    /**
+     * The snapshot has no identity in the domain, so its row ids are derived from the owning
+     * order. Re-saving an order then merges onto the existing rows instead of inserting a
+     * second snapshot for the same order. A new order carries no version, so it is persisted
+     * rather than merged, and its derived ids are inserted without being looked up first.
+     */
     private BomSnapshotJpaEntity mapBomSnapshotToJpa(BomSnapshot domain, ProductionOrderJpaEntity orderEntity) {
         BomSnapshotJpaEntity entity = new BomSnapshotJpaEntity();
-        entity.setId(UUID.randomUUID());
+        entity.setId(orderEntity.getId());
         entity.setProductionOrder(orderEntity);
         entity.setSnapshotDate(domain.getSnapshotDate());
 
         List<BomLineItemJpaEntity> lineItemEntities = new ArrayList<>();
-        for (BomLineItem item : domain.getLineItems()) {
+        List<BomLineItem> lineItems = domain.getLineItems();
+        for (int i = 0; i < lineItems.size(); i++) {
+            BomLineItem item = lineItems.get(i);
             BomLineItemJpaEntity itemEntity = new BomLineItemJpaEntity();
-            itemEntity.setId(UUID.randomUUID());
+            itemEntity.setId(UUID.nameUUIDFromBytes((orderEntity.getId() + ":" + i).getBytes(StandardCharsets.UTF_8)));
             itemEntity.setBomSnapshot(entity);
             itemEntity.setPartNumber(item.partNumber());
             itemEntity.setPartDescription(item.partDescription());
             itemEntity.setQuantityRequired(item.quantityRequired());
             itemEntity.setUnitOfMeasure(item.unitOfMeasure());
             itemEntity.setAvailable(item.available());
+            itemEntity.setOrderCreatedAt(orderEntity.getCreatedAt());
             lineItemEntities.add(itemEntity);
         }
         entity.setLineItems(lineItemEntities);
@@ -142,6 +159,7 @@ public class ProductionOrderMapper {
                 step.getMaterialBatchId() != null ? step.getMaterialBatchId().value() : null);
             stepEntity.setActualTimeMinutes(step.getActualTimeMinutes());
             stepEntity.setCompletedAt(step.getCompletedAt());
+            stepEntity.setOrderCreatedAt(orderEntity.getCreatedAt());
             stepEntities.add(stepEntity);
         }
         entity.setSteps(stepEntities);
@@ -42,6 +42,10 @@ public class QualityInspectionJpaEntity {
     @Column(name = "corrects_record_id")
     private UUID correctsRecordId;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "inspection", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<InspectionItemJpaEntity> items = new ArrayList<>();
 
@@ -131,6 +135,14 @@ public class QualityInspectionJpaEntity {
         this.correctsRecordId = correctsRecordId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<InspectionItemJpaEntity> getItems() {
         return items;
     }
@@ -1,8 +1,31 @@
 package com.automfg.manufacturing.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface QualityInspectionJpaRepository extends JpaRepository<QualityInspectionJpaEntity, UUID> {
+
+    List<QualityInspectionJpaEntity> findByProductionOrderIdIn(Collection<UUID> productionOrderIds);
+
+    @Query("SELECT q.inspectorId FROM QualityInspectionJpaEntity q WHERE q.id = :id")
+    Optional<String> findInspectorIdById(@Param("id") UUID id);
+
+    /**
+     * Writes the inspection result and advances the version if it still matches; returns 0 when
+     * another writer got there first.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE QualityInspectionJpaEntity q SET q.version = q.version + 1, "
+        + "q.result = :result, q.inspectedAt = :inspectedAt "
+        + "WHERE q.id = :id AND q.version = :expectedVersion")
+    int updateResultIfVersion(@Param("id") UUID id, @Param("expectedVersion") long expectedVersion,
+                              @Param("result") String result, @Param("inspectedAt") LocalDateTime inspectedAt);
 }
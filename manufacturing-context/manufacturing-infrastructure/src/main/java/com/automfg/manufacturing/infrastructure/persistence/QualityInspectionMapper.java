@@ -27,6 +27,7 @@ public class QualityInspectionMapper {
         entity.setReviewedAt(domain.getReviewedAt());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setCorrectsRecordId(domain.getCorrectsRecordId());
+        entity.setVersion(domain.getVersion());
 
         List<InspectionItemJpaEntity> itemEntities = domain.getItems().stream()
             .map(item -> toItemJpaEntity(item, entity))
@@ -45,6 +46,7 @@ public class QualityInspectionMapper {
         entity.setSafetyRelated(item.isSafetyRelated());
         entity.setStatus(item.getStatus().name());
         entity.setNotes(item.getNotes());
+        entity.setInspectionCreatedAt(parentEntity.getCreatedAt());
         return entity;
     }
 
@@ -64,7 +66,8 @@ public class QualityInspectionMapper {
             entity.getReviewedAt(),
             entity.getCreatedAt(),
             items,
-            entity.getCorrectsRecordId()
+            entity.getCorrectsRecordId(),
+            entity.getVersion()
         );
     }
 
@@ -2,7 +2,11 @@ package com.automfg.manufacturing.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ReworkOrderJpaRepository extends JpaRepository<ReworkOrderJpaEntity, UUID> {
+
+    List<ReworkOrderJpaEntity> findByProductionOrderIdIn(Collection<UUID> productionOrderIds);
 }
@@ -0,0 +1,50 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.ArchivedVehicle;
+import com.automfg.manufacturing.application.port.InspectionQueryPort;
+import com.automfg.manufacturing.application.port.VehicleArchiveStore;
+import com.automfg.manufacturing.application.usecase.GetInspectionUseCase;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Inspection reads across both tiers: the hot tables first, then the archive record of the
+ * vehicle the inspection belonged to.
+ */
+@Primary
+@Repository
+public class TieredInspectionQueryAdapter implements InspectionQueryPort {
+
+    private final JpaInspectionQueryAdapter hot;
+    private final ArchivedInspectionJpaRepository inspectionLocators;
+    private final ArchivedProductionOrderJpaRepository orderLocators;
+    private final VehicleArchiveStore archiveStore;
+
+    public TieredInspectionQueryAdapter(JpaInspectionQueryAdapter hot,
+                                        ArchivedInspectionJpaRepository inspectionLocators,
+                                        ArchivedProductionOrderJpaRepository orderLocators,
+                                        VehicleArchiveStore archiveStore) {
+        this.hot = hot;
+        this.inspectionLocators = inspectionLocators;
+        this.orderLocators = orderLocators;
+        this.archiveStore = archiveStore;
+    }
+
+    @Override
+    public Optional<GetInspectionUseCase.InspectionDetail> findById(UUID id) {
+        Optional<GetInspectionUseCase.InspectionDetail> live = hot.findById(id);
+        if (live.isPresent()) {
+            return live;
+        }
+        return inspectionLocators.findById(id)
+            .flatMap(locator -> orderLocators.findById(locator.getProductionOrderId()))
+            .flatMap(locator -> archiveStore.read(locator.getSegmentName(), locator.getProductionOrderId()))
+            .flatMap(vehicle -> vehicle.inspections().stream()
+                .map(ArchivedVehicle.Inspection::detail)
+                .filter(detail -> detail.id().equals(id))
+                .findFirst());
+    }
+}
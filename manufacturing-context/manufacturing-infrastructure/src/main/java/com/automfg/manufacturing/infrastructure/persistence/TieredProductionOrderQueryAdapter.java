@@ -0,0 +1,70 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.application.port.ArchivedVehicle;
+import com.automfg.manufacturing.application.port.ProductionOrderQueryPort;
+import com.automfg.manufacturing.application.port.VehicleArchiveStore;
+import com.automfg.manufacturing.application.usecase.GetAssemblyStepsUseCase;
+import com.automfg.manufacturing.application.usecase.GetProductionOrderUseCase;
+import com.automfg.manufacturing.application.usecase.ListProductionOrdersUseCase;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Production order reads across both tiers: the hot tables first, then the archive for
+ * vehicles that have been moved out. Listing stays hot-only; it serves the live line.
+ */
+@Primary
+@Repository
+public class TieredProductionOrderQueryAdapter implements ProductionOrderQueryPort {
+
+    private final JpaProductionOrderQueryAdapter hot;
+    private final ArchivedProductionOrderJpaRepository locators;
+    private final VehicleArchiveStore archiveStore;
+
+    public TieredProductionOrderQueryAdapter(JpaProductionOrderQueryAdapter hot,
+                                             ArchivedProductionOrderJpaRepository locators,
+                                             VehicleArchiveStore archiveStore) {
+        this.hot = hot;
+        this.locators = locators;
+        this.archiveStore = archiveStore;
+    }
+
+    @Override
+    public Optional<GetProductionOrderUseCase.ProductionOrderDetail> findById(UUID id) {
+        Optional<GetProductionOrderUseCase.ProductionOrderDetail> live = hot.findById(id);
+        if (live.isPresent()) {
+            return live;
+        }
+        return findArchived(id).map(ArchivedVehicle::order);
+    }
+
+    @Override
+    public List<ListProductionOrdersUseCase.ProductionOrderSummary> findSummaries(
+            SummaryFilter filter, Keyset after, int limit) {
+        return hot.findSummaries(filter, after, limit);
+    }
+
+    @Override
+    public List<GetAssemblyStepsUseCase.AssemblyStepDetail> findAssemblySteps(
+            UUID productionOrderId, String stationCode) {
+        List<GetAssemblyStepsUseCase.AssemblyStepDetail> live = hot.findAssemblySteps(productionOrderId, stationCode);
+        if (!live.isEmpty()) {
+            return live;
+        }
+        return findArchived(productionOrderId)
+            .map(vehicle -> vehicle.assemblySteps().stream()
+                .filter(step -> stationCode == null || stationCode.isBlank()
+                    || step.workStationCode().equals(stationCode))
+                .toList())
+            .orElse(List.of());
+    }
+
+    private Optional<ArchivedVehicle> findArchived(UUID productionOrderId) {
+        return locators.findById(productionOrderId)
+            .flatMap(locator -> archiveStore.read(locator.getSegmentName(), productionOrderId));
+    }
+}
@@ -0,0 +1,83 @@
+package com.automfg.manufacturing.infrastructure.sharding;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * One database holding the manufacturing records of some plants: the Spring Data repositories,
+ * entity manager and JDBC template that read and write it, and its transactions.
+ * <p>
+ * Writes run in a transaction of the shard. Reads run in a read-only transaction, or join the
+ * one already open, so that lazy associations can be loaded while the result is mapped on any
+ * thread, not only a request's, and so that the driver streams a large result with its fetch
+ * size instead of buffering it, which PostgreSQL only does outside autocommit.
+ */
+public final class PlantShard {
+
+    public static final String PRIMARY = "primary";
+
+    private final String name;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writes;
+    private final TransactionTemplate reads;
+    private final Function<Class<?>, Object> repositoryFactory;
+    private final Map<Class<?>, Object> repositories = new ConcurrentHashMap<>();
+
+    PlantShard(String name, EntityManager entityManager, JdbcTemplate jdbcTemplate,
+               TransactionTemplate writes, TransactionTemplate reads,
+               Function<Class<?>, Object> repositoryFactory) {
+        this.name = name;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writes = writes;
+        this.reads = reads;
+        this.repositoryFactory = repositoryFactory;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isPrimary() {
+        return PRIMARY.equals(name);
+    }
+
+    /**
+     * The shard's instance of a Spring Data repository interface.
+     */
+    public <R> R repository(Class<R> type) {
+        return type.cast(repositories.computeIfAbsent(type, repositoryFactory));
+    }
+
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public <T> T write(Supplier<T> work) {
+        return writes.execute(status -> work.get());
+    }
+
+    public void write(Runnable work) {
+        writes.executeWithoutResult(status -> work.run());
+    }
+
+    public <T> T read(Supplier<T> work) {
+        return reads.execute(status -> work.get());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
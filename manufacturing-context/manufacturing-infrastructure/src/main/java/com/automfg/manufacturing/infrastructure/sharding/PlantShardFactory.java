@@ -0,0 +1,113 @@
+package com.automfg.manufacturing.infrastructure.sharding;
+
+import com.automfg.manufacturing.infrastructure.config.PlantProperties.ShardProperties;
+import com.automfg.manufacturing.infrastructure.persistence.ProductionOrderJpaEntity;
+import com.automfg.shared.infrastructure.sql.StatementCountingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opens plant shards. The primary shard is the application's own database and persistence
+ * unit. Every other shard gets a connection pool, a Flyway-migrated schema and a persistence
+ * unit of the manufacturing entities of its own, configured like the application's.
+ */
+public class PlantShardFactory {
+
+    private final Environment environment;
+    private final EntityManagerFactoryBuilder entityManagerFactoryBuilder;
+    private final Map<String, Object> vendorProperties;
+    private final FlywayProperties flywayProperties;
+    private final MeterRegistry meterRegistry;
+
+    public PlantShardFactory(Environment environment, EntityManagerFactoryBuilder entityManagerFactoryBuilder,
+                             JpaProperties jpaProperties, HibernateProperties hibernateProperties,
+                             FlywayProperties flywayProperties, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.entityManagerFactoryBuilder = entityManagerFactoryBuilder;
+        this.vendorProperties = hibernateProperties.determineHibernateProperties(
+            jpaProperties.getProperties(), new HibernateSettings().ddlAuto(() -> "none"));
+        this.flywayProperties = flywayProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public PlantShard primary(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager, ListableBeanFactory beanFactory) {
+        return new PlantShard(PlantShard.PRIMARY, entityManager, jdbcTemplate,
+            new TransactionTemplate(transactionManager), readOnly(transactionManager), beanFactory::getBean);
+    }
+
+    /**
+     * Opens the named shard, adding what has to be closed when it is no longer used to the
+     * resources, in the order it was opened.
+     */
+    public PlantShard open(String name, ShardProperties properties, List<AutoCloseable> resources) {
+        HikariDataSource pool = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(properties.url())
+            .username(properties.username())
+            .password(properties.password())
+            .driverClassName(properties.driverClassName())
+            .build();
+        Binder.get(environment).bind("automfg.plants.shards." + name + ".hikari", Bindable.ofInstance(pool));
+        // Tagged pool=<shard> in the hikaricp metrics, next to the application's own pool
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        resources.add(pool);
+
+        Flyway.configure()
+            .dataSource(pool)
+            .locations(flywayProperties.getLocations().toArray(String[]::new))
+            .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+            .load()
+            .migrate();
+
+        DataSource dataSource = new StatementCountingDataSource(pool);
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactoryBuilder
+            .dataSource(dataSource)
+            .packages(ProductionOrderJpaEntity.class)
+            .persistenceUnit(name)
+            .properties(vendorProperties)
+            .build();
+        factoryBean.afterPropertiesSet();
+        resources.add(factoryBean::destroy);
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setDataSource(dataSource);
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+        return new PlantShard(name, entityManager, new JdbcTemplate(dataSource),
+            new TransactionTemplate(transactionManager), readOnly(transactionManager), repositories::getRepository);
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+        return reads;
+    }
+}
@@ -0,0 +1,203 @@
+package com.automfg.manufacturing.infrastructure.sharding;
+
+import com.automfg.manufacturing.domain.model.PlantId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Routes manufacturing records to the shard of their plant. Each shard has its own connection
+ * pool, so a plant working through a backlog can exhaust only its own connections.
+ * <p>
+ * An aggregate loaded by id goes to the shard the directory remembers for it; otherwise every
+ * shard is asked in parallel and the one that has it is remembered. Queries across plants run on
+ * every shard in parallel: the primary shard's part on the calling thread, inside the request's
+ * session, the other shards' on virtual threads.
+ */
+public class PlantShards implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PlantShards.class);
+
+    /**
+     * UUIDs in the order the databases sort them, as unsigned 128-bit numbers. {@link UUID#compareTo}
+     * compares the halves as signed longs and would put a merged keyset page out of order.
+     */
+    public static final Comparator<UUID> UUID_ORDER =
+        Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final List<PlantShard> shards;
+    private final Map<PlantId, PlantShard> byPlant;
+    private final Map<UUID, PlantShard> directory;
+    private final List<AutoCloseable> resources;
+    private final ExecutorService fanOut = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param shards    the primary shard first
+     * @param resources pools and entity manager factories of the other shards, in the order they
+     *                  were opened; closed in reverse order on shutdown
+     */
+    public PlantShards(List<PlantShard> shards, Map<PlantId, PlantShard> byPlant, int directoryCapacity,
+                       List<AutoCloseable> resources) {
+        if (shards.isEmpty() || !shards.get(0).isPrimary()) {
+            throw new IllegalArgumentException("The primary shard must come first: " + shards);
+        }
+        this.shards = List.copyOf(shards);
+        this.byPlant = Map.copyOf(byPlant);
+        this.directory = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PlantShard> eldest) {
+                return size() > directoryCapacity;
+            }
+        });
+        this.resources = List.copyOf(resources);
+    }
+
+    public PlantShard primary() {
+        return shards.get(0);
+    }
+
+    /**
+     * The shard storing the plant's records; the primary for plants that no shard lists.
+     */
+    public PlantShard forPlant(PlantId plant) {
+        return byPlant.getOrDefault(plant, primary());
+    }
+
+    /**
+     * The shards storing the given plant's records, or every shard for a null plant.
+     */
+    public List<PlantShard> forPlantOrAll(String plantCode) {
+        return plantCode == null ? shards : List.of(forPlant(new PlantId(plantCode)));
+    }
+
+    public void remember(UUID aggregateId, PlantShard shard) {
+        if (shards.size() > 1) {
+            directory.put(aggregateId, shard);
+        }
+    }
+
+    /**
+     * Looks an aggregate up by id on the shard that has it.
+     */
+    public <T> Optional<T> locate(UUID aggregateId, Function<PlantShard, Optional<T>> lookup) {
+        if (shards.size() == 1) {
+            return lookup.apply(primary());
+        }
+        PlantShard known = directory.get(aggregateId);
+        if (known != null) {
+            return lookup.apply(known);
+        }
+        List<Optional<T>> found = scatter(shards, lookup);
+        for (int i = 0; i < found.size(); i++) {
+            if (found.get(i).isPresent()) {
+                remember(aggregateId, shards.get(i));
+                return found.get(i);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The shard that stores the aggregate, as told by whether it exists there; with no shard but
+     * the primary, the primary without asking.
+     */
+    public Optional<PlantShard> shardOf(UUID aggregateId, Function<PlantShard, Boolean> exists) {
+        if (shards.size() == 1) {
+            return Optional.of(primary());
+        }
+        return locate(aggregateId, shard -> Boolean.TRUE.equals(exists.apply(shard))
+            ? Optional.of(shard)
+            : Optional.empty());
+    }
+
+    /**
+     * Runs the query on every shard, returning the results in shard order.
+     */
+    public <T> List<T> scatter(Function<PlantShard, T> query) {
+        return scatter(shards, query);
+    }
+
+    /**
+     * Runs the query on each of the given shards, returning the results in the same order.
+     */
+    public <T> List<T> scatter(List<PlantShard> targets, Function<PlantShard, T> query) {
+        if (targets.size() == 1) {
+            return Collections.singletonList(query.apply(targets.get(0)));
+        }
+        // The primary shard reads through the request's session, which is bound to this thread
+        List<Future<T>> pending = new ArrayList<>(targets.size());
+        for (PlantShard shard : targets) {
+            pending.add(shard.isPrimary() ? null : fanOut.submit(() -> query.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(targets.size());
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                results.add(pending.get(i) == null ? query.apply(targets.get(i)) : join(pending.get(i)));
+            }
+            return results;
+        } finally {
+            if (results.size() < targets.size()) {
+                pending.forEach(future -> {
+                    if (future != null) {
+                        future.cancel(true);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Merges pages read from several shards, each sorted in {@code order} and cut at
+     * {@code limit} after the same keyset, into the page a single database would have returned.
+     */
+    public static <T> List<T> mergePages(List<List<T>> pages, Comparator<? super T> order, int limit) {
+        if (pages.size() == 1) {
+            return pages.get(0);
+        }
+        List<T> merged = new ArrayList<>();
+        pages.forEach(merged::addAll);
+        merged.sort(order);
+        return List.copyOf(merged.subList(0, Math.min(limit, merged.size())));
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a plant shard", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Plant shard query failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        fanOut.shutdownNow();
+        for (AutoCloseable resource : resources.reversed()) {
+            try {
+                resource.close();
+            } catch (Exception e) {
+                log.warn("Could not close plant shard resource {}: {}", resource, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.automfg.manufacturing.infrastructure.statusboard;
+
+import com.automfg.manufacturing.application.port.ProductionStatusQueryPort;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase.ProductionStatusBoard;
+import com.automfg.manufacturing.domain.event.AssemblyCompletedEvent;
+import com.automfg.manufacturing.domain.event.AssemblyStepCompletedEvent;
+import com.automfg.manufacturing.domain.event.InspectionReviewedEvent;
+import com.automfg.manufacturing.domain.event.MaterialShortageEvent;
+import com.automfg.manufacturing.domain.event.ProductionOrderScheduledEvent;
+import com.automfg.manufacturing.domain.event.ProductionStartedEvent;
+import com.automfg.manufacturing.domain.event.ReworkCompletedEvent;
+import com.automfg.manufacturing.domain.event.VehicleCompletedEvent;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import com.automfg.manufacturing.infrastructure.config.StatusBoardProperties;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Answers the production status board from {@link ProductionStatusColumns} instead of the
+ * database. The columns are loaded with a streaming scan of every plant shard once the
+ * application is ready and again every rebuild interval; in between, each domain event that
+ * moves a production order marks it, and the marked orders are read back by id in batches off
+ * the request path. Reading the rows back rather than replaying each event keeps the board
+ * exactly what the database holds, including the status changes an inspection review or a
+ * completed rework make without an event of the order's own.
+ * <p>
+ * Orders archived, or changed by another instance of the application, are picked up by the
+ * next rebuild.
+ */
+@Component
+public class InMemoryProductionStatusBoard implements ProductionStatusQueryPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryProductionStatusBoard.class);
+
+    private static final String COLUMNS =
+        "SELECT id, plant_id, status, current_station_sequence, vehicle_model_code, color_code, created_at"
+            + " FROM production_orders";
+    private static final int REFRESH_BATCH = 500;
+
+    private final PlantShards shards;
+    private final StatusBoardProperties properties;
+    private final Set<UUID> changed = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock maintenance = new ReentrantLock();
+    private volatile ProductionStatusColumns columns;
+    private volatile LocalDateTime loadedAt;
+
+    public InMemoryProductionStatusBoard(PlantShards shards, StatusBoardProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.shards = shards;
+        this.properties = properties;
+        this.columns = new ProductionStatusColumns(properties.expectedOrders());
+        Gauge.builder("production.status.board.orders", this, board -> board.columns.size())
+            .description("Production orders held by the in-memory status board")
+            .register(meterRegistry);
+        Gauge.builder("production.status.board.heap", this, board -> board.columns.estimatedBytes())
+            .description("Heap held by the status board's columns")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ProductionStatusBoard findBoard(StatusFilter filter, int limit) {
+        return columns.board(filter, limit, loadedAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWhenReady() {
+        // Off the startup thread; until it completes the board answers with loadedAt null
+        Thread.ofVirtual().name("status-board-load").start(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${automfg.status-board.rebuild-interval:PT15M}",
+               initialDelayString = "${automfg.status-board.rebuild-interval:PT15M}")
+    public void rebuild() {
+        maintenance.lock();
+        try {
+            long start = System.nanoTime();
+            ProductionStatusColumns loaded = new ProductionStatusColumns(
+                Math.max(properties.expectedOrders(), columns.size()));
+            LocalDateTime startedAt = LocalDateTime.now();
+            // Inside the shard's read-only transaction, so the driver honours the fetch size and streams
+            shards.scatter(shard -> shard.read(() -> {
+                JdbcTemplate streaming = new JdbcTemplate(shard.jdbcTemplate().getDataSource());
+                streaming.setFetchSize(properties.fetchSize());
+                streaming.query(COLUMNS, rs -> {
+                    put(loaded, rs);
+                });
+                return null;
+            }));
+            columns = loaded;
+            loadedAt = startedAt;
+            log.info("Loaded {} production orders into the status board in {} ms", loaded.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("Could not load the production status board", e);
+        } finally {
+            maintenance.unlock();
+        }
+        // Orders changed while the scan ran may have been read before the change
+        refreshChanged();
+    }
+
+    @Scheduled(fixedDelayString = "${automfg.status-board.refresh-interval:PT0.5S}")
+    public void refreshChanged() {
+        if (changed.isEmpty() || !maintenance.tryLock()) {
+            return;
+        }
+        try {
+            while (!changed.isEmpty()) {
+                List<UUID> batch = takeBatch();
+                try {
+                    refresh(columns, batch);
+                } catch (DataAccessException e) {
+                    changed.addAll(batch);
+                    log.warn("Could not refresh the production status board, retrying on the next run", e);
+                    return;
+                }
+            }
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    /**
+     * Reads the orders back from every shard; an order no shard has any more was archived.
+     */
+    private void refresh(ProductionStatusColumns current, List<UUID> ids) {
+        String sql = COLUMNS + " WHERE id IN (" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        Set<UUID> found = ConcurrentHashMap.newKeySet();
+        shards.scatter(shard -> shard.read(() -> {
+            shard.jdbcTemplate().query(sql, rs -> {
+                found.add(put(current, rs));
+            }, ids.toArray());
+            return null;
+        }));
+        for (UUID id : ids) {
+            if (!found.contains(id)) {
+                current.remove(id);
+            }
+        }
+    }
+
+    private List<UUID> takeBatch() {
+        List<UUID> batch = new ArrayList<>(REFRESH_BATCH);
+        Iterator<UUID> ids = changed.iterator();
+        while (ids.hasNext() && batch.size() < REFRESH_BATCH) {
+            batch.add(ids.next());
+            ids.remove();
+        }
+        return batch;
+    }
+
+    private static UUID put(ProductionStatusColumns columns, ResultSet rs) throws SQLException {
+        UUID id = rs.getObject("id", UUID.class);
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        columns.put(id, rs.getString("plant_id"), ProductionOrderStatus.valueOf(rs.getString("status")),
+            rs.getObject("current_station_sequence", Integer.class), rs.getString("vehicle_model_code"),
+            rs.getString("color_code"), createdAt.toLocalDateTime());
+        return id;
+    }
+
+    @EventListener
+    public void on(ProductionOrderScheduledEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(MaterialShortageEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(ProductionStartedEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(AssemblyStepCompletedEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(AssemblyCompletedEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(InspectionReviewedEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(ReworkCompletedEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+
+    @EventListener
+    public void on(VehicleCompletedEvent event) {
+        changed.add(event.getProductionOrderId());
+    }
+}
@@ -0,0 +1,419 @@
+package com.automfg.manufacturing.infrastructure.statusboard;
+
+import com.automfg.manufacturing.application.port.ProductionStatusQueryPort.StatusFilter;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase.BoardOrder;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase.ProductionStatusBoard;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The status of every live production order held column by column in primitive arrays, one
+ * row per order, so that counting a million orders is a pass over a few dense arrays instead
+ * of a walk over a million objects. Status is stored as its ordinal, plant, model and color as
+ * codes into small dictionaries, and the id is split into two longs; rows are looked up by id
+ * through an open-addressing table of row numbers. A removed row is filled with the last one,
+ * so the columns stay dense.
+ * <p>
+ * About 40 bytes per order including the id index, against well over a kilobyte for a loaded
+ * production order entity. Reads share a read lock and writes take the write lock.
+ */
+public final class ProductionStatusColumns {
+
+    static final String UNKNOWN = "UNKNOWN";
+
+    private static final ProductionOrderStatus[] STATUSES = ProductionOrderStatus.values();
+    private static final int IN_PRODUCTION = ProductionOrderStatus.IN_PRODUCTION.ordinal();
+    private static final short NO_STATION = -1;
+
+    /**
+     * Strings to dense short codes; code 0 stands for null.
+     */
+    private static final class Dictionary {
+        private final Map<String, Short> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(List.of(UNKNOWN));
+
+        short encode(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Short code = codes.get(value);
+            if (code == null) {
+                if (values.size() > Short.MAX_VALUE) {
+                    throw new IllegalStateException("More than " + Short.MAX_VALUE + " distinct values");
+                }
+                code = (short) values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        /**
+         * The value's code, 0 for null, or -1 if no row has ever held the value.
+         */
+        int find(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Short code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        String decode(short code) {
+            return code == 0 ? null : values.get(code);
+        }
+
+        String label(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Dictionary plants = new Dictionary();
+    private final Dictionary models = new Dictionary();
+    private final Dictionary colors = new Dictionary();
+
+    private int size;
+    private long[] idHigh;
+    private long[] idLow;
+    private byte[] status;
+    private short[] station;
+    private short[] plant;
+    private short[] model;
+    private short[] color;
+    private long[] createdAtMillis;
+    private int maxStation;
+
+    /**
+     * Row number + 1 per slot, 0 for an empty slot; at most half full.
+     */
+    private int[] index;
+
+    public ProductionStatusColumns() {
+        this(1024);
+    }
+
+    public ProductionStatusColumns(int expectedOrders) {
+        int capacity = Math.max(16, expectedOrders);
+        idHigh = new long[capacity];
+        idLow = new long[capacity];
+        status = new byte[capacity];
+        station = new short[capacity];
+        plant = new short[capacity];
+        model = new short[capacity];
+        color = new short[capacity];
+        createdAtMillis = new long[capacity];
+        index = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+    }
+
+    /**
+     * Inserts the order, or overwrites its row.
+     */
+    public void put(UUID id, String plantId, ProductionOrderStatus orderStatus, Integer stationSequence,
+                    String vehicleModelCode, String colorCode, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            int row = find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row < 0) {
+                row = append(id);
+            }
+            status[row] = (byte) orderStatus.ordinal();
+            station[row] = stationSequence == null ? NO_STATION : stationSequence.shortValue();
+            plant[row] = plants.encode(plantId);
+            model[row] = models.encode(vehicleModelCode);
+            color[row] = colors.encode(colorCode);
+            createdAtMillis[row] = createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+            maxStation = Math.max(maxStation, station[row]);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false if the order was not held
+     */
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            long high = id.getMostSignificantBits();
+            long low = id.getLeastSignificantBits();
+            int slot = slotOf(high, low);
+            if (index[slot] == 0) {
+                return false;
+            }
+            int row = index[slot] - 1;
+            deleteSlot(slot);
+            int last = --size;
+            if (row != last) {
+                moveRow(last, row);
+                index[slotOf(idHigh[row], idLow[row])] = row + 1;
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Heap held by the columns and the id index, dictionaries aside.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long perRow = 8 + 8 + 1 + 2 + 2 + 2 + 2 + 8;
+            return perRow * idHigh.length + 4L * index.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the orders matching the filter in one pass over the columns, keeping the
+     * {@code limit} oldest of them on a heap as it goes.
+     */
+    public ProductionStatusBoard board(StatusFilter filter, int limit, LocalDateTime loadedAt) {
+        lock.readLock().lock();
+        try {
+            int plantCode = filter.plantId() == null ? -1 : plants.find(filter.plantId());
+            int modelCode = filter.vehicleModelCode() == null ? -1 : models.find(filter.vehicleModelCode());
+            int statusCode = filter.status() == null ? -1 : ProductionOrderStatus.valueOf(filter.status()).ordinal();
+            int stationCode = filter.stationSequence() == null ? -1 : filter.stationSequence();
+            if ((filter.plantId() != null && plantCode < 0) || (filter.vehicleModelCode() != null && modelCode < 0)) {
+                return empty(loadedAt);
+            }
+
+            long total = 0;
+            long[] byStatus = new long[STATUSES.length];
+            long[] byStation = new long[maxStation + 1];
+            long[] byModel = new long[models.size()];
+            long[] byColor = new long[colors.size()];
+            int[] oldest = new int[limit];
+            int held = 0;
+            for (int row = 0; row < size; row++) {
+                if ((plantCode >= 0 && plant[row] != plantCode)
+                        || (modelCode >= 0 && model[row] != modelCode)
+                        || (statusCode >= 0 && status[row] != statusCode)
+                        || (stationCode >= 0 && station[row] != stationCode)) {
+                    continue;
+                }
+                total++;
+                byStatus[status[row]]++;
+                if (status[row] == IN_PRODUCTION && station[row] >= 0) {
+                    byStation[station[row]]++;
+                }
+                byModel[model[row]]++;
+                byColor[color[row]]++;
+                if (held < limit) {
+                    oldest[held++] = row;
+                    siftUp(oldest, held - 1);
+                } else if (limit > 0 && createdAtMillis[row] < createdAtMillis[oldest[0]]) {
+                    oldest[0] = row;
+                    siftDown(oldest, held);
+                }
+            }
+            return new ProductionStatusBoard(total, statusCounts(byStatus), stationCounts(byStation),
+                dictionaryCounts(models, byModel), dictionaryCounts(colors, byColor),
+                orders(oldest, held), loadedAt);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static ProductionStatusBoard empty(LocalDateTime loadedAt) {
+        return new ProductionStatusBoard(0, statusCounts(new long[STATUSES.length]), Map.of(), Map.of(), Map.of(),
+            List.of(), loadedAt);
+    }
+
+    private static Map<String, Long> statusCounts(long[] counts) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (ProductionOrderStatus s : STATUSES) {
+            byStatus.put(s.name(), counts[s.ordinal()]);
+        }
+        return Collections.unmodifiableMap(byStatus);
+    }
+
+    private static Map<Integer, Long> stationCounts(long[] counts) {
+        Map<Integer, Long> byStation = new LinkedHashMap<>();
+        for (int sequence = 0; sequence < counts.length; sequence++) {
+            if (counts[sequence] > 0) {
+                byStation.put(sequence, counts[sequence]);
+            }
+        }
+        return Collections.unmodifiableMap(byStation);
+    }
+
+    private static Map<String, Long> dictionaryCounts(Dictionary dictionary, long[] counts) {
+        Map<String, Long> byValue = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                byValue.put(dictionary.label(code), counts[code]);
+            }
+        }
+        return Collections.unmodifiableMap(byValue);
+    }
+
+    private List<BoardOrder> orders(int[] heap, int held) {
+        int[] rows = Arrays.copyOf(heap, held);
+        List<BoardOrder> orders = new ArrayList<>(held);
+        for (int row : rows) {
+            orders.add(new BoardOrder(new UUID(idHigh[row], idLow[row]), plants.decode(plant[row]),
+                STATUSES[status[row]].name(), station[row] == NO_STATION ? null : (int) station[row],
+                models.decode(model[row]), colors.decode(color[row]),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis[row]), ZoneOffset.UTC)));
+        }
+        orders.sort((a, b) -> a.createdAt().compareTo(b.createdAt()));
+        return List.copyOf(orders);
+    }
+
+    // Max-heap on created_at: the root is the newest of the oldest orders found so far
+
+    private void siftUp(int[] heap, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (createdAtMillis[heap[i]] <= createdAtMillis[heap[parent]]) {
+                return;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int held) {
+        int i = 0;
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= held) {
+                return;
+            }
+            int newer = left + 1 < held && createdAtMillis[heap[left + 1]] > createdAtMillis[heap[left]]
+                ? left + 1
+                : left;
+            if (createdAtMillis[heap[i]] >= createdAtMillis[heap[newer]]) {
+                return;
+            }
+            swap(heap, i, newer);
+            i = newer;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int t = heap[i];
+        heap[i] = heap[j];
+        heap[j] = t;
+    }
+
+    private int append(UUID id) {
+        if (size == idHigh.length) {
+            grow();
+        }
+        int row = size++;
+        idHigh[row] = id.getMostSignificantBits();
+        idLow[row] = id.getLeastSignificantBits();
+        index[slotOf(idHigh[row], idLow[row])] = row + 1;
+        return row;
+    }
+
+    private void grow() {
+        int capacity = idHigh.length + (idHigh.length >> 1);
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        status = Arrays.copyOf(status, capacity);
+        station = Arrays.copyOf(station, capacity);
+        plant = Arrays.copyOf(plant, capacity);
+        model = Arrays.copyOf(model, capacity);
+        color = Arrays.copyOf(color, capacity);
+        createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+        if (capacity * 2 > index.length) {
+            index = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            for (int row = 0; row < size; row++) {
+                index[slotOf(idHigh[row], idLow[row])] = row + 1;
+            }
+        }
+    }
+
+    private void moveRow(int from, int to) {
+        idHigh[to] = idHigh[from];
+        idLow[to] = idLow[from];
+        status[to] = status[from];
+        station[to] = station[from];
+        plant[to] = plant[from];
+        model[to] = model[from];
+        color[to] = color[from];
+        createdAtMillis[to] = createdAtMillis[from];
+    }
+
+    private int find(long high, long low) {
+        int slot = slotOf(high, low);
+        return index[slot] - 1;
+    }
+
+    /**
+     * The slot holding the id, or the empty slot where it would go.
+     */
+    private int slotOf(long high, long low) {
+        int mask = index.length - 1;
+        int slot = hash(high, low) & mask;
+        while (true) {
+            int entry = index[slot];
+            if (entry == 0 || (idHigh[entry - 1] == high && idLow[entry - 1] == low)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Empties the slot and shifts later entries of its probe run back, so that no lookup
+     * stops early at the hole.
+     */
+    private void deleteSlot(int slot) {
+        int mask = index.length - 1;
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            int entry = index[next];
+            if (entry == 0) {
+                break;
+            }
+            int home = hash(idHigh[entry - 1], idLow[entry - 1]) & mask;
+            // Move the entry into the hole unless its home lies cyclically in (hole, next]
+            boolean stays = hole <= next ? home > hole && home <= next : home > hole || home <= next;
+            if (!stays) {
+                index[hole] = entry;
+                hole = next;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    private static int hash(long high, long low) {
+        long h = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
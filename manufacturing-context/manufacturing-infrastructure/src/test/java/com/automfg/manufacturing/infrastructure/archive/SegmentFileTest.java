@@ -0,0 +1,150 @@
+package com.automfg.manufacturing.infrastructure.archive;
+
+import com.automfg.manufacturing.infrastructure.archive.SegmentFile.BlockEntry;
+import com.automfg.manufacturing.infrastructure.archive.SegmentFile.Entry;
+import com.automfg.manufacturing.infrastructure.archive.SegmentFile.Index;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentFileTest {
+
+    @TempDir
+    Path dir;
+
+    // Even keys only, so every odd key falls between two records
+    private static UUID key(int i) {
+        return new UUID(0, 2L * i);
+    }
+
+    private static byte[] payload(int i) {
+        return ("vehicle-" + i + "-").repeat(1 + i % 7).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Path segment(int records) throws IOException {
+        List<Entry> entries = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            entries.add(new Entry(key(i), payload(i)));
+        }
+        Path file = dir.resolve("segment-" + records + ".seg");
+        SegmentFile.write(file, entries);
+        return file;
+    }
+
+    @Test
+    @DisplayName("every record written is read back by key, and no temporary file is left")
+    void round_trip() throws IOException {
+        Path file = segment(200);
+
+        Index index = SegmentFile.readIndex(file);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(SegmentFile.read(file, index, key(i))).hasValue(payload(i));
+        }
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    @DisplayName("the last block holds only the records left over")
+    void partial_last_block() throws IOException {
+        Path file = segment(2 * SegmentFile.RECORDS_PER_BLOCK + 5);
+
+        Index index = SegmentFile.readIndex(file);
+
+        assertThat(index.blocks()).extracting(BlockEntry::recordCount)
+            .containsExactly(SegmentFile.RECORDS_PER_BLOCK, SegmentFile.RECORDS_PER_BLOCK, 5);
+        assertThat(index.blocks()).extracting(BlockEntry::firstKey)
+            .containsExactly(key(0), key(SegmentFile.RECORDS_PER_BLOCK), key(2 * SegmentFile.RECORDS_PER_BLOCK));
+        int last = 2 * SegmentFile.RECORDS_PER_BLOCK + 4;
+        assertThat(SegmentFile.read(file, index, key(last))).hasValue(payload(last));
+        assertThat(SegmentFile.read(file, index, key(last + 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a lookup finds the block at either side of every block boundary")
+    void binary_search_across_block_boundaries() throws IOException {
+        int records = 5 * SegmentFile.RECORDS_PER_BLOCK;
+        Path file = segment(records);
+        Index index = SegmentFile.readIndex(file);
+
+        for (int block = 0; block < 5; block++) {
+            int first = block * SegmentFile.RECORDS_PER_BLOCK;
+            int lastOfBlock = first + SegmentFile.RECORDS_PER_BLOCK - 1;
+            assertThat(index.blockFor(key(first))).get().extracting(BlockEntry::firstKey).isEqualTo(key(first));
+            assertThat(index.blockFor(key(lastOfBlock))).get().extracting(BlockEntry::firstKey).isEqualTo(key(first));
+            assertThat(SegmentFile.read(file, index, key(first))).hasValue(payload(first));
+            assertThat(SegmentFile.read(file, index, key(lastOfBlock))).hasValue(payload(lastOfBlock));
+            // Between the last key of a block and the first of the next
+            assertThat(SegmentFile.read(file, index, new UUID(0, 2L * lastOfBlock + 1))).isEmpty();
+        }
+        assertThat(index.blockFor(new UUID(-1, 0))).isEmpty();
+        assertThat(SegmentFile.read(file, index, new UUID(0, 2L * records + 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("an empty segment has no blocks and finds nothing")
+    void empty_segment() throws IOException {
+        Path file = segment(0);
+
+        Index index = SegmentFile.readIndex(file);
+
+        assertThat(index.blocks()).isEmpty();
+        assertThat(SegmentFile.read(file, index, key(0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a corrupted block fails its checksum, and the other blocks still read")
+    void corrupted_block_is_detected() throws IOException {
+        Path file = segment(3 * SegmentFile.RECORDS_PER_BLOCK);
+        Index index = SegmentFile.readIndex(file);
+        BlockEntry second = index.blocks().get(1);
+        flipByte(file, second.offset() + second.compressedLength() / 2);
+
+        assertThatThrownBy(() -> SegmentFile.read(file, index, key(SegmentFile.RECORDS_PER_BLOCK)))
+            .isInstanceOf(SegmentFile.CorruptSegmentException.class)
+            .hasMessageContaining("block checksum mismatch");
+        assertThat(SegmentFile.read(file, index, key(0))).hasValue(payload(0));
+        assertThat(SegmentFile.read(file, index, key(2 * SegmentFile.RECORDS_PER_BLOCK)))
+            .hasValue(payload(2 * SegmentFile.RECORDS_PER_BLOCK));
+    }
+
+    @Test
+    @DisplayName("a corrupted index, header or trailer is rejected when the index is read")
+    void corrupted_index_is_detected() throws IOException {
+        Path index = segment(100);
+        List<BlockEntry> blocks = SegmentFile.readIndex(index).blocks();
+        BlockEntry last = blocks.get(blocks.size() - 1);
+        // The index starts right after the last block
+        flipByte(index, last.offset() + last.compressedLength() + 1);
+        Path header = segment(10);
+        flipByte(header, 0);
+        Path trailer = segment(20);
+        flipByte(trailer, Files.size(trailer) - 1);
+        Path truncated = dir.resolve("truncated.seg");
+        Files.write(truncated, new byte[4]);
+
+        assertThatThrownBy(() -> SegmentFile.readIndex(index)).hasMessageContaining("index checksum mismatch");
+        assertThatThrownBy(() -> SegmentFile.readIndex(header)).hasMessageContaining("bad header");
+        assertThatThrownBy(() -> SegmentFile.readIndex(trailer)).hasMessageContaining("bad trailer");
+        assertThatThrownBy(() -> SegmentFile.readIndex(truncated)).hasMessageContaining("file too short");
+    }
+
+    private static void flipByte(Path file, long position) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[(int) position] ^= (byte) 0xFF;
+        Files.write(file, bytes);
+    }
+}
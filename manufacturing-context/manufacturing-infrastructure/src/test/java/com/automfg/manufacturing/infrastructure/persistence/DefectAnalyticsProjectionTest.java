@@ -0,0 +1,163 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.domain.event.InspectionCompletedEvent;
+import com.automfg.manufacturing.domain.event.InspectionFailedEvent;
+import com.automfg.manufacturing.domain.event.ReworkCompletedEvent;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShardFactory;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Folds events into the rollup tables of an in-memory database behind the primary shard. The
+ * model and inspector lookups answer with fixed values, from the primary or from a plant shard.
+ */
+class DefectAnalyticsProjectionTest {
+
+    private static final String MODEL = "MODEL-X-SEDAN";
+    private static final String INSPECTOR = "INSP-1";
+
+    private JdbcTemplate jdbc;
+    private PlantShardFactory factory;
+    private DataSourceTransactionManager transactionManager;
+    private PlantShards shards;
+    private DefectAnalyticsProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE inspection_outcome_rollups (week_start DATE NOT NULL,"
+            + " model_code VARCHAR(50) NOT NULL, inspector_id VARCHAR(50) NOT NULL,"
+            + " inspections_completed INT NOT NULL, passed INT NOT NULL, conditional_passed INT NOT NULL,"
+            + " failed INT NOT NULL, first_inspections INT NOT NULL, first_pass_passed INT NOT NULL,"
+            + " reworks_completed INT NOT NULL, PRIMARY KEY (week_start, model_code, inspector_id))");
+        jdbc.execute("CREATE TABLE defect_item_rollups (week_start DATE NOT NULL, model_code VARCHAR(50) NOT NULL,"
+            + " inspector_id VARCHAR(50) NOT NULL, item_description VARCHAR(500) NOT NULL, failures INT NOT NULL,"
+            + " PRIMARY KEY (week_start, model_code, inspector_id, item_description))");
+        jdbc.execute("CREATE TABLE defect_analytics_processed (source_id UUID NOT NULL, fact VARCHAR(20) NOT NULL,"
+            + " processed_at TIMESTAMP NOT NULL, PRIMARY KEY (source_id, fact))");
+        factory = new PlantShardFactory(new StandardEnvironment(), null, new JpaProperties(),
+            new HibernateProperties(), new FlywayProperties(), new SimpleMeterRegistry());
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        shards = new PlantShards(List.of(shard(Optional.of(MODEL), Optional.of(INSPECTOR))), Map.of(), 100,
+            List.of());
+        projection = new DefectAnalyticsProjection(shards);
+    }
+
+    // A shard over the test database whose repositories answer the projection's lookups as given
+    private PlantShard shard(Optional<String> modelCode, Optional<String> inspectorId) {
+        StaticListableBeanFactory repositories = new StaticListableBeanFactory();
+        repositories.addBean("productionOrders",
+            lookup(ProductionOrderJpaRepository.class, "findVehicleModelCodeById", modelCode));
+        repositories.addBean("qualityInspections",
+            lookup(QualityInspectionJpaRepository.class, "findInspectorIdById", inspectorId));
+        return factory.primary(null, jdbc, transactionManager, repositories);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.destroy();
+        jdbc.execute("SHUTDOWN");
+    }
+
+    // A repository answering only the single lookup the projection makes of it
+    private static <R> R lookup(Class<R> type, String method, Optional<String> answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, m, args) -> {
+            if (m.getName().equals(method)) {
+                return answer;
+            }
+            throw new UnsupportedOperationException(m.getName());
+        }));
+    }
+
+    private Map<String, Object> outcomes() {
+        return jdbc.queryForMap("SELECT inspections_completed, passed, failed, first_inspections, reworks_completed"
+            + " FROM inspection_outcome_rollups WHERE model_code = ? AND inspector_id = ?", MODEL, INSPECTOR);
+    }
+
+    private int failures(String description) {
+        return jdbc.queryForObject("SELECT SUM(failures) FROM defect_item_rollups WHERE item_description = ?",
+            Integer.class, description);
+    }
+
+    @Test
+    @DisplayName("every fact is added to the rollups once")
+    void facts_are_added() {
+        projection.on(new InspectionCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), "PASSED", INSPECTOR, false));
+        UUID failedId = UUID.randomUUID();
+        projection.on(new InspectionCompletedEvent(failedId, UUID.randomUUID(), "FAILED", INSPECTOR, false));
+        projection.on(new InspectionFailedEvent(failedId, UUID.randomUUID(), "1HGBH41JXMN109186", INSPECTOR,
+            List.of("Brake System Inspection", "Paint Quality Check")));
+        projection.on(new ReworkCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), failedId));
+
+        assertThat(outcomes()).containsEntry("INSPECTIONS_COMPLETED", 2).containsEntry("PASSED", 1)
+            .containsEntry("FAILED", 1).containsEntry("FIRST_INSPECTIONS", 2).containsEntry("REWORKS_COMPLETED", 1);
+        assertThat(failures("Brake System Inspection")).isEqualTo(1);
+        assertThat(failures("Paint Quality Check")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a redelivered event leaves the rollups as they were")
+    void redelivered_events_are_skipped() {
+        UUID inspectionId = UUID.randomUUID();
+        InspectionCompletedEvent completed =
+            new InspectionCompletedEvent(inspectionId, UUID.randomUUID(), "FAILED", INSPECTOR, false);
+        InspectionFailedEvent failed = new InspectionFailedEvent(inspectionId, UUID.randomUUID(),
+            "1HGBH41JXMN109186", INSPECTOR, List.of("Brake System Inspection"));
+        ReworkCompletedEvent rework = new ReworkCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), inspectionId);
+
+        for (int delivery = 0; delivery < 3; delivery++) {
+            projection.on(completed);
+            projection.on(failed);
+            projection.on(rework);
+        }
+
+        assertThat(outcomes()).containsEntry("INSPECTIONS_COMPLETED", 1).containsEntry("FAILED", 1)
+            .containsEntry("REWORKS_COMPLETED", 1);
+        assertThat(failures("Brake System Inspection")).isEqualTo(1);
+        assertThat(jdbc.queryForList("SELECT fact FROM defect_analytics_processed ORDER BY fact", String.class))
+            .containsExactly("DEFECT_ITEMS", "OUTCOME", "REWORK");
+    }
+
+    @Test
+    @DisplayName("an order and inspection stored on a plant shard are rolled up under their model and inspector")
+    void facts_of_a_plant_shard_are_attributed() {
+        shards.destroy();
+        // Nothing is found on the primary; the plant shard has the order and inspection
+        shards = new PlantShards(List.of(shard(Optional.empty(), Optional.empty()),
+            shard(Optional.of(MODEL), Optional.of(INSPECTOR))), Map.of(), 100, List.of());
+        projection = new DefectAnalyticsProjection(shards);
+        UUID inspectionId = UUID.randomUUID();
+
+        projection.on(new InspectionCompletedEvent(inspectionId, UUID.randomUUID(), "FAILED", INSPECTOR, false));
+        projection.on(new ReworkCompletedEvent(UUID.randomUUID(), UUID.randomUUID(), inspectionId));
+
+        assertThat(outcomes()).containsEntry("INSPECTIONS_COMPLETED", 1).containsEntry("REWORKS_COMPLETED", 1);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM inspection_outcome_rollups WHERE model_code = ?"
+            + " OR inspector_id = ?", Integer.class, DefectAnalyticsProjection.UNKNOWN,
+            DefectAnalyticsProjection.UNKNOWN)).isZero();
+    }
+}
@@ -0,0 +1,173 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.infrastructure.sharding.PlantShardFactory;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the claim statements against an in-memory database with the columns the queue reads,
+ * behind a single primary shard.
+ */
+class JdbcWorkQueueAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 0);
+    private static final LocalDateTime STALE_BEFORE = NOW.minusMinutes(30);
+
+    private JdbcTemplate jdbc;
+    private PlantShards shards;
+    private JdbcWorkQueueAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE quality_inspections (id UUID PRIMARY KEY, production_order_id UUID NOT NULL,"
+            + " vin VARCHAR(17) NOT NULL, result VARCHAR(20), inspector_id VARCHAR(50) NOT NULL,"
+            + " reviewer_id VARCHAR(50), inspected_at TIMESTAMP, review_claimed_by VARCHAR(50),"
+            + " review_claimed_at TIMESTAMP)");
+        PlantShardFactory factory = new PlantShardFactory(new StandardEnvironment(), null, new JpaProperties(),
+            new HibernateProperties(), new FlywayProperties(), new SimpleMeterRegistry());
+        shards = new PlantShards(List.of(factory.primary(null, jdbc, new DataSourceTransactionManager(dataSource),
+            new StaticListableBeanFactory())), Map.of(), 100, List.of());
+        adapter = new JdbcWorkQueueAdapter(shards);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.destroy();
+        jdbc.execute("SHUTDOWN");
+    }
+
+    private UUID inspection(String inspectorId, int inspectedMinutesAgo) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("INSERT INTO quality_inspections (id, production_order_id, vin, result, inspector_id,"
+                + " inspected_at) VALUES (?, ?, '1HGBH41JXMN109186', 'PASSED', ?, ?)",
+            id, UUID.randomUUID(), inspectorId, Timestamp.valueOf(NOW.minusMinutes(inspectedMinutesAgo)));
+        return id;
+    }
+
+    private void claimedBy(UUID inspectionId, String reviewerId, LocalDateTime claimedAt) {
+        jdbc.update("UPDATE quality_inspections SET review_claimed_by = ?, review_claimed_at = ? WHERE id = ?",
+            reviewerId, Timestamp.valueOf(claimedAt), inspectionId);
+    }
+
+    private String claimant(UUID inspectionId) {
+        return jdbc.queryForObject("SELECT review_claimed_by FROM quality_inspections WHERE id = ?",
+            String.class, inspectionId);
+    }
+
+    @Test
+    @DisplayName("a reviewer is offered the oldest unclaimed inspections but never their own")
+    void claims_oldest_unclaimed_inspection() {
+        UUID own = inspection("REV-1", 30);
+        UUID oldest = inspection("INSP-1", 20);
+        UUID newer = inspection("INSP-1", 10);
+        claimedBy(inspection("INSP-1", 25), "REV-2", NOW.minusMinutes(5));
+
+        List<UUID> candidates = adapter.findClaimCandidates("REV-1", STALE_BEFORE, 10);
+
+        assertThat(candidates).containsExactly(oldest, newer).doesNotContain(own);
+        assertThat(adapter.tryClaim(oldest, "REV-1", NOW, STALE_BEFORE)).isTrue();
+        assertThat(claimant(oldest)).isEqualTo("REV-1");
+        assertThat(adapter.findActiveClaim("REV-1", STALE_BEFORE))
+            .get().satisfies(claim -> assertThat(claim.inspectionId()).isEqualTo(oldest));
+        assertThat(adapter.tryClaim(oldest, "REV-3", NOW, STALE_BEFORE)).isFalse();
+        assertThat(adapter.findClaimCandidates("REV-3", STALE_BEFORE, 10)).containsExactly(own, newer);
+    }
+
+    @Test
+    @DisplayName("a claim older than the TTL can be taken over, a live one cannot")
+    void stale_claim_is_reclaimed() {
+        UUID stale = inspection("INSP-1", 180);
+        UUID live = inspection("INSP-1", 120);
+        claimedBy(stale, "REV-1", NOW.minusHours(2));
+        claimedBy(live, "REV-1", NOW.minusMinutes(10));
+
+        assertThat(adapter.findClaimCandidates("REV-2", STALE_BEFORE, 10)).containsExactly(stale);
+        assertThat(adapter.tryClaim(stale, "REV-2", NOW, STALE_BEFORE)).isTrue();
+        assertThat(adapter.tryClaim(live, "REV-2", NOW, STALE_BEFORE)).isFalse();
+
+        assertThat(claimant(stale)).isEqualTo("REV-2");
+        assertThat(claimant(live)).isEqualTo("REV-1");
+        assertThat(adapter.findActiveClaim("REV-1", STALE_BEFORE))
+            .get().satisfies(claim -> assertThat(claim.inspectionId()).isEqualTo(live));
+    }
+
+    @Test
+    @DisplayName("of many reviewers racing for one inspection exactly one wins the claim")
+    void claim_race_has_one_winner() throws Exception {
+        UUID contested = inspection("INSP-1", 10);
+        int reviewers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(reviewers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> claims = new ArrayList<>();
+            for (int i = 0; i < reviewers; i++) {
+                String reviewerId = "REV-" + i;
+                claims.add(pool.submit(() -> {
+                    start.await();
+                    return adapter.tryClaim(contested, reviewerId, NOW, STALE_BEFORE);
+                }));
+            }
+            start.countDown();
+
+            List<String> winners = new ArrayList<>();
+            for (int i = 0; i < reviewers; i++) {
+                if (claims.get(i).get(10, TimeUnit.SECONDS)) {
+                    winners.add("REV-" + i);
+                }
+            }
+            assertThat(winners).hasSize(1);
+            assertThat(claimant(contested)).isEqualTo(winners.get(0));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("a review holds the claim for its claimant or an unclaimed inspection, never over a live claim")
+    void review_holds_claim_only_for_claimant() {
+        UUID claimed = inspection("INSP-1", 30);
+        UUID unclaimed = inspection("INSP-1", 20);
+        UUID stale = inspection("INSP-1", 10);
+        claimedBy(claimed, "REV-1", NOW.minusMinutes(10));
+        claimedBy(stale, "REV-1", NOW.minusHours(1));
+
+        assertThat(adapter.holdClaim(claimed, "REV-2", NOW, STALE_BEFORE)).isFalse();
+        assertThat(adapter.holdClaim(claimed, "REV-1", NOW, STALE_BEFORE)).isTrue();
+        assertThat(adapter.holdClaim(unclaimed, "REV-2", NOW, STALE_BEFORE)).isTrue();
+        assertThat(adapter.holdClaim(stale, "REV-2", NOW, STALE_BEFORE)).isTrue();
+
+        assertThat(claimant(claimed)).isEqualTo("REV-1");
+        assertThat(claimant(unclaimed)).isEqualTo("REV-2");
+        assertThat(claimant(stale)).isEqualTo("REV-2");
+    }
+}
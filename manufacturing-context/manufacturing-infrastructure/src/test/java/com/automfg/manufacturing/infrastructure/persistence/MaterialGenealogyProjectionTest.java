@@ -0,0 +1,139 @@
+package com.automfg.manufacturing.infrastructure.persistence;
+
+import com.automfg.manufacturing.infrastructure.config.GenealogyProperties;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShard;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShardFactory;
+import com.automfg.manufacturing.infrastructure.sharding.PlantShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reconciles the genealogy index on an in-memory primary against the steps of the primary and
+ * of a second plant shard, with the columns the reconcile reads.
+ */
+class MaterialGenealogyProjectionTest {
+
+    private static final String VIN = "1HGBH41JXMN109186";
+
+    private JdbcTemplate primary;
+    private JdbcTemplate plant;
+    private PlantShards shards;
+    private MaterialGenealogyProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        PlantShardFactory factory = new PlantShardFactory(new StandardEnvironment(), null, new JpaProperties(),
+            new HibernateProperties(), new FlywayProperties(), new SimpleMeterRegistry());
+        primary = database();
+        plant = database();
+        primary.execute("CREATE TABLE material_batch_genealogy (assembly_step_id UUID PRIMARY KEY,"
+            + " material_batch_id VARCHAR(100) NOT NULL, production_order_id UUID NOT NULL,"
+            + " vin VARCHAR(17) NOT NULL, work_station_code VARCHAR(20) NOT NULL, completed_at TIMESTAMP NOT NULL)");
+        shards = new PlantShards(List.of(shard(factory, primary), shard(factory, plant)), Map.of(), 100,
+            List.of());
+        projection = new MaterialGenealogyProjection(null, shards,
+            new GenealogyProperties(Duration.ofMinutes(5), Duration.ofHours(24)));
+    }
+
+    private static JdbcTemplate database() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE production_orders (id UUID PRIMARY KEY, vin VARCHAR(17) NOT NULL)");
+        jdbc.execute("CREATE TABLE assembly_processes (id UUID PRIMARY KEY, production_order_id UUID NOT NULL)");
+        jdbc.execute("CREATE TABLE assembly_steps (id UUID PRIMARY KEY, assembly_process_id UUID NOT NULL,"
+            + " work_station_code VARCHAR(20) NOT NULL, status VARCHAR(20) NOT NULL,"
+            + " material_batch_id VARCHAR(100), completed_at TIMESTAMP)");
+        return jdbc;
+    }
+
+    private static PlantShard shard(PlantShardFactory factory, JdbcTemplate jdbc) {
+        return factory.primary(null, jdbc, new DataSourceTransactionManager(jdbc.getDataSource()),
+            new StaticListableBeanFactory());
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.destroy();
+        primary.execute("SHUTDOWN");
+        plant.execute("SHUTDOWN");
+    }
+
+    private UUID step(JdbcTemplate jdbc, String status, String batchId, LocalDateTime completedAt) {
+        UUID orderId = UUID.randomUUID();
+        UUID processId = UUID.randomUUID();
+        UUID stepId = UUID.randomUUID();
+        jdbc.update("INSERT INTO production_orders (id, vin) VALUES (?, ?)", orderId, VIN);
+        jdbc.update("INSERT INTO assembly_processes (id, production_order_id) VALUES (?, ?)", processId, orderId);
+        jdbc.update("INSERT INTO assembly_steps (id, assembly_process_id, work_station_code, status,"
+                + " material_batch_id, completed_at) VALUES (?, ?, 'WS-BODY', ?, ?, ?)",
+            stepId, processId, status, batchId, completedAt == null ? null : Timestamp.valueOf(completedAt));
+        return stepId;
+    }
+
+    private List<UUID> indexed() {
+        return primary.queryForList("SELECT assembly_step_id FROM material_batch_genealogy", UUID.class);
+    }
+
+    @Test
+    @DisplayName("completed steps missing from the index are copied in from every shard, once")
+    void missing_steps_are_added() {
+        UUID onPrimary = step(primary, "COMPLETED", "BATCH-1", LocalDateTime.now().minusHours(1));
+        UUID onPlant = step(plant, "COMPLETED", "BATCH-2", LocalDateTime.now().minusMinutes(10));
+
+        projection.reconcile();
+        projection.reconcile();
+
+        assertThat(indexed()).containsExactlyInAnyOrder(onPrimary, onPlant);
+        assertThat(primary.queryForMap("SELECT material_batch_id, vin, work_station_code"
+            + " FROM material_batch_genealogy WHERE assembly_step_id = ?", onPlant))
+            .containsEntry("MATERIAL_BATCH_ID", "BATCH-2").containsEntry("VIN", VIN)
+            .containsEntry("WORK_STATION_CODE", "WS-BODY");
+    }
+
+    @Test
+    @DisplayName("a row the event already wrote is left as it is")
+    void indexed_step_is_kept() {
+        UUID stepId = step(plant, "COMPLETED", "BATCH-1", LocalDateTime.now().minusMinutes(10));
+        primary.update("INSERT INTO material_batch_genealogy VALUES (?, 'BATCH-1', ?, ?, 'WS-BODY', ?)",
+            stepId, UUID.randomUUID(), VIN, Timestamp.valueOf(LocalDateTime.now().minusMinutes(9)));
+
+        projection.reconcile();
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM material_batch_genealogy", Integer.class))
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("steps not completed, without a batch or completed before the lookback are not indexed")
+    void other_steps_are_skipped() {
+        step(plant, "IN_PROGRESS", "BATCH-1", null);
+        step(plant, "COMPLETED", null, LocalDateTime.now().minusMinutes(10));
+        step(plant, "COMPLETED", "BATCH-1", LocalDateTime.now().minusDays(2));
+
+        projection.reconcile();
+
+        assertThat(indexed()).isEmpty();
+    }
+}
@@ -0,0 +1,216 @@
+package com.automfg.manufacturing.infrastructure.sharding;
+
+import com.automfg.manufacturing.domain.model.PlantId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlantShardsTest {
+
+    private final PlantShard primary = shard(PlantShard.PRIMARY);
+    private final PlantShard east = shard("east");
+    private final PlantShard west = shard("west");
+    private final List<PlantShards> opened = new ArrayList<>();
+
+    private static PlantShard shard(String name) {
+        return new PlantShard(name, null, null, null, null, type -> null);
+    }
+
+    private PlantShards shards(int directoryCapacity, PlantShard... shards) {
+        PlantShards plantShards = new PlantShards(List.of(shards),
+            Map.of(new PlantId("PLANT-02"), east), directoryCapacity, List.of());
+        opened.add(plantShards);
+        return plantShards;
+    }
+
+    @AfterEach
+    void close() {
+        opened.forEach(PlantShards::destroy);
+    }
+
+    private record Row(long minute, UUID id) {}
+
+    private static final Comparator<Row> ROW_ORDER =
+        Comparator.comparingLong(Row::minute).thenComparing(Row::id, PlantShards.UUID_ORDER);
+
+    @Test
+    @DisplayName("the primary shard has to come first")
+    void primary_comes_first() {
+        assertThatThrownBy(() -> shards(16, east, primary))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("plants no shard lists are stored on the primary")
+    void unlisted_plant_goes_to_primary() {
+        PlantShards shards = shards(16, primary, east, west);
+
+        assertThat(shards.forPlant(new PlantId("PLANT-02"))).isSameAs(east);
+        assertThat(shards.forPlant(new PlantId("PLANT-09"))).isSameAs(primary);
+        assertThat(shards.forPlantOrAll(null)).containsExactly(primary, east, west);
+        assertThat(shards.forPlantOrAll("PLANT-02")).containsExactly(east);
+    }
+
+    @Test
+    @DisplayName("locate asks every shard once, then only the shard the directory remembers")
+    void locate_remembers_shard() {
+        PlantShards shards = shards(16, primary, east, west);
+        UUID id = UUID.randomUUID();
+        Map<PlantShard, AtomicInteger> asked = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < 3; i++) {
+            Optional<String> found = shards.locate(id, shard -> {
+                asked.computeIfAbsent(shard, s -> new AtomicInteger()).incrementAndGet();
+                return shard == west ? Optional.of("order") : Optional.empty();
+            });
+            assertThat(found).contains("order");
+        }
+
+        assertThat(asked.get(primary)).hasValue(1);
+        assertThat(asked.get(east)).hasValue(1);
+        assertThat(asked.get(west)).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("an aggregate no shard has is not remembered")
+    void locate_missing_aggregate() {
+        PlantShards shards = shards(16, primary, east, west);
+        UUID id = UUID.randomUUID();
+        AtomicInteger asked = new AtomicInteger();
+
+        assertThat(shards.locate(id, shard -> {
+            asked.incrementAndGet();
+            return Optional.empty();
+        })).isEmpty();
+        assertThat(shards.locate(id, shard -> {
+            asked.incrementAndGet();
+            return Optional.empty();
+        })).isEmpty();
+
+        assertThat(asked).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("with only the primary, locate and shardOf ask nothing else")
+    void single_shard_never_scatters() {
+        PlantShards shards = shards(16, primary);
+        UUID id = UUID.randomUUID();
+        List<PlantShard> asked = new ArrayList<>();
+
+        assertThat(shards.locate(id, shard -> {
+            asked.add(shard);
+            return Optional.of(shard.name());
+        })).contains(PlantShard.PRIMARY);
+        assertThat(shards.shardOf(id, shard -> {
+            throw new AssertionError("asked " + shard);
+        })).contains(primary);
+        assertThat(asked).containsExactly(primary);
+    }
+
+    @Test
+    @DisplayName("the directory forgets the least recently used aggregate beyond its capacity")
+    void directory_evicts_least_recently_used() {
+        PlantShards shards = shards(2, primary, east, west);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        shards.remember(first, west);
+        shards.remember(second, west);
+        // Reading the first makes the second the eldest
+        assertThat(shards.locate(first, shard -> Optional.of(shard))).contains(west);
+        shards.remember(third, west);
+
+        Set<PlantShard> asked = ConcurrentHashMap.newKeySet();
+        assertThat(shards.locate(second, shard -> {
+            asked.add(shard);
+            return shard == east ? Optional.of(shard) : Optional.empty();
+        })).contains(east);
+        assertThat(asked).containsExactlyInAnyOrder(primary, east, west);
+        assertThat(shards.locate(third, shard -> Optional.of(shard))).contains(west);
+    }
+
+    @Test
+    @DisplayName("scatter returns each shard's result in shard order")
+    void scatter_keeps_shard_order() {
+        PlantShards shards = shards(16, primary, east, west);
+        Thread caller = Thread.currentThread();
+
+        List<String> results = shards.scatter(shard -> shard.name() + ":"
+            + (Thread.currentThread() == caller ? "caller" : "other"));
+
+        assertThat(results).containsExactly("primary:caller", "east:other", "west:other");
+    }
+
+    @Test
+    @DisplayName("UUIDs sort as unsigned numbers, as the databases sort them")
+    void uuid_order_is_unsigned() {
+        UUID low = new UUID(0x0000_0000_0000_0001L, 0);
+        UUID high = new UUID(0x8000_0000_0000_0000L, 0);
+        UUID highLeast = new UUID(0x0000_0000_0000_0001L, 0xFFFF_FFFF_FFFF_FFFFL);
+
+        assertThat(low.compareTo(high)).isPositive();
+        assertThat(PlantShards.UUID_ORDER.compare(low, high)).isNegative();
+        assertThat(PlantShards.UUID_ORDER.compare(low, highLeast)).isNegative();
+        assertThat(PlantShards.UUID_ORDER.compare(highLeast, high)).isNegative();
+    }
+
+    @Test
+    @DisplayName("merged keyset pages equal the pages of a single database")
+    void merged_pages_match_single_database() {
+        Random random = new Random(11);
+        List<Row> all = new ArrayList<>();
+        List<List<Row>> byShard = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (int i = 0; i < 600; i++) {
+            // Few distinct minutes, so ties on the timestamp are decided by the id
+            Row row = new Row(random.nextInt(40), new UUID(random.nextLong(), random.nextLong()));
+            all.add(row);
+            byShard.get(random.nextInt(3)).add(row);
+        }
+        all.sort(ROW_ORDER);
+        byShard.forEach(rows -> rows.sort(ROW_ORDER));
+
+        int limit = 25;
+        Row after = null;
+        List<Row> paged = new ArrayList<>();
+        while (true) {
+            Row cursor = after;
+            List<List<Row>> pages = byShard.stream()
+                .map(rows -> rows.stream()
+                    .filter(row -> cursor == null || ROW_ORDER.compare(row, cursor) > 0)
+                    .limit(limit)
+                    .toList())
+                .toList();
+            List<Row> page = PlantShards.mergePages(pages, ROW_ORDER, limit);
+            if (page.isEmpty()) {
+                break;
+            }
+            assertThat(page).hasSizeLessThanOrEqualTo(limit);
+            paged.addAll(page);
+            after = page.get(page.size() - 1);
+        }
+
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    @DisplayName("a single page is returned as it is")
+    void single_page_is_not_merged() {
+        List<Row> page = List.of(new Row(1, UUID.randomUUID()));
+
+        assertThat(PlantShards.mergePages(List.of(page), ROW_ORDER, 10)).isSameAs(page);
+    }
+}
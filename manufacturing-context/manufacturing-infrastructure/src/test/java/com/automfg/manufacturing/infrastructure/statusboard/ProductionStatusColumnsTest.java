@@ -0,0 +1,210 @@
+package com.automfg.manufacturing.infrastructure.statusboard;
+
+import com.automfg.manufacturing.application.port.ProductionStatusQueryPort.StatusFilter;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase.BoardOrder;
+import com.automfg.manufacturing.application.usecase.GetProductionStatusBoardUseCase.ProductionStatusBoard;
+import com.automfg.manufacturing.domain.model.ProductionOrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ProductionStatusColumnsTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 6, 0);
+    private static final StatusFilter ALL = new StatusFilter(null, null, null, null);
+
+    private record Row(String plant, ProductionOrderStatus status, Integer station, String model,
+                       String color, LocalDateTime createdAt) {
+    }
+
+    private static void put(ProductionStatusColumns columns, UUID id, Row row) {
+        columns.put(id, row.plant(), row.status(), row.station(), row.model(), row.color(), row.createdAt());
+    }
+
+    private static Row randomRow(Random random, int minute) {
+        ProductionOrderStatus[] statuses = ProductionOrderStatus.values();
+        ProductionOrderStatus status = statuses[random.nextInt(statuses.length)];
+        return new Row("PLANT-0" + (1 + random.nextInt(3)), status,
+            status == ProductionOrderStatus.IN_PRODUCTION ? 1 + random.nextInt(5) : null,
+            random.nextInt(10) == 0 ? null : "MODEL-" + random.nextInt(4),
+            "COLOR-" + random.nextInt(6), DAY.plusMinutes(minute));
+    }
+
+    @Test
+    @DisplayName("board counts orders by status, station, model and color")
+    void board_counts_every_dimension() {
+        ProductionStatusColumns columns = new ProductionStatusColumns();
+        put(columns, UUID.randomUUID(), new Row("PLANT-01", ProductionOrderStatus.IN_PRODUCTION, 2,
+            "SEDAN", "RED", DAY));
+        put(columns, UUID.randomUUID(), new Row("PLANT-01", ProductionOrderStatus.IN_PRODUCTION, 2,
+            "SEDAN", "BLUE", DAY.plusMinutes(1)));
+        put(columns, UUID.randomUUID(), new Row("PLANT-02", ProductionOrderStatus.SCHEDULED, null,
+            null, "RED", DAY.plusMinutes(2)));
+
+        ProductionStatusBoard board = columns.board(ALL, 10, DAY);
+
+        assertThat(board.total()).isEqualTo(3);
+        assertThat(board.byStatus()).contains(entry("IN_PRODUCTION", 2L), entry("SCHEDULED", 1L),
+            entry("REWORK_IN_PROGRESS", 0L));
+        assertThat(board.byStation()).containsExactly(entry(2, 2L));
+        assertThat(board.byModel()).containsOnly(entry("SEDAN", 2L), entry(ProductionStatusColumns.UNKNOWN, 1L));
+        assertThat(board.byColor()).containsOnly(entry("RED", 2L), entry("BLUE", 1L));
+        assertThat(board.orders()).extracting(BoardOrder::vehicleModelCode).containsExactly("SEDAN", "SEDAN", null);
+    }
+
+    @Test
+    @DisplayName("filters combine, and an unknown plant or model matches nothing")
+    void board_applies_filters() {
+        ProductionStatusColumns columns = new ProductionStatusColumns();
+        put(columns, UUID.randomUUID(), new Row("PLANT-01", ProductionOrderStatus.IN_PRODUCTION, 1,
+            "SEDAN", "RED", DAY));
+        put(columns, UUID.randomUUID(), new Row("PLANT-01", ProductionOrderStatus.IN_PRODUCTION, 3,
+            "SEDAN", "RED", DAY));
+        put(columns, UUID.randomUUID(), new Row("PLANT-02", ProductionOrderStatus.IN_PRODUCTION, 3,
+            "SUV", "RED", DAY));
+
+        assertThat(columns.board(new StatusFilter("PLANT-01", "IN_PRODUCTION", null, 3), 10, DAY).total())
+            .isEqualTo(1);
+        assertThat(columns.board(new StatusFilter(null, null, "SUV", null), 10, DAY).total()).isEqualTo(1);
+        assertThat(columns.board(new StatusFilter("PLANT-99", null, null, null), 10, DAY).total()).isZero();
+        assertThat(columns.board(new StatusFilter(null, null, "TRUCK", null), 10, DAY).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("board lists the oldest matching orders, oldest first, up to the limit")
+    void board_keeps_oldest_orders() {
+        ProductionStatusColumns columns = new ProductionStatusColumns();
+        List<UUID> ids = new ArrayList<>();
+        // Inserted newest first, so the heap has to replace its root over and over
+        for (int minute = 99; minute >= 0; minute--) {
+            UUID id = UUID.randomUUID();
+            ids.add(0, id);
+            put(columns, id, new Row("PLANT-01", ProductionOrderStatus.SCHEDULED, null, "SEDAN", "RED",
+                DAY.plusMinutes(minute)));
+        }
+
+        ProductionStatusBoard board = columns.board(ALL, 5, DAY);
+
+        assertThat(board.total()).isEqualTo(100);
+        assertThat(board.orders()).extracting(BoardOrder::id).containsExactlyElementsOf(ids.subList(0, 5));
+        assertThat(board.orders().get(0).createdAt()).isEqualTo(DAY);
+        assertThat(columns.board(ALL, 0, DAY).orders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put overwrites the row of an order it already holds")
+    void put_overwrites_existing_row() {
+        ProductionStatusColumns columns = new ProductionStatusColumns();
+        UUID id = UUID.randomUUID();
+        put(columns, id, new Row("PLANT-01", ProductionOrderStatus.SCHEDULED, null, "SEDAN", "RED", DAY));
+
+        put(columns, id, new Row("PLANT-01", ProductionOrderStatus.IN_PRODUCTION, 4, "SEDAN", "RED", DAY));
+
+        assertThat(columns.size()).isEqualTo(1);
+        ProductionStatusBoard board = columns.board(ALL, 1, DAY);
+        assertThat(board.byStatus()).contains(entry("SCHEDULED", 0L), entry("IN_PRODUCTION", 1L));
+        assertThat(board.orders()).singleElement().satisfies(order -> {
+            assertThat(order.id()).isEqualTo(id);
+            assertThat(order.stationSequence()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    @DisplayName("remove fills the hole with the last row and keeps every other order reachable")
+    void remove_moves_last_row() {
+        ProductionStatusColumns columns = new ProductionStatusColumns();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        put(columns, first, new Row("PLANT-01", ProductionOrderStatus.SCHEDULED, null, "SEDAN", "RED", DAY));
+        put(columns, second, new Row("PLANT-01", ProductionOrderStatus.SCHEDULED, null, "SEDAN", "RED", DAY));
+        put(columns, last, new Row("PLANT-02", ProductionOrderStatus.IN_PRODUCTION, 1, "SUV", "BLUE", DAY));
+
+        assertThat(columns.remove(first)).isTrue();
+        assertThat(columns.remove(first)).isFalse();
+        // The moved row is still found by id: overwriting it does not add a row
+        put(columns, last, new Row("PLANT-02", ProductionOrderStatus.ASSEMBLY_COMPLETED, null, "SUV", "BLUE", DAY));
+
+        assertThat(columns.size()).isEqualTo(2);
+        ProductionStatusBoard board = columns.board(ALL, 10, DAY);
+        assertThat(board.orders()).extracting(BoardOrder::id).containsExactlyInAnyOrder(second, last);
+        assertThat(board.byStatus()).contains(entry("ASSEMBLY_COMPLETED", 1L), entry("IN_PRODUCTION", 0L));
+        assertThat(columns.remove(second)).isTrue();
+        assertThat(columns.remove(last)).isTrue();
+        assertThat(columns.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("the columns and the id index grow past the expected size")
+    void put_grows_beyond_initial_capacity() {
+        ProductionStatusColumns columns = new ProductionStatusColumns(16);
+        long initialBytes = columns.estimatedBytes();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            put(columns, id, new Row("PLANT-01", ProductionOrderStatus.SCHEDULED, null, "SEDAN", "RED",
+                DAY.plusMinutes(i)));
+        }
+
+        assertThat(columns.size()).isEqualTo(5_000);
+        assertThat(columns.estimatedBytes()).isGreaterThan(initialBytes);
+        assertThat(columns.board(ALL, 3, DAY).orders()).extracting(BoardOrder::id)
+            .containsExactlyElementsOf(ids.subList(0, 3));
+        for (UUID id : ids) {
+            assertThat(columns.remove(id)).isTrue();
+        }
+        assertThat(columns.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("random puts and removes agree with a map of the same orders")
+    void random_operations_match_reference() {
+        Random random = new Random(7);
+        ProductionStatusColumns columns = new ProductionStatusColumns(16);
+        Map<UUID, Row> reference = new HashMap<>();
+        List<UUID> known = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(10);
+            if (op < 5 || known.isEmpty()) {
+                UUID id = UUID.randomUUID();
+                Row row = randomRow(random, i);
+                put(columns, id, row);
+                reference.put(id, row);
+                known.add(id);
+            } else if (op < 7) {
+                UUID id = known.get(random.nextInt(known.size()));
+                Row row = randomRow(random, i);
+                put(columns, id, row);
+                reference.put(id, row);
+            } else {
+                UUID id = known.remove(random.nextInt(known.size()));
+                assertThat(columns.remove(id)).isTrue();
+                reference.remove(id);
+            }
+        }
+
+        assertThat(columns.size()).isEqualTo(reference.size());
+        ProductionStatusBoard board = columns.board(new StatusFilter("PLANT-02", null, null, null), 0, DAY);
+        Map<String, Long> expectedByStatus = new HashMap<>();
+        reference.values().stream()
+            .filter(row -> row.plant().equals("PLANT-02"))
+            .forEach(row -> expectedByStatus.merge(row.status().name(), 1L, Long::sum));
+        assertThat(board.total()).isEqualTo(expectedByStatus.values().stream().mapToLong(Long::longValue).sum());
+        expectedByStatus.forEach((status, count) -> assertThat(board.byStatus()).containsEntry(status, count));
+        for (UUID id : reference.keySet()) {
+            assertThat(columns.remove(id)).isTrue();
+        }
+        assertThat(columns.size()).isZero();
+    }
+}
@@ -0,0 +1,19 @@
+package com.automfg.order.domain.event;
+
+import com.automfg.shared.domain.DomainEvent;
+
+import java.util.UUID;
+
+public class OrderCancelledEvent extends DomainEvent {
+
+    private final UUID orderId;
+
+    public OrderCancelledEvent(UUID orderId) {
+        super();
+        this.orderId = orderId;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+}
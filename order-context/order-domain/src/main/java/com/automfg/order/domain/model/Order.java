@@ -1,5 +1,6 @@
 package com.automfg.order.domain.model;
 
+import com.automfg.order.domain.event.OrderCancelledEvent;
 import com.automfg.order.domain.event.OrderChangedEvent;
 import com.automfg.order.domain.event.OrderPlacedEvent;
 import com.automfg.shared.domain.AggregateRoot;
@@ -163,6 +164,7 @@ public class Order extends AggregateRoot {
         }
         this.status = OrderStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
+        registerEvent(new OrderCancelledEvent(id.value()));
     }
 
     // Getters
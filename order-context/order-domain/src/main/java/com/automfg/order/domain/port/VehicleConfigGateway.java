@@ -1,9 +1,11 @@
 package com.automfg.order.domain.port;
 
+import com.automfg.shared.domain.Gateway;
+
 import java.math.BigDecimal;
 import java.util.List;
 
-public interface VehicleConfigGateway {
+public interface VehicleConfigGateway extends Gateway {
     ValidationResult validateConfiguration(String modelCode, String colorCode, List<String> optionCodes);
 
     BigDecimal calculatePrice(String modelCode, List<String> optionCodes);
@@ -1,5 +1,6 @@
 package com.automfg.order.domain.model;
 
+import com.automfg.order.domain.event.OrderCancelledEvent;
 import com.automfg.order.domain.event.OrderChangedEvent;
 import com.automfg.order.domain.event.OrderPlacedEvent;
 import com.automfg.shared.domain.DomainEvent;
@@ -135,6 +136,7 @@ class OrderTest {
         order.cancel();
 
         assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(order.getDomainEvents()).last().isInstanceOf(OrderCancelledEvent.class);
     }
 
     @Test
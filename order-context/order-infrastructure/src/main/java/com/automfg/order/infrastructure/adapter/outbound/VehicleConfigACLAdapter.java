@@ -6,6 +6,7 @@ import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -34,7 +35,7 @@ public class VehicleConfigACLAdapter implements VehicleConfigGateway {
         }
 
         Object[] config = configs.get(0);
-        UUID configId = (UUID) config[0];
+        UUID configId = toUuid(config[0]);
         boolean isActive = (Boolean) config[1];
 
         if (!isActive) {
@@ -91,7 +92,7 @@ public class VehicleConfigACLAdapter implements VehicleConfigGateway {
         }
 
         @SuppressWarnings("unchecked")
-        List<Object[]> configs = em.createNativeQuery(
+        List<Object> configs = em.createNativeQuery(
                 "SELECT id FROM vehicle_configurations WHERE model_code = ?1")
                 .setParameter(1, modelCode)
                 .getResultList();
@@ -100,7 +101,7 @@ public class VehicleConfigACLAdapter implements VehicleConfigGateway {
             throw new IllegalArgumentException("Vehicle model not found: " + modelCode);
         }
 
-        UUID configId = (UUID) configs.get(0)[0];
+        UUID configId = toUuid(configs.get(0));
 
         @SuppressWarnings("unchecked")
         List<BigDecimal> prices = em.createNativeQuery(
@@ -111,4 +112,18 @@ public class VehicleConfigACLAdapter implements VehicleConfigGateway {
 
         return prices.stream().reduce(basePrice, BigDecimal::add);
     }
+
+    /**
+     * Native queries return UUID columns as UUID, raw bytes or text depending on the database.
+     */
+    private static UUID toUuid(Object value) {
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        if (value instanceof byte[] bytes && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return UUID.fromString(value.toString());
+    }
 }
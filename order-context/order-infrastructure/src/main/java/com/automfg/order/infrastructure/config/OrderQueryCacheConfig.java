@@ -0,0 +1,25 @@
+package com.automfg.order.infrastructure.config;
+
+import com.automfg.order.application.usecase.GetOrderUseCase;
+import com.automfg.order.application.usecase.GetOrderUseCase.GetOrderQuery;
+import com.automfg.order.domain.event.OrderCancelledEvent;
+import com.automfg.order.domain.event.OrderChangedEvent;
+import com.automfg.order.domain.event.OrderPlacedEvent;
+import com.automfg.shared.infrastructure.querycache.CachedQuery;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order queries polled by dealer terminals, with the events after which each answer changes.
+ */
+@Configuration
+public class OrderQueryCacheConfig {
+
+    @Bean
+    public CachedQuery<GetOrderQuery> getOrderCache() {
+        return CachedQuery.of("order", GetOrderUseCase.class, GetOrderQuery.class)
+            .invalidatedBy(OrderPlacedEvent.class, event -> new GetOrderQuery(event.getOrderId()))
+            .invalidatedBy(OrderChangedEvent.class, event -> new GetOrderQuery(event.getOrderId()))
+            .invalidatedBy(OrderCancelledEvent.class, event -> new GetOrderQuery(event.getOrderId()));
+    }
+}
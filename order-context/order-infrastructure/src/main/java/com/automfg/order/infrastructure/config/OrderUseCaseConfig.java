@@ -0,0 +1,48 @@
+package com.automfg.order.infrastructure.config;
+
+import com.automfg.order.application.usecase.ChangeOrderUseCase;
+import com.automfg.order.application.usecase.ChangeOrderUseCaseImpl;
+import com.automfg.order.application.usecase.GetOrderUseCase;
+import com.automfg.order.application.usecase.GetOrderUseCaseImpl;
+import com.automfg.order.application.usecase.ListOrdersUseCase;
+import com.automfg.order.application.usecase.ListOrdersUseCaseImpl;
+import com.automfg.order.application.usecase.PlaceOrderUseCase;
+import com.automfg.order.application.usecase.PlaceOrderUseCaseImpl;
+import com.automfg.order.domain.port.OrderRepository;
+import com.automfg.order.domain.port.VehicleConfigGateway;
+import com.automfg.shared.domain.DomainEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the framework-free order use cases into the Spring context.
+ */
+@Configuration
+public class OrderUseCaseConfig {
+
+    @Bean
+    public PlaceOrderUseCase placeOrderUseCase(OrderRepository orderRepository,
+                                               VehicleConfigGateway vehicleConfigGateway,
+                                               DomainEventPublisher domainEventPublisher) {
+        return new PlaceOrderUseCaseImpl(orderRepository, vehicleConfigGateway, domainEventPublisher);
+    }
+
+    @Bean
+    public ChangeOrderUseCase changeOrderUseCase(OrderRepository orderRepository,
+                                                 VehicleConfigGateway vehicleConfigGateway,
+                                                 DomainEventPublisher domainEventPublisher,
+                                                 PlaceOrderUseCase placeOrderUseCase) {
+        return new ChangeOrderUseCaseImpl(orderRepository, vehicleConfigGateway, domainEventPublisher,
+            placeOrderUseCase);
+    }
+
+    @Bean
+    public GetOrderUseCase getOrderUseCase(OrderRepository orderRepository) {
+        return new GetOrderUseCaseImpl(orderRepository);
+    }
+
+    @Bean
+    public ListOrdersUseCase listOrdersUseCase(OrderRepository orderRepository) {
+        return new ListOrdersUseCaseImpl(orderRepository);
+    }
+}
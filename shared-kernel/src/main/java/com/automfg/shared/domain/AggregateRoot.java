@@ -19,4 +19,12 @@ public abstract class AggregateRoot {
     public void clearDomainEvents() {
         domainEvents.clear();
     }
+
+    /**
+     * Entities the aggregate is made of, the root included. Aggregates holding child entities
+     * override this, so that loading or saving them is measured by everything it touches.
+     */
+    public int entityCount() {
+        return 1;
+    }
 }
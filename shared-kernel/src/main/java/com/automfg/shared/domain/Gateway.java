@@ -0,0 +1,9 @@
+package com.automfg.shared.domain;
+
+/**
+ * Marker interface for ports that reach another bounded context or an external system, as
+ * opposed to ports onto this service's own storage. The use case pipeline reports time spent
+ * behind them separately.
+ */
+public interface Gateway {
+}
@@ -2,6 +2,7 @@ package com.automfg.shared.infrastructure;
 
 import com.automfg.shared.domain.DomainEvent;
 import com.automfg.shared.domain.DomainEventPublisher;
+import com.automfg.shared.infrastructure.jfr.DomainEventDispatchEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -18,7 +19,15 @@ public class SpringDomainEventPublisher implements DomainEventPublisher {
 
     @Override
     public void publish(DomainEvent event) {
+        DomainEventDispatchEvent dispatch = new DomainEventDispatchEvent();
+        dispatch.begin();
         applicationEventPublisher.publishEvent(event);
+        dispatch.end();
+        if (dispatch.shouldCommit()) {
+            dispatch.eventType = event.getClass().getSimpleName();
+            dispatch.eventId = event.getEventId().toString();
+            dispatch.commit();
+        }
     }
 
     @Override
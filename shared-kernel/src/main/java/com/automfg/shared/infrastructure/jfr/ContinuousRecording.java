@@ -0,0 +1,70 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.text.ParseException;
+
+/**
+ * A JFR recording kept running for the life of the application with the JDK's low-overhead
+ * settings plus the AutoMFG events over their thresholds, so that the last
+ * {@code automfg.jfr.max-age} of GC, lock, I/O and business activity can be dumped whenever a
+ * stall needs explaining.
+ * <p>
+ * The JDK's settings record the process environment and system properties at the start of
+ * every chunk; both can hold credentials, so they are left out of a recording that is
+ * downloaded over HTTP.
+ */
+public class ContinuousRecording implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ContinuousRecording.class);
+
+    static final String NAME = "automfg-continuous";
+
+    private final FlightRecorderProperties properties;
+    private Recording recording;
+
+    public ContinuousRecording(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            recording = new Recording(Configuration.getConfiguration(properties.settings()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings " + properties.settings(), e);
+        }
+        recording.setName(NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.disable("jdk.InitialEnvironmentVariable");
+        recording.disable("jdk.InitialSystemProperty");
+        recording.enable(UseCaseEvent.class).withThreshold(properties.useCaseThreshold());
+        recording.enable(RepositoryCallEvent.class).withThreshold(properties.portCallThreshold());
+        recording.enable(GatewayCallEvent.class).withThreshold(properties.portCallThreshold());
+        recording.enable(DomainEventPublishEvent.class).withThreshold(properties.portCallThreshold());
+        recording.enable(DomainEventDispatchEvent.class).withThreshold(properties.portCallThreshold());
+        recording.start();
+        log.info("Continuous JFR recording started with '{}' settings, keeping {}", properties.settings(),
+            properties.maxAge());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recording != null;
+    }
+}
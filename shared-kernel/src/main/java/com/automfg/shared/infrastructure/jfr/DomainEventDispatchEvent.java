@@ -0,0 +1,21 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automfg.DomainEventDispatch")
+@Label("Domain Event Dispatch")
+@Description("Delivery of one domain event to its synchronous listeners")
+@Category({"AutoMFG", "Domain Events"})
+@StackTrace(false)
+public class DomainEventDispatchEvent extends jdk.jfr.Event {
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Event ID")
+    public String eventId;
+}
@@ -0,0 +1,21 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automfg.DomainEventPublish")
+@Label("Domain Event Publish")
+@Description("A use case publishing domain events, including the listeners that run synchronously")
+@Category({"AutoMFG", "Domain Events"})
+@StackTrace(false)
+public class DomainEventPublishEvent extends jdk.jfr.Event {
+
+    @Label("Event Count")
+    public int eventCount;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,27 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @param continuous         keep a recording running from startup, for dumping on demand
+ * @param settings           JDK settings the recording starts from: {@code default} is meant
+ *                           for always-on use, {@code profile} samples more and costs more
+ * @param maxAge             how far back the recording reaches
+ * @param maxSize            disk the recording may use
+ * @param useCaseThreshold   shortest use case execution recorded
+ * @param portCallThreshold  shortest repository, gateway or domain event call recorded
+ */
+@ConfigurationProperties(prefix = "automfg.jfr")
+public record FlightRecorderProperties(
+    @DefaultValue("false") boolean continuous,
+    @DefaultValue("default") String settings,
+    @DefaultValue("30m") Duration maxAge,
+    @DefaultValue("250MB") DataSize maxSize,
+    @DefaultValue("10ms") Duration useCaseThreshold,
+    @DefaultValue("5ms") Duration portCallThreshold
+) {
+}
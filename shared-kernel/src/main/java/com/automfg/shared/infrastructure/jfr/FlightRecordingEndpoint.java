@@ -0,0 +1,55 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * {@code GET /actuator/jfr}: downloads the continuous JFR recording as a {@code .jfr} file; 404
+ * when it is not running. Recordings started with {@code jcmd} or
+ * {@code -XX:StartFlightRecording} are not served; their settings are not ours to vet.
+ * <p>
+ * The response streams the chunks the recording already keeps on disk, so a download writes no
+ * copy of them, however many run at once. Like every actuator endpoint it is served on the
+ * management port only.
+ */
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        Optional<Recording> continuous = continuousRecording();
+        if (continuous.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        // A stopped copy ends the chunk being written, so the download reaches up to now; the
+        // stream holds on to the chunks it covers after the copy is closed
+        InputStream chunks;
+        try (Recording copy = continuous.get().copy(true)) {
+            chunks = copy.getStream(null, null);
+        }
+        if (chunks == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new InputStreamResource(chunks));
+    }
+
+    private static Optional<Recording> continuousRecording() {
+        if (!FlightRecorder.isAvailable()) {
+            return Optional.empty();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+            .filter(recording -> ContinuousRecording.NAME.equals(recording.getName()))
+            .filter(recording -> recording.getState() == RecordingState.RUNNING)
+            .findFirst();
+    }
+}
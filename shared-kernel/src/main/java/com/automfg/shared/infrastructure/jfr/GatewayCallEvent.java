@@ -0,0 +1,24 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automfg.GatewayCall")
+@Label("Gateway Call")
+@Description("Call through a gateway port to another bounded context or external system")
+@Category({"AutoMFG", "Ports"})
+@StackTrace(false)
+public class GatewayCallEvent extends jdk.jfr.Event {
+
+    @Label("Port")
+    public String port;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,32 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automfg.RepositoryCall")
+@Label("Repository Call")
+@Description("Aggregate load or save through a repository or query port")
+@Category({"AutoMFG", "Ports"})
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Port")
+    public String port;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Operation")
+    @Description("load, save or other")
+    public String operation;
+
+    @Label("Entity Count")
+    @Description("Entities loaded or saved, child entities of an aggregate included")
+    public int entityCount;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,32 @@
+package com.automfg.shared.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.automfg.UseCase")
+@Label("Use Case")
+@Description("Execution of an application use case")
+@Category({"AutoMFG", "Use Cases"})
+@StackTrace(false)
+public class UseCaseEvent extends jdk.jfr.Event {
+
+    @Label("Use Case")
+    public String useCase;
+
+    @Label("Kind")
+    @Description("command or query")
+    public String kind;
+
+    @Label("Outcome")
+    @Description("success, rejected, conflict or error")
+    public String outcome;
+
+    @Label("Trace ID")
+    public String traceId;
+
+    @Label("SQL Statements")
+    public int sqlStatements;
+}
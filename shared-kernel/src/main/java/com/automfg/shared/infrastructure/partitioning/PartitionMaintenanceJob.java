@@ -0,0 +1,127 @@
+package com.automfg.shared.infrastructure.partitioning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the monthly partitions of the Postgres range-partitioned tables rolling: partitions for
+ * the coming months are created ahead of the rows that need them, and partitions older than a
+ * table's retention are detached, which is a catalog change rather than a bulk DELETE. Tables
+ * holding rows of live aggregates detach a partition only once it is empty.
+ * <p>
+ * Partitions are named {@code <table>_pYYYY_MM}, as created by the V9 Postgres migration.
+ */
+@Component
+@ConditionalOnProperty(prefix = "automfg.partitioning", name = "enabled", havingValue = "true")
+public class PartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitioningProperties properties;
+
+    public PartitionMaintenanceJob(JdbcTemplate jdbcTemplate, PartitioningProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${automfg.partitioning.cron:0 15 1 * * *}")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now();
+        for (PartitioningProperties.ManagedTable table : properties.tables()) {
+            try {
+                maintain(table, current);
+            } catch (DataAccessException | IllegalArgumentException e) {
+                log.error("Partition maintenance failed for {}", table.name(), e);
+            }
+        }
+    }
+
+    private void maintain(PartitioningProperties.ManagedTable table, YearMonth current) {
+        String parent = table.name();
+        if (!IDENTIFIER.matcher(parent).matches()) {
+            throw new IllegalArgumentException("Not a plain table name: " + parent);
+        }
+        if (!isPartitioned(parent)) {
+            log.warn("Skipping partition maintenance for {}: not a partitioned table", parent);
+            return;
+        }
+
+        for (int i = 0; i <= properties.monthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDate from = month.atDay(1);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(parent, month)
+                + " PARTITION OF " + parent
+                + " FOR VALUES FROM ('" + from + "') TO ('" + from.plusMonths(1) + "')");
+        }
+
+        if (table.retentionMonths() <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(table.retentionMonths());
+        Pattern partitionPattern = Pattern.compile(Pattern.quote(parent) + "_p(\\d{4}_\\d{2})");
+        for (String partition : attachedPartitions(parent)) {
+            Matcher matcher = partitionPattern.matcher(partition);
+            if (!matcher.matches() || !YearMonth.parse(matcher.group(1), SUFFIX).isBefore(oldestKept)) {
+                continue;
+            }
+            if (table.onlyWhenEmpty() && hasRows(partition)) {
+                log.info("Keeping partition {} past retention: it still holds rows", partition);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + parent + " DETACH PARTITION " + partition);
+            if (table.dropDetached()) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Detached and dropped partition {}", partition);
+            } else {
+                log.info("Detached partition {} from {}", partition, parent);
+            }
+        }
+    }
+
+    private boolean isPartitioned(String table) {
+        List<String> kinds = jdbcTemplate.queryForList(
+            "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, table);
+        return kinds.size() == 1 && "p".equals(kinds.get(0));
+    }
+
+    private boolean hasRows(String partition) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class));
+    }
+
+    private List<String> attachedPartitions(String table) {
+        return jdbcTemplate.queryForList("""
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            ORDER BY c.relname
+            """, String.class, table);
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,11 @@
+package com.automfg.shared.infrastructure.partitioning;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PartitioningProperties.class)
+public class PartitioningConfig {
+}
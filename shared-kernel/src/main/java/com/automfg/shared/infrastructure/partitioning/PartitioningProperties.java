@@ -0,0 +1,32 @@
+package com.automfg.shared.infrastructure.partitioning;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Monthly range partitions maintained by {@link PartitionMaintenanceJob}.
+ */
+@ConfigurationProperties(prefix = "automfg.partitioning")
+public record PartitioningProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("3") int monthsAhead,
+    @DefaultValue List<ManagedTable> tables
+) {
+
+    /**
+     * @param retentionMonths months kept attached behind the current one; 0 keeps every partition
+     * @param dropDetached    drop partitions after detaching them instead of leaving them as
+     *                        standalone tables for export
+     * @param onlyWhenEmpty   keep a partition past its retention attached until it holds no rows,
+     *                        for rows that belong to an aggregate still in use
+     */
+    public record ManagedTable(
+        String name,
+        @DefaultValue("0") int retentionMonths,
+        @DefaultValue("false") boolean dropDetached,
+        @DefaultValue("false") boolean onlyWhenEmpty
+    ) {
+    }
+}
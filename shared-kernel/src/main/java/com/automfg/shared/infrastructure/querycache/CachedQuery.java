@@ -0,0 +1,95 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import com.automfg.shared.application.QueryUseCase;
+import com.automfg.shared.domain.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Declares that a query use case's results are cached, and which domain events invalidate
+ * which of its queries. A context registers one bean per cached use case:
+ * <pre>{@code
+ * CachedQuery.of("manufacturing", GetInspectionUseCase.class, GetInspectionQuery.class)
+ *     .invalidatedBy(InspectionCompletedEvent.class, event -> new GetInspectionQuery(event.getInspectionId()))
+ * }</pre>
+ * Every change to what the use case returns has to publish one of the listed events; a
+ * use case whose results change without one is not a candidate. A subclass of a listed
+ * event invalidates as well.
+ *
+ * @param <Q> the use case's query record, which is the cache key
+ */
+public final class CachedQuery<Q extends Record> {
+
+    private final String context;
+    private final Class<? extends QueryUseCase> useCase;
+    private final Class<Q> queryType;
+    private final Map<Class<? extends DomainEvent>, Function<DomainEvent, Collection<Q>>> invalidations =
+        new LinkedHashMap<>();
+
+    private CachedQuery(String context, Class<? extends QueryUseCase> useCase, Class<Q> queryType) {
+        this.context = context;
+        this.useCase = useCase;
+        this.queryType = queryType;
+    }
+
+    /**
+     * @param context the bounded context, as tagged on the cache meters
+     */
+    public static <Q extends Record> CachedQuery<Q> of(String context, Class<? extends QueryUseCase> useCase,
+                                                      Class<Q> queryType) {
+        return new CachedQuery<>(context, useCase, queryType);
+    }
+
+    /**
+     * Invalidates the query the event maps to.
+     */
+    public <E extends DomainEvent> CachedQuery<Q> invalidatedBy(Class<E> eventType, Function<? super E, Q> query) {
+        return invalidatedByAll(eventType, event -> List.of(query.apply(event)));
+    }
+
+    /**
+     * Invalidates every query the event maps to.
+     */
+    public <E extends DomainEvent> CachedQuery<Q> invalidatedByAll(Class<E> eventType,
+                                                                   Function<? super E, ? extends Collection<Q>> queries) {
+        invalidations.put(eventType, event -> List.copyOf(queries.apply(eventType.cast(event))));
+        return this;
+    }
+
+    /**
+     * The name the pipeline and the metrics know the use case by.
+     */
+    public String name() {
+        return useCase.getSimpleName();
+    }
+
+    public String context() {
+        return context;
+    }
+
+    public Class<Q> queryType() {
+        return queryType;
+    }
+
+    /**
+     * The queries the event invalidates; empty if it does not concern this use case.
+     */
+    List<Q> invalidatedBy(DomainEvent event) {
+        List<Q> queries = null;
+        for (Map.Entry<Class<? extends DomainEvent>, Function<DomainEvent, Collection<Q>>> entry
+                : invalidations.entrySet()) {
+            if (entry.getKey().isInstance(event)) {
+                if (queries == null) {
+                    queries = new ArrayList<>();
+                }
+                queries.addAll(entry.getValue().apply(event));
+            }
+        }
+        return queries == null ? List.of() : queries;
+    }
+}
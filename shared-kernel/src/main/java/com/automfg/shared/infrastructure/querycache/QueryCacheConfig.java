@@ -0,0 +1,20 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "automfg.query-cache", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(QueryCacheProperties.class)
+public class QueryCacheConfig {
+
+    @Bean
+    public QueryResultCaches queryResultCaches(ObjectProvider<CachedQuery<?>> queries, QueryCacheProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new QueryResultCaches(queries.orderedStream().toList(), properties, meterRegistry);
+    }
+}
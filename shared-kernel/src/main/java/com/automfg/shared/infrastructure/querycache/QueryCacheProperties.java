@@ -0,0 +1,32 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param enabled  cache the results of the query use cases registered as {@link CachedQuery}
+ * @param maxSize  estimated heap each use case's cache may hold
+ * @param maxSizes per use case overrides of {@code maxSize}, by use case name
+ * @param maxAge   how long a result is served without an invalidating event; only a change
+ *                 made without an event, such as a manual fix in the database, waits this long
+ */
+@ConfigurationProperties(prefix = "automfg.query-cache")
+public record QueryCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("16MB") DataSize maxSize,
+    Map<String, DataSize> maxSizes,
+    @DefaultValue("10m") Duration maxAge
+) {
+
+    public QueryCacheProperties {
+        maxSizes = maxSizes == null ? Map.of() : Map.copyOf(maxSizes);
+    }
+
+    DataSize maxSizeOf(String useCase) {
+        return maxSizes.getOrDefault(useCase, maxSize);
+    }
+}
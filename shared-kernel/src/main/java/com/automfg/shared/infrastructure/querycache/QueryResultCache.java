@@ -0,0 +1,271 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Results of one query use case, keyed by its query record, held until a domain event
+ * invalidates the key, the size budget evicts it or it reaches the maximum age.
+ * <p>
+ * A hit is one map lookup with no locking. Concurrent misses on a key share a single load,
+ * and a load that was invalidated while it ran is handed to its callers but never cached, so
+ * a result read before a write can not outlive the event that announced the write. Each
+ * result is weighed when it is cached, and once the total exceeds the budget entries are
+ * evicted in CLOCK order: an entry read since the hand last passed it gets a second chance.
+ * Values should be immutable, since every caller shares the same instance.
+ */
+public final class QueryResultCache<K, V> {
+
+    /**
+     * Runs the query on a miss.
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws Throwable;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final CompletableFuture<V> loading = new CompletableFuture<>();
+        final Thread loader = Thread.currentThread();
+        volatile V value;
+        volatile boolean referenced;
+        long weight;
+        long loadedAt;
+        boolean installed;
+        boolean removed;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evicting = new ReentrantLock();
+    private final ToLongFunction<? super V> weigher;
+    private final long maxWeight;
+    private final long maxAgeNanos;
+
+    private final AtomicLong weight = new AtomicLong();
+    private final AtomicInteger deadInClock = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param weigher   estimated bytes a result keeps reachable
+     * @param maxWeight budget for the estimated bytes of all cached results
+     * @param maxAgeNanos results older than this are loaded again, in case a change was made
+     *                  without an event
+     */
+    public QueryResultCache(ToLongFunction<? super V> weigher, long maxWeight, long maxAgeNanos) {
+        if (maxWeight <= 0 || maxAgeNanos <= 0) {
+            throw new IllegalArgumentException("Cache budget and maximum age must be positive");
+        }
+        this.weigher = weigher;
+        this.maxWeight = maxWeight;
+        this.maxAgeNanos = maxAgeNanos;
+    }
+
+    /**
+     * Returns the cached result, or loads it, joining a load of the same key already running.
+     * A failed load is not cached; its callers all get the failure.
+     */
+    public V get(K key, Loader<? extends V> loader) throws Throwable {
+        while (true) {
+            Node<K, V> node = entries.get(key);
+            if (node != null && node.value != null) {
+                if (System.nanoTime() - node.loadedAt < maxAgeNanos) {
+                    node.referenced = true;
+                    hits.increment();
+                    return node.value;
+                }
+                remove(node);
+                continue;
+            }
+            if (node != null) {
+                if (node.loader == Thread.currentThread()) {
+                    // The query re-entered itself; a load can not wait for itself
+                    misses.increment();
+                    return loader.load();
+                }
+                hits.increment();
+                return await(node);
+            }
+            Node<K, V> created = new Node<>(key);
+            if (entries.putIfAbsent(key, created) == null) {
+                misses.increment();
+                return load(created, loader);
+            }
+        }
+    }
+
+    private V load(Node<K, V> node, Loader<? extends V> loader) throws Throwable {
+        V value;
+        try {
+            value = loader.load();
+        } catch (Throwable e) {
+            entries.remove(node.key, node);
+            node.loading.completeExceptionally(e);
+            throw e;
+        }
+        if (value == null) {
+            entries.remove(node.key, node);
+        } else if (install(node, value)) {
+            loads.increment();
+            clock.add(node);
+            evictIfOverBudget();
+        }
+        node.loading.complete(value);
+        return value;
+    }
+
+    private boolean install(Node<K, V> node, V value) {
+        long valueWeight = weigher.applyAsLong(value);
+        synchronized (node) {
+            if (node.removed) {
+                return false;
+            }
+            node.weight = valueWeight;
+            node.loadedAt = System.nanoTime();
+            node.installed = true;
+            node.value = value;
+            weight.addAndGet(valueWeight);
+            return true;
+        }
+    }
+
+    private static <V> V await(Node<?, V> node) throws Throwable {
+        try {
+            return node.loading.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the key's result, and makes a load of it already running leave nothing behind.
+     */
+    public void invalidate(K key) {
+        Node<K, V> node = entries.get(key);
+        if (node != null && remove(node)) {
+            invalidations.increment();
+        }
+    }
+
+    public void invalidateAll() {
+        entries.values().forEach(node -> {
+            if (remove(node)) {
+                invalidations.increment();
+            }
+        });
+    }
+
+    private boolean remove(Node<K, V> node) {
+        if (!entries.remove(node.key, node)) {
+            return false;
+        }
+        synchronized (node) {
+            node.removed = true;
+            if (node.installed) {
+                weight.addAndGet(-node.weight);
+                deadInClock.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves the hand until the cache is back under budget. Nodes removed by invalidation stay
+     * queued until the hand reaches them, so when they outnumber the live ones the queue is
+     * swept instead of waiting for eviction to clear them.
+     */
+    private void evictIfOverBudget() {
+        if ((weight.get() <= maxWeight && deadInClock.get() <= Math.max(1024, entries.size()))
+                || !evicting.tryLock()) {
+            return;
+        }
+        try {
+            // Hits keep setting reference bits, so the hand gives up after two full turns
+            int budget = 2 * entries.size() + 16;
+            if (deadInClock.get() > Math.max(1024, entries.size())) {
+                clock.removeIf(node -> {
+                    synchronized (node) {
+                        if (node.removed) {
+                            deadInClock.decrementAndGet();
+                            return true;
+                        }
+                        return false;
+                    }
+                });
+            }
+            while (weight.get() > maxWeight && budget-- > 0) {
+                Node<K, V> node = clock.poll();
+                if (node == null) {
+                    return;
+                }
+                synchronized (node) {
+                    if (node.removed) {
+                        deadInClock.decrementAndGet();
+                        continue;
+                    }
+                }
+                if (node.referenced) {
+                    node.referenced = false;
+                    clock.add(node);
+                } else if (remove(node)) {
+                    deadInClock.decrementAndGet();
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        return weight.get();
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+}
@@ -0,0 +1,82 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes a {@link QueryResultCache} under Micrometer's standard cache meters
+ * ({@code cache.gets} with {@code result=hit|miss}, {@code cache.puts}, {@code cache.evictions},
+ * {@code cache.size}), named after its use case, plus {@code cache.hit.ratio},
+ * {@code cache.invalidations} and the estimated bytes held in {@code cache.weight}. A caller
+ * that waited for another caller's load of the same query counts as a hit.
+ */
+public class QueryResultCacheMetrics extends CacheMeterBinder<QueryResultCache<?, ?>> {
+
+    public QueryResultCacheMetrics(QueryResultCache<?, ?> cache, String useCase, Tags tags) {
+        super(cache, useCase, tags);
+    }
+
+    @Override
+    protected Long size() {
+        QueryResultCache<?, ?> cache = getCache();
+        return cache == null ? null : (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        QueryResultCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        QueryResultCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        QueryResultCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        QueryResultCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.loadCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        Gauge.builder("cache.hit.ratio", this, metrics -> {
+                QueryResultCache<?, ?> cache = metrics.getCache();
+                if (cache == null) {
+                    return Double.NaN;
+                }
+                long hits = cache.hitCount();
+                long gets = hits + cache.missCount();
+                return gets == 0 ? Double.NaN : (double) hits / gets;
+            })
+            .tags(getTagsWithCacheName())
+            .description("Share of gets answered without running the query, since startup")
+            .register(registry);
+        FunctionCounter.builder("cache.invalidations", this, metrics -> {
+                QueryResultCache<?, ?> cache = metrics.getCache();
+                return cache == null ? 0 : cache.invalidationCount();
+            })
+            .tags(getTagsWithCacheName())
+            .description("Cached results dropped because a domain event changed them")
+            .register(registry);
+        Gauge.builder("cache.weight", this, metrics -> {
+                QueryResultCache<?, ?> cache = metrics.getCache();
+                return cache == null ? Double.NaN : cache.weight();
+            })
+            .tags(getTagsWithCacheName())
+            .baseUnit("bytes")
+            .description("Estimated heap held by the cached results")
+            .register(registry);
+    }
+}
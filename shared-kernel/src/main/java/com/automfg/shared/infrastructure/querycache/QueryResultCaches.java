@@ -0,0 +1,75 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import com.automfg.shared.domain.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The result caches of the {@link CachedQuery} use cases, which the use case pipeline looks up
+ * by use case name, and the invalidation of their keys by domain events.
+ * <p>
+ * Events are handled as they are published, which is after the write behind them committed
+ * for the use cases as they stand. An event published inside a transaction invalidates again
+ * once the transaction completes, so a load that read the old rows in between is not kept.
+ */
+public class QueryResultCaches {
+
+    private record Registration<Q extends Record>(CachedQuery<Q> query, QueryResultCache<Object, Object> cache) {
+
+        void invalidate(DomainEvent event) {
+            for (Q key : query.invalidatedBy(event)) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    private final Map<String, Registration<?>> registrations;
+
+    public QueryResultCaches(List<CachedQuery<?>> queries, QueryCacheProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.registrations = queries.stream().collect(Collectors.toUnmodifiableMap(CachedQuery::name,
+            query -> register(query, properties, meterRegistry)));
+    }
+
+    private static <Q extends Record> Registration<Q> register(CachedQuery<Q> query, QueryCacheProperties properties,
+                                                              MeterRegistry meterRegistry) {
+        QueryResultCache<Object, Object> cache = new QueryResultCache<>(ResultSize::of,
+            properties.maxSizeOf(query.name()).toBytes(), properties.maxAge().toNanos());
+        new QueryResultCacheMetrics(cache, query.name(), Tags.of("context", query.context())).bindTo(meterRegistry);
+        return new Registration<>(query, cache);
+    }
+
+    /**
+     * The cache of the use case's results, or null if they are not cached.
+     */
+    public QueryResultCache<Object, Object> forUseCase(String useCase) {
+        Registration<?> registration = registrations.get(useCase);
+        return registration == null ? null : registration.cache();
+    }
+
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        invalidate(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(event);
+                }
+            });
+        }
+    }
+
+    private void invalidate(DomainEvent event) {
+        for (Registration<?> registration : registrations.values()) {
+            registration.invalidate(event);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the heap a query result keeps reachable, for the cache's size budget. Results are
+ * read models: records of strings, numbers, dates and collections of more of the same, which
+ * are walked; anything else is charged a flat amount. The estimate assumes compressed
+ * references and compact Latin-1 strings, and counts a shared instance once per reference.
+ */
+final class ResultSize {
+
+    private static final long HEADER = 16;
+    private static final long REFERENCE = 4;
+    private static final long OTHER = 64;
+
+    private static final Map<Class<?>, Method[]> ACCESSORS = new ConcurrentHashMap<>();
+
+    private ResultSize() {
+    }
+
+    static long of(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case String string -> HEADER + 24 + align(string.length());
+            case Boolean ignored -> HEADER;
+            case Integer ignored -> HEADER;
+            case Long ignored -> 24;
+            case Double ignored -> 24;
+            case Enum<?> ignored -> 0;
+            case UUID ignored -> 32;
+            case BigDecimal decimal -> 40 + HEADER + align(decimal.unscaledValue().bitLength() / 8 + 1);
+            case BigInteger integer -> 40 + align(integer.bitLength() / 8 + 1);
+            case Temporal ignored -> 48;
+            case Optional<?> optional -> HEADER + of(optional.orElse(null));
+            case Collection<?> collection -> {
+                long size = HEADER + 24 + align(REFERENCE * collection.size());
+                for (Object element : collection) {
+                    size += of(element);
+                }
+                yield size;
+            }
+            case Map<?, ?> map -> {
+                long size = HEADER + 48 + align(REFERENCE * map.size() * 2L) + 32L * map.size();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    size += of(entry.getKey()) + of(entry.getValue());
+                }
+                yield size;
+            }
+            case Record record -> {
+                Method[] accessors = ACCESSORS.computeIfAbsent(record.getClass(), ResultSize::accessors);
+                long size = HEADER + align(8L * accessors.length);
+                for (Method accessor : accessors) {
+                    size += of(component(accessor, record));
+                }
+                yield size;
+            }
+            default -> OTHER;
+        };
+    }
+
+    private static Method[] accessors(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        Method[] accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+            accessors[i].setAccessible(true);
+        }
+        return accessors;
+    }
+
+    private static Object component(Method accessor, Record record) {
+        // Primitive components come back boxed and are charged as their box, which is close enough
+        try {
+            return accessor.invoke(record);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
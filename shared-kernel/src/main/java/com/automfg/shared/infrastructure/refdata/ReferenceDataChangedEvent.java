@@ -0,0 +1,7 @@
+package com.automfg.shared.infrastructure.refdata;
+
+/**
+ * Published in-process when the version counter of a reference dataset has moved.
+ */
+public record ReferenceDataChangedEvent(String dataset, long version) {
+}
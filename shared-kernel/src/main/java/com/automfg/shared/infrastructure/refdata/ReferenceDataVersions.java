@@ -0,0 +1,80 @@
+package com.automfg.shared.infrastructure.refdata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version counters of the reference datasets, kept in {@code reference_data_versions}.
+ * <p>
+ * Whoever edits a dataset bumps its counter, either through {@link #bump(String)} or, on
+ * Postgres, through the statement triggers installed by the Postgres migrations. The counters
+ * are polled on a fixed delay and a {@link ReferenceDataChangedEvent} is published for each
+ * one that moved, so caches reload off the request path and never query to validate a hit.
+ */
+@Component
+public class ReferenceDataVersions {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataVersions.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+
+    public ReferenceDataVersions(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Current version of the dataset, or 0 if it has never been registered.
+     */
+    public long current(String dataset) {
+        List<Long> versions = jdbcTemplate.queryForList(
+            "SELECT version FROM reference_data_versions WHERE dataset = ?", Long.class, dataset);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    /**
+     * Increments the dataset's version in the caller's transaction. Caches pick the change up
+     * on the next poll after the transaction commits.
+     */
+    @Transactional
+    public void bump(String dataset) {
+        int updated = jdbcTemplate.update(
+            "UPDATE reference_data_versions SET version = version + 1 WHERE dataset = ?", dataset);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                "INSERT INTO reference_data_versions (dataset, version) VALUES (?, 1)", dataset);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${automfg.reference-data.poll-interval:PT30S}",
+               initialDelayString = "${automfg.reference-data.poll-interval:PT30S}")
+    public void poll() {
+        List<Map<String, Object>> rows;
+        try {
+            rows = jdbcTemplate.queryForList("SELECT dataset, version FROM reference_data_versions");
+        } catch (DataAccessException e) {
+            log.warn("Could not poll reference data versions", e);
+            return;
+        }
+        for (Map<String, Object> row : rows) {
+            String dataset = (String) row.get("dataset");
+            long version = ((Number) row.get("version")).longValue();
+            Long previous = lastSeen.put(dataset, version);
+            if (previous == null || previous != version) {
+                eventPublisher.publishEvent(new ReferenceDataChangedEvent(dataset, version));
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.automfg.shared.infrastructure.refdata;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-mostly cache of reference data tagged with the version of the dataset it was loaded from.
+ * <p>
+ * Readers go through a single volatile snapshot, so a hit is one map lookup with no locking.
+ * A reload builds a complete new snapshot and swaps it in; snapshots from an older version
+ * are never installed over a newer one. Values should be immutable, since every caller
+ * shares the same instance.
+ */
+public final class VersionedCache<K, V> {
+
+    private record Snapshot<K, V>(long version, Map<K, V> entries) {
+    }
+
+    private volatile Snapshot<K, V> snapshot = new Snapshot<>(-1, new ConcurrentHashMap<>());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * Returns the cached value, loading and caching it on a miss. A value loaded while a newer
+     * snapshot is being installed lands in the old snapshot and is simply discarded with it.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Snapshot<K, V> current = snapshot;
+        V value = current.entries().get(key);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            loads.increment();
+            V raced = current.entries().putIfAbsent(key, loaded);
+            return raced != null ? raced : loaded;
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the whole cache with entries loaded at the given dataset version.
+     *
+     * @return false if the cache already holds this or a newer version
+     */
+    public synchronized boolean replaceAll(long version, Map<K, V> entries) {
+        if (version <= snapshot.version()) {
+            return false;
+        }
+        snapshot = new Snapshot<>(version, new ConcurrentHashMap<>(entries));
+        loads.add(entries.size());
+        return true;
+    }
+
+    public long version() {
+        return snapshot.version();
+    }
+
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long loadCount() {
+        return loads.sum();
+    }
+}
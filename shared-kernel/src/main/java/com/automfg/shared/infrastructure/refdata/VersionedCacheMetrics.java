@@ -0,0 +1,58 @@
+package com.automfg.shared.infrastructure.refdata;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes a {@link VersionedCache} under Micrometer's standard cache meters
+ * ({@code cache.gets} with {@code result=hit|miss}, {@code cache.puts}, {@code cache.size}),
+ * plus {@code cache.version} for the dataset version currently served.
+ */
+public class VersionedCacheMetrics extends CacheMeterBinder<VersionedCache<?, ?>> {
+
+    public VersionedCacheMetrics(VersionedCache<?, ?> cache, String cacheName, Tags tags) {
+        super(cache, cacheName, tags);
+    }
+
+    @Override
+    protected Long size() {
+        VersionedCache<?, ?> cache = getCache();
+        return cache == null ? null : (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        VersionedCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        VersionedCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return null;
+    }
+
+    @Override
+    protected long putCount() {
+        VersionedCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.loadCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        Gauge.builder("cache.version", this, metrics -> {
+                VersionedCache<?, ?> cache = metrics.getCache();
+                return cache == null ? Double.NaN : cache.version();
+            })
+            .tags(getTagsWithCacheName())
+            .description("Version of the reference dataset the cache was loaded from")
+            .register(registry);
+    }
+}
@@ -0,0 +1,9 @@
+package com.automfg.shared.infrastructure.routing;
+
+public enum DataSourceRoute {
+    PRIMARY, REPLICA;
+
+    String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,92 @@
+package com.automfg.shared.infrastructure.routing;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Routing state of the calling thread: the data source its connections come from, and the
+ * time of the last write its client is known to have made, which a replica has to have caught
+ * up with before that client may read from it.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<DataSourceRoute> ROUTE = new ThreadLocal<>();
+    private static final ThreadLocal<ClientSession> SESSION = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * Restores the previous state when closed.
+     */
+    public interface Scope extends AutoCloseable {
+        Scope NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+
+    private static final class ClientSession {
+        long lastWriteMillis;
+        final LongConsumer onWrite;
+
+        ClientSession(long lastWriteMillis, LongConsumer onWrite) {
+            this.lastWriteMillis = lastWriteMillis;
+            this.onWrite = onWrite;
+        }
+    }
+
+    /**
+     * The route decided for the thread, or null if nothing has decided one; connections are
+     * then taken from the primary.
+     */
+    public static DataSourceRoute current() {
+        return ROUTE.get();
+    }
+
+    public static Scope use(DataSourceRoute route) {
+        DataSourceRoute previous = ROUTE.get();
+        ROUTE.set(route);
+        return () -> {
+            if (previous == null) {
+                ROUTE.remove();
+            } else {
+                ROUTE.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Starts tracking one client's writes on this thread, e.g. for an HTTP request.
+     *
+     * @param lastWriteMillis when the client last wrote, as it told us; 0 if unknown
+     * @param onWrite         told the time of each write made for the client
+     */
+    public static Scope openSession(long lastWriteMillis, LongConsumer onWrite) {
+        ClientSession previous = SESSION.get();
+        SESSION.set(new ClientSession(lastWriteMillis, onWrite));
+        return () -> {
+            if (previous == null) {
+                SESSION.remove();
+            } else {
+                SESSION.set(previous);
+            }
+        };
+    }
+
+    /**
+     * When the current client last wrote; 0 if it has not or no session is open.
+     */
+    public static long lastWriteMillis() {
+        ClientSession session = SESSION.get();
+        return session == null ? 0 : session.lastWriteMillis;
+    }
+
+    static void wrote(long millis) {
+        ClientSession session = SESSION.get();
+        if (session != null && millis > session.lastWriteMillis) {
+            session.lastWriteMillis = millis;
+            session.onWrite.accept(millis);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.automfg.shared.infrastructure.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Carries read-your-writes across requests: a response to a request that ran a command has
+ * the time of the write in the {@code X-Read-After} header and cookie, and a request that
+ * presents either has its queries kept off the replica until the replica has caught up with
+ * that time. Clients with a cookie jar get this for free; others echo the header.
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-Read-After";
+    static final String COOKIE = "automfg-read-after";
+    private static final int COOKIE_MAX_AGE_SECONDS = 300;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (DataSourceRouting.Scope ignored = DataSourceRouting.openSession(lastWrite(request),
+                millis -> remember(response, millis))) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static long lastWrite(HttpServletRequest request) {
+        long lastWrite = parse(request.getHeader(HEADER));
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    lastWrite = Math.max(lastWrite, parse(cookie.getValue()));
+                }
+            }
+        }
+        return lastWrite;
+    }
+
+    private static long parse(String millis) {
+        if (millis == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(millis.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void remember(HttpServletResponse response, long millis) {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setHeader(HEADER, Long.toString(millis));
+        Cookie cookie = new Cookie(COOKIE, Long.toString(millis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge(COOKIE_MAX_AGE_SECONDS);
+        response.addCookie(cookie);
+    }
+}
@@ -0,0 +1,94 @@
+package com.automfg.shared.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * With {@code automfg.datasource.replica.url} set, the application's data source becomes a
+ * {@link ReadWriteRoutingDataSource} over two pools: the primary, configured as usual under
+ * {@code spring.datasource}, and the read replica. Flyway, JPA and {@code JdbcTemplate} all use
+ * the routing data source, and without a route it hands out primary connections.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "automfg.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("automfg.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReadReplicaProperties properties, FlywayProperties flywayProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(properties.url())
+            .username(properties.username())
+            .password(properties.password())
+            .driverClassName(properties.driverClassName())
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        if (properties.migrate()) {
+            Flyway.configure()
+                .dataSource(properties.url(), properties.username(), properties.password())
+                .locations(flywayProperties.getLocations().toArray(String[]::new))
+                .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+                .load()
+                .migrate();
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        // The replica pool is read-only; a stand-in gets its heartbeats over connections of its own
+        DataSource standIn = properties.migrate()
+            ? new DriverManagerDataSource(properties.url(), properties.username(), properties.password())
+            : null;
+        return new ReplicaLagMonitor(primary, replica, standIn, properties.maxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new ReadReplicaRouter(replicaLagMonitor, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadConsistencyFilter> readConsistencyFilter() {
+        FilterRegistrationBean<ReadConsistencyFilter> registration =
+            new FilterRegistrationBean<>(new ReadConsistencyFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
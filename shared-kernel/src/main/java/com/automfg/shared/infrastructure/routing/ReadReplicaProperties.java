@@ -0,0 +1,30 @@
+package com.automfg.shared.infrastructure.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica that query use cases and query ports read from. Pool settings go under
+ * {@code automfg.datasource.replica.hikari}, the primary's stay under
+ * {@code spring.datasource.hikari}.
+ *
+ * @param maxLag            replication lag beyond which queries fall back to the primary
+ * @param heartbeatInterval how often the lag is measured, in ISO-8601 as it also configures the
+ *                          heartbeat schedule
+ * @param migrate           run the Flyway migrations on the replica too, and write each heartbeat
+ *                          into it; only for a stand-in database that does not replicate from
+ *                          the primary
+ */
+@ConfigurationProperties(prefix = "automfg.datasource.replica")
+public record ReadReplicaProperties(
+    String url,
+    String username,
+    String password,
+    String driverClassName,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("PT1S") Duration heartbeatInterval,
+    @DefaultValue("false") boolean migrate
+) {
+}
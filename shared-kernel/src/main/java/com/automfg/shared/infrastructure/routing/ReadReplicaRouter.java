@@ -0,0 +1,91 @@
+package com.automfg.shared.infrastructure.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decides where a use case or query port call reads from. Commands use the primary. Queries
+ * use the replica unless it lags more than allowed, or the client wrote something the replica
+ * has not applied yet; and a query run inside a command stays on the command's primary
+ * connection. The route taken is counted in {@code automfg.datasource.routes}.
+ */
+public class ReadReplicaRouter {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter commands;
+    private final Counter queries;
+    private final Counter lagging;
+    private final Counter readYourWrites;
+    private final Counter cachedQueries;
+
+    public ReadReplicaRouter(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.commands = routes(meterRegistry, DataSourceRoute.PRIMARY, "command");
+        this.queries = routes(meterRegistry, DataSourceRoute.REPLICA, "query");
+        this.lagging = routes(meterRegistry, DataSourceRoute.PRIMARY, "replica-lag");
+        this.readYourWrites = routes(meterRegistry, DataSourceRoute.PRIMARY, "read-your-writes");
+        this.cachedQueries = routes(meterRegistry, DataSourceRoute.PRIMARY, "cached-query");
+    }
+
+    private static Counter routes(MeterRegistry meterRegistry, DataSourceRoute route, String reason) {
+        return Counter.builder("automfg.datasource.routes")
+            .description("Use case and query port calls by the data source they were routed to")
+            .tag("route", route.tag())
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Routes the calling thread until the scope is closed. Within an already routed call the
+     * route is kept, except that a command always moves to the primary.
+     */
+    public DataSourceRouting.Scope enter(boolean query) {
+        DataSourceRoute current = DataSourceRouting.current();
+        if (!query) {
+            if (current == DataSourceRoute.PRIMARY) {
+                return DataSourceRouting.Scope.NONE;
+            }
+            commands.increment();
+            return DataSourceRouting.use(DataSourceRoute.PRIMARY);
+        }
+        if (current != null) {
+            return DataSourceRouting.Scope.NONE;
+        }
+        return DataSourceRouting.use(routeQuery());
+    }
+
+    /**
+     * Routes the load of a cached query result to the primary. The result is served until a
+     * domain event invalidates it, and only the primary is sure to have applied the write
+     * behind every event published so far.
+     */
+    public DataSourceRouting.Scope enterCachedQuery() {
+        if (DataSourceRouting.current() != null) {
+            return DataSourceRouting.Scope.NONE;
+        }
+        cachedQueries.increment();
+        return DataSourceRouting.use(DataSourceRoute.PRIMARY);
+    }
+
+    private DataSourceRoute routeQuery() {
+        if (!lagMonitor.withinMaxLag()) {
+            lagging.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        long lastWrite = DataSourceRouting.lastWriteMillis();
+        if (lastWrite > 0 && !lagMonitor.caughtUpTo(lastWrite)) {
+            readYourWrites.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        queries.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    /**
+     * Records that a command completed for the current client, whose reads then stay on the
+     * primary until the replica has caught up with it.
+     */
+    public void commandCompleted() {
+        DataSourceRouting.wrote(System.currentTimeMillis());
+    }
+}
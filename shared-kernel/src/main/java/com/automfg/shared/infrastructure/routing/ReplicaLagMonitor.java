@@ -0,0 +1,100 @@
+package com.automfg.shared.infrastructure.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Measures how far the read replica is behind with a heartbeat: the current time is written
+ * to {@code replication_heartbeat} on the primary and the replicated value is read back from
+ * the replica. The replica has applied every write committed on the primary before the time it
+ * shows, which is also what read-your-writes checks against.
+ * <p>
+ * A stand-in replica that nothing replicates into is given each heartbeat by the monitor
+ * itself, so that it reads as caught up and queries are routed to it.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final long UNKNOWN = -1;
+    private static final String UPDATE_BEAT_SQL = "UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final JdbcTemplate standIn;
+    private final long maxLagMillis;
+    private volatile long replicaBeatMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this(primary, replica, null, maxLag, meterRegistry);
+    }
+
+    /**
+     * @param standIn writable connections to a stand-in replica to copy each heartbeat into;
+     *                null for a replica that replicates from the primary
+     */
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, DataSource standIn, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.standIn = standIn == null ? null : new JdbcTemplate(standIn);
+        this.maxLagMillis = maxLag.toMillis();
+        Gauge.builder("automfg.datasource.replica.lag", this,
+                monitor -> monitor.replicaBeatMillis == UNKNOWN
+                    ? Double.NaN
+                    : (System.currentTimeMillis() - monitor.replicaBeatMillis) / 1000.0)
+            .description("How far the read replica is behind the primary; NaN while unreachable")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${automfg.datasource.replica.heartbeat-interval:PT1S}")
+    public void beat() {
+        long now = System.currentTimeMillis();
+        try {
+            primary.update(UPDATE_BEAT_SQL, now);
+        } catch (DataAccessException e) {
+            log.warn("Could not write the replication heartbeat to the primary: {}", e.getMessage());
+        }
+        if (standIn != null) {
+            try {
+                standIn.update(UPDATE_BEAT_SQL, now);
+            } catch (DataAccessException e) {
+                log.warn("Could not write the replication heartbeat to the stand-in replica: {}", e.getMessage());
+            }
+        }
+        try {
+            List<Long> beats = replica.queryForList(
+                "SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class);
+            replicaBeatMillis = beats.isEmpty() ? UNKNOWN : beats.get(0);
+        } catch (DataAccessException e) {
+            if (replicaBeatMillis != UNKNOWN) {
+                log.warn("Read replica unreachable, reading from the primary: {}", e.getMessage());
+            }
+            replicaBeatMillis = UNKNOWN;
+        }
+    }
+
+    /**
+     * Whether the replica is reachable and no more than the allowed lag behind.
+     */
+    public boolean withinMaxLag() {
+        long beat = replicaBeatMillis;
+        return beat != UNKNOWN && System.currentTimeMillis() - beat <= maxLagMillis;
+    }
+
+    /**
+     * Whether the replica has applied everything the primary committed up to the given time.
+     */
+    public boolean caughtUpTo(long millis) {
+        return replicaBeatMillis >= millis;
+    }
+}
@@ -0,0 +1,128 @@
+package com.automfg.shared.infrastructure.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL issued on one thread while an HTTP request or a use case runs. Activities nest: a
+ * statement counts towards every open activity on the thread, while repeated query shapes are
+ * only tracked in the innermost one, so an N+1 is reported once, against the use case that
+ * loops. Not thread-safe; an activity belongs to the thread that opened it.
+ */
+public final class SqlActivity implements AutoCloseable {
+
+    private static final ThreadLocal<SqlActivity> CURRENT = new ThreadLocal<>();
+
+    public enum Scope {
+        REQUEST, USE_CASE;
+
+        String tag() {
+            return this == REQUEST ? "request" : "usecase";
+        }
+    }
+
+    private final SqlStatementMonitor monitor;
+    private final Scope scope;
+    private final String name;
+    private final Integer budget;
+    private final SqlActivity parent;
+    private Map<String, Integer> queryShapes;
+    private int statements;
+    private long rows;
+    private long nanos;
+    private boolean closed;
+
+    SqlActivity(SqlStatementMonitor monitor, Scope scope, String name, Integer budget) {
+        this.monitor = monitor;
+        this.scope = scope;
+        this.name = name;
+        this.budget = budget;
+        this.parent = CURRENT.get();
+        CURRENT.set(this);
+    }
+
+    static SqlActivity current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Counts a statement about to be executed.
+     *
+     * @throws SqlBudgetExceededException in fail mode, if it breaks a budget or repeats a query
+     *                                    shape once too often
+     */
+    void beforeStatement(String shape) {
+        if (SqlShape.isQuery(shape)) {
+            if (queryShapes == null) {
+                queryShapes = new HashMap<>();
+            }
+            int executions = queryShapes.merge(shape, 1, Integer::sum);
+            if (executions == monitor.repeatedQueryThreshold()) {
+                monitor.repeatedQuery(this, shape, executions);
+            }
+        }
+        for (SqlActivity activity = this; activity != null; activity = activity.parent) {
+            activity.statements++;
+            if (activity.budget != null && activity.statements == activity.budget + 1) {
+                monitor.budgetExceeded(activity);
+            }
+        }
+    }
+
+    void afterStatement(long elapsedNanos, long rowsAffected) {
+        for (SqlActivity activity = this; activity != null; activity = activity.parent) {
+            activity.nanos += elapsedNanos;
+            activity.rows += rowsAffected;
+        }
+    }
+
+    void rowRead() {
+        for (SqlActivity activity = this; activity != null; activity = activity.parent) {
+            activity.rows++;
+        }
+    }
+
+    public Scope scope() {
+        return scope;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Integer budget() {
+        return budget;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * Rows read through result sets plus rows reported changed by updates.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * Ends the activity and makes the enclosing one current again.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+        monitor.completed(this);
+    }
+}
@@ -0,0 +1,48 @@
+package com.automfg.shared.infrastructure.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlBudgetConfig {
+
+    // static: post-processors are created before the configuration class itself
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // A routing data source's targets are data source beans themselves, and get wrapped
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementMonitor sqlStatementMonitor(MeterRegistry meterRegistry, SqlBudgetProperties properties) {
+        return new SqlStatementMonitor(meterRegistry, properties);
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlBudgetWebMvcConfigurer(SqlStatementMonitor monitor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new SqlBudgetInterceptor(monitor));
+            }
+        };
+    }
+}
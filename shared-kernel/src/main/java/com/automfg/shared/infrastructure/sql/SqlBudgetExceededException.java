@@ -0,0 +1,12 @@
+package com.automfg.shared.infrastructure.sql;
+
+/**
+ * Thrown from the JDBC statement that breaks a SQL budget when the budgets are enforced.
+ * Deliberately not an {@link IllegalStateException}, so controllers do not turn it into a 409.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(SqlBudgetViolation violation) {
+        super(violation.toString());
+    }
+}
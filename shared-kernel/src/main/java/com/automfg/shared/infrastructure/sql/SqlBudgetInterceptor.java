@@ -0,0 +1,53 @@
+package com.automfg.shared.infrastructure.sql;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the SQL of each request handled by a controller method under the endpoint's name,
+ * {@code "<METHOD> <route pattern>"}, against the budget configured for that name. The request
+ * handling thread's part of an async request is counted up to the point it hands over.
+ */
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String ACTIVITY = SqlBudgetInterceptor.class.getName() + ".activity";
+
+    private final SqlStatementMonitor monitor;
+
+    public SqlBudgetInterceptor(SqlStatementMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ERROR) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+            request.setAttribute(ACTIVITY, monitor.openRequest(endpoint));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        close(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        close(request);
+    }
+
+    private static void close(HttpServletRequest request) {
+        if (request.getAttribute(ACTIVITY) instanceof SqlActivity activity) {
+            request.removeAttribute(ACTIVITY);
+            activity.close();
+        }
+    }
+}
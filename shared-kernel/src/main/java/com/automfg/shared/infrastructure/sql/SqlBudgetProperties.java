@@ -0,0 +1,37 @@
+package com.automfg.shared.infrastructure.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * @param mode                   {@code log} reports violations; {@code fail} also makes the
+ *                               violating statement throw, for integration tests
+ * @param repeatedQueryThreshold executions of one query shape within a use case, or within a
+ *                               request outside any use case, that count as an N+1
+ * @param endpoints              statement budget per endpoint, keyed by HTTP method and route
+ *                               pattern, e.g. {@code "[POST /api/v1/orders]": 30}
+ */
+@ConfigurationProperties(prefix = "automfg.sql-budget")
+public record SqlBudgetProperties(
+    @DefaultValue("log") Mode mode,
+    @DefaultValue("10") int repeatedQueryThreshold,
+    @DefaultValue Map<String, Integer> endpoints
+) {
+
+    public enum Mode {
+        LOG, FAIL
+    }
+
+    public SqlBudgetProperties {
+        if (repeatedQueryThreshold < 2) {
+            throw new IllegalArgumentException("Repeated query threshold must be at least 2");
+        }
+        endpoints = Map.copyOf(endpoints);
+    }
+
+    public Integer budgetFor(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+}
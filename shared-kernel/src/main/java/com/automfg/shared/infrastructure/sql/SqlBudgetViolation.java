@@ -0,0 +1,16 @@
+package com.automfg.shared.infrastructure.sql;
+
+import java.time.Instant;
+
+/**
+ * @param type   {@code budget} or {@code repeated-query}
+ * @param scope  {@code request} or {@code usecase}
+ * @param name   the endpoint or use case
+ */
+public record SqlBudgetViolation(Instant at, String type, String scope, String name, String detail, String traceId) {
+
+    @Override
+    public String toString() {
+        return type + " in " + scope + " " + name + ": " + detail;
+    }
+}
@@ -0,0 +1,48 @@
+package com.automfg.shared.infrastructure.sql;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL string to its shape: literals become {@code ?}, IN lists collapse to a single
+ * placeholder and whitespace is normalized, so that executions that differ only in their
+ * parameters compare equal.
+ */
+final class SqlShape {
+
+    private static final int CACHE_LIMIT = 4096;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Application SQL is a small, fixed set of strings; the cap only guards against SQL built with literals
+    private static final Map<String, String> SHAPES = new ConcurrentHashMap<>();
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        String shape = SHAPES.get(sql);
+        if (shape == null) {
+            shape = normalize(sql);
+            if (SHAPES.size() < CACHE_LIMIT) {
+                SHAPES.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    static boolean isQuery(String shape) {
+        return shape.startsWith("select") || shape.startsWith("with");
+    }
+
+    private static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
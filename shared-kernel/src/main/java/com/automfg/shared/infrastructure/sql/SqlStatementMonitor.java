@@ -0,0 +1,109 @@
+package com.automfg.shared.infrastructure.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens {@link SqlActivity SQL activities} for requests and use cases, and handles what the
+ * counting data source reports about them: statement and row counts go to
+ * {@code automfg.sql.statements} and {@code automfg.sql.rows} tagged with the scope and its
+ * name, and budget violations are logged, counted in {@code automfg.sql.violations} and kept
+ * for {@link #violations()}. In fail mode a violation also fails the statement.
+ */
+public class SqlStatementMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMonitor.class);
+    private static final int RETAINED_VIOLATIONS = 100;
+
+    private record MeterKey(SqlActivity.Scope scope, String name) {}
+
+    private record Meters(DistributionSummary statements, DistributionSummary rows) {}
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetProperties properties;
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+    private final Deque<SqlBudgetViolation> violations = new ArrayDeque<>();
+
+    public SqlStatementMonitor(MeterRegistry meterRegistry, SqlBudgetProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts counting the calling thread's SQL under the given name; close the activity when
+     * the work is done.
+     *
+     * @param budget most statements allowed, or null for no budget
+     */
+    public SqlActivity open(SqlActivity.Scope scope, String name, Integer budget) {
+        return new SqlActivity(this, scope, name, budget);
+    }
+
+    public SqlActivity openRequest(String endpoint) {
+        return open(SqlActivity.Scope.REQUEST, endpoint, properties.budgetFor(endpoint));
+    }
+
+    int repeatedQueryThreshold() {
+        return properties.repeatedQueryThreshold();
+    }
+
+    void budgetExceeded(SqlActivity activity) {
+        violation(activity, "budget", "more than " + activity.budget() + " statements");
+    }
+
+    void repeatedQuery(SqlActivity activity, String shape, int executions) {
+        violation(activity, "repeated-query", executions + " executions of [" + shape + "]");
+    }
+
+    private void violation(SqlActivity activity, String type, String detail) {
+        SqlBudgetViolation violation = new SqlBudgetViolation(Instant.now(), type, activity.scope().tag(),
+            activity.name(), detail, MDC.get("traceId"));
+        log.warn("SQL {}", violation);
+        meterRegistry.counter("automfg.sql.violations",
+            "type", type, "scope", activity.scope().tag(), "name", activity.name()).increment();
+        synchronized (violations) {
+            if (violations.size() == RETAINED_VIOLATIONS) {
+                violations.removeFirst();
+            }
+            violations.addLast(violation);
+        }
+        if (properties.mode() == SqlBudgetProperties.Mode.FAIL) {
+            throw new SqlBudgetExceededException(violation);
+        }
+    }
+
+    void completed(SqlActivity activity) {
+        Meters activityMeters = meters.computeIfAbsent(new MeterKey(activity.scope(), activity.name()), key -> new Meters(
+            DistributionSummary.builder("automfg.sql.statements")
+                .description("SQL statements executed per request or use case")
+                .tag("scope", key.scope().tag())
+                .tag("name", key.name())
+                .register(meterRegistry),
+            DistributionSummary.builder("automfg.sql.rows")
+                .description("Rows read or changed per request or use case")
+                .tag("scope", key.scope().tag())
+                .tag("name", key.name())
+                .register(meterRegistry)));
+        activityMeters.statements().record(activity.statements());
+        activityMeters.rows().record(activity.rows());
+    }
+
+    /**
+     * The most recent violations, oldest first.
+     */
+    public List<SqlBudgetViolation> violations() {
+        synchronized (violations) {
+            return List.copyOf(violations);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.automfg.shared.infrastructure.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Data source whose statements report to the thread's current {@link SqlActivity}: each
+ * execute call counts as one statement (a batch included), and rows are what result sets
+ * return plus what updates report. Statements executed with no activity open are passed
+ * straight through.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(), new ConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password),
+            new ConnectionHandler());
+    }
+
+    private static <T> T wrap(Class<T> type, T target, Handler handler) {
+        handler.target = target;
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{type}, handler));
+    }
+
+    private abstract static class Handler implements InvocationHandler {
+
+        Object target;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : call(method, args);
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy) || (boolean) call(method, args);
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends Handler {
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrap(Statement.class, (Statement) result, new StatementHandler(null));
+                case "prepareStatement" -> wrap(PreparedStatement.class, (PreparedStatement) result,
+                    new StatementHandler(SqlShape.of((String) args[0])));
+                case "prepareCall" -> wrap(CallableStatement.class, (CallableStatement) result,
+                    new StatementHandler(SqlShape.of((String) args[0])));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler extends Handler {
+
+        // null for a plain statement, whose SQL comes with each execute call
+        private final String preparedShape;
+        private SqlActivity executedIn;
+
+        StatementHandler(String preparedShape) {
+            this.preparedShape = preparedShape;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getResultSet")) {
+                return countRows(call(method, args));
+            }
+            if (!name.startsWith("execute")) {
+                return call(method, args);
+            }
+            SqlActivity activity = SqlActivity.current();
+            if (activity == null) {
+                return call(method, args);
+            }
+            String shape = preparedShape != null ? preparedShape
+                : args != null && args.length > 0 && args[0] instanceof String sql ? SqlShape.of(sql)
+                : "batch";
+            activity.beforeStatement(shape);
+            executedIn = activity;
+            long start = System.nanoTime();
+            Object result = call(method, args);
+            activity.afterStatement(System.nanoTime() - start, rowsAffected(result));
+            return name.equals("executeQuery") ? countRows(result) : result;
+        }
+
+        private Object countRows(Object resultSet) {
+            if (resultSet == null || executedIn == null) {
+                return resultSet;
+            }
+            return wrap(ResultSet.class, (ResultSet) resultSet, new ResultSetHandler(executedIn));
+        }
+
+        private static long rowsAffected(Object result) {
+            return switch (result) {
+                case Integer count -> Math.max(count, 0);
+                case Long count -> Math.max(count, 0);
+                case int[] counts -> {
+                    long sum = 0;
+                    for (int count : counts) {
+                        sum += Math.max(count, 0);
+                    }
+                    yield sum;
+                }
+                case long[] counts -> {
+                    long sum = 0;
+                    for (long count : counts) {
+                        sum += Math.max(count, 0);
+                    }
+                    yield sum;
+                }
+                case null, default -> 0;
+            };
+        }
+    }
+
+    private static final class ResultSetHandler extends Handler {
+
+        private final SqlActivity activity;
+
+        ResultSetHandler(SqlActivity activity) {
+            this.activity = activity;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(method, args);
+            if (method.getName().equals("next") && (boolean) result) {
+                activity.rowRead();
+            }
+            return result;
+        }
+    }
+}
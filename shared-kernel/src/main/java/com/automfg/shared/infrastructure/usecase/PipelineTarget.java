@@ -0,0 +1,76 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+import com.automfg.shared.application.QueryUseCase;
+import com.automfg.shared.application.UseCase;
+import com.automfg.shared.domain.DomainEventPublisher;
+import com.automfg.shared.domain.Gateway;
+import org.springframework.util.ClassUtils;
+
+import java.util.Set;
+
+/**
+ * What the pipeline does with calls into a bean: time it as a use case, or charge its time to
+ * the running use case as a port call.
+ */
+sealed interface PipelineTarget {
+
+    /**
+     * @param name the use case interface's simple name
+     * @param kind {@code command} or {@code query}
+     */
+    record UseCaseTarget(String name, String kind) implements PipelineTarget {
+        boolean query() {
+            return kind.equals("query");
+        }
+    }
+
+    /**
+     * @param port the port interface's simple name
+     */
+    record PortTarget(PortCategory category, String port) implements PipelineTarget {
+        /**
+         * A read-side port, such as {@code ProductionOrderQueryPort}, which may read from the
+         * replica even when called outside a query use case.
+         */
+        boolean queryPort() {
+            return port.endsWith("QueryPort");
+        }
+    }
+
+    /**
+     * Time spent behind a port, as broken out for slow use cases. A port is an interface in a
+     * {@code port} package of a bounded context: ports marked {@link Gateway} reach other
+     * contexts or external systems, every other port (repositories, query ports, providers,
+     * stores) reaches this service's own storage. Publishing domain events includes any
+     * listener that runs synchronously.
+     */
+    enum PortCategory {
+        REPOSITORY, GATEWAY, EVENTS
+    }
+
+    /**
+     * The target for a bean class, or null if the pipeline leaves the bean alone.
+     */
+    static PipelineTarget of(Class<?> beanClass) {
+        Set<Class<?>> interfaces = ClassUtils.getAllInterfacesForClassAsSet(beanClass);
+        for (Class<?> type : interfaces) {
+            if (UseCase.class.isAssignableFrom(type) && type != UseCase.class
+                    && type != CommandUseCase.class && type != QueryUseCase.class) {
+                String kind = CommandUseCase.class.isAssignableFrom(type) ? "command" : "query";
+                return new UseCaseTarget(type.getSimpleName(), kind);
+            }
+        }
+        if (interfaces.contains(DomainEventPublisher.class)) {
+            return new PortTarget(PortCategory.EVENTS, DomainEventPublisher.class.getSimpleName());
+        }
+        for (Class<?> type : interfaces) {
+            if (type.getPackageName().startsWith("com.automfg.") && type.getPackageName().endsWith(".port")) {
+                return new PortTarget(Gateway.class.isAssignableFrom(type)
+                    ? PortCategory.GATEWAY
+                    : PortCategory.REPOSITORY, type.getSimpleName());
+            }
+        }
+        return null;
+    }
+}
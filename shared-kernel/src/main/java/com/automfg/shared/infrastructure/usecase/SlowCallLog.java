@@ -0,0 +1,40 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size ring of the most recent slow use case calls; the oldest is overwritten first.
+ */
+public class SlowCallLog {
+
+    private final SlowUseCaseCall[] ring;
+    private long written;
+
+    public SlowCallLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Slow call capacity must be at least 1");
+        }
+        this.ring = new SlowUseCaseCall[capacity];
+    }
+
+    public synchronized void add(SlowUseCaseCall call) {
+        ring[(int) (written++ % ring.length)] = call;
+    }
+
+    /**
+     * The retained calls, newest first.
+     */
+    public synchronized List<SlowUseCaseCall> recent() {
+        int size = (int) Math.min(written, ring.length);
+        List<SlowUseCaseCall> calls = new ArrayList<>(size);
+        for (long i = written - 1; i >= written - size; i--) {
+            calls.add(ring[(int) (i % ring.length)]);
+        }
+        return calls;
+    }
+
+    public synchronized long totalRecorded() {
+        return written;
+    }
+}
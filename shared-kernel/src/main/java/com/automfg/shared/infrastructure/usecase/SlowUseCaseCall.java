@@ -0,0 +1,25 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A sampled use case invocation that took longer than the slow threshold, with the time its
+ * own port calls took; {@code otherMillis} is what is left for the use case and domain code.
+ * The SQL counts include statements run by use cases it started.
+ */
+public record SlowUseCaseCall(
+    Instant startedAt,
+    String useCase,
+    String outcome,
+    String traceId,
+    String spanId,
+    double durationMillis,
+    List<PortTime> ports,
+    double otherMillis,
+    int sqlStatements,
+    long sqlRows
+) {
+
+    public record PortTime(String category, int calls, double millis) {}
+}
@@ -0,0 +1,98 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import org.slf4j.MDC;
+
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * W3C trace context of the work the current thread is doing. Each HTTP request opens a span,
+ * taking the caller's trace from its {@code traceparent} header when there is one, and every
+ * use case invoked on the thread opens a child span of whatever is current. The trace and span
+ * IDs are mirrored into the SLF4J MDC as {@code traceId} and {@code spanId}.
+ */
+public record TraceContext(String traceId, String spanId) {
+
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+    private static final Pattern TRACEPARENT = Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    public TraceContext {
+        Objects.requireNonNull(traceId, "Trace ID required");
+        Objects.requireNonNull(spanId, "Span ID required");
+    }
+
+    /**
+     * Restores the previously current context when closed.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    public static TraceContext newTrace() {
+        return new TraceContext(randomHex(16), randomHex(8));
+    }
+
+    /**
+     * A new span in this trace.
+     */
+    public TraceContext child() {
+        return new TraceContext(traceId, randomHex(8));
+    }
+
+    /**
+     * Parses a {@code traceparent} header; empty when it is absent or not a valid version-00 value.
+     */
+    public static Optional<TraceContext> fromTraceparent(String header) {
+        if (header == null) {
+            return Optional.empty();
+        }
+        var matcher = TRACEPARENT.matcher(header.trim());
+        if (!matcher.matches() || matcher.group(1).equals(INVALID_TRACE_ID)
+                || matcher.group(2).equals(INVALID_SPAN_ID)) {
+            return Optional.empty();
+        }
+        return Optional.of(new TraceContext(matcher.group(1), matcher.group(2)));
+    }
+
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + "-01";
+    }
+
+    /**
+     * Makes this the current context of the calling thread until the scope is closed.
+     */
+    public Scope open() {
+        TraceContext previous = CURRENT.get();
+        install(this);
+        return () -> install(previous);
+    }
+
+    private static void install(TraceContext context) {
+        if (context == null) {
+            CURRENT.remove();
+            MDC.remove("traceId");
+            MDC.remove("spanId");
+        } else {
+            CURRENT.set(context);
+            MDC.put("traceId", context.traceId());
+            MDC.put("spanId", context.spanId());
+        }
+    }
+
+    private static String randomHex(int bytes) {
+        byte[] random = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(random);
+        random[0] |= 1; // never all zero, which W3C reserves as invalid
+        return HexFormat.of().formatHex(random);
+    }
+}
@@ -0,0 +1,31 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a span for each HTTP request, continuing the caller's trace when the request carries a
+ * {@code traceparent} header, and returns the request's span in the response's
+ * {@code traceparent} header so callers can find the request in logs and slow call captures.
+ */
+public class TraceContextFilter extends OncePerRequestFilter {
+
+    static final String TRACEPARENT = "traceparent";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        TraceContext span = TraceContext.fromTraceparent(request.getHeader(TRACEPARENT))
+            .map(TraceContext::child)
+            .orElseGet(TraceContext::newTrace);
+        response.setHeader(TRACEPARENT, span.traceparent());
+        try (TraceContext.Scope ignored = span.open()) {
+            chain.doFilter(request, response);
+        }
+    }
+}
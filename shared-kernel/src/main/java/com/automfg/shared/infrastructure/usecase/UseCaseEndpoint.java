@@ -0,0 +1,79 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /actuator/usecases}: invocation counts and latencies per use case and outcome, and the
+ * most recent slow calls with their port time breakdown. {@code /actuator/usecases/{useCase}}
+ * narrows both to one use case.
+ */
+@Endpoint(id = "usecases")
+public class UseCaseEndpoint {
+
+    private final MeterRegistry meterRegistry;
+    private final UseCasePipeline pipeline;
+
+    public UseCaseEndpoint(MeterRegistry meterRegistry, UseCasePipeline pipeline) {
+        this.meterRegistry = meterRegistry;
+        this.pipeline = pipeline;
+    }
+
+    public record UseCasesReport(long slowThresholdMillis, long slowCallsRecorded,
+                                 List<UseCaseStats> useCases, List<SlowUseCaseCall> slowCalls) {}
+
+    /**
+     * Latency figures are over the application's lifetime, except {@code maxMillis} and the
+     * percentiles, which cover the last few minutes.
+     */
+    public record UseCaseStats(String useCase, String kind, String outcome, long count, double meanMillis,
+                               double maxMillis, Map<String, Double> percentileMillis) {}
+
+    @ReadOperation
+    public UseCasesReport useCases() {
+        return report(null);
+    }
+
+    @ReadOperation
+    public UseCasesReport useCase(@Selector String useCase) {
+        return report(useCase);
+    }
+
+    private UseCasesReport report(String useCase) {
+        var search = meterRegistry.find(UseCasePipeline.TIMER);
+        if (useCase != null) {
+            search = search.tag("usecase", useCase);
+        }
+        List<UseCaseStats> stats = search.timers().stream()
+            .map(UseCaseEndpoint::stats)
+            .sorted(Comparator.comparing(UseCaseStats::useCase).thenComparing(UseCaseStats::outcome))
+            .toList();
+        List<SlowUseCaseCall> slowCalls = pipeline.slowCalls().recent().stream()
+            .filter(call -> useCase == null || call.useCase().equals(useCase))
+            .toList();
+        return new UseCasesReport(pipeline.properties().slowThreshold().toMillis(),
+            pipeline.slowCalls().totalRecorded(), stats, slowCalls);
+    }
+
+    private static UseCaseStats stats(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+        }
+        return new UseCaseStats(timer.getId().getTag("usecase"), timer.getId().getTag("kind"),
+            timer.getId().getTag("outcome"), snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS),
+            snapshot.max(TimeUnit.MILLISECONDS), percentiles);
+    }
+}
@@ -0,0 +1,348 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import com.automfg.shared.domain.AggregateRoot;
+import com.automfg.shared.infrastructure.jfr.DomainEventPublishEvent;
+import com.automfg.shared.infrastructure.jfr.GatewayCallEvent;
+import com.automfg.shared.infrastructure.jfr.RepositoryCallEvent;
+import com.automfg.shared.infrastructure.jfr.UseCaseEvent;
+import com.automfg.shared.infrastructure.querycache.QueryResultCache;
+import com.automfg.shared.infrastructure.querycache.QueryResultCaches;
+import com.automfg.shared.infrastructure.routing.DataSourceRouting;
+import com.automfg.shared.infrastructure.routing.ReadReplicaRouter;
+import com.automfg.shared.infrastructure.sql.SqlActivity;
+import com.automfg.shared.infrastructure.sql.SqlStatementMonitor;
+import com.automfg.shared.infrastructure.usecase.PipelineTarget.PortCategory;
+import com.automfg.shared.infrastructure.usecase.PipelineTarget.PortTarget;
+import com.automfg.shared.infrastructure.usecase.PipelineTarget.UseCaseTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.Event;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The steps every use case invocation goes through: it runs in a child span of the current
+ * trace, its duration is recorded in {@code automfg.usecase} tagged with the use case and its
+ * outcome, it reads from the replica or the primary as the {@link ReadReplicaRouter} decides
+ * when there is a replica, a query whose results are cached is answered from its
+ * {@link QueryResultCaches cache} when it can be, its SQL is counted by the
+ * {@link SqlStatementMonitor}, and when it is sampled the time its port calls take is totalled per
+ * {@link PortCategory} so that a slow invocation can be logged with that breakdown. Use cases
+ * and port calls are also emitted as JFR events, which cost next to nothing while no recording
+ * has them enabled.
+ * <p>
+ * Port calls are charged to the innermost running use case only, so a use case started by a
+ * synchronous event listener does not add to the repository time of the one that published.
+ */
+public class UseCasePipeline {
+
+    static final String TIMER = "automfg.usecase";
+
+    private static final ThreadLocal<Invocation> RUNNING = new ThreadLocal<>();
+    private static final PortCategory[] CATEGORIES = PortCategory.values();
+
+    private final MeterRegistry meterRegistry;
+    private final UseCasePipelineProperties properties;
+    private final SqlStatementMonitor sqlMonitor;
+    private final ReadReplicaRouter router;
+    private final QueryResultCaches caches;
+    private final SlowCallLog slowCalls;
+    private final long slowThresholdNanos;
+    private final Map<Class<?>, PipelineTarget> targets = new ConcurrentHashMap<>();
+    private final Map<UseCaseTarget, Timer[]> timers = new ConcurrentHashMap<>();
+    private final Map<UseCaseTarget, Counter> slowCounters = new ConcurrentHashMap<>();
+
+    /**
+     * @param router null when there is no read replica
+     * @param caches null when query results are not cached
+     */
+    public UseCasePipeline(MeterRegistry meterRegistry, UseCasePipelineProperties properties,
+                           SqlStatementMonitor sqlMonitor, ReadReplicaRouter router, QueryResultCaches caches) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.sqlMonitor = sqlMonitor;
+        this.router = router;
+        this.caches = caches;
+        this.slowCalls = new SlowCallLog(properties.slowCallCapacity());
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+    }
+
+    public enum Outcome {
+        SUCCESS, REJECTED, CONFLICT, ERROR;
+
+        static Outcome of(Throwable failure) {
+            if (failure == null) {
+                return SUCCESS;
+            }
+            if (failure instanceof IllegalArgumentException) {
+                return REJECTED;
+            }
+            return failure instanceof IllegalStateException ? CONFLICT : ERROR;
+        }
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final class Invocation {
+        final boolean sampled;
+        final boolean query;
+        final long[] nanos = new long[CATEGORIES.length];
+        final int[] calls = new int[CATEGORIES.length];
+
+        Invocation(boolean sampled, boolean query) {
+            this.sampled = sampled;
+            this.query = query;
+        }
+    }
+
+    public SlowCallLog slowCalls() {
+        return slowCalls;
+    }
+
+    public UseCasePipelineProperties properties() {
+        return properties;
+    }
+
+    Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+        PipelineTarget target = targets.computeIfAbsent(targetClass, PipelineTarget::of);
+        if (target == null) {
+            return invocation.proceed();
+        }
+        return switch (target) {
+            case UseCaseTarget useCase -> invokeUseCase(useCase, invocation);
+            case PortTarget port -> invokePort(port, invocation);
+        };
+    }
+
+    private Object invokeUseCase(UseCaseTarget useCase, MethodInvocation invocation) throws Throwable {
+        TraceContext parent = TraceContext.current();
+        TraceContext span = parent == null ? TraceContext.newTrace() : parent.child();
+        Invocation outer = RUNNING.get();
+        Invocation current = new Invocation(ThreadLocalRandom.current().nextDouble() < properties.breakdownSampleRate(),
+            useCase.query());
+        Instant startedAt = current.sampled ? Instant.now() : null;
+        Throwable failure = null;
+        UseCaseEvent jfr = new UseCaseEvent();
+        jfr.begin();
+        long start = System.nanoTime();
+        SqlActivity sql = null;
+        QueryResultCache<Object, Object> cache = cache(useCase, outer, invocation);
+        try (TraceContext.Scope ignored = span.open();
+             DataSourceRouting.Scope route = router == null || cache != null
+                 ? DataSourceRouting.Scope.NONE
+                 : router.enter(useCase.query())) {
+            RUNNING.set(current);
+            sql = sqlMonitor.open(SqlActivity.Scope.USE_CASE, useCase.name(), null);
+            Object result = cache == null
+                ? invocation.proceed()
+                : cache.get(invocation.getArguments()[0], () -> loadCached(invocation));
+            if (router != null && !useCase.query()) {
+                router.commandCompleted();
+            }
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (sql != null) {
+                sql.close();
+            }
+            if (outer == null) {
+                RUNNING.remove();
+            } else {
+                RUNNING.set(outer);
+            }
+            Outcome outcome = Outcome.of(failure);
+            jfr.end();
+            if (jfr.shouldCommit()) {
+                jfr.useCase = useCase.name();
+                jfr.kind = useCase.kind();
+                jfr.outcome = outcome.tag();
+                jfr.traceId = span.traceId();
+                jfr.sqlStatements = sql == null ? 0 : sql.statements();
+                jfr.commit();
+            }
+            timer(useCase, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= slowThresholdNanos) {
+                slowCounter(useCase).increment();
+                if (current.sampled) {
+                    slowCalls.add(slowCall(useCase, outcome, span, startedAt, elapsed, current, sql));
+                }
+            }
+        }
+    }
+
+    /**
+     * The cache to answer the query from; none inside a command, which may have written what
+     * the query reads before publishing the events that invalidate it.
+     */
+    private QueryResultCache<Object, Object> cache(UseCaseTarget useCase, Invocation outer,
+                                                   MethodInvocation invocation) {
+        if (caches == null || !useCase.query() || (outer != null && !outer.query)
+                || invocation.getArguments().length != 1
+                || !(invocation.getArguments()[0] instanceof Record)) {
+            return null;
+        }
+        return caches.forUseCase(useCase.name());
+    }
+
+    private Object loadCached(MethodInvocation invocation) throws Throwable {
+        try (DataSourceRouting.Scope route = router == null
+                 ? DataSourceRouting.Scope.NONE
+                 : router.enterCachedQuery()) {
+            return invocation.proceed();
+        }
+    }
+
+    private Object invokePort(PortTarget port, MethodInvocation invocation) throws Throwable {
+        if (router != null && port.queryPort() && DataSourceRouting.current() == null) {
+            try (DataSourceRouting.Scope route = router.enter(true)) {
+                return timePort(port, invocation);
+            }
+        }
+        return timePort(port, invocation);
+    }
+
+    private static Object timePort(PortTarget port, MethodInvocation invocation) throws Throwable {
+        Event jfr = switch (port.category()) {
+            case REPOSITORY -> new RepositoryCallEvent();
+            case GATEWAY -> new GatewayCallEvent();
+            case EVENTS -> new DomainEventPublishEvent();
+        };
+        jfr.begin();
+        Invocation current = RUNNING.get();
+        boolean timed = current != null && current.sampled;
+        long start = timed ? System.nanoTime() : 0;
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (timed) {
+                current.nanos[port.category().ordinal()] += System.nanoTime() - start;
+                current.calls[port.category().ordinal()]++;
+            }
+            jfr.end();
+            if (jfr.shouldCommit()) {
+                commitPortEvent(jfr, port, invocation, result, failed);
+            }
+        }
+    }
+
+    private static void commitPortEvent(Event jfr, PortTarget port, MethodInvocation invocation, Object result,
+                                        boolean failed) {
+        String method = invocation.getMethod().getName();
+        switch (jfr) {
+            case RepositoryCallEvent repository -> {
+                repository.port = port.port();
+                repository.method = method;
+                repository.failed = failed;
+                if (method.startsWith("save") || method.startsWith("delete")) {
+                    repository.operation = "save";
+                    Object[] arguments = invocation.getArguments();
+                    repository.entityCount = arguments.length == 0 ? 0 : entityCount(arguments[0]);
+                } else if (method.startsWith("find") || method.startsWith("get") || method.startsWith("load")) {
+                    repository.operation = "load";
+                    repository.entityCount = entityCount(result);
+                } else {
+                    repository.operation = "other";
+                }
+            }
+            case GatewayCallEvent gateway -> {
+                gateway.port = port.port();
+                gateway.method = method;
+                gateway.failed = failed;
+            }
+            case DomainEventPublishEvent publish -> {
+                Object[] arguments = invocation.getArguments();
+                publish.eventCount = arguments.length == 0 ? 0 : entityCount(arguments[0]);
+                publish.failed = failed;
+            }
+            default -> {
+                return;
+            }
+        }
+        jfr.commit();
+    }
+
+    private static int entityCount(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case Optional<?> optional -> optional.map(UseCasePipeline::entityCount).orElse(0);
+            case Collection<?> collection -> {
+                int count = 0;
+                for (Object element : collection) {
+                    count += entityCount(element);
+                }
+                yield count;
+            }
+            case AggregateRoot aggregate -> aggregate.entityCount();
+            case Boolean ignored -> 0;
+            case Number ignored -> 0;
+            default -> 1;
+        };
+    }
+
+    private Timer timer(UseCaseTarget useCase, Outcome outcome) {
+        Timer[] byOutcome = timers.computeIfAbsent(useCase, key -> new Timer[Outcome.values().length]);
+        Timer timer = byOutcome[outcome.ordinal()];
+        if (timer == null) {
+            timer = Timer.builder(TIMER)
+                .description("Use case invocations")
+                .tag("usecase", useCase.name())
+                .tag("kind", useCase.kind())
+                .tag("outcome", outcome.tag())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+            byOutcome[outcome.ordinal()] = timer;
+        }
+        return timer;
+    }
+
+    private Counter slowCounter(UseCaseTarget useCase) {
+        return slowCounters.computeIfAbsent(useCase, key -> Counter.builder(TIMER + ".slow")
+            .description("Use case invocations over the slow threshold")
+            .tag("usecase", key.name())
+            .tag("kind", key.kind())
+            .register(meterRegistry));
+    }
+
+    private static SlowUseCaseCall slowCall(UseCaseTarget useCase, Outcome outcome, TraceContext span,
+                                            Instant startedAt, long elapsedNanos, Invocation invocation,
+                                            SqlActivity sql) {
+        List<SlowUseCaseCall.PortTime> ports = new ArrayList<>(CATEGORIES.length);
+        long portNanos = 0;
+        for (PortCategory category : CATEGORIES) {
+            int i = category.ordinal();
+            if (invocation.calls[i] > 0) {
+                ports.add(new SlowUseCaseCall.PortTime(category.name().toLowerCase(), invocation.calls[i],
+                    millis(invocation.nanos[i])));
+                portNanos += invocation.nanos[i];
+            }
+        }
+        return new SlowUseCaseCall(startedAt, useCase.name(), outcome.tag(), span.traceId(), span.spanId(),
+            millis(elapsedNanos), List.copyOf(ports), millis(elapsedNanos - portNanos),
+            sql == null ? 0 : sql.statements(), sql == null ? 0 : sql.rows());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
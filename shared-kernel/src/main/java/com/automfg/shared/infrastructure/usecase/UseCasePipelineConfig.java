@@ -0,0 +1,44 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import com.automfg.shared.infrastructure.querycache.QueryResultCaches;
+import com.automfg.shared.infrastructure.routing.ReadReplicaRouter;
+import com.automfg.shared.infrastructure.sql.SqlStatementMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(UseCasePipelineProperties.class)
+public class UseCasePipelineConfig {
+
+    // static: post-processors are created before the configuration class itself
+    @Bean
+    public static UseCasePipelinePostProcessor useCasePipelinePostProcessor(ObjectProvider<UseCasePipeline> pipeline) {
+        return new UseCasePipelinePostProcessor(pipeline);
+    }
+
+    @Bean
+    public UseCasePipeline useCasePipeline(MeterRegistry meterRegistry, UseCasePipelineProperties properties,
+                                           SqlStatementMonitor sqlStatementMonitor,
+                                           ObjectProvider<ReadReplicaRouter> readReplicaRouter,
+                                           ObjectProvider<QueryResultCaches> queryResultCaches) {
+        return new UseCasePipeline(meterRegistry, properties, sqlStatementMonitor, readReplicaRouter.getIfAvailable(),
+            queryResultCaches.getIfAvailable());
+    }
+
+    @Bean
+    public UseCaseEndpoint useCaseEndpoint(MeterRegistry meterRegistry, UseCasePipeline pipeline) {
+        return new UseCaseEndpoint(meterRegistry, pipeline);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceContextFilter> traceContextFilter() {
+        FilterRegistrationBean<TraceContextFilter> registration = new FilterRegistrationBean<>(new TraceContextFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
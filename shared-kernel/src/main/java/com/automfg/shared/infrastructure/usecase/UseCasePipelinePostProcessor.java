@@ -0,0 +1,51 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Routes the interface methods of use case and port beans through the {@link UseCasePipeline}.
+ * Use cases are created with {@code new} in the contexts' configuration classes, so the
+ * pipeline is added by proxying the beans rather than by the use cases themselves, and the
+ * ports they are given are the proxied beans.
+ * <p>
+ * The pipeline is looked up on first use, so that post-processor registration does not pull
+ * the meter registry in before it has been configured.
+ */
+public class UseCasePipelinePostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public UseCasePipelinePostProcessor(ObjectProvider<UseCasePipeline> pipeline) {
+        MethodInterceptor interceptor = invocation -> pipeline.getObject().invoke(invocation);
+        this.advisor = new DefaultPointcutAdvisor(new PipelinePointcut(), interceptor);
+        // Outermost, so a use case's time includes the transaction its adapters open
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    private static final class PipelinePointcut extends StaticMethodMatcherPointcut {
+
+        PipelinePointcut() {
+            setClassFilter(type -> PipelineTarget.of(type) != null);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+                return false;
+            }
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+                if (ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param slowThreshold       invocations at least this long are counted as slow
+ * @param breakdownSampleRate fraction of invocations whose port calls are timed; only those can
+ *                            be kept in the slow call log
+ * @param slowCallCapacity    slow calls kept for the {@code usecases} actuator endpoint
+ */
+@ConfigurationProperties(prefix = "automfg.use-cases")
+public record UseCasePipelineProperties(
+    @DefaultValue("500ms") Duration slowThreshold,
+    @DefaultValue("0.2") double breakdownSampleRate,
+    @DefaultValue("100") int slowCallCapacity
+) {
+
+    public UseCasePipelineProperties {
+        if (breakdownSampleRate < 0 || breakdownSampleRate > 1) {
+            throw new IllegalArgumentException("Breakdown sample rate must be between 0 and 1");
+        }
+    }
+}
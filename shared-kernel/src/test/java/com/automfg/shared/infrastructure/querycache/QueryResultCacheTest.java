@@ -0,0 +1,163 @@
+package com.automfg.shared.infrastructure.querycache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryResultCacheTest {
+
+    private static final long HOUR_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private static QueryResultCache<String, String> cache(long maxWeight, long maxAgeNanos) {
+        return new QueryResultCache<>(String::length, maxWeight, maxAgeNanos);
+    }
+
+    @Test
+    @DisplayName("a hit returns the cached result without loading it again")
+    void hit_returns_cached_result() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, HOUR_NANOS);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("concurrent misses on a key share one load")
+    void concurrent_misses_share_one_load() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, HOUR_NANOS);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> get(cache, "k", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "v";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> get(cache, "k", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        // The second caller counts as a hit once it has joined the running load
+        while (cache.hitCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.loadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a load invalidated while it runs is returned but not cached")
+    void invalidated_load_is_not_cached() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, HOUR_NANOS);
+
+        String stale = cache.get("k", () -> {
+            cache.invalidate("k");
+            return "stale";
+        });
+
+        assertThat(stale).isEqualTo("stale");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+        assertThat(cache.invalidationCount()).isEqualTo(1);
+        assertThat(cache.get("k", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("a failed load is not cached and the next call loads again")
+    void failed_load_is_not_cached() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, HOUR_NANOS);
+
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("k", () -> "v")).isEqualTo("v");
+    }
+
+    @Test
+    @DisplayName("over the byte budget the clock evicts an entry not read since the hand passed it")
+    void eviction_keeps_weight_within_budget() throws Throwable {
+        QueryResultCache<String, String> cache = cache(100, HOUR_NANOS);
+        String thirtyBytes = "x".repeat(30);
+        cache.get("a", () -> thirtyBytes);
+        cache.get("b", () -> thirtyBytes);
+        cache.get("c", () -> thirtyBytes);
+        cache.get("a", () -> "reloaded");
+
+        cache.get("d", () -> thirtyBytes);
+
+        assertThat(cache.weight()).isEqualTo(90).isLessThanOrEqualTo(cache.maxWeight());
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.get("a", () -> "reloaded")).isEqualTo(thirtyBytes);
+        assertThat(cache.get("b", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("many results stay within the budget")
+    void many_results_stay_within_budget() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, HOUR_NANOS);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("k" + i, () -> "y".repeat(50));
+        }
+
+        assertThat(cache.weight()).isLessThanOrEqualTo(1_000);
+        assertThat(cache.size()).isEqualTo(20);
+        assertThat(cache.evictionCount()).isEqualTo(980);
+    }
+
+    @Test
+    @DisplayName("a result older than the maximum age is loaded again")
+    void result_past_max_age_is_reloaded() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, TimeUnit.MILLISECONDS.toNanos(20));
+        cache.get("k", () -> "old");
+
+        Thread.sleep(40);
+
+        assertThat(cache.get("k", () -> "new")).isEqualTo("new");
+        assertThat(cache.loadCount()).isEqualTo(2);
+        assertThat(cache.weight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a query that re-enters itself loads directly instead of waiting for its own load")
+    void reentrant_load_does_not_wait_for_itself() throws Throwable {
+        QueryResultCache<String, String> cache = cache(1_000, HOUR_NANOS);
+
+        String result = cache.get("k", () -> "outer(" + cache.get("k", () -> "inner") + ")");
+
+        assertThat(result).isEqualTo("outer(inner)");
+        assertThat(cache.missCount()).isEqualTo(2);
+        assertThat(cache.get("k", () -> "again")).isEqualTo("outer(inner)");
+    }
+
+    private static String get(QueryResultCache<String, String> cache, String key,
+                              QueryResultCache.Loader<String> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
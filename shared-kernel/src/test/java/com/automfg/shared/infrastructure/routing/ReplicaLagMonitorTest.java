@@ -0,0 +1,67 @@
+package com.automfg.shared.infrastructure.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagMonitorTest {
+
+    private static DataSource database() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE replication_heartbeat (id SMALLINT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, 0)");
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("a replica whose heartbeat does not advance lags, and is not caught up with new writes")
+    void stale_replica_lags() {
+        DataSource primary = database();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, database(), Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+
+        monitor.beat();
+
+        assertThat(new JdbcTemplate(primary).queryForObject(
+            "SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class)).isPositive();
+        assertThat(monitor.withinMaxLag()).isFalse();
+        assertThat(monitor.caughtUpTo(System.currentTimeMillis())).isFalse();
+    }
+
+    @Test
+    @DisplayName("a stand-in replica is given each heartbeat and keeps up")
+    void stand_in_replica_keeps_up() {
+        DataSource replica = database();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(database(), replica, replica, Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+        long before = System.currentTimeMillis();
+
+        monitor.beat();
+
+        assertThat(monitor.withinMaxLag()).isTrue();
+        assertThat(monitor.caughtUpTo(before)).isTrue();
+    }
+
+    @Test
+    @DisplayName("an unreachable replica is not within the allowed lag")
+    void unreachable_replica_lags() {
+        DataSource unreachable = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(database(), unreachable, Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+
+        monitor.beat();
+
+        assertThat(monitor.withinMaxLag()).isFalse();
+    }
+}
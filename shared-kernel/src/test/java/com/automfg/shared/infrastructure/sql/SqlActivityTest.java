@@ -0,0 +1,131 @@
+package com.automfg.shared.infrastructure.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlActivityTest {
+
+    private static final String SELECT_STEP = SqlShape.of("select * from assembly_steps where id = ?");
+    private static final String UPDATE_ORDER = SqlShape.of("update production_orders set status = ? where id = ?");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void noActivityLeftOpen() {
+        assertThat(SqlActivity.current()).isNull();
+    }
+
+    private SqlStatementMonitor monitor(SqlBudgetProperties.Mode mode, int repeatedQueryThreshold) {
+        return new SqlStatementMonitor(meterRegistry,
+            new SqlBudgetProperties(mode, repeatedQueryThreshold, Map.of("POST /api/v1/orders", 3)));
+    }
+
+    @Test
+    @DisplayName("a statement counts towards every open activity, rows and time too")
+    void nested_activities_count_statements() {
+        SqlStatementMonitor monitor = monitor(SqlBudgetProperties.Mode.LOG, 10);
+        try (SqlActivity request = monitor.openRequest("POST /api/v1/orders")) {
+            SqlActivity.current().beforeStatement(UPDATE_ORDER);
+            SqlActivity.current().afterStatement(1_000, 1);
+            try (SqlActivity useCase = monitor.open(SqlActivity.Scope.USE_CASE, "PlaceOrderUseCase", null)) {
+                assertThat(SqlActivity.current()).isSameAs(useCase);
+                SqlActivity.current().beforeStatement(SELECT_STEP);
+                SqlActivity.current().rowRead();
+                SqlActivity.current().rowRead();
+                SqlActivity.current().afterStatement(500, 0);
+
+                assertThat(useCase.statements()).isEqualTo(1);
+                assertThat(useCase.rows()).isEqualTo(2);
+                assertThat(useCase.nanos()).isEqualTo(500);
+            }
+            assertThat(SqlActivity.current()).isSameAs(request);
+            assertThat(request.statements()).isEqualTo(2);
+            assertThat(request.rows()).isEqualTo(3);
+            assertThat(request.nanos()).isEqualTo(1_500);
+        }
+        assertThat(meterRegistry.get("automfg.sql.statements").tag("scope", "request").summary().totalAmount())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("automfg.sql.statements").tag("scope", "usecase").summary().totalAmount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("going over the budget is reported once, against the activity that has the budget")
+    void budget_is_reported_once() {
+        SqlStatementMonitor monitor = monitor(SqlBudgetProperties.Mode.LOG, 10);
+        try (SqlActivity request = monitor.openRequest("POST /api/v1/orders");
+             SqlActivity useCase = monitor.open(SqlActivity.Scope.USE_CASE, "PlaceOrderUseCase", null)) {
+            for (int i = 0; i < 5; i++) {
+                useCase.beforeStatement(UPDATE_ORDER);
+            }
+        }
+
+        assertThat(monitor.violations()).singleElement().satisfies(violation -> {
+            assertThat(violation.type()).isEqualTo("budget");
+            assertThat(violation.scope()).isEqualTo("request");
+            assertThat(violation.name()).isEqualTo("POST /api/v1/orders");
+            assertThat(violation.detail()).isEqualTo("more than 3 statements");
+        });
+        assertThat(meterRegistry.get("automfg.sql.violations").tag("type", "budget").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a repeated query is reported against the innermost activity only")
+    void repeated_query_is_reported_by_innermost_activity() {
+        SqlStatementMonitor monitor = monitor(SqlBudgetProperties.Mode.LOG, 3);
+        try (SqlActivity request = monitor.open(SqlActivity.Scope.REQUEST, "GET /api/v1/production-orders", null)) {
+            request.beforeStatement(SELECT_STEP);
+            request.beforeStatement(SELECT_STEP);
+            try (SqlActivity useCase = monitor.open(SqlActivity.Scope.USE_CASE, "GetProductionOrderUseCase", null)) {
+                for (int i = 0; i < 4; i++) {
+                    useCase.beforeStatement(SELECT_STEP);
+                }
+                // Statements other than queries never count as repeats
+                for (int i = 0; i < 4; i++) {
+                    useCase.beforeStatement(UPDATE_ORDER);
+                }
+            }
+        }
+
+        assertThat(monitor.violations()).singleElement().satisfies(violation -> {
+            assertThat(violation.type()).isEqualTo("repeated-query");
+            assertThat(violation.scope()).isEqualTo("usecase");
+            assertThat(violation.detail()).isEqualTo("3 executions of [" + SELECT_STEP + "]");
+        });
+    }
+
+    @Test
+    @DisplayName("in fail mode the violating statement throws")
+    void fail_mode_throws() {
+        SqlStatementMonitor monitor = monitor(SqlBudgetProperties.Mode.FAIL, 10);
+        try (SqlActivity request = monitor.openRequest("POST /api/v1/orders")) {
+            for (int i = 0; i < 3; i++) {
+                request.beforeStatement(UPDATE_ORDER);
+            }
+
+            assertThatThrownBy(() -> request.beforeStatement(UPDATE_ORDER))
+                .isInstanceOf(SqlBudgetExceededException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("closing twice records the activity once")
+    void close_is_idempotent() {
+        SqlStatementMonitor monitor = monitor(SqlBudgetProperties.Mode.LOG, 10);
+        SqlActivity activity = monitor.open(SqlActivity.Scope.USE_CASE, "ListOrdersUseCase", null);
+        activity.beforeStatement(SELECT_STEP);
+
+        activity.close();
+        activity.close();
+
+        assertThat(meterRegistry.get("automfg.sql.statements").summary().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.automfg.shared.infrastructure.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeTest {
+
+    @Test
+    @DisplayName("string literals, escaped quotes included, become placeholders")
+    void string_literals_become_placeholders() {
+        assertThat(SqlShape.of("SELECT * FROM dealers WHERE name = 'O''Brien' AND code = 'D-1'"))
+            .isEqualTo("select * from dealers where name = ? and code = ?");
+    }
+
+    @Test
+    @DisplayName("number literals become placeholders but digits in identifiers stay")
+    void number_literals_become_placeholders() {
+        assertThat(SqlShape.of("select poje1_0.id from assembly_steps_p2026_03 poje1_0 "
+                + "where poje1_0.minutes > -5 and poje1_0.rate = 1.25 limit 20"))
+            .isEqualTo("select poje1_0.id from assembly_steps_p2026_03 poje1_0 "
+                + "where poje1_0.minutes > ? and poje1_0.rate = ? limit ?");
+    }
+
+    @Test
+    @DisplayName("IN lists of any length collapse to one placeholder")
+    void in_lists_collapse() {
+        String one = SqlShape.of("select id from production_orders where id in (?)");
+        String three = SqlShape.of("select id from production_orders where id IN ( ?, ?,? )");
+        String literals = SqlShape.of("select id from production_orders where status in ('SCHEDULED', 'IN_PRODUCTION', 3)");
+
+        assertThat(three).isEqualTo(one).isEqualTo("select id from production_orders where id in (?)");
+        assertThat(literals).isEqualTo("select id from production_orders where status in (?)");
+    }
+
+    @Test
+    @DisplayName("whitespace is collapsed and case is folded")
+    void whitespace_and_case_are_normalized() {
+        assertThat(SqlShape.of("  SELECT id\n\tFROM   orders\r\n WHERE dealer_id = ?  "))
+            .isEqualTo("select id from orders where dealer_id = ?");
+    }
+
+    @Test
+    @DisplayName("only selects and common table expressions are queries")
+    void queries_are_recognized() {
+        assertThat(SqlShape.isQuery(SqlShape.of("SELECT 1"))).isTrue();
+        assertThat(SqlShape.isQuery(SqlShape.of("WITH x AS (SELECT 1) SELECT * FROM x"))).isTrue();
+        assertThat(SqlShape.isQuery(SqlShape.of("INSERT INTO orders (id) VALUES (?)"))).isFalse();
+        assertThat(SqlShape.isQuery(SqlShape.of("update orders set status = 'X'"))).isFalse();
+    }
+}
@@ -0,0 +1,132 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+import com.automfg.shared.application.QueryUseCase;
+import com.automfg.shared.domain.DomainEvent;
+import com.automfg.shared.domain.DomainEventPublisher;
+import com.automfg.shared.infrastructure.usecase.PipelineTarget.PortCategory;
+import com.automfg.shared.infrastructure.usecase.PipelineTarget.PortTarget;
+import com.automfg.shared.infrastructure.usecase.PipelineTarget.UseCaseTarget;
+import com.automfg.shared.infrastructure.usecase.port.Ports;
+import com.automfg.shared.infrastructure.usecase.port.VehicleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineTargetTest {
+
+    interface ShipVehicleUseCase extends CommandUseCase {
+        void execute(String vin);
+    }
+
+    interface FindVehicleUseCase extends QueryUseCase {
+        String execute(String vin);
+    }
+
+    static class ShipVehicle implements ShipVehicleUseCase {
+        @Override
+        public void execute(String vin) {
+        }
+    }
+
+    // A subclass, as a proxy or an extended implementation would be
+    static class ShipVehicleAndLog extends ShipVehicle {
+    }
+
+    static class FindVehicle implements FindVehicleUseCase {
+        @Override
+        public String execute(String vin) {
+            return vin;
+        }
+    }
+
+    static class EventPublisher implements DomainEventPublisher {
+        @Override
+        public void publish(DomainEvent event) {
+        }
+
+        @Override
+        public void publishAll(List<DomainEvent> events) {
+        }
+    }
+
+    static class VehicleStore implements VehicleRepository {
+        @Override
+        public Optional<Vehicle> findById(String vin) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Vehicle> findAll() {
+            return List.of();
+        }
+
+        @Override
+        public void save(Vehicle vehicle) {
+        }
+    }
+
+    static class DealerClient implements Ports.DealerGateway {
+        @Override
+        public boolean exists(String dealerId) {
+            return true;
+        }
+    }
+
+    static class PaintCatalog implements Ports.PaintCatalogProvider {
+        @Override
+        public String colorName(String colorCode) {
+            return colorCode;
+        }
+    }
+
+    static class VehicleQueries implements Ports.VehicleQueryPort {
+        @Override
+        public long countAll() {
+            return 0;
+        }
+    }
+
+    @Test
+    @DisplayName("use cases are named after their interface and typed as command or query")
+    void use_cases() {
+        assertThat(PipelineTarget.of(ShipVehicle.class)).isEqualTo(new UseCaseTarget("ShipVehicleUseCase", "command"));
+        assertThat(PipelineTarget.of(ShipVehicleAndLog.class))
+            .isEqualTo(new UseCaseTarget("ShipVehicleUseCase", "command"));
+        assertThat(PipelineTarget.of(FindVehicle.class)).isEqualTo(new UseCaseTarget("FindVehicleUseCase", "query"));
+        assertThat(((UseCaseTarget) PipelineTarget.of(FindVehicle.class)).query()).isTrue();
+        assertThat(((UseCaseTarget) PipelineTarget.of(ShipVehicle.class)).query()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ports are repositories unless marked as gateways, whatever their name")
+    void port_categories() {
+        assertThat(PipelineTarget.of(VehicleStore.class))
+            .isEqualTo(new PortTarget(PortCategory.REPOSITORY, "VehicleRepository"));
+        assertThat(PipelineTarget.of(DealerClient.class))
+            .isEqualTo(new PortTarget(PortCategory.GATEWAY, "DealerGateway"));
+        assertThat(PipelineTarget.of(PaintCatalog.class))
+            .isEqualTo(new PortTarget(PortCategory.REPOSITORY, "PaintCatalogProvider"));
+        assertThat(PipelineTarget.of(EventPublisher.class))
+            .isEqualTo(new PortTarget(PortCategory.EVENTS, "DomainEventPublisher"));
+    }
+
+    @Test
+    @DisplayName("only query ports may read from the replica outside a query use case")
+    void query_ports() {
+        assertThat(((PortTarget) PipelineTarget.of(VehicleQueries.class)).queryPort()).isTrue();
+        assertThat(((PortTarget) PipelineTarget.of(VehicleStore.class)).queryPort()).isFalse();
+    }
+
+    @Test
+    @DisplayName("beans that are neither use cases nor ports are left alone")
+    void other_beans() {
+        assertThat(PipelineTarget.of(Object.class)).isNull();
+        assertThat(PipelineTarget.of(StringBuilder.class)).isNull();
+        assertThat(PipelineTarget.of(SlowCallLog.class)).isNull();
+    }
+}
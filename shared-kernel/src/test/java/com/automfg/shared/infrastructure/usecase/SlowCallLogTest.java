@@ -0,0 +1,69 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlowCallLogTest {
+
+    private static SlowUseCaseCall call(int n) {
+        return new SlowUseCaseCall(Instant.EPOCH.plusSeconds(n), "UseCase" + n, "success", "trace", "span",
+            500 + n, List.of(), 500 + n, 0, 0);
+    }
+
+    private static List<String> useCases(SlowCallLog log) {
+        return log.recent().stream().map(SlowUseCaseCall::useCase).toList();
+    }
+
+    @Test
+    @DisplayName("an empty log has no calls")
+    void empty_log() {
+        SlowCallLog log = new SlowCallLog(3);
+
+        assertThat(log.recent()).isEmpty();
+        assertThat(log.totalRecorded()).isZero();
+    }
+
+    @Test
+    @DisplayName("calls are listed newest first while the ring is not yet full")
+    void newest_first_before_wraparound() {
+        SlowCallLog log = new SlowCallLog(3);
+        log.add(call(1));
+        log.add(call(2));
+
+        assertThat(useCases(log)).containsExactly("UseCase2", "UseCase1");
+    }
+
+    @Test
+    @DisplayName("once full, each call overwrites the oldest and the order stays newest first")
+    void wraparound_overwrites_oldest() {
+        SlowCallLog log = new SlowCallLog(3);
+        for (int n = 1; n <= 7; n++) {
+            log.add(call(n));
+        }
+
+        assertThat(useCases(log)).containsExactly("UseCase7", "UseCase6", "UseCase5");
+        assertThat(log.totalRecorded()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("a ring of one keeps the latest call")
+    void capacity_of_one() {
+        SlowCallLog log = new SlowCallLog(1);
+        log.add(call(1));
+        log.add(call(2));
+
+        assertThat(useCases(log)).containsExactly("UseCase2");
+    }
+
+    @Test
+    @DisplayName("a capacity below one is rejected")
+    void rejects_empty_capacity() {
+        assertThatThrownBy(() -> new SlowCallLog(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
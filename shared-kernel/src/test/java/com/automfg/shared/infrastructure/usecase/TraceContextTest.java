@@ -0,0 +1,78 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceContextTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID = "00f067aa0ba902b7";
+
+    @Test
+    @DisplayName("a valid traceparent header is parsed into its trace and parent span")
+    void parses_traceparent() {
+        assertThat(TraceContext.fromTraceparent("00-" + TRACE_ID + "-" + SPAN_ID + "-01"))
+            .hasValue(new TraceContext(TRACE_ID, SPAN_ID));
+        assertThat(TraceContext.fromTraceparent(" 00-" + TRACE_ID + "-" + SPAN_ID + "-00 "))
+            .hasValue(new TraceContext(TRACE_ID, SPAN_ID));
+    }
+
+    @Test
+    @DisplayName("absent, malformed, other-version and all-zero traceparent headers are ignored")
+    void rejects_invalid_traceparent() {
+        assertThat(TraceContext.fromTraceparent(null)).isEmpty();
+        assertThat(TraceContext.fromTraceparent("")).isEmpty();
+        assertThat(TraceContext.fromTraceparent("01-" + TRACE_ID + "-" + SPAN_ID + "-01")).isEmpty();
+        assertThat(TraceContext.fromTraceparent("00-" + TRACE_ID.toUpperCase() + "-" + SPAN_ID + "-01")).isEmpty();
+        assertThat(TraceContext.fromTraceparent("00-" + TRACE_ID + "-" + SPAN_ID)).isEmpty();
+        assertThat(TraceContext.fromTraceparent("00-" + TRACE_ID.substring(1) + "-" + SPAN_ID + "-01")).isEmpty();
+        assertThat(TraceContext.fromTraceparent("00-" + "0".repeat(32) + "-" + SPAN_ID + "-01")).isEmpty();
+        assertThat(TraceContext.fromTraceparent("00-" + TRACE_ID + "-" + "0".repeat(16) + "-01")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("a child span stays in the trace under a new span id")
+    void child_keeps_trace() {
+        TraceContext parent = new TraceContext(TRACE_ID, SPAN_ID);
+
+        TraceContext child = parent.child();
+
+        assertThat(child.traceId()).isEqualTo(TRACE_ID);
+        assertThat(child.spanId()).matches("[0-9a-f]{16}").isNotEqualTo(SPAN_ID).isNotEqualTo("0".repeat(16));
+        assertThat(TraceContext.fromTraceparent(child.traceparent())).hasValue(child);
+    }
+
+    @Test
+    @DisplayName("a new trace has valid random ids that round-trip through traceparent")
+    void new_trace_round_trips() {
+        TraceContext trace = TraceContext.newTrace();
+
+        assertThat(trace.traceId()).matches("[0-9a-f]{32}");
+        assertThat(trace.spanId()).matches("[0-9a-f]{16}");
+        assertThat(trace.traceparent()).isEqualTo("00-" + trace.traceId() + "-" + trace.spanId() + "-01");
+        assertThat(TraceContext.fromTraceparent(trace.traceparent())).hasValue(trace);
+        assertThat(TraceContext.newTrace().traceId()).isNotEqualTo(trace.traceId());
+    }
+
+    @Test
+    @DisplayName("closing a scope restores the previous context and MDC")
+    void scopes_nest() {
+        TraceContext outer = new TraceContext(TRACE_ID, SPAN_ID);
+        TraceContext inner = outer.child();
+
+        try (TraceContext.Scope ignored = outer.open()) {
+            try (TraceContext.Scope alsoIgnored = inner.open()) {
+                assertThat(TraceContext.current()).isEqualTo(inner);
+                assertThat(MDC.get("spanId")).isEqualTo(inner.spanId());
+            }
+            assertThat(TraceContext.current()).isEqualTo(outer);
+            assertThat(MDC.get("traceId")).isEqualTo(TRACE_ID);
+            assertThat(MDC.get("spanId")).isEqualTo(SPAN_ID);
+        }
+        assertThat(TraceContext.current()).isNull();
+        assertThat(MDC.get("traceId")).isNull();
+    }
+}
@@ -0,0 +1,153 @@
+package com.automfg.shared.infrastructure.usecase;
+
+import com.automfg.shared.application.CommandUseCase;
+import com.automfg.shared.infrastructure.jfr.RepositoryCallEvent;
+import com.automfg.shared.infrastructure.jfr.UseCaseEvent;
+import com.automfg.shared.infrastructure.sql.SqlBudgetProperties;
+import com.automfg.shared.infrastructure.sql.SqlStatementMonitor;
+import com.automfg.shared.infrastructure.usecase.port.VehicleRepository;
+import com.automfg.shared.infrastructure.usecase.port.VehicleRepository.Vehicle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UseCasePipelineFlightRecorderTest {
+
+    private static final String USE_CASE_EVENT = "com.automfg.UseCase";
+    private static final String REPOSITORY_EVENT = "com.automfg.RepositoryCall";
+
+    public interface RegisterVehicleUseCase extends CommandUseCase {
+        int execute(String vin);
+    }
+
+    private static final class InMemoryVehicles implements VehicleRepository {
+
+        private final Map<String, Vehicle> vehicles = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<Vehicle> findById(String vin) {
+            return Optional.ofNullable(vehicles.get(vin));
+        }
+
+        @Override
+        public List<Vehicle> findAll() {
+            return List.copyOf(vehicles.values());
+        }
+
+        @Override
+        public void save(Vehicle vehicle) {
+            if (vehicle.vin().isBlank()) {
+                throw new IllegalArgumentException("VIN is blank");
+            }
+            vehicles.put(vehicle.vin(), vehicle);
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UseCasePipeline pipeline = new UseCasePipeline(meterRegistry,
+        new UseCasePipelineProperties(Duration.ofSeconds(5), 1.0, 10),
+        new SqlStatementMonitor(meterRegistry, new SqlBudgetProperties(SqlBudgetProperties.Mode.LOG, 10, Map.of())),
+        null, null);
+    private final VehicleRepository vehicles = proxy(new InMemoryVehicles(), VehicleRepository.class);
+    private final RegisterVehicleUseCase registerVehicle = proxy((RegisterVehicleUseCase) vin -> {
+        vehicles.save(new Vehicle(vin, 4));
+        return vehicles.findById(vin).map(Vehicle::entityCount).orElse(0);
+    }, RegisterVehicleUseCase.class);
+
+    private <T> T proxy(T target, Class<T> type) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(type);
+        factory.addAdvice((MethodInterceptor) pipeline::invoke);
+        return type.cast(factory.getProxy());
+    }
+
+    /**
+     * Runs the calls with both event types enabled and returns what was recorded, once
+     * {@code expected} events have arrived.
+     */
+    private List<RecordedEvent> record(int expected, Runnable calls) throws InterruptedException {
+        List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(expected);
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(UseCaseEvent.class);
+            stream.enable(RepositoryCallEvent.class);
+            stream.onEvent(event -> {
+                events.add(event);
+                done.countDown();
+            });
+            stream.startAsync();
+            calls.run();
+            assertThat(done.await(30, TimeUnit.SECONDS)).as("events arrived").isTrue();
+        }
+        return events;
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    @DisplayName("a use case and the repository calls it makes are recorded")
+    void use_case_and_repository_calls_are_recorded() throws InterruptedException {
+        List<RecordedEvent> events = record(3, () -> assertThat(registerVehicle.execute("VIN-1")).isEqualTo(5));
+
+        assertThat(ofType(events, USE_CASE_EVENT)).singleElement().satisfies(event -> {
+            assertThat(event.getString("useCase")).isEqualTo("RegisterVehicleUseCase");
+            assertThat(event.getString("kind")).isEqualTo("command");
+            assertThat(event.getString("outcome")).isEqualTo("success");
+            assertThat(event.getString("traceId")).isNotBlank();
+        });
+        assertThat(ofType(events, REPOSITORY_EVENT))
+            .extracting(event -> event.getString("method") + ":" + event.getString("operation"))
+            .containsExactly("save:save", "findById:load");
+        assertThat(ofType(events, REPOSITORY_EVENT)).allSatisfy(event -> {
+            assertThat(event.getString("port")).isEqualTo("VehicleRepository");
+            assertThat(event.getBoolean("failed")).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("the entity count of a repository call includes each aggregate's child entities")
+    void entity_count_includes_children() throws InterruptedException {
+        List<RecordedEvent> events = record(8, () -> {
+            registerVehicle.execute("VIN-1");
+            registerVehicle.execute("VIN-2");
+            assertThat(vehicles.findAll()).hasSize(2);
+            assertThat(vehicles.findById("VIN-9")).isEmpty();
+        });
+
+        assertThat(ofType(events, REPOSITORY_EVENT))
+            .extracting(event -> event.getString("method") + "=" + event.getInt("entityCount"))
+            .containsExactly("save=5", "findById=5", "save=5", "findById=5", "findAll=10", "findById=0");
+    }
+
+    @Test
+    @DisplayName("a failed call is recorded with its outcome")
+    void failures_are_recorded() throws InterruptedException {
+        List<RecordedEvent> events = record(2, () ->
+            assertThatThrownBy(() -> registerVehicle.execute(" ")).isInstanceOf(IllegalArgumentException.class));
+
+        assertThat(ofType(events, USE_CASE_EVENT)).singleElement()
+            .satisfies(event -> assertThat(event.getString("outcome")).isEqualTo("rejected"));
+        assertThat(ofType(events, REPOSITORY_EVENT)).singleElement().satisfies(event -> {
+            assertThat(event.getString("method")).isEqualTo("save");
+            assertThat(event.getBoolean("failed")).isTrue();
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.automfg.shared.infrastructure.usecase.port;
+
+import com.automfg.shared.domain.Gateway;
+
+/**
+ * Ports of each kind for the pipeline target tests.
+ */
+public final class Ports {
+
+    private Ports() {
+    }
+
+    public interface DealerGateway extends Gateway {
+        boolean exists(String dealerId);
+    }
+
+    /**
+     * Named like a gateway but served from this service's own tables, so not marked as one.
+     */
+    public interface PaintCatalogProvider {
+        String colorName(String colorCode);
+    }
+
+    public interface VehicleQueryPort {
+        long countAll();
+    }
+}
@@ -0,0 +1,41 @@
+package com.automfg.shared.infrastructure.usecase.port;
+
+import com.automfg.shared.domain.AggregateRoot;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A repository port for the pipeline tests; ports are recognised by their {@code port} package.
+ */
+public interface VehicleRepository {
+
+    Optional<Vehicle> findById(String vin);
+
+    List<Vehicle> findAll();
+
+    void save(Vehicle vehicle);
+
+    /**
+     * An aggregate whose wheels are child entities.
+     */
+    final class Vehicle extends AggregateRoot {
+
+        private final String vin;
+        private final int wheels;
+
+        public Vehicle(String vin, int wheels) {
+            this.vin = vin;
+            this.wheels = wheels;
+        }
+
+        public String vin() {
+            return vin;
+        }
+
+        @Override
+        public int entityCount() {
+            return 1 + wheels;
+        }
+    }
+}
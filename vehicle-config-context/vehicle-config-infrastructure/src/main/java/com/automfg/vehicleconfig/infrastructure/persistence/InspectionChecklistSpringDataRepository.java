@@ -10,4 +10,6 @@ import java.util.UUID;
 public interface InspectionChecklistSpringDataRepository extends JpaRepository<InspectionChecklistJpaEntity, UUID> {
 
     List<InspectionChecklistJpaEntity> findByModelCodeOrderByDisplayOrderAsc(String modelCode);
+
+    List<InspectionChecklistJpaEntity> findAllByOrderByModelCodeAscDisplayOrderAsc();
 }
@@ -1,5 +1,9 @@
 package com.automfg.vehicleconfig.infrastructure.persistence;
 
+import com.automfg.shared.infrastructure.refdata.ReferenceDataChangedEvent;
+import com.automfg.shared.infrastructure.refdata.ReferenceDataVersions;
+import com.automfg.shared.infrastructure.refdata.VersionedCache;
+import com.automfg.shared.infrastructure.refdata.VersionedCacheMetrics;
 import com.automfg.vehicleconfig.domain.model.ColorOption;
 import com.automfg.vehicleconfig.domain.model.CompatibilityRule;
 import com.automfg.vehicleconfig.domain.model.InspectionChecklistEntry;
@@ -7,31 +11,47 @@ import com.automfg.vehicleconfig.domain.model.OptionPackage;
 import com.automfg.vehicleconfig.domain.model.VehicleConfiguration;
 import com.automfg.vehicleconfig.domain.model.VehicleConfigurationId;
 import com.automfg.vehicleconfig.domain.port.VehicleConfigurationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class JpaVehicleConfigRepositoryAdapter implements VehicleConfigurationRepository {
 
+    private static final String CHECKLIST_DATASET = "inspection_checklists";
+
     private final VehicleConfigSpringDataRepository configRepository;
     private final ColorOptionSpringDataRepository colorOptionRepository;
     private final OptionPackageSpringDataRepository optionPackageRepository;
     private final CompatibilityRuleSpringDataRepository compatibilityRuleRepository;
     private final InspectionChecklistSpringDataRepository inspectionChecklistRepository;
+    private final ReferenceDataVersions referenceDataVersions;
+    private final VersionedCache<String, List<InspectionChecklistEntry>> checklistCache = new VersionedCache<>();
 
     public JpaVehicleConfigRepositoryAdapter(
             VehicleConfigSpringDataRepository configRepository,
             ColorOptionSpringDataRepository colorOptionRepository,
             OptionPackageSpringDataRepository optionPackageRepository,
             CompatibilityRuleSpringDataRepository compatibilityRuleRepository,
-            InspectionChecklistSpringDataRepository inspectionChecklistRepository) {
+            InspectionChecklistSpringDataRepository inspectionChecklistRepository,
+            ReferenceDataVersions referenceDataVersions,
+            MeterRegistry meterRegistry) {
         this.configRepository = configRepository;
         this.colorOptionRepository = colorOptionRepository;
         this.optionPackageRepository = optionPackageRepository;
         this.compatibilityRuleRepository = compatibilityRuleRepository;
         this.inspectionChecklistRepository = inspectionChecklistRepository;
+        this.referenceDataVersions = referenceDataVersions;
+        new VersionedCacheMetrics(checklistCache, "inspection-checklists", Tags.of("context", "vehicle-config"))
+                .bindTo(meterRegistry);
     }
 
     @Override
@@ -42,14 +62,40 @@ public class JpaVehicleConfigRepositoryAdapter implements VehicleConfigurationRe
 
     @Override
     public List<InspectionChecklistEntry> findChecklistByModelCode(String modelCode) {
-        return inspectionChecklistRepository.findByModelCodeOrderByDisplayOrderAsc(modelCode)
-                .stream()
-                .map(entity -> new InspectionChecklistEntry(
-                        entity.getItemDescription(),
-                        entity.isSafetyRelated(),
-                        entity.getDisplayOrder()
-                ))
-                .toList();
+        return checklistCache.get(modelCode, code ->
+                inspectionChecklistRepository.findByModelCodeOrderByDisplayOrderAsc(code)
+                        .stream()
+                        .map(this::toChecklistEntry)
+                        .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadChecklists() {
+        reloadChecklists(referenceDataVersions.current(CHECKLIST_DATASET));
+    }
+
+    @EventListener
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (CHECKLIST_DATASET.equals(event.dataset()) && event.version() > checklistCache.version()) {
+            reloadChecklists(event.version());
+        }
+    }
+
+    private void reloadChecklists(long version) {
+        Map<String, List<InspectionChecklistEntry>> byModel = new HashMap<>();
+        for (InspectionChecklistJpaEntity entity : inspectionChecklistRepository.findAllByOrderByModelCodeAscDisplayOrderAsc()) {
+            byModel.computeIfAbsent(entity.getModelCode(), code -> new ArrayList<>()).add(toChecklistEntry(entity));
+        }
+        byModel.replaceAll((code, entries) -> List.copyOf(entries));
+        checklistCache.replaceAll(version, byModel);
+    }
+
+    private InspectionChecklistEntry toChecklistEntry(InspectionChecklistJpaEntity entity) {
+        return new InspectionChecklistEntry(
+                entity.getItemDescription(),
+                entity.isSafetyRelated(),
+                entity.getDisplayOrder()
+        );
     }
 
     private VehicleConfiguration toDomain(VehicleConfigJpaEntity entity) {